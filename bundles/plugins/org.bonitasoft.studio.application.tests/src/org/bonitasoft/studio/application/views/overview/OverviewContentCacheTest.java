@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OverviewContentCacheTest {
+
+    private final OverviewContentCache cache = new OverviewContentCache();
+    private final AtomicInteger nbLoads = new AtomicInteger();
+    private IRepositoryStore<?> store;
+
+    @BeforeEach
+    void createStore() {
+        store = mock(IRepositoryStore.class);
+        when(store.getName()).thenReturn("diagrams");
+    }
+
+    @Test
+    void should_read_the_store_once_while_it_is_unchanged() throws Exception {
+        var content = cache.get(store, this::load).get(10, TimeUnit.SECONDS);
+
+        assertThat(cache.get(store, this::load).get(10, TimeUnit.SECONDS)).isSameAs(content);
+        assertThat(nbLoads).hasValue(1);
+    }
+
+    @Test
+    void should_read_the_store_again_after_a_failed_read() throws Exception {
+        var failedRead = cache.get(store, () -> {
+            nbLoads.incrementAndGet();
+            throw new IllegalStateException("Store is not readable");
+        });
+        assertThatThrownBy(() -> failedRead.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        var content = cache.get(store, this::load).get(10, TimeUnit.SECONDS);
+
+        assertThat(content).isEmpty();
+        assertThat(nbLoads).hasValue(2);
+    }
+
+    private List<OverviewRow<?>> load() {
+        nbLoads.incrementAndGet();
+        return List.of();
+    }
+
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualListModelTest {
+
+    private static final int NB_ARTIFACTS = 2000;
+    private static final int VIEWPORT_HEIGHT = 600;
+    private static final int SPACING = 20;
+    private static final int MIN_ROW_HEIGHT = 100;
+    private static final int MAX_VISIBLE_ROWS = VIEWPORT_HEIGHT / (MIN_ROW_HEIGHT + SPACING) + 1;
+
+    private final List<String> artifacts = IntStream.range(0, NB_ARTIFACTS)
+            .mapToObj(i -> String.format("Artifact-%s-%s", i % 7 == 0 ? "Invoice" : "Leave", i))
+            .collect(Collectors.toList());
+
+    @Test
+    void should_not_create_rows_beyond_the_visible_window_when_searching() {
+        var model = new VirtualListModel<String>(150, SPACING);
+        model.setItems(artifacts);
+        render(model, 0);
+
+        search(model, "invoice-1");
+        assertThat(model.getPoolSize()).isLessThanOrEqualTo(MAX_VISIBLE_ROWS);
+
+        model.setItems(artifacts);
+        render(model, 0);
+        assertThat(search(model, "invoice-1")).as("rows created when typing the search again").isZero();
+        assertThat(model.getPoolSize()).isLessThanOrEqualTo(MAX_VISIBLE_ROWS);
+    }
+
+    @Test
+    void should_bound_the_rows_to_the_visible_window_when_scrolling_a_large_project() {
+        var model = new VirtualListModel<String>(150, SPACING);
+        model.setItems(artifacts);
+
+        for (int scrollOffset = 0; scrollOffset < model.getTotalHeight(); scrollOffset += 250) {
+            render(model, model.clampScrollOffset(scrollOffset, VIEWPORT_HEIGHT));
+        }
+
+        assertThat(model.getPoolSize()).isLessThanOrEqualTo(MAX_VISIBLE_ROWS);
+    }
+
+    @Test
+    void should_bind_and_place_the_rows_of_the_visible_window() {
+        var model = new VirtualListModel<String>(100, SPACING);
+        model.setItems(List.of("a", "b", "c", "d", "e"));
+        model.setHeight(1, 200);
+        var binder = new MeasuringRowBinder();
+
+        // "b" was 200 high, it is measured 120 high so "d" moves up into the window
+        var usedRows = model.layoutRows(130, 300, binder);
+
+        assertThat(usedRows).isEqualTo(3);
+        assertThat(binder.created).isEqualTo(3);
+        assertThat(binder.boundItems).containsExactly("b", "c", "d");
+        assertThat(binder.positions).containsExactly(-10, 130, 270);
+        assertThat(model.getPoolSize()).isEqualTo(3);
+        assertThat(model.layoutRows(0, 300, new MeasuringRowBinder())).isEqualTo(3);
+        assertThat(model.getPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    void should_compute_offsets_and_visible_range_from_measured_heights() {
+        var model = new VirtualListModel<String>(100, SPACING);
+        model.setItems(List.of("a", "b", "c", "d"));
+
+        assertThat(model.setHeight(1, 200)).isTrue();
+        assertThat(model.setHeight(1, 200)).isFalse();
+        assertThat(model.setHeight(2, 100)).isFalse();
+
+        assertThat(model.getOffset(0)).isEqualTo(0);
+        assertThat(model.getOffset(1)).isEqualTo(120);
+        assertThat(model.getOffset(2)).isEqualTo(340);
+        assertThat(model.getOffset(3)).isEqualTo(460);
+        assertThat(model.getTotalHeight()).isEqualTo(560);
+        assertThat(model.getVisibleRange(0, 120)).isEqualTo(new VirtualListModel.Range(0, 0));
+        assertThat(model.getVisibleRange(130, 220)).isEqualTo(new VirtualListModel.Range(1, 2));
+        assertThat(model.getVisibleRange(500, 600)).isEqualTo(new VirtualListModel.Range(3, 3));
+        assertThat(model.clampScrollOffset(1000, 200)).isEqualTo(360);
+    }
+
+    @Test
+    void should_keep_measured_heights_of_filtered_items() {
+        var model = new VirtualListModel<String>(100, SPACING);
+        model.setItems(List.of("a", "b", "c"));
+        model.setHeight(2, 300);
+
+        model.setItems(List.of("c"));
+        assertThat(model.getTotalHeight()).isEqualTo(300);
+
+        model.invalidateHeights();
+        assertThat(model.getTotalHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void should_return_an_empty_range_without_items() {
+        var model = new VirtualListModel<String>(100, SPACING);
+
+        assertThat(model.getVisibleRange(0, VIEWPORT_HEIGHT).isEmpty()).isTrue();
+        assertThat(model.getTotalHeight()).isZero();
+        assertThat(model.clampScrollOffset(50, VIEWPORT_HEIGHT)).isZero();
+    }
+
+    /**
+     * Types the search value one keystroke at a time, and renders the filtered list after each keystroke.
+     *
+     * @return the number of rows created
+     */
+    private int search(VirtualListModel<String> model, String searchValue) {
+        int created = 0;
+        for (int i = 1; i <= searchValue.length(); i++) {
+            var filter = searchValue.substring(0, i).toLowerCase();
+            model.setItems(artifacts.stream()
+                    .filter(name -> name.toLowerCase().contains(filter))
+                    .collect(Collectors.toList()));
+            created += render(model, 0);
+        }
+        return created;
+    }
+
+    /**
+     * Lays out the visible window with rows measured from the length of their artifact name.
+     *
+     * @return the number of rows created
+     */
+    private static int render(VirtualListModel<String> model, int scrollOffset) {
+        var binder = new MeasuringRowBinder();
+        model.layoutRows(scrollOffset, VIEWPORT_HEIGHT, binder);
+        return binder.created;
+    }
+
+    private static int measure(String artifact) {
+        return MIN_ROW_HEIGHT + artifact.length() % 5 * 20;
+    }
+
+    private static class MeasuringRowBinder implements VirtualListModel.RowBinder<String> {
+
+        private final List<String> boundItems = new ArrayList<>();
+        private final List<Integer> positions = new ArrayList<>();
+        private int created;
+
+        @Override
+        public void createRow() {
+            created++;
+        }
+
+        @Override
+        public int bindRow(int rowIndex, String item) {
+            boundItems.add(item);
+            return measure(item);
+        }
+
+        @Override
+        public void placeRow(int rowIndex, int y, int height) {
+            positions.add(y);
+        }
+    }
+
+}
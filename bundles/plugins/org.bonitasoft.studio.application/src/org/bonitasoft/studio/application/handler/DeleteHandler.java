@@ -23,7 +23,6 @@ import java.util.Set;
 import org.bonitasoft.studio.application.views.BonitaProjectExplorer;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
-import org.bonitasoft.studio.common.repository.filestore.AbstractFileStore;
 import org.bonitasoft.studio.common.repository.filestore.FileStoreFinder;
 import org.bonitasoft.studio.common.repository.model.IRepository;
 import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
@@ -89,7 +88,6 @@ public class DeleteHandler extends AbstractHandler {
                     }
                 }
             }
-            AbstractFileStore.refreshExplorerView();
         }
         return null;
     }
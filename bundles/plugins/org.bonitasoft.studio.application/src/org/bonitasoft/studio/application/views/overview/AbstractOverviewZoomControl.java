@@ -14,17 +14,21 @@
  */
 package org.bonitasoft.studio.application.views.overview;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.bonitasoft.studio.application.ApplicationPlugin;
 import org.bonitasoft.studio.application.i18n.Messages;
 import org.bonitasoft.studio.application.views.extension.card.zoom.ZoomListener;
 import org.bonitasoft.studio.common.CommandExecutor;
 import org.bonitasoft.studio.common.Strings;
 import org.bonitasoft.studio.common.extension.OverviewContribution;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.filestore.AbstractFileStore;
+import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
 import org.bonitasoft.studio.common.ui.jface.SWTBotConstants;
 import org.bonitasoft.studio.pics.Pics;
 import org.bonitasoft.studio.pics.PicsConstants;
@@ -44,6 +48,7 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseTrackAdapter;
 import org.eclipse.swt.graphics.Cursor;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -65,10 +70,19 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
     private Cursor cursorArrow;
     private TextWidget searchWidget;
     private Composite detailsComposite;
-    private List<T> fileStores;
+    private Composite emptyComposite;
+    private Composite noResultComposite;
+    private VirtualCardList<OverviewRow<T>> fileStoreList;
+    private IRepositoryStore<?> repositoryStore;
+    private List<OverviewRow<T>> rows;
     private Listener computeScrollListener;
+    private final Consumer<IRepositoryStore<?>> invalidationListener = store -> {
+        if (store == repositoryStore) {
+            Display.getDefault().asyncExec(this::loadContent);
+        }
+    };
 
-    protected class Element {
+    protected static class Element {
 
         private String name;
         private String description;
@@ -98,7 +112,7 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
         this.engine = PlatformUI.getWorkbench().getService(IThemeEngine.class);
         this.cursorHand = parent.getDisplay().getSystemCursor(SWT.CURSOR_HAND);
         this.cursorArrow = parent.getDisplay().getSystemCursor(SWT.CURSOR_ARROW);
-        this.fileStores = getFileStores();
+        this.repositoryStore = getRepositoryStore();
 
         setLayout(GridLayoutFactory.fillDefaults().margins(10, 10).create());
         setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
@@ -122,7 +136,42 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
         var separator = new Label(this, SWT.SEPARATOR | SWT.HORIZONTAL);
         separator.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
 
-        createDetailsComposite(this, fileStores);
+        createDetailsComposite(this);
+
+        OverviewContentCache.getInstance().addInvalidationListener(invalidationListener);
+        addDisposeListener(e -> OverviewContentCache.getInstance().removeInvalidationListener(invalidationListener));
+        loadContent();
+    }
+
+    /**
+     * Reads the content of the file stores in the background, unless it is already cached, and displays it.
+     */
+    private void loadContent() {
+        if (isDisposed()) {
+            return;
+        }
+        OverviewContentCache.getInstance().get(repositoryStore, this::readRows)
+                .whenComplete((result, error) -> Display.getDefault().asyncExec(() -> {
+                    if (isDisposed()) {
+                        return;
+                    }
+                    if (error != null) {
+                        BonitaStudioLog.error(error, ApplicationPlugin.PLUGIN_ID);
+                    }
+                    boolean reload = rows != null;
+                    rows = error != null ? Collections.emptyList() : result;
+                    if (reload) {
+                        fileStoreList.refresh();
+                    }
+                    applySearch();
+                }));
+    }
+
+    private List<OverviewRow<T>> readRows() {
+        return getFileStores().stream()
+                .map(fileStore -> new OverviewRow<>(fileStore, getFileStoreTitle(fileStore),
+                        retrieveFileStoreContent(fileStore)))
+                .collect(Collectors.toList());
     }
 
     private void createAddButton(Composite toolbarComposite) {
@@ -150,44 +199,69 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
         searchWidget.observeText(400, SWT.Modify).addValueChangeListener(e -> applySearch());
     }
 
+    /**
+     * Filters the cached rows, the card widgets of the list are bound to the filtered rows and not created again.
+     */
     private void applySearch() {
-        Display.getDefault().asyncExec(() -> {
-            String searchValue = searchWidget.getText();
-            Arrays.asList(detailsComposite.getChildren()).forEach(Control::dispose);
-            List<T> filteredFileStores = fileStores.stream()
-                    .filter(fileStore -> fileStore.getName().toLowerCase().contains(searchValue.toLowerCase()))
-                    .collect(Collectors.toList());
-            createDetails(filteredFileStores);
-            detailsComposite.layout();
-            computeScrollListener.handleEvent(new Event());
-        });
+        if (isDisposed() || rows == null) {
+            return;
+        }
+        String searchValue = searchWidget.getText().toLowerCase();
+        List<OverviewRow<T>> filteredRows = rows.stream()
+                .filter(row -> row.fileStore().getName().toLowerCase().contains(searchValue))
+                .collect(Collectors.toList());
+        if (rows.isEmpty()) {
+            show(emptyComposite);
+        } else if (filteredRows.isEmpty()) {
+            show(noResultComposite);
+        } else {
+            show(fileStoreList);
+            fileStoreList.setInput(filteredRows);
+        }
+        computeScrollListener.handleEvent(new Event());
+    }
+
+    private void show(Control control) {
+        for (Control child : detailsComposite.getChildren()) {
+            boolean visible = child == control;
+            ((GridData) child.getLayoutData()).exclude = !visible;
+            child.setVisible(visible);
+        }
+        detailsComposite.layout();
     }
 
     protected abstract String getHint();
 
-    private void createDetailsComposite(Composite parent, List<T> fileStores) {
+    private void createDetailsComposite(Composite parent) {
         detailsComposite = new Composite(parent, SWT.NONE);
         detailsComposite.setLayout(GridLayoutFactory.fillDefaults().create());
         detailsComposite.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
         detailsComposite.setData(BonitaThemeConstants.CSS_CLASS_PROPERTY_NAME,
                 BonitaThemeConstants.EXTENSION_VIEW_BACKGROUND);
-        createDetails(fileStores);
-    }
 
-    private void createDetails(List<T> filteredFileStores) {
-        if (fileStores.isEmpty()) {
-            createEmptyComposite(detailsComposite,
-                    String.format(Messages.projectDoesntContainsElement, getElementName()),
-                    String.format(Messages.newElementTitle, getElementName()),
-                    e -> commandExecutor.executeCommand(getNewCommand(), null));
-        } else if (filteredFileStores.isEmpty()) {
-            createNoResultComposite(detailsComposite);
-        } else {
-            createfileStoreListComposite(detailsComposite, filteredFileStores);
-        }
+        emptyComposite = createEmptyComposite(detailsComposite,
+                String.format(Messages.projectDoesntContainsElement, getElementName()),
+                String.format(Messages.newElementTitle, getElementName()),
+                e -> commandExecutor.executeCommand(getNewCommand(), null));
+        noResultComposite = createNoResultComposite(detailsComposite);
+        fileStoreList = new VirtualCardList<>(detailsComposite, new VirtualCardList.RowRenderer<OverviewRow<T>>() {
+
+            @Override
+            public Control createRow(Composite parent) {
+                return new FileStoreRow(parent);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public void bindRow(Control row, OverviewRow<T> item) {
+                ((FileStoreRow) row).bind(item);
+            }
+        });
+        fileStoreList.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
+        show(null);
     }
 
-    private void createNoResultComposite(Composite parent) {
+    private Composite createNoResultComposite(Composite parent) {
         var composite = createGlobalComposite(parent, SWT.NONE);
         composite.setLayout(GridLayoutFactory.fillDefaults().create());
         composite.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).align(SWT.CENTER, SWT.CENTER).create());
@@ -196,12 +270,22 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
         emptyLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
         emptyLabel.setText(Messages.noResultFound);
         emptyLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.NORMAL_4_FONT_ID));
+        return composite;
     }
 
     protected abstract String getElementName();
 
     protected abstract String getNewCommand();
 
+    /**
+     * @return the store of the file stores displayed by this control, its content is cached until one of its
+     *         resources changes
+     */
+    protected abstract IRepositoryStore<?> getRepositoryStore();
+
+    /**
+     * Called in a background job.
+     */
     protected abstract List<T> getFileStores();
 
     private void createDescription(Composite parent) {
@@ -275,7 +359,7 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
                 .createIn(titleComposite);
     }
 
-    protected void createEmptyComposite(Composite parent, String message, String buttonMessage,
+    protected Composite createEmptyComposite(Composite parent, String message, String buttonMessage,
             Consumer<Event> onClickListener) {
         var composite = createGlobalComposite(parent, SWT.NONE);
         composite.setLayout(GridLayoutFactory.fillDefaults().create());
@@ -296,68 +380,29 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
                 .withLayoutData(GridDataFactory.fillDefaults().align(SWT.CENTER, SWT.FILL).create())
                 .onClick(onClickListener)
                 .createIn(composite);
+        return composite;
     }
 
-    protected void createfileStoreListComposite(Composite parent, List<T> fileStores) {
-        var composite = createGlobalComposite(parent, SWT.NONE);
-        composite.setLayout(GridLayoutFactory.fillDefaults().margins(10, 10).spacing(20, 20).create());
-        composite.setLayoutData(GridDataFactory.fillDefaults().align(SWT.FILL, SWT.BEGINNING).grab(true, true).create());
-
-        fileStores.forEach(fileStore -> createFileStoreComposite(composite, fileStore));
-    }
-
-    private void createFileStoreComposite(Composite parent, T fileStore) {
-        var composite = createCardComposite(parent, SWT.BORDER);
-        composite.setLayout(
-                GridLayoutFactory.fillDefaults().margins(10, 10).numColumns(4).equalWidth(true).create());
-        composite.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
-
-        var titleComposite = createCardComposite(composite, SWT.NONE);
-        titleComposite.setLayout(GridLayoutFactory.fillDefaults().numColumns(2).create());
-        titleComposite.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).span(4, 1).create());
-
-        createFileStoreTitleLabel(fileStore, titleComposite);
-
-        new DynamicButtonWidget.Builder()
-                .withLabel(org.bonitasoft.studio.common.Messages.open)
-                .withImage(Pics.getImage(PicsConstants.open32))
-                .withHotImage(Pics.getImage(PicsConstants.open32Hot))
-                .withCssclass(BonitaThemeConstants.CARD_BACKGROUND)
-                .withLayoutData(GridDataFactory.fillDefaults().align(SWT.END, SWT.FILL).create())
-                .withId(SWTBotConstants.openArtifactButtonId(fileStore.getName()))
-                .onClick(e -> fileStore.open())
-                .createIn(titleComposite);
-
-        retrieveFileStoreContent(fileStore).forEach(element -> createElementComposite(composite, element));
-    }
-
-    protected void createFileStoreTitleLabel(T fileStore, Composite titleComposite) {
-        var titleLabel = new CLabel(titleComposite, SWT.NONE);
-        titleLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
-        titleLabel.setText(fileStore.getName());
-        titleLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.BOLD_4_FONT_ID));
-        titleLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.TITLE_TEXT_COLOR);
+    /**
+     * Called in a background job.
+     *
+     * @return the title of the card of the file store
+     */
+    protected String getFileStoreTitle(T fileStore) {
+        return fileStore.getName();
     }
 
+    /**
+     * Called in a background job.
+     */
     protected abstract List<Element> retrieveFileStoreContent(T fileStore);
 
-    protected void createElementComposite(Composite parent, Element element) {
-        var composite = createCardComposite(parent, SWT.NONE);
-        composite.setLayout(GridLayoutFactory.fillDefaults().margins(10, 10).create());
-        composite.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
-
-        var titleLabel = new CLabel(composite, SWT.NONE);
-        titleLabel.setLayoutData(GridDataFactory.fillDefaults().create());
-        titleLabel.setText(element.getName());
-        titleLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.BOLD_0_FONT_ID));
-        titleLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.TITLE_TEXT_COLOR);
-
-        String description = Strings.hasText(element.getDescription()) ? element.getDescription() : Messages.noDescription;
-        var descrptionLabel = new Label(composite, SWT.WRAP);
-        descrptionLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).indent(10, 0).create());
-        descrptionLabel.setText(description);
-        descrptionLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.ITALIC_0_FONT_ID));
-        descrptionLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.GAV_TEXT_COLOR);
+    /**
+     * Opens an error dialog from any thread.
+     */
+    protected void openErrorDialog(Exception e) {
+        Display.getDefault().asyncExec(() -> errorHandler.openErrorDialog(
+                isDisposed() ? Display.getDefault().getActiveShell() : getShell(), e.getMessage(), e));
     }
 
     protected Composite createCardComposite(Composite parent, int style) {
@@ -372,4 +417,85 @@ public abstract class AbstractOverviewZoomControl<T extends AbstractFileStore> e
         return composite;
     }
 
+    /**
+     * The card of a file store, bound to another file store when the list is scrolled or filtered.
+     */
+    private class FileStoreRow extends Composite {
+
+        private final CLabel titleLabel;
+        private final DynamicButtonWidget openButton;
+        private final List<ElementRow> elementRows = new ArrayList<>();
+        private T fileStore;
+
+        FileStoreRow(Composite parent) {
+            super(parent, SWT.BORDER);
+            setData(BonitaThemeConstants.CSS_CLASS_PROPERTY_NAME, BonitaThemeConstants.CARD_BACKGROUND);
+            setLayout(GridLayoutFactory.fillDefaults().margins(10, 10).numColumns(4).equalWidth(true).create());
+
+            var titleComposite = createCardComposite(this, SWT.NONE);
+            titleComposite.setLayout(GridLayoutFactory.fillDefaults().numColumns(2).create());
+            titleComposite.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).span(4, 1).create());
+
+            titleLabel = new CLabel(titleComposite, SWT.NONE);
+            titleLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
+            titleLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.BOLD_4_FONT_ID));
+            titleLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.TITLE_TEXT_COLOR);
+
+            openButton = new DynamicButtonWidget.Builder()
+                    .withLabel(org.bonitasoft.studio.common.Messages.open)
+                    .withImage(Pics.getImage(PicsConstants.open32))
+                    .withHotImage(Pics.getImage(PicsConstants.open32Hot))
+                    .withCssclass(BonitaThemeConstants.CARD_BACKGROUND)
+                    .withLayoutData(GridDataFactory.fillDefaults().align(SWT.END, SWT.FILL).create())
+                    .onClick(e -> fileStore.open())
+                    .createIn(titleComposite);
+        }
+
+        void bind(OverviewRow<T> row) {
+            fileStore = row.fileStore();
+            titleLabel.setText(row.title());
+            openButton.updateId(SWTBotConstants.openArtifactButtonId(fileStore.getName()));
+            List<Element> elements = row.elements();
+            while (elementRows.size() < elements.size()) {
+                elementRows.add(new ElementRow(this));
+            }
+            for (int i = 0; i < elementRows.size(); i++) {
+                elementRows.get(i).bind(i < elements.size() ? elements.get(i) : null);
+            }
+        }
+    }
+
+    private class ElementRow {
+
+        private final Composite composite;
+        private final CLabel titleLabel;
+        private final Label descriptionLabel;
+
+        ElementRow(Composite parent) {
+            composite = createCardComposite(parent, SWT.NONE);
+            composite.setLayout(GridLayoutFactory.fillDefaults().margins(10, 10).create());
+            composite.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
+
+            titleLabel = new CLabel(composite, SWT.NONE);
+            titleLabel.setLayoutData(GridDataFactory.fillDefaults().create());
+            titleLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.BOLD_0_FONT_ID));
+            titleLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.TITLE_TEXT_COLOR);
+
+            descriptionLabel = new Label(composite, SWT.WRAP);
+            descriptionLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).indent(10, 0).create());
+            descriptionLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.ITALIC_0_FONT_ID));
+            descriptionLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.GAV_TEXT_COLOR);
+        }
+
+        void bind(Element element) {
+            ((GridData) composite.getLayoutData()).exclude = element == null;
+            composite.setVisible(element != null);
+            if (element != null) {
+                titleLabel.setText(element.getName());
+                descriptionLabel.setText(Strings.hasText(element.getDescription()) ? element.getDescription()
+                        : Messages.noDescription);
+            }
+        }
+    }
+
 }
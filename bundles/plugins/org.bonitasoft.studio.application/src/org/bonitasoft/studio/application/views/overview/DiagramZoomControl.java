@@ -20,14 +20,10 @@ import java.util.stream.Collectors;
 import org.bonitasoft.studio.application.i18n.Messages;
 import org.bonitasoft.studio.application.views.extension.card.zoom.ZoomListener;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
 import org.bonitasoft.studio.diagram.custom.repository.DiagramRepositoryStore;
-import org.bonitasoft.studio.preferences.BonitaThemeConstants;
-import org.eclipse.jface.layout.GridDataFactory;
-import org.eclipse.jface.resource.JFaceResources;
-import org.eclipse.swt.SWT;
-import org.eclipse.swt.custom.CLabel;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Listener;
 
@@ -53,14 +49,18 @@ public class DiagramZoomControl extends AbstractOverviewZoomControl<DiagramFileS
         return DiagramOverviewContribution.NEW_DIAGRAM_COMMAND;
     }
 
+    @Override
+    protected IRepositoryStore<?> getRepositoryStore() {
+        return RepositoryManager.getInstance().getRepositoryStore(DiagramRepositoryStore.class);
+    }
+
     @Override
     protected List<DiagramFileStore> getFileStores() {
         return RepositoryManager.getInstance().getRepositoryStore(DiagramRepositoryStore.class).getChildren();
     }
 
     @Override
-    protected List<AbstractOverviewZoomControl<DiagramFileStore>.Element> retrieveFileStoreContent(
-            DiagramFileStore fileStore) {
+    protected List<Element> retrieveFileStoreContent(DiagramFileStore fileStore) {
         return fileStore.getProcesses(false).stream()
                 .map(process -> new Element(String.format("%s (%s)", process.getName(), process.getVersion()),
                         process.getDocumentation()))
@@ -68,17 +68,13 @@ public class DiagramZoomControl extends AbstractOverviewZoomControl<DiagramFileS
     }
 
     @Override
-    protected void createFileStoreTitleLabel(DiagramFileStore fileStore, Composite titleComposite) {
+    protected String getFileStoreTitle(DiagramFileStore fileStore) {
         try {
             var mainProcess = fileStore.getContent();
-            var titleLabel = new CLabel(titleComposite, SWT.NONE);
-            titleLabel.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).create());
-            titleLabel.setText(String.format("%s (%s)", mainProcess.getName(), mainProcess.getVersion()));
-            titleLabel.setFont(JFaceResources.getFont(ProjectOverviewEditorPart.BOLD_4_FONT_ID));
-            titleLabel.setData(BonitaThemeConstants.CSS_ID_PROPERTY_NAME, BonitaThemeConstants.TITLE_TEXT_COLOR);
+            return String.format("%s (%s)", mainProcess.getName(), mainProcess.getVersion());
         } catch (ReadFileStoreException e) {
-            errorHandler.openErrorDialog(getShell(), e.getMessage(), e);
-            super.createFileStoreTitleLabel(fileStore, titleComposite);
+            openErrorDialog(e);
+            return super.getFileStoreTitle(fileStore);
         }
     }
 
@@ -14,7 +14,6 @@
  */
 package org.bonitasoft.studio.application.views.overview;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,6 +31,7 @@ import org.eclipse.jface.layout.GridLayoutFactory;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.ScrolledComposite;
+import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -45,6 +45,9 @@ public class ElementComposite extends Composite {
 
     private ScrolledComposite scrolledComposite;
     private Composite cardComposite;
+    private Composite elementsTitleComposite;
+    private Composite cardsComposite;
+    private Control zoomedControl;
 
     public ElementComposite(Composite parent) {
         super(parent, SWT.NONE);
@@ -61,8 +64,8 @@ public class ElementComposite extends Composite {
         cardComposite.setLayout(GridLayoutFactory.fillDefaults().create());
         cardComposite.setLayoutData(GridDataFactory.fillDefaults().grab(true, true).create());
 
-        createElementsTitleComposite(cardComposite);
-        createCards(cardComposite);
+        elementsTitleComposite = createElementsTitleComposite(cardComposite);
+        cardsComposite = createCards(cardComposite);
 
         scrolledComposite.setContent(cardComposite);
         scrolledComposite.setExpandVertical(true);
@@ -70,7 +73,7 @@ public class ElementComposite extends Composite {
         scrolledComposite.setMinHeight(cardComposite.computeSize(SWT.DEFAULT, SWT.DEFAULT).y);
     }
 
-    private void createElementsTitleComposite(Composite parent) {
+    private Composite createElementsTitleComposite(Composite parent) {
         var titleComposite = createComposite(parent, SWT.NONE);
         titleComposite.setLayout(GridLayoutFactory.fillDefaults().numColumns(2).create());
         titleComposite.setLayoutData(GridDataFactory.fillDefaults().span(2, 1).grab(true, false).create());
@@ -86,9 +89,10 @@ public class ElementComposite extends Composite {
 
         var separator = new Label(titleComposite, SWT.SEPARATOR | SWT.HORIZONTAL);
         separator.setLayoutData(GridDataFactory.fillDefaults().grab(true, false).span(2, 1).create());
+        return titleComposite;
     }
 
-    private void createCards(Composite parent) {
+    private Composite createCards(Composite parent) {
         List<OverviewContribution> contributions = loadContributions();
 
         var composite = createComposite(parent, SWT.NONE);
@@ -101,6 +105,7 @@ public class ElementComposite extends Composite {
         composite.setData(BonitaThemeConstants.CSS_CLASS_PROPERTY_NAME, BonitaThemeConstants.EXTENSION_VIEW_BACKGROUND);
 
         contributions.forEach(contribution -> createCard(composite, contribution));
+        return composite;
     }
 
     private void createCard(Composite parent, OverviewContribution contribution) {
@@ -110,8 +115,8 @@ public class ElementComposite extends Composite {
 
                 @Override
                 public void zoom(Event e) {
-                    Arrays.asList(cardComposite.getChildren()).forEach(Control::dispose);
-                    ((Zoomable) contribution).createZoomedControl(cardComposite);
+                    showCards(false);
+                    zoomedControl = ((Zoomable) contribution).createZoomedControl(cardComposite);
                     cardComposite.layout();
                     scrolledComposite
                             .setMinHeight(
@@ -133,16 +138,31 @@ public class ElementComposite extends Composite {
         }
     }
 
+    /**
+     * Goes back from a zoomed control to the cards, which are kept while zoomed.
+     */
     public void refreshContent() {
         Display.getDefault().asyncExec(() -> {
-            Arrays.asList(cardComposite.getChildren()).forEach(Control::dispose);
-            createElementsTitleComposite(cardComposite);
-            createCards(cardComposite);
+            if (cardComposite.isDisposed()) {
+                return;
+            }
+            if (zoomedControl != null) {
+                zoomedControl.dispose();
+                zoomedControl = null;
+            }
+            showCards(true);
             cardComposite.layout();
             scrolledComposite.setMinHeight(cardComposite.computeSize(SWT.DEFAULT, SWT.DEFAULT).y);
         });
     }
 
+    private void showCards(boolean visible) {
+        for (Control control : List.of(elementsTitleComposite, cardsComposite)) {
+            ((GridData) control.getLayoutData()).exclude = !visible;
+            control.setVisible(visible);
+        }
+    }
+
     private List<OverviewContribution> loadContributions() {
         IConfigurationElement[] elements = BonitaStudioExtensionRegistryManager.getInstance()
                 .getConfigurationElements(DASHBOARD_CONTRIBUTION_EXTENSION_POINT);
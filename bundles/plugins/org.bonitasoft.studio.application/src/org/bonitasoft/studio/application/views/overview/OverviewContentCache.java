@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Content of the overview cards, per repository store. The content is read in a background job and kept until a
+ * resource of the store changes, so that zooming on a card or searching in it does not read the file stores again.
+ */
+class OverviewContentCache implements IResourceChangeListener {
+
+    private static OverviewContentCache INSTANCE;
+
+    private final Map<IRepositoryStore<?>, CompletableFuture<List<? extends OverviewRow<?>>>> contents = new ConcurrentHashMap<>();
+    private final List<Consumer<IRepositoryStore<?>>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    static synchronized OverviewContentCache getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new OverviewContentCache();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(INSTANCE,
+                    IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.PRE_CLOSE
+                            | IResourceChangeEvent.PRE_DELETE);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return the cached content of the store, or the content being read by the given loader in a background job. A
+     *         failed read is not kept in the cache.
+     */
+    @SuppressWarnings("unchecked")
+    <R extends OverviewRow<?>> CompletableFuture<List<R>> get(IRepositoryStore<?> store, Supplier<List<R>> loader) {
+        return (CompletableFuture<List<R>>) (CompletableFuture<?>) contents.computeIfAbsent(store, s -> {
+            var future = new CompletableFuture<List<? extends OverviewRow<?>>>();
+            var job = Job.create("Overview of " + store.getName(), monitor -> {
+                try {
+                    future.complete(loader.get());
+                } catch (RuntimeException e) {
+                    // Not cached, the next get reads the store again
+                    contents.remove(store, future);
+                    future.completeExceptionally(e);
+                }
+            });
+            job.setSystem(true);
+            job.schedule();
+            return future;
+        });
+    }
+
+    void invalidate(IRepositoryStore<?> store) {
+        if (contents.remove(store) != null) {
+            invalidationListeners.forEach(listener -> listener.accept(store));
+        }
+    }
+
+    void addInvalidationListener(Consumer<IRepositoryStore<?>> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    void removeInvalidationListener(Consumer<IRepositoryStore<?>> listener) {
+        invalidationListeners.remove(listener);
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        if (event.getType() != IResourceChangeEvent.POST_CHANGE) {
+            List.copyOf(contents.keySet()).forEach(this::invalidate);
+            return;
+        }
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+        List.copyOf(contents.keySet()).stream()
+                .filter(store -> store.getResource() == null
+                        || delta.findMember(store.getResource().getFullPath()) != null)
+                .forEach(this::invalidate);
+    }
+
+}
@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import java.util.List;
+
+import org.bonitasoft.studio.application.views.overview.AbstractOverviewZoomControl.Element;
+import org.bonitasoft.studio.common.repository.filestore.AbstractFileStore;
+
+/**
+ * The content of a file store card, read once off the UI thread.
+ */
+record OverviewRow<T extends AbstractFileStore>(T fileStore, String title, List<Element> elements) {
+
+}
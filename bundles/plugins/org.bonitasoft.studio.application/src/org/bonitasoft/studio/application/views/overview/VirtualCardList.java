@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bonitasoft.studio.preferences.BonitaThemeConstants;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.ScrollBar;
+
+/**
+ * A vertical list of cards which only creates the cards of the visible window. The cards are recycled when scrolling
+ * or when the input changes, by binding them to another item.
+ */
+class VirtualCardList<T> extends Composite {
+
+    private static final String ITEM_KEY = "org.bonitasoft.studio.overview.item";
+    private static final int ESTIMATED_ROW_HEIGHT = 150;
+    private static final int ROW_SPACING = 20;
+    private static final int MIN_HEIGHT = 200;
+
+    interface RowRenderer<T> {
+
+        Control createRow(Composite parent);
+
+        void bindRow(Control row, T item);
+    }
+
+    private final RowRenderer<T> renderer;
+    private final VirtualListModel<T> model = new VirtualListModel<>(ESTIMATED_ROW_HEIGHT, ROW_SPACING);
+    private final List<Control> rows = new ArrayList<>();
+    private final CardRowBinder rowBinder = new CardRowBinder();
+    private int width = -1;
+
+    VirtualCardList(Composite parent, RowRenderer<T> renderer) {
+        super(parent, SWT.V_SCROLL);
+        this.renderer = renderer;
+        setData(BonitaThemeConstants.CSS_CLASS_PROPERTY_NAME, BonitaThemeConstants.EXTENSION_VIEW_BACKGROUND);
+        addListener(SWT.Resize, e -> updateRows());
+        getVerticalBar().addListener(SWT.Selection, e -> updateRows());
+    }
+
+    void setInput(List<T> items) {
+        model.setItems(items);
+        getVerticalBar().setSelection(0);
+        updateRows();
+    }
+
+    /**
+     * Binds again the visible cards, when the content of the items has changed.
+     */
+    void refresh() {
+        rows.forEach(row -> row.setData(ITEM_KEY, null));
+        model.invalidateHeights();
+        updateRows();
+    }
+
+    private void updateRows() {
+        var clientArea = getClientArea();
+        if (clientArea.width != width) {
+            width = clientArea.width;
+            model.invalidateHeights();
+        }
+        ScrollBar verticalBar = getVerticalBar();
+        int scrollOffset = model.clampScrollOffset(verticalBar.getSelection(), clientArea.height);
+        int usedRows = model.layoutRows(scrollOffset, clientArea.height, rowBinder);
+        for (int i = usedRows; i < rows.size(); i++) {
+            rows.get(i).setVisible(false);
+        }
+        int totalHeight = model.getTotalHeight();
+        verticalBar.setValues(scrollOffset, 0, Math.max(totalHeight, 1), Math.max(clientArea.height, 1),
+                ROW_SPACING, Math.max(clientArea.height, 1));
+        verticalBar.setEnabled(totalHeight > clientArea.height);
+    }
+
+    private class CardRowBinder implements VirtualListModel.RowBinder<T> {
+
+        @Override
+        public void createRow() {
+            rows.add(renderer.createRow(VirtualCardList.this));
+        }
+
+        @Override
+        public int bindRow(int rowIndex, T item) {
+            var row = rows.get(rowIndex);
+            if (row.getData(ITEM_KEY) != item) {
+                renderer.bindRow(row, item);
+                row.setData(ITEM_KEY, item);
+                if (row instanceof Composite) {
+                    ((Composite) row).layout(true, true);
+                }
+            }
+            return row.computeSize(width, SWT.DEFAULT).y;
+        }
+
+        @Override
+        public void placeRow(int rowIndex, int y, int height) {
+            var row = rows.get(rowIndex);
+            row.setBounds(0, y, width, height);
+            row.setVisible(true);
+        }
+    }
+
+    /**
+     * The list scrolls by itself, it must not make its parent grow with its content.
+     */
+    @Override
+    public Point computeSize(int wHint, int hHint, boolean changed) {
+        var trim = computeTrim(0, 0, wHint == SWT.DEFAULT ? 0 : wHint, hHint == SWT.DEFAULT ? MIN_HEIGHT : hHint);
+        return new Point(trim.width, trim.height);
+    }
+
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.application.views.overview;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Layout of a vertical list whose rows are only created for the visible window.
+ * Row heights are estimated until the row has been measured once. The number of row widgets needed so far is tracked
+ * as a pool size, which only grows with the height of the viewport and not with the number of items.
+ * This class has no dependency on SWT.
+ */
+class VirtualListModel<T> {
+
+    private final int estimatedHeight;
+    private final int spacing;
+    private final Map<T, Integer> measuredHeights = new HashMap<>();
+    private List<T> items = new ArrayList<>();
+    private int[] offsets;
+    private int poolSize;
+
+    VirtualListModel(int estimatedHeight, int spacing) {
+        this.estimatedHeight = estimatedHeight;
+        this.spacing = spacing;
+    }
+
+    void setItems(Collection<T> items) {
+        this.items = new ArrayList<>(items);
+        offsets = null;
+    }
+
+    List<T> getItems() {
+        return items;
+    }
+
+    int size() {
+        return items.size();
+    }
+
+    T get(int index) {
+        return items.get(index);
+    }
+
+    int getHeight(int index) {
+        return measuredHeights.getOrDefault(items.get(index), estimatedHeight);
+    }
+
+    /**
+     * @return true if the height of the row has changed, in which case the offsets of the next rows are recomputed
+     */
+    boolean setHeight(int index, int height) {
+        Integer previous = measuredHeights.put(items.get(index), height);
+        if (previous == null ? height != estimatedHeight : previous != height) {
+            offsets = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the measured heights, when the width of the list has changed.
+     */
+    void invalidateHeights() {
+        measuredHeights.clear();
+        offsets = null;
+    }
+
+    int getOffset(int index) {
+        return offsets()[index];
+    }
+
+    int getTotalHeight() {
+        return items.isEmpty() ? 0 : offsets()[items.size()] - spacing;
+    }
+
+    int clampScrollOffset(int scrollOffset, int viewportHeight) {
+        return Math.max(0, Math.min(scrollOffset, getTotalHeight() - viewportHeight));
+    }
+
+    /**
+     * @return the range of the rows intersecting the viewport, empty when there is no item
+     */
+    Range getVisibleRange(int scrollOffset, int viewportHeight) {
+        if (items.isEmpty() || viewportHeight <= 0) {
+            return Range.EMPTY;
+        }
+        int first = lastRowStartingBefore(scrollOffset);
+        int last = lastRowStartingBefore(scrollOffset + viewportHeight - 1);
+        return new Range(first, last);
+    }
+
+    /**
+     * Lays out the rows of the visible window. The rows of the pool are reused in order, a row is only created when
+     * the pool is too small for the window. Each row is bound to its item, measured, then placed.
+     *
+     * @return the number of rows used, the next rows of the pool must be hidden
+     */
+    int layoutRows(int scrollOffset, int viewportHeight, RowBinder<T> binder) {
+        var visibleRange = getVisibleRange(scrollOffset, viewportHeight);
+        if (visibleRange.isEmpty()) {
+            return 0;
+        }
+        int bottom = scrollOffset + viewportHeight;
+        int rowIndex = 0;
+        int index = visibleRange.first();
+        while (index < items.size() && getOffset(index) < bottom) {
+            if (allocateRows(rowIndex + 1) > 0) {
+                binder.createRow();
+            }
+            int height = binder.bindRow(rowIndex, items.get(index));
+            setHeight(index, height);
+            binder.placeRow(rowIndex, getOffset(index) - scrollOffset, height);
+            rowIndex++;
+            index++;
+        }
+        return rowIndex;
+    }
+
+    /**
+     * Grows the pool of row widgets so that the given number of rows can be displayed at once.
+     *
+     * @return the number of rows to create
+     */
+    private int allocateRows(int count) {
+        int missing = Math.max(0, count - poolSize);
+        poolSize += missing;
+        return missing;
+    }
+
+    int getPoolSize() {
+        return poolSize;
+    }
+
+    private int lastRowStartingBefore(int position) {
+        int[] rowOffsets = offsets();
+        int low = 0;
+        int high = items.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (rowOffsets[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private int[] offsets() {
+        if (offsets == null) {
+            offsets = new int[items.size() + 1];
+            for (int i = 0; i < items.size(); i++) {
+                offsets[i + 1] = offsets[i] + getHeight(i) + spacing;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Row widgets of the list, identified by their index in the pool.
+     */
+    interface RowBinder<T> {
+
+        /**
+         * Adds a row at the end of the pool.
+         */
+        void createRow();
+
+        /**
+         * @return the height of the row once bound to the item
+         */
+        int bindRow(int rowIndex, T item);
+
+        /**
+         * Shows the row at the given position, relative to the top of the viewport.
+         */
+        void placeRow(int rowIndex, int y, int height);
+    }
+
+    record Range(int first, int last) {
+
+        static final Range EMPTY = new Range(0, -1);
+
+        int count() {
+            return last - first + 1;
+        }
+
+        boolean isEmpty() {
+            return count() <= 0;
+        }
+    }
+
+}
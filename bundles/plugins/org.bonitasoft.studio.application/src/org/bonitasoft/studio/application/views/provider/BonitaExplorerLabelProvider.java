@@ -14,9 +14,12 @@
  */
 package org.bonitasoft.studio.application.views.provider;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
 import org.bonitasoft.studio.common.repository.filestore.FileStoreFinder;
 import org.bonitasoft.studio.common.repository.model.IRepository;
@@ -30,7 +33,12 @@ import org.codehaus.jdt.groovy.model.GroovyCompilationUnit;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -47,11 +55,17 @@ public class BonitaExplorerLabelProvider extends JavaNavigatorLabelProvider {
     private PackageExplorerProblemsDecorator packageExplorerProblemsDecorator;
     private FileStoreFinder fileStoreFinder;
     private GroovyNavigatorLabelProvider groovyNavigatorLabelProvider;
+    private final Map<IResource, Optional<? extends IRepositoryFileStore>> fileStoreCache = new ConcurrentHashMap<>();
+    private final Map<IResource, Optional<Image>> iconCache = new ConcurrentHashMap<>();
+    private final IResourceChangeListener cacheInvalidationListener = this::invalidateCache;
+    private IRepository cachedRepository;
 
     public BonitaExplorerLabelProvider() {
         groovyNavigatorLabelProvider = new GroovyNavigatorLabelProvider();
         packageExplorerProblemsDecorator = new PackageExplorerProblemsDecorator();
         fileStoreFinder = new FileStoreFinder();
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(cacheInvalidationListener,
+                IResourceChangeEvent.POST_CHANGE);
     }
 
     @Override
@@ -94,8 +108,8 @@ public class BonitaExplorerLabelProvider extends JavaNavigatorLabelProvider {
             if (element instanceof IResource) {
                 Optional<? extends IRepositoryFileStore> fileStore = asFileStore(element, repositoryManager);
                 if (fileStore.isPresent()) {
-                    return fileStore
-                            .flatMap(IDisplayable::adapt).map(IDisplayable::getIcon)
+                    return iconCache.computeIfAbsent((IResource) element,
+                            resource -> fileStore.flatMap(IDisplayable::adapt).map(IDisplayable::getIcon))
                             .map(icon -> packageExplorerProblemsDecorator.decorateImage(icon, element))
                             .orElse(super.getImage(element));
                 }
@@ -150,11 +164,51 @@ public class BonitaExplorerLabelProvider extends JavaNavigatorLabelProvider {
     }
 
     private Optional<? extends IRepositoryFileStore> asFileStore(Object element, RepositoryManager repositoryManager) {
-        return Optional.ofNullable(element)
-                .filter(IResource.class::isInstance)
-                .map(IResource.class::cast)
-                .flatMap(resource -> fileStoreFinder.findFileStore(resource,
-                        repositoryManager.getCurrentRepository().orElseThrow()));
+        if (!(element instanceof IResource)) {
+            return Optional.empty();
+        }
+        var repository = repositoryManager.getCurrentRepository().orElseThrow();
+        if (repository != cachedRepository) {
+            clearCache();
+            cachedRepository = repository;
+        }
+        return fileStoreCache.computeIfAbsent((IResource) element,
+                resource -> fileStoreFinder.findFileStore(resource, repository));
+    }
+
+    /**
+     * File stores and icons are resolved once per resource and dropped when the resource is added, removed or its
+     * content changes.
+     */
+    private void invalidateCache(IResourceChangeEvent event) {
+        if (event.getDelta() == null || fileStoreCache.isEmpty()) {
+            return;
+        }
+        try {
+            event.getDelta().accept(delta -> {
+                if (delta.getKind() != IResourceDelta.CHANGED
+                        || (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+                    fileStoreCache.remove(delta.getResource());
+                    iconCache.remove(delta.getResource());
+                }
+                return true;
+            });
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e);
+            clearCache();
+        }
+    }
+
+    private void clearCache() {
+        fileStoreCache.clear();
+        iconCache.clear();
+    }
+
+    @Override
+    public void dispose() {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(cacheInvalidationListener);
+        clearCache();
+        super.dispose();
     }
 
     public static boolean isFolder(Object element, String folderName) {
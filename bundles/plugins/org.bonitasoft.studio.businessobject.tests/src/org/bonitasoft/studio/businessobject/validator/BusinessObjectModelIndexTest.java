@@ -0,0 +1,296 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.businessobject.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
+import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
+import org.bonitasoft.studio.businessobject.editor.model.Index;
+import org.bonitasoft.studio.businessobject.editor.model.Package;
+import org.bonitasoft.studio.businessobject.editor.model.RelationField;
+import org.bonitasoft.studio.businessobject.editor.model.RelationType;
+import org.bonitasoft.studio.businessobject.editor.model.builder.BusinessObjectBuilder;
+import org.bonitasoft.studio.businessobject.editor.model.builder.BusinessObjectModelBuilder;
+import org.bonitasoft.studio.businessobject.editor.model.builder.IndexBuilder;
+import org.bonitasoft.studio.businessobject.editor.model.builder.PackageBuilder;
+import org.bonitasoft.studio.businessobject.editor.model.builder.RelationFieldBuilder;
+import org.bonitasoft.studio.swt.rules.RealmWithDisplay;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BusinessObjectModelIndexTest {
+
+    private static final int NB_BUSINESS_OBJECTS = 500;
+    private static final int NB_PACKAGES = 10;
+
+    @Rule
+    public RealmWithDisplay displayRule = new RealmWithDisplay();
+
+    private BusinessObjectModel model;
+    private IObservableValue<BusinessObjectModel> modelObservable;
+
+    @Before
+    public void setUp() throws Exception {
+        model = generateModel(NB_BUSINESS_OBJECTS);
+        modelObservable = new WritableValue<>(model, BusinessObjectModel.class);
+    }
+
+    @Test
+    public void should_return_the_same_results_as_a_model_scan_on_a_generated_model() throws Exception {
+        assertSameResultsAsScan();
+    }
+
+    @Test
+    public void should_return_the_same_results_as_a_model_scan_after_changes() throws Exception {
+        assertSameResultsAsScan();
+        final List<BusinessObject> businessObjects = businessObjects(model).toList();
+
+        businessObjects.get(3).setSimpleName(businessObjects.get(4).getSimpleName().toUpperCase());
+        businessObjects.get(5).getFields().add(new RelationFieldBuilder()
+                .withName("added")
+                .withType(RelationType.COMPOSITION)
+                .withReference(businessObjects.get(6))
+                .create());
+        businessObjects.get(7).getIndexes().get(0).setName(businessObjects.get(8).getIndexes().get(0).getName());
+        EcoreUtil.remove(businessObjects.get(9));
+        model.getPackages().get(0).getBusinessObjects().add(new BusinessObjectBuilder()
+                .withQualifiedName("com.company.added.Object0")
+                .create());
+
+        assertThat(BusinessObjectModelIndex.of(model).isUpToDate()).isTrue();
+        assertSameResultsAsScan();
+    }
+
+    @Test
+    public void should_update_the_index_incrementally_when_business_objects_are_added_or_removed() throws Exception {
+        final BusinessObjectModelIndex index = BusinessObjectModelIndex.of(model);
+        assertSameResultsAsScan();
+        final List<BusinessObject> businessObjects = businessObjects(model).toList();
+        final BusinessObject added = new BusinessObjectBuilder()
+                .withQualifiedName("com.company.package0." + businessObjects.get(1).getSimpleName())
+                .withIndexes(new IndexBuilder().withName(businessObjects.get(2).getIndexes().get(0).getName()).create())
+                .create();
+        added.getFields().add(new RelationFieldBuilder()
+                .withName("composed")
+                .withType(RelationType.COMPOSITION)
+                .withReference(businessObjects.get(10))
+                .create());
+
+        model.getPackages().get(0).getBusinessObjects().add(added);
+
+        assertThat(index.isUpToDate()).isTrue();
+        assertThat(index.isSimpleNameDuplicated(businessObjects.get(1), businessObjects.get(1).getSimpleName()))
+                .isTrue();
+        assertThat(index.containsQualifiedName(added.getQualifiedName())).isTrue();
+        assertSameResultsAsScan();
+
+        EcoreUtil.remove(added);
+        EcoreUtil.remove(businessObjects.get(11));
+
+        assertThat(index.isUpToDate()).isTrue();
+        assertThat(index.containsQualifiedName(added.getQualifiedName())).isFalse();
+        assertThat(index.containsQualifiedName(businessObjects.get(11).getQualifiedName())).isFalse();
+        assertSameResultsAsScan();
+
+        final Package removedPackage = model.getPackages().get(1);
+        model.getPackages().remove(removedPackage);
+
+        assertThat(index.isUpToDate()).isTrue();
+        assertSameResultsAsScan();
+
+        model.getPackages().add(removedPackage);
+        removedPackage.getBusinessObjects().addAll(List.of(new BusinessObjectBuilder()
+                .withQualifiedName("com.company.package1.AddedMany0")
+                .create(),
+                new BusinessObjectBuilder()
+                        .withQualifiedName("com.company.package1.AddedMany1")
+                        .create()));
+        removedPackage.getBusinessObjects().get(0).getIndexes().get(0).setName("renamedIndex");
+
+        assertThat(index.isUpToDate()).isTrue();
+        assertSameResultsAsScan();
+    }
+
+    @Test
+    public void should_share_a_single_index_per_model() throws Exception {
+        final BusinessObjectModelIndex index = BusinessObjectModelIndex.of(model);
+
+        assertThat(BusinessObjectModelIndex.of(model)).isSameAs(index);
+        assertThat(BusinessObjectModelIndex.of(generateModel(1))).isNotSameAs(index);
+    }
+
+    @Test
+    public void should_memoize_statuses_until_the_model_changes() throws Exception {
+        final BusinessObjectListValidator validator = new BusinessObjectListValidator(modelObservable);
+        final BusinessObject businessObject = businessObjects(model).findFirst().orElseThrow();
+
+        final IStatus status = validator.validate(businessObject);
+        assertThat(validator.validate(businessObject)).isSameAs(status);
+
+        businessObject.setSimpleName("Renamed");
+
+        assertThat(validator.validate(businessObject)).isNotSameAs(status);
+    }
+
+    @Test
+    public void should_reuse_the_statuses_of_a_large_model_while_it_is_unchanged() throws Exception {
+        final List<BusinessObject> businessObjects = businessObjects(model).toList();
+        final BusinessObjectListValidator validator = new BusinessObjectListValidator(modelObservable);
+        final long modificationStamp = BusinessObjectModelIndex.of(model).getModificationStamp();
+
+        final List<IStatus> firstPaintStatuses = new ArrayList<>();
+        for (final BusinessObject businessObject : businessObjects) {
+            firstPaintStatuses.add(validator.validate(businessObject));
+        }
+        final List<IStatus> repaintStatuses = new ArrayList<>();
+        for (final BusinessObject businessObject : businessObjects) {
+            repaintStatuses.add(validator.validate(businessObject));
+        }
+
+        // The repaint reuses the memoized statuses as long as the model is unchanged
+        assertThat(BusinessObjectModelIndex.of(model).getModificationStamp()).isEqualTo(modificationStamp);
+        for (int i = 0; i < businessObjects.size(); i++) {
+            assertThat(repaintStatuses.get(i))
+                    .as("%s status", businessObjects.get(i).getQualifiedName())
+                    .isSameAs(firstPaintStatuses.get(i));
+        }
+
+        businessObjects.get(0).setSimpleName("Renamed");
+
+        assertThat(BusinessObjectModelIndex.of(model).getModificationStamp()).isNotEqualTo(modificationStamp);
+        assertThat(validator.validate(businessObjects.get(0))).isNotSameAs(firstPaintStatuses.get(0));
+        assertSameResultsAsScan();
+    }
+
+    private void assertSameResultsAsScan() {
+        final BusinessObjectModelIndex index = BusinessObjectModelIndex.of(model);
+        businessObjects(model).forEach(businessObject -> {
+            assertThat(index.isSimpleNameDuplicated(businessObject, businessObject.getSimpleName()))
+                    .as("%s name duplicated", businessObject.getQualifiedName())
+                    .isEqualTo(scanSimpleNameDuplicated(businessObject));
+            assertThat(index.getCompositionReferences(businessObject))
+                    .as("%s composition references", businessObject.getQualifiedName())
+                    .isEqualTo(scanCompositionReferences(businessObject));
+            assertThat(index.isAggregated(businessObject))
+                    .as("%s aggregated", businessObject.getQualifiedName())
+                    .isEqualTo(scanAggregated(businessObject));
+            businessObject.getFields().stream()
+                    .filter(RelationField.class::isInstance)
+                    .map(field -> ((RelationField) field).getReference().getQualifiedName())
+                    .forEach(qualifiedName -> assertThat(index.containsQualifiedName(qualifiedName))
+                            .as("%s exists", qualifiedName)
+                            .isEqualTo(scanContainsQualifiedName(qualifiedName)));
+            businessObject.getIndexes().forEach(anIndex -> assertThat(index.isIndexNameDuplicated(anIndex))
+                    .as("%s index name duplicated", anIndex.getName())
+                    .isEqualTo(scanIndexNameDuplicated(anIndex)));
+        });
+    }
+
+    private boolean scanSimpleNameDuplicated(BusinessObject selectedBo) {
+        return businessObjects(model)
+                .filter(bo -> !Objects.equals(bo, selectedBo))
+                .map(BusinessObject::getSimpleName)
+                .map(String::toLowerCase)
+                .anyMatch(selectedBo.getSimpleName().toLowerCase()::equals);
+    }
+
+    private int scanCompositionReferences(BusinessObject child) {
+        return (int) relations(child)
+                .filter(field -> Objects.equals(field.getType(), RelationType.COMPOSITION))
+                .count();
+    }
+
+    private boolean scanAggregated(BusinessObject child) {
+        return relations(child).anyMatch(field -> Objects.equals(field.getType(), RelationType.AGGREGATION));
+    }
+
+    private boolean scanContainsQualifiedName(String qualifiedName) {
+        return businessObjects(model)
+                .anyMatch(businessObject -> Objects.equals(businessObject.getQualifiedName(), qualifiedName));
+    }
+
+    private boolean scanIndexNameDuplicated(Index index) {
+        return businessObjects(model)
+                .map(BusinessObject::getIndexes)
+                .flatMap(Collection::stream)
+                .anyMatch(anIndex -> Objects.equals(anIndex.getName().toLowerCase(), index.getName().toLowerCase())
+                        && !Objects.equals(anIndex, index));
+    }
+
+    private Stream<RelationField> relations(BusinessObject child) {
+        return businessObjects(model)
+                .flatMap(parent -> parent.getFields().stream())
+                .filter(RelationField.class::isInstance)
+                .map(RelationField.class::cast)
+                .filter(field -> Objects.equals(field.getReference(), child));
+    }
+
+    private static Stream<BusinessObject> businessObjects(BusinessObjectModel model) {
+        return model.getPackages().stream()
+                .map(Package::getBusinessObjects)
+                .flatMap(Collection::stream);
+    }
+
+    /**
+     * Generates a model with a few duplicated business object and index names, and random compositions and
+     * aggregations between the business objects.
+     */
+    private static BusinessObjectModel generateModel(int nbBusinessObjects) {
+        final Random random = new Random(42);
+        final List<BusinessObject> businessObjects = new ArrayList<>();
+        for (int i = 0; i < nbBusinessObjects; i++) {
+            final String name = i % 50 == 49 ? "OBJECT" + (i - 1) : "Object" + i;
+            businessObjects.add(new BusinessObjectBuilder()
+                    .withQualifiedName(String.format("com.company.package%s.%s", i % NB_PACKAGES, name))
+                    .withIndexes(new IndexBuilder().withName("index" + (i % 490)).create())
+                    .create());
+        }
+        for (final BusinessObject businessObject : businessObjects) {
+            for (int j = 0; j < 4; j++) {
+                businessObject.getFields().add(new RelationFieldBuilder()
+                        .withName("relation" + j)
+                        .withType(random.nextInt(3) == 0 ? RelationType.COMPOSITION : RelationType.AGGREGATION)
+                        .withReference(businessObjects.get(random.nextInt(businessObjects.size())))
+                        .create());
+            }
+        }
+        final BusinessObjectModelBuilder modelBuilder = new BusinessObjectModelBuilder();
+        final Package[] packages = new Package[NB_PACKAGES];
+        for (int i = 0; i < NB_PACKAGES; i++) {
+            final int packageIndex = i;
+            packages[i] = new PackageBuilder()
+                    .withName("com.company.package" + i)
+                    .withBusinessObjects(businessObjects.stream()
+                            .filter(bo -> bo.getQualifiedName().startsWith("com.company.package" + packageIndex + "."))
+                            .toArray(BusinessObject[]::new))
+                    .create();
+        }
+        return modelBuilder.withPackages(packages).create();
+    }
+
+}
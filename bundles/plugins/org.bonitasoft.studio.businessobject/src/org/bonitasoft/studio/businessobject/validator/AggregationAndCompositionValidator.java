@@ -14,14 +14,8 @@
  */
 package org.bonitasoft.studio.businessobject.validator;
 
-import java.util.Collection;
-import java.util.Objects;
-
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
-import org.bonitasoft.studio.businessobject.editor.model.Package;
-import org.bonitasoft.studio.businessobject.editor.model.RelationField;
-import org.bonitasoft.studio.businessobject.editor.model.RelationType;
 import org.bonitasoft.studio.businessobject.i18n.Messages;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.validation.ValidationStatus;
@@ -38,14 +32,9 @@ public class AggregationAndCompositionValidator implements IBDMValidator<Busines
     @Override
     public IStatus validate(BusinessObject businessObject) {
 
-        boolean usedInAggregation = modelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .anyMatch(aBo -> areInRelation(aBo, businessObject, RelationType.AGGREGATION));
-        boolean usedInComposition = modelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .anyMatch(aBo -> areInRelation(aBo, businessObject, RelationType.COMPOSITION));
+        BusinessObjectModelIndex index = BusinessObjectModelIndex.of(modelObservable.getValue());
+        boolean usedInAggregation = index.isAggregated(businessObject);
+        boolean usedInComposition = index.getCompositionReferences(businessObject) > 0;
 
         return usedInAggregation && usedInComposition
                 ? ValidationStatus
@@ -53,14 +42,6 @@ public class AggregationAndCompositionValidator implements IBDMValidator<Busines
                 : ValidationStatus.ok();
     }
 
-    private boolean areInRelation(BusinessObject parent, BusinessObject child, RelationType relation) {
-        return parent.getFields().stream()
-                .filter(RelationField.class::isInstance)
-                .map(RelationField.class::cast)
-                .filter(field -> Objects.equals(field.getReference(), child))
-                .anyMatch(field -> Objects.equals(field.getType(), relation));
-    }
-
     @Override
     public String getValidatorType() {
         return Messages.businessObject;
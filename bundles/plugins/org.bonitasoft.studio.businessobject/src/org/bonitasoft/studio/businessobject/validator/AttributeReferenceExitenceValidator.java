@@ -14,13 +14,9 @@
  */
 package org.bonitasoft.studio.businessobject.validator;
 
-import java.util.Collection;
-import java.util.Objects;
-
 import org.bonitasoft.studio.businessobject.BusinessObjectPlugin;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
-import org.bonitasoft.studio.businessobject.editor.model.Package;
 import org.bonitasoft.studio.businessobject.editor.model.RelationField;
 import org.bonitasoft.studio.businessobject.i18n.Messages;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
@@ -59,11 +55,8 @@ public class AttributeReferenceExitenceValidator implements IBDMValidator {
     }
 
     private IStatus validateAttributeExistenceReference(RelationField field) {
-        return businessObjectModelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .anyMatch(businessObject -> Objects.equals(businessObject.getQualifiedName(),
-                        field.getReference().getQualifiedName()))
+        return BusinessObjectModelIndex.of(businessObjectModelObservable.getValue())
+                .containsQualifiedName(field.getReference().getQualifiedName())
                                 ? ValidationStatus.ok()
                                 : ValidationStatus
                                         .error(String.format(Messages.unknownBusinessObjectReference, field.getName()));
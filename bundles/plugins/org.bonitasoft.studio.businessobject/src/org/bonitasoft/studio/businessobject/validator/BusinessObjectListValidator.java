@@ -15,6 +15,8 @@
 package org.bonitasoft.studio.businessobject.validator;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.bonitasoft.studio.businessobject.BusinessObjectPlugin;
@@ -53,7 +55,13 @@ public class BusinessObjectListValidator implements IValidator<Object> {
     private IObservableValue<BusinessObject> boObservable = new WritableValue<>();
     private IObservableValue<Query> queryObservable = new WritableValue<>();
 
+    private final IObservableValue<BusinessObjectModel> businessObjectModelObservable;
+    private final Map<Object, IStatus> statusCache = new HashMap<>();
+    private BusinessObjectModel cachedModel;
+    private long cachedModificationStamp;
+
     public BusinessObjectListValidator(IObservableValue<BusinessObjectModel> businessObjectModelObservable) {
+        this.businessObjectModelObservable = businessObjectModelObservable;
         packageNameValidator = new PackageNameValidator();
         businessObjectNameValidator = new BusinessObjectNameValidator(businessObjectModelObservable);
         aggregationAndCompositionValidator = new AggregationAndCompositionValidator(businessObjectModelObservable);
@@ -71,8 +79,30 @@ public class BusinessObjectListValidator implements IValidator<Object> {
         indexFieldsValidator = new IndexFieldsValidator();
     }
 
+    /**
+     * The statuses are memoized until the model changes, as the tree viewers validate each element on each repaint.
+     */
     @Override
     public IStatus validate(Object element) {
+        BusinessObjectModel model = businessObjectModelObservable.getValue();
+        if (model == null) {
+            return doValidate(element);
+        }
+        long modificationStamp = BusinessObjectModelIndex.of(model).getModificationStamp();
+        if (model != cachedModel || modificationStamp != cachedModificationStamp) {
+            statusCache.clear();
+            cachedModel = model;
+            cachedModificationStamp = modificationStamp;
+        }
+        IStatus status = statusCache.get(element);
+        if (status == null) {
+            status = doValidate(element);
+            statusCache.put(element, status);
+        }
+        return status;
+    }
+
+    private IStatus doValidate(Object element) {
         MultiStatus globalStatus = new MultiStatus(BusinessObjectPlugin.PLUGIN_ID, 0, "", null);
 
         if (element instanceof BusinessObject) {
@@ -0,0 +1,300 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.businessobject.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.studio.businessobject.editor.model.BusinessDataModelPackage;
+import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
+import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
+import org.bonitasoft.studio.businessobject.editor.model.Field;
+import org.bonitasoft.studio.businessobject.editor.model.Index;
+import org.bonitasoft.studio.businessobject.editor.model.Package;
+import org.bonitasoft.studio.businessobject.editor.model.RelationField;
+import org.bonitasoft.studio.businessobject.editor.model.RelationType;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Names and relations of a business object model, so that the validators do not scan the whole model for each
+ * validated element.
+ * The index is attached to the model it indexes and shared by all the validators of this model. It is built lazily,
+ * then updated from the model notifications: only the added, removed or changed business objects are indexed again.
+ */
+public class BusinessObjectModelIndex extends EContentAdapter {
+
+    private final BusinessObjectModel model;
+    private long modificationStamp;
+    private boolean upToDate;
+
+    /**
+     * What each business object adds to the counters below, to remove it when the business object changes.
+     */
+    private final Map<BusinessObject, IndexedBusinessObject> businessObjects = new HashMap<>();
+    private final Map<String, Integer> qualifiedNames = new HashMap<>();
+    private final Map<String, Integer> simpleNames = new HashMap<>();
+    private final Map<String, Integer> indexNames = new HashMap<>();
+    private final Map<Index, String> indexes = new HashMap<>();
+    private final Map<BusinessObject, Integer> compositionReferences = new HashMap<>();
+    private final Map<BusinessObject, Integer> aggregationReferences = new HashMap<>();
+
+    private BusinessObjectModelIndex(BusinessObjectModel model) {
+        this.model = model;
+    }
+
+    /**
+     * @return the index attached to the given model, created on first access
+     */
+    public static BusinessObjectModelIndex of(BusinessObjectModel model) {
+        for (var adapter : model.eAdapters()) {
+            if (adapter instanceof BusinessObjectModelIndex) {
+                return (BusinessObjectModelIndex) adapter;
+            }
+        }
+        var index = new BusinessObjectModelIndex(model);
+        model.eAdapters().add(index);
+        return index;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            modificationStamp++;
+            if (upToDate) {
+                update(notification);
+            }
+        }
+    }
+
+    /**
+     * @return a stamp incremented on each change of the model, to invalidate results computed from the model
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
+    }
+
+    /**
+     * @return true if another business object of the model has the same simple name, ignoring case
+     */
+    public boolean isSimpleNameDuplicated(BusinessObject businessObject, String name) {
+        ensureUpToDate();
+        var lowerCaseName = name.toLowerCase();
+        int count = simpleNames.getOrDefault(lowerCaseName, 0);
+        var indexed = businessObjects.get(businessObject);
+        if (indexed != null && lowerCaseName.equals(indexed.simpleName)) {
+            count--;
+        }
+        return count > 0;
+    }
+
+    public boolean containsQualifiedName(String qualifiedName) {
+        ensureUpToDate();
+        return qualifiedNames.containsKey(qualifiedName);
+    }
+
+    /**
+     * @return true if another index of the model has the same name, ignoring case
+     */
+    public boolean isIndexNameDuplicated(Index index) {
+        ensureUpToDate();
+        var lowerCaseName = index.getName().toLowerCase();
+        int count = indexNames.getOrDefault(lowerCaseName, 0);
+        if (lowerCaseName.equals(indexes.get(index))) {
+            count--;
+        }
+        return count > 0;
+    }
+
+    /**
+     * @return the number of composition fields of the model referencing the given business object
+     */
+    public int getCompositionReferences(BusinessObject businessObject) {
+        ensureUpToDate();
+        return compositionReferences.getOrDefault(businessObject, 0);
+    }
+
+    public boolean isAggregated(BusinessObject businessObject) {
+        ensureUpToDate();
+        return aggregationReferences.containsKey(businessObject);
+    }
+
+    /**
+     * @return false when the index will be built again on next access
+     */
+    boolean isUpToDate() {
+        return upToDate;
+    }
+
+    private void ensureUpToDate() {
+        if (upToDate) {
+            return;
+        }
+        businessObjects.clear();
+        qualifiedNames.clear();
+        simpleNames.clear();
+        indexNames.clear();
+        indexes.clear();
+        compositionReferences.clear();
+        aggregationReferences.clear();
+        for (Package pakage : model.getPackages()) {
+            for (BusinessObject businessObject : pakage.getBusinessObjects()) {
+                add(businessObject);
+            }
+        }
+        upToDate = true;
+    }
+
+    private void update(Notification notification) {
+        var feature = notification.getFeature();
+        if (feature == BusinessDataModelPackage.Literals.BUSINESS_OBJECT_MODEL__PACKAGES
+                || feature == BusinessDataModelPackage.Literals.PACKAGE__BUSINESS_OBJECTS) {
+            switch (notification.getEventType()) {
+                case Notification.ADD:
+                case Notification.ADD_MANY:
+                case Notification.REMOVE:
+                case Notification.REMOVE_MANY:
+                case Notification.SET:
+                case Notification.UNSET:
+                    containedBusinessObjects(notification.getOldValue()).forEach(this::remove);
+                    containedBusinessObjects(notification.getNewValue()).forEach(this::add);
+                    break;
+                default:
+                    // Moves and resolutions do not change the indexed business objects
+                    break;
+            }
+        } else if (notification.getNotifier() instanceof Package) {
+            // The package name is part of the qualified name of its business objects
+            ((Package) notification.getNotifier()).getBusinessObjects().forEach(this::reindex);
+        } else if (notification.getNotifier() instanceof EObject && notification.getNotifier() != model) {
+            var businessObject = businessObject((EObject) notification.getNotifier());
+            if (businessObject != null) {
+                reindex(businessObject);
+            } else {
+                upToDate = false;
+            }
+        }
+    }
+
+    private void reindex(BusinessObject businessObject) {
+        if (businessObjects.containsKey(businessObject)) {
+            add(businessObject);
+        }
+    }
+
+    /**
+     * Replaces the previous contribution of the business object, if any.
+     */
+    private void add(BusinessObject businessObject) {
+        remove(businessObject);
+        var indexed = new IndexedBusinessObject(businessObject);
+        businessObjects.put(businessObject, indexed);
+        increment(qualifiedNames, indexed.qualifiedName);
+        increment(simpleNames, indexed.simpleName);
+        indexed.indexNames.forEach((index, name) -> {
+            indexes.put(index, name);
+            increment(indexNames, name);
+        });
+        indexed.compositions.forEach(reference -> increment(compositionReferences, reference));
+        indexed.aggregations.forEach(reference -> increment(aggregationReferences, reference));
+    }
+
+    private void remove(BusinessObject businessObject) {
+        var indexed = businessObjects.remove(businessObject);
+        if (indexed == null) {
+            return;
+        }
+        decrement(qualifiedNames, indexed.qualifiedName);
+        decrement(simpleNames, indexed.simpleName);
+        indexed.indexNames.forEach((index, name) -> {
+            indexes.remove(index);
+            decrement(indexNames, name);
+        });
+        indexed.compositions.forEach(reference -> decrement(compositionReferences, reference));
+        indexed.aggregations.forEach(reference -> decrement(aggregationReferences, reference));
+    }
+
+    private static <K> void increment(Map<K, Integer> counters, K key) {
+        if (key != null) {
+            counters.merge(key, 1, Integer::sum);
+        }
+    }
+
+    private static <K> void decrement(Map<K, Integer> counters, K key) {
+        if (key != null) {
+            counters.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    /**
+     * @return the business objects of the packages or business objects carried by a notification value
+     */
+    private static List<BusinessObject> containedBusinessObjects(Object value) {
+        var result = new ArrayList<BusinessObject>();
+        if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(element -> result.addAll(containedBusinessObjects(element)));
+        } else if (value instanceof Package) {
+            result.addAll(((Package) value).getBusinessObjects());
+        } else if (value instanceof BusinessObject) {
+            result.add((BusinessObject) value);
+        }
+        return result;
+    }
+
+    /**
+     * @return the business object containing the given element, or null if it is not part of a business object
+     */
+    private static BusinessObject businessObject(EObject element) {
+        var container = element;
+        while (container != null && !(container instanceof BusinessObject)) {
+            container = container.eContainer();
+        }
+        return (BusinessObject) container;
+    }
+
+    private static class IndexedBusinessObject {
+
+        private final String qualifiedName;
+        private final String simpleName;
+        private final Map<Index, String> indexNames = new HashMap<>();
+        private final List<BusinessObject> compositions = new ArrayList<>();
+        private final List<BusinessObject> aggregations = new ArrayList<>();
+
+        IndexedBusinessObject(BusinessObject businessObject) {
+            qualifiedName = businessObject.getQualifiedName();
+            simpleName = businessObject.getSimpleName() != null ? businessObject.getSimpleName().toLowerCase() : null;
+            for (Index index : businessObject.getIndexes()) {
+                indexNames.put(index, index.getName() != null ? index.getName().toLowerCase() : null);
+            }
+            for (Field field : businessObject.getFields()) {
+                if (field instanceof RelationField && ((RelationField) field).getReference() != null) {
+                    var relation = (RelationField) field;
+                    if (relation.getType() == RelationType.COMPOSITION) {
+                        compositions.add(relation.getReference());
+                    } else if (relation.getType() == RelationType.AGGREGATION) {
+                        aggregations.add(relation.getReference());
+                    }
+                }
+            }
+        }
+
+    }
+
+}
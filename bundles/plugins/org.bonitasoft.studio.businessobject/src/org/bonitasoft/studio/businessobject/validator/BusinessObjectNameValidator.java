@@ -14,13 +14,9 @@
  */
 package org.bonitasoft.studio.businessobject.validator;
 
-import java.util.Collection;
-import java.util.Objects;
-
 import org.bonitasoft.studio.businessobject.BusinessObjectPlugin;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
-import org.bonitasoft.studio.businessobject.editor.model.Package;
 import org.bonitasoft.studio.businessobject.i18n.Messages;
 import org.bonitasoft.studio.common.databinding.validator.InputLengthValidator;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
@@ -78,13 +74,7 @@ public class BusinessObjectNameValidator implements IBDMValidator<BusinessObject
     }
 
     private IStatus validateUniqueness(BusinessObject selectedBo, String name) {
-        return modelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .filter(bo -> !Objects.equals(bo, selectedBo))
-                .map(BusinessObject::getSimpleName)
-                .map(String::toLowerCase)
-                .anyMatch(name.toLowerCase()::equals)
+        return BusinessObjectModelIndex.of(modelObservable.getValue()).isSimpleNameDuplicated(selectedBo, name)
                         ? ValidationStatus.error(Messages.businessObjectNameAlreadyExists)
                         : ValidationStatus.ok();
     }
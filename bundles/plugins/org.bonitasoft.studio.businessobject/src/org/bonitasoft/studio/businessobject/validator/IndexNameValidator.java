@@ -14,14 +14,9 @@
  */
 package org.bonitasoft.studio.businessobject.validator;
 
-import java.util.Collection;
-import java.util.Objects;
-
 import org.bonitasoft.studio.businessobject.BusinessObjectPlugin;
-import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
 import org.bonitasoft.studio.businessobject.editor.model.Index;
-import org.bonitasoft.studio.businessobject.editor.model.Package;
 import org.bonitasoft.studio.businessobject.i18n.Messages;
 import org.bonitasoft.studio.common.databinding.validator.InputLengthValidator;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
@@ -61,13 +56,7 @@ public class IndexNameValidator implements IBDMValidator<Index> {
     }
 
     private IStatus validateUniqueness(Index index) {
-        boolean nameDuplicated = modelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .map(BusinessObject::getIndexes)
-                .flatMap(Collection::stream)
-                .anyMatch(anIndex -> Objects.equals(anIndex.getName().toLowerCase(), index.getName().toLowerCase())
-                        && !Objects.equals(anIndex, index));
+        boolean nameDuplicated = BusinessObjectModelIndex.of(modelObservable.getValue()).isIndexNameDuplicated(index);
         if (nameDuplicated) {
             return ValidationStatus.error(Messages.indexNameAlreadyExists);
         }
@@ -14,14 +14,8 @@
  */
 package org.bonitasoft.studio.businessobject.validator;
 
-import java.util.Collection;
-import java.util.Objects;
-
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObject;
 import org.bonitasoft.studio.businessobject.editor.model.BusinessObjectModel;
-import org.bonitasoft.studio.businessobject.editor.model.Package;
-import org.bonitasoft.studio.businessobject.editor.model.RelationField;
-import org.bonitasoft.studio.businessobject.editor.model.RelationType;
 import org.bonitasoft.studio.businessobject.i18n.Messages;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.validation.ValidationStatus;
@@ -38,11 +32,8 @@ public class SeveralCompositionReferencesValidator implements IBDMValidator<Busi
     @Override
     public IStatus validate(BusinessObject businessObject) {
 
-        boolean severalComposition = modelObservable.getValue().getPackages().stream()
-                .map(Package::getBusinessObjects)
-                .flatMap(Collection::stream)
-                .mapToLong(aBo -> compositionRelations(aBo, businessObject))
-                .sum() > 1;
+        boolean severalComposition = BusinessObjectModelIndex.of(modelObservable.getValue())
+                .getCompositionReferences(businessObject) > 1;
 
         return severalComposition
                 ? ValidationStatus.error(String.format(Messages.severalCompositionReferenceForABusinessObject,
@@ -50,15 +41,6 @@ public class SeveralCompositionReferencesValidator implements IBDMValidator<Busi
                 : ValidationStatus.ok();
     }
 
-    private long compositionRelations(BusinessObject parent, BusinessObject child) {
-        return parent.getFields().stream()
-                .filter(RelationField.class::isInstance)
-                .map(RelationField.class::cast)
-                .filter(field -> Objects.equals(field.getReference(), child))
-                .filter(field -> Objects.equals(field.getType(), RelationType.COMPOSITION))
-                .count();
-    }
-
     @Override
     public String getValidatorType() {
         return Messages.businessObject;
@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.editingdomain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.bpm.model.process.builders.MainProcessBuilder;
+import org.bonitasoft.bpm.model.process.builders.PoolBuilder;
+import org.bonitasoft.bpm.model.process.builders.TaskBuilder;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BonitaEditingDomainRegistryTest {
+
+    private static final String ID_PREFIX = BonitaEditingDomainRegistryTest.class.getName() + ".";
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private BonitaEditingDomainRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new BonitaEditingDomainRegistry();
+        registry.setMinIdleTime(0);
+        registry.setInUsePredicate(domain -> false);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        registry.removeAll();
+    }
+
+    @Test
+    public void should_evict_least_recently_used_domains_beyond_budget() throws Exception {
+        registry.setMaxRetainedDomains(2);
+
+        final TransactionalEditingDomain first = registry.getEditingDomain(ID_PREFIX + "first");
+        registry.getEditingDomain(ID_PREFIX + "second");
+        registry.getEditingDomain(ID_PREFIX + "second");
+        registry.getEditingDomain(ID_PREFIX + "third");
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+        assertThat(registry.getHitCount()).isEqualTo(1);
+        assertThat(registry.getMissCount()).isEqualTo(3);
+        assertThat(registry.getEditingDomain(ID_PREFIX + "first")).isNotSameAs(first);
+        assertThat(registry.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void should_keep_the_elements_of_an_evicted_domain_loaded() throws Exception {
+        registry.setMaxRetainedDomains(1);
+        final URI uri = generateDiagrams(1).get(0);
+        final Resource resource = registry.getEditingDomain(ID_PREFIX + "first").getResourceSet().getResource(uri,
+                true);
+        final Pool pool = (Pool) ((MainProcess) resource.getContents().get(0)).getElements().get(0);
+
+        registry.getEditingDomain(ID_PREFIX + "second");
+
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+        assertThat(pool.eIsProxy()).isFalse();
+        assertThat(pool.eResource()).isSameAs(resource);
+        assertThat(resource.isLoaded()).isTrue();
+        assertThat(pool.getName()).isEqualTo("Pool1");
+    }
+
+    @Test
+    public void should_not_evict_domains_in_use() throws Exception {
+        registry.setMaxRetainedDomains(1);
+        final TransactionalEditingDomain inUse = registry.getEditingDomain(ID_PREFIX + "inUse");
+        registry.setInUsePredicate(domain -> domain == inUse);
+
+        registry.getEditingDomain(ID_PREFIX + "other");
+        registry.getEditingDomain(ID_PREFIX + "another");
+
+        assertThat(registry.getEditingDomain(ID_PREFIX + "inUse")).isSameAs(inUse);
+        assertThat(registry.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_evict_recently_accessed_domains() throws Exception {
+        registry.setMaxRetainedDomains(1);
+        registry.setMinIdleTime(60_000);
+
+        final TransactionalEditingDomain first = registry.getEditingDomain(ID_PREFIX + "first");
+        registry.getEditingDomain(ID_PREFIX + "second");
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getEditingDomain(ID_PREFIX + "first")).isSameAs(first);
+        assertThat(registry.getEvictionCount()).isZero();
+    }
+
+    @Test
+    public void should_keep_retained_heap_flat_while_iterating_500_diagrams() throws Exception {
+        final int nbDiagrams = 500;
+        final int budget = 20;
+        registry.setMaxRetainedDomains(budget);
+        final List<URI> diagramURIs = generateDiagrams(nbDiagrams);
+
+        final List<WeakReference<MainProcess>> loadedDiagrams = new ArrayList<>();
+        for (final URI uri : diagramURIs) {
+            final TransactionalEditingDomain domain = registry.getEditingDomain(ID_PREFIX + uri.lastSegment());
+            final Resource resource = domain.getResourceSet().getResource(uri, true);
+            final MainProcess diagram = (MainProcess) resource.getContents().get(0);
+            assertThat(diagram.getElements()).hasSize(2);
+            loadedDiagrams.add(new WeakReference<>(diagram));
+        }
+
+        assertThat(registry.size()).isEqualTo(budget);
+        assertThat(registry.getEvictionCount()).isEqualTo(nbDiagrams - budget);
+        assertThat(registry.getMissCount()).isEqualTo(nbDiagrams);
+        for (int i = 0; i < 10 && countReachable(loadedDiagrams) > budget; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertThat(countReachable(loadedDiagrams)).isLessThanOrEqualTo(budget);
+    }
+
+    @Test
+    public void should_bound_a_batch_of_500_diagrams_with_the_default_settings() throws Exception {
+        final BonitaEditingDomainRegistry defaultRegistry = new BonitaEditingDomainRegistry();
+        final int nbDiagrams = 500;
+        final int hardLimit = defaultRegistry.getMaxRetainedDomains() * 2;
+        final List<URI> diagramURIs = generateDiagrams(nbDiagrams);
+        try {
+            final List<WeakReference<MainProcess>> loadedDiagrams = new ArrayList<>();
+            for (final URI uri : diagramURIs) {
+                final TransactionalEditingDomain domain = defaultRegistry
+                        .getEditingDomain(ID_PREFIX + uri.lastSegment());
+                final Resource resource = domain.getResourceSet().getResource(uri, true);
+                loadedDiagrams.add(new WeakReference<>((MainProcess) resource.getContents().get(0)));
+            }
+
+            // Diagrams left idle long enough on a slow run may already be evicted down to the budget
+            assertThat(defaultRegistry.size()).isLessThanOrEqualTo(hardLimit);
+            assertThat(defaultRegistry.getEvictionCount()).isGreaterThanOrEqualTo(nbDiagrams - hardLimit);
+            for (int i = 0; i < 10 && countReachable(loadedDiagrams) > hardLimit; i++) {
+                System.gc();
+                Thread.sleep(100);
+            }
+            assertThat(countReachable(loadedDiagrams)).isLessThanOrEqualTo(hardLimit);
+        } finally {
+            defaultRegistry.removeAll();
+        }
+    }
+
+    @Test
+    public void should_evict_released_domains_down_to_the_budget_once_idle() throws Exception {
+        registry.setMaxRetainedDomains(2);
+        registry.setMinIdleTime(60_000);
+        for (int i = 0; i < 4; i++) {
+            registry.getEditingDomain(ID_PREFIX + i);
+        }
+        assertThat(registry.size()).isEqualTo(4);
+
+        registry.evictIdleDomains();
+        assertThat(registry.size()).isEqualTo(4);
+
+        registry.setMinIdleTime(0);
+        registry.evictIdleDomains();
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.getEvictionCount()).isEqualTo(2);
+    }
+
+    private List<URI> generateDiagrams(int nbDiagrams) throws Exception {
+        final File folder = tmpFolder.newFolder("diagrams");
+        final List<URI> uris = new ArrayList<>();
+        for (int i = 0; i < nbDiagrams; i++) {
+            final URI uri = URI.createFileURI(new File(folder, "Diagram" + i + "-1.0.proc").getAbsolutePath());
+            final Resource resource = new ResourceSetImpl().createResource(uri);
+            resource.getContents().add(MainProcessBuilder.aMainProcess()
+                    .withName("Diagram" + i)
+                    .withVersion("1.0")
+                    .havingElements(
+                            PoolBuilder.aPool().withName("Pool1").havingElements(TaskBuilder.aTask().withName("Step1")),
+                            PoolBuilder.aPool().withName("Pool2").havingElements(TaskBuilder.aTask().withName("Step1")))
+                    .build());
+            resource.save(null);
+            resource.unload();
+            uris.add(uri);
+        }
+        return uris;
+    }
+
+    private static long countReachable(List<WeakReference<MainProcess>> references) {
+        return references.stream().filter(ref -> ref.get() != null).count();
+    }
+
+}
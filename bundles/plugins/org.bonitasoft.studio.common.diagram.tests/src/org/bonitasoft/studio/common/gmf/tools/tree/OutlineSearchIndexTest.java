@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.gmf.tools.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.bonitasoft.bpm.model.process.Element;
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.bpm.model.process.ProcessFactory;
+import org.bonitasoft.bpm.model.process.Task;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OutlineSearchIndexTest {
+
+    private static final int NB_ELEMENTS = 10_000;
+
+    private MainProcess diagram;
+    private Pool pool;
+    private Task task;
+    private OutlineSearchIndex searchIndex;
+
+    @Before
+    public void setUp() throws Exception {
+        diagram = ProcessFactory.eINSTANCE.createMainProcess();
+        diagram.setName("Diagram");
+        pool = ProcessFactory.eINSTANCE.createPool();
+        pool.setName("Pool");
+        diagram.getElements().add(pool);
+        task = task("Validate request");
+        task.setDocumentation("Checks the amount of the expense");
+        pool.getElements().add(task);
+        searchIndex = new OutlineSearchIndex(OutlineSearchIndexTest::label);
+        searchIndex.setRoot(diagram);
+    }
+
+    @Test
+    public void should_match_elements_by_label_or_string_attribute() throws Exception {
+        assertThat(searchIndex.matches(task, "validate", contains("validate"))).isTrue();
+        assertThat(searchIndex.matches(task, "expense", contains("expense"))).isTrue();
+        assertThat(searchIndex.matches(pool, "expense", contains("expense"))).isFalse();
+        assertThat(searchIndex.matches(task, "unknown", contains("unknown"))).isFalse();
+    }
+
+    @Test
+    public void should_not_match_elements_without_label() throws Exception {
+        searchIndex = new OutlineSearchIndex(element -> null);
+        searchIndex.setRoot(diagram);
+
+        assertThat(searchIndex.matches(task, "validate", contains("validate"))).isFalse();
+    }
+
+    @Test
+    public void should_update_the_index_when_an_element_is_renamed() throws Exception {
+        assertThat(searchIndex.matches(task, "approve", contains("approve"))).isFalse();
+
+        task.setName("Approve request");
+
+        assertThat(searchIndex.matches(task, "approve", contains("approve"))).isTrue();
+        assertThat(searchIndex.matches(task, "validate", contains("validate"))).isFalse();
+    }
+
+    @Test
+    public void should_update_the_index_when_elements_are_added_or_removed() throws Exception {
+        assertThat(searchIndex.matches(task, "request", contains("request"))).isTrue();
+        final Pool otherPool = ProcessFactory.eINSTANCE.createPool();
+        otherPool.setName("Other pool");
+        final Task addedTask = task("Archive request");
+        otherPool.getElements().add(addedTask);
+
+        diagram.getElements().add(otherPool);
+
+        assertThat(searchIndex.matches(addedTask, "archive", contains("archive"))).isTrue();
+        assertThat(searchIndex.matches(pool, "archive", contains("archive"))).isFalse();
+
+        EcoreUtil.remove(task);
+        addedTask.setName("Close request");
+
+        assertThat(searchIndex.matches(addedTask, "close", contains("close"))).isTrue();
+        assertThat(task.eAdapters()).doesNotContain(searchIndex);
+    }
+
+    @Test
+    public void should_stop_listening_to_the_model_when_disposed() throws Exception {
+        searchIndex.matches(task, "validate", contains("validate"));
+        assertThat(task.eAdapters()).contains(searchIndex);
+
+        searchIndex.dispose();
+
+        assertThat(diagram.eAdapters()).doesNotContain(searchIndex);
+        assertThat(task.eAdapters()).doesNotContain(searchIndex);
+    }
+
+    @Test
+    public void should_read_the_texts_of_a_large_pool_once_while_filtering() throws Exception {
+        for (int i = 0; i < NB_ELEMENTS; i++) {
+            final Task generatedTask = task("Step " + i);
+            generatedTask.setDocumentation("Generated step number " + i);
+            pool.getElements().add(generatedTask);
+        }
+        final List<EObject> elements = new ArrayList<>();
+        diagram.eAllContents().forEachRemaining(elements::add);
+        final AtomicInteger nbLabelReads = new AtomicInteger();
+        searchIndex = new OutlineSearchIndex(element -> {
+            nbLabelReads.incrementAndGet();
+            return label(element);
+        });
+        searchIndex.setRoot(diagram);
+        // Typing a task name in the search field, each element being visited by the tree filter on each keystroke
+        final String typed = "step 9999";
+        final List<String> patterns = new ArrayList<>();
+        for (int i = 1; i <= typed.length(); i++) {
+            patterns.add(typed.substring(0, i));
+        }
+
+        final int indexMatches = search(elements, patterns);
+
+        assertThat(indexMatches).isEqualTo(scan(elements, patterns)).isPositive();
+        // The diagram and its content are read when the index is built, never again for the next keystrokes
+        assertThat(nbLabelReads.get()).isEqualTo(elements.size() + 1);
+    }
+
+    private int search(List<EObject> elements, List<String> patterns) {
+        int nbMatches = 0;
+        for (final String pattern : patterns) {
+            final Predicate<String> matcher = contains(pattern);
+            // The tree filter visits each element twice: once for the element and once for its parent match
+            for (int visit = 0; visit < 2; visit++) {
+                for (final EObject element : elements) {
+                    if (searchIndex.matches(element, pattern, matcher)) {
+                        nbMatches++;
+                    }
+                }
+            }
+        }
+        return nbMatches;
+    }
+
+    /**
+     * The search as it was done before: the label and the string attributes of each visited element are read
+     * again for each pattern.
+     */
+    private static int scan(List<EObject> elements, List<String> patterns) {
+        int nbMatches = 0;
+        for (final String pattern : patterns) {
+            final Predicate<String> matcher = contains(pattern);
+            for (int visit = 0; visit < 2; visit++) {
+                for (final EObject element : elements) {
+                    if (scanMatches(element, matcher)) {
+                        nbMatches++;
+                    }
+                }
+            }
+        }
+        return nbMatches;
+    }
+
+    private static boolean scanMatches(EObject element, Predicate<String> matcher) {
+        final String label = label(element);
+        if (label == null) {
+            return false;
+        }
+        if (matcher.test(label)) {
+            return true;
+        }
+        for (final EAttribute attribute : element.eClass().getEAllAttributes()) {
+            final Object value = element.eGet(attribute);
+            if (value != null && attribute.getEType().getName().equals("EString") && matcher.test(value.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Task task(String name) {
+        final Task task = ProcessFactory.eINSTANCE.createTask();
+        task.setName(name);
+        return task;
+    }
+
+    private static String label(EObject element) {
+        return element instanceof Element ? ((Element) element).getName() : element.eClass().getName();
+    }
+
+    private static Predicate<String> contains(String pattern) {
+        final String lowerCasePattern = pattern.toLowerCase();
+        return text -> text != null && text.toLowerCase().contains(lowerCasePattern);
+    }
+
+}
@@ -16,9 +16,12 @@ package org.bonitasoft.studio.common.editingdomain;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.bonitasoft.bpm.connector.model.definition.ConnectorDefinitionPackage;
 import org.bonitasoft.bpm.connector.model.implementation.ConnectorImplementationPackage;
@@ -29,12 +32,33 @@ import org.bonitasoft.bpm.model.kpi.KpiPackage;
 import org.bonitasoft.bpm.model.parameter.ParameterPackage;
 import org.bonitasoft.bpm.model.process.ProcessPackage;
 import org.bonitasoft.bpm.model.process.decision.DecisionPackage;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.filestore.OpenedEditorRegistry;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.emf.transaction.impl.EditingDomainManager;
+import org.eclipse.emf.transaction.impl.InternalTransactionalEditingDomain;
 import org.eclipse.gmf.runtime.notation.NotationPackage;
 
+/**
+ * Registry of the shared editing domains, one per diagram file.
+ * Domains are kept in LRU order and, once more than {@link #getMaxRetainedDomains()} domains are registered,
+ * the least recently used ones that are idle and not in use (opened in an editor, modified or in a transaction)
+ * are disposed. Their resources are left loaded, so that model elements still referenced elsewhere stay valid. Domains accessed less than {@link #getMinIdleTime()} ago are only retained up to twice
+ * the budget, so that a batch iterating over many diagrams is bounded too, and an idle sweep brings the registry back
+ * to its budget once they are released. An evicted domain is transparently recreated on its next access.
+ */
 public final class BonitaEditingDomainRegistry implements TransactionalEditingDomain.Registry {
 
+    /** System property overriding the number of domains retained before evicting the least recently used ones. */
+    public static final String MAX_RETAINED_DOMAINS_PROPERTY = "bonita.editingDomain.maxRetained";
+    /** System property overriding the minimum time, in milliseconds, a domain must be left unused before being evicted. */
+    public static final String MIN_IDLE_TIME_PROPERTY = "bonita.editingDomain.minIdleTime";
+
+    private static final int DEFAULT_MAX_RETAINED_DOMAINS = 50;
+    private static final long DEFAULT_MIN_IDLE_TIME = 5_000L;
+
     static {
         List.of(ProcessPackage.eINSTANCE,
         		ConfigurationPackage.eINSTANCE,
@@ -50,7 +74,19 @@ public final class BonitaEditingDomainRegistry implements TransactionalEditingDo
 
     public static final BonitaEditingDomainRegistry INSTANCE = new BonitaEditingDomainRegistry();
 
-    private final Map<String, TransactionalEditingDomain> domains = new HashMap<>();
+    // Access ordered: iteration starts with the least recently used domain
+    private final Map<String, TransactionalEditingDomain> domains = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Long> lastAccesses = new HashMap<>();
+
+    private int maxRetainedDomains = Integer.getInteger(MAX_RETAINED_DOMAINS_PROPERTY, DEFAULT_MAX_RETAINED_DOMAINS);
+    private long minIdleTime = Long.getLong(MIN_IDLE_TIME_PROPERTY, DEFAULT_MIN_IDLE_TIME);
+    private Predicate<TransactionalEditingDomain> inUse = BonitaEditingDomainRegistry::isInUse;
+
+    private final Job idleSweep = Job.createSystem("Evict idle editing domains", monitor -> evictIdleDomains());
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
 
     // Documentation copied from the inherited specification
     @Override
@@ -58,10 +94,18 @@ public final class BonitaEditingDomainRegistry implements TransactionalEditingDo
         TransactionalEditingDomain result = domains.get(id);
 
         if (result == null) {
+            missCount++;
             result = CustomDiagramEditingDomainFactory.getInstance().createEditingDomain();
             if (result != null) {
                 addImpl(id, result);
+                evictLeastRecentlyUsed(id);
             }
+        } else {
+            hitCount++;
+            lastAccesses.put(id, System.currentTimeMillis());
+        }
+        if (domains.size() > maxRetainedDomains) {
+            idleSweep.schedule(minIdleTime);
         }
 
         return result;
@@ -91,16 +135,102 @@ public final class BonitaEditingDomainRegistry implements TransactionalEditingDo
         }
 
         domains.put(id, domain);
+        lastAccesses.put(id, System.currentTimeMillis());
 
         EditingDomainManager.getInstance().configureListeners(id, domain);
     }
 
+    /**
+     * Evicts the least recently used domains until the budget is met, skipping the given id and the domains that
+     * are still in use. Domains accessed less than {@link #getMinIdleTime()} ago are skipped too, unless the registry
+     * holds more than twice the budget.
+     */
+    private void evictLeastRecentlyUsed(final String excludedId) {
+        if (domains.size() <= maxRetainedDomains) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        final Set<String> evictedIds = new LinkedHashSet<>();
+        // Idle domains first, then recently accessed ones down to the hard limit
+        collectEvictable(excludedId, domains.size() - maxRetainedDomains,
+                id -> now - lastAccesses.getOrDefault(id, now) >= minIdleTime, evictedIds);
+        final int hardLimit = maxRetainedDomains * 2;
+        collectEvictable(excludedId, domains.size() - evictedIds.size() - hardLimit, id -> true, evictedIds);
+        for (final String id : evictedIds) {
+            evict(id);
+        }
+    }
+
+    private void collectEvictable(final String excludedId, int toEvict, final Predicate<String> candidate,
+            final Set<String> evictedIds) {
+        for (final Map.Entry<String, TransactionalEditingDomain> entry : domains.entrySet()) {
+            if (toEvict <= 0) {
+                return;
+            }
+            final String id = entry.getKey();
+            if (!id.equals(excludedId) && !evictedIds.contains(id) && candidate.test(id)
+                    && !inUse.test(entry.getValue())) {
+                evictedIds.add(id);
+                toEvict--;
+            }
+        }
+    }
+
+    /**
+     * Brings the registry back to its budget once the least recently used domains have been released long enough.
+     */
+    synchronized void evictIdleDomains() {
+        evictLeastRecentlyUsed(null);
+    }
+
+    private void evict(final String id) {
+        final TransactionalEditingDomain domain = domains.remove(id);
+        lastAccesses.remove(id);
+        if (domain == null) {
+            return;
+        }
+        EditingDomainManager.getInstance().deconfigureListeners(id, domain);
+        try {
+            // Resources are not unloaded: model elements of this resource set may still be referenced, e.g. by the
+            // computed processes of the diagram store, they must not become proxies. The resource set is garbage
+            // collected with the last of them.
+            domain.dispose();
+        } catch (final Exception e) {
+            BonitaStudioLog.error(e);
+        }
+        evictionCount++;
+    }
+
+    /**
+     * A domain is in use when one of its resources is modified or opened in an editor, or when a transaction is active.
+     * Without an installed {@link OpenedEditorRegistry}, there is no workbench and no resource can be opened in an
+     * editor.
+     */
+    private static boolean isInUse(final TransactionalEditingDomain domain) {
+        if (domain instanceof InternalTransactionalEditingDomain
+                && ((InternalTransactionalEditingDomain) domain).getActiveTransaction() != null) {
+            return true;
+        }
+        final OpenedEditorRegistry openedEditors = OpenedEditorRegistry.getInstance();
+        for (final Resource resource : domain.getResourceSet().getResources()) {
+            if (resource.isModified()) {
+                return true;
+            }
+            if (openedEditors.isInstalled() && resource.getURI() != null && resource.getURI().isPlatformResource()
+                    && openedEditors.isOpened(resource.getURI())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // Documentation copied from the inherited specification
     @Override
     public synchronized TransactionalEditingDomain remove(final String id) {
         EditingDomainManager.getInstance().assertDynamicallyRegistered(id);
 
         final TransactionalEditingDomain result = domains.remove(id);
+        lastAccesses.remove(id);
 
         if (result != null) {
             EditingDomainManager.getInstance().deconfigureListeners(id, result);
@@ -120,6 +250,57 @@ public final class BonitaEditingDomainRegistry implements TransactionalEditingDo
                 EditingDomainManager.getInstance().deconfigureListeners(registeredId, result);
             }
         }
+        lastAccesses.clear();
+    }
+
+    public synchronized int size() {
+        return domains.size();
+    }
+
+    public synchronized int getMaxRetainedDomains() {
+        return maxRetainedDomains;
+    }
+
+    /**
+     * @param maxRetainedDomains number of domains retained before evicting the least recently used ones
+     */
+    public synchronized void setMaxRetainedDomains(final int maxRetainedDomains) {
+        this.maxRetainedDomains = maxRetainedDomains;
+    }
+
+    public synchronized long getMinIdleTime() {
+        return minIdleTime;
+    }
+
+    /**
+     * @param minIdleTime minimum time, in milliseconds, a domain must be left unused before being evicted while the
+     *        registry holds less than twice its budget. It prevents evicting the domains of a batch still iterating
+     *        over many diagrams.
+     */
+    public synchronized void setMinIdleTime(final long minIdleTime) {
+        this.minIdleTime = minIdleTime;
+    }
+
+    synchronized void setInUsePredicate(final Predicate<TransactionalEditingDomain> inUse) {
+        this.inUse = inUse;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
     }
 
 }
@@ -17,6 +17,7 @@
  */
 package org.bonitasoft.studio.common.editingdomain;
 
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.notify.Notifier;
@@ -81,6 +82,7 @@ public class BonitaEditingDomainUtil {
 	public static TransactionalEditingDomain getSharedEditingDomain(final String id) {
 		final TransactionalEditingDomain editingDomain = BonitaEditingDomainRegistry.INSTANCE.getEditingDomain(id);
 		addResourceTracking(editingDomain);
+		EMFResourceOptions.configure(editingDomain.getResourceSet());
 		BonitaResourceSetInfoDelegate.adapt(editingDomain);
 		return editingDomain;
 	}
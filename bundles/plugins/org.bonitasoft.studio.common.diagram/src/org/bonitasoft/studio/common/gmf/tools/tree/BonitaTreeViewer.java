@@ -15,6 +15,7 @@
 package org.bonitasoft.studio.common.gmf.tools.tree;
 
 import java.util.Collection;
+import java.util.LinkedList;
 
 import org.bonitasoft.studio.common.gmf.tools.tree.selection.EditPartNotFoundException;
 import org.bonitasoft.studio.common.gmf.tools.tree.selection.EditPartResolver;
@@ -24,7 +25,6 @@ import org.bonitasoft.studio.common.ui.jface.SWTBotConstants;
 import org.bonitasoft.bpm.model.process.Element;
 import org.bonitasoft.bpm.model.process.ProcessPackage;
 import org.eclipse.draw2d.geometry.Point;
-import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
@@ -39,25 +39,21 @@ import org.eclipse.gmf.runtime.diagram.ui.editparts.DiagramEditPart;
 import org.eclipse.gmf.runtime.diagram.ui.editparts.IGraphicalEditPart;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
-import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.ISelectionChangedListener;
 import org.eclipse.jface.viewers.ISelectionProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.SelectionChangedEvent;
-import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
-import org.eclipse.swt.widgets.Tree;
-import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
 
-import com.google.common.base.Objects;
-
 /**
  * @author Romain Bioteau
  */
@@ -65,23 +61,22 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
 
     private static final class SearchPatternFilter extends PatternFilter {
 
+        private final OutlineSearchIndex searchIndex;
+        private String pattern;
+
+        private SearchPatternFilter(final OutlineSearchIndex searchIndex) {
+            this.searchIndex = searchIndex;
+        }
+
         @Override
-        protected boolean isLeafMatch(final org.eclipse.jface.viewers.Viewer viewer, final Object element) {
-            final String labelText = ((ILabelProvider) ((StructuredViewer) viewer).getLabelProvider()).getText(element);
+        public void setPattern(final String patternString) {
+            super.setPattern(patternString);
+            this.pattern = patternString;
+        }
 
-            if (labelText == null) {
-                return false;
-            }
-            if (wordMatches(labelText)) {
-                return true;
-            }
-            for (final EAttribute attribute : ((EObject) element).eClass().getEAllAttributes()) {
-                final Object value = ((EObject) element).eGet(attribute);
-                if (value != null && attribute.getEType().getName().equals("EString") && wordMatches(value.toString())) {
-                    return true;
-                }
-            }
-            return false;
+        @Override
+        protected boolean isLeafMatch(final org.eclipse.jface.viewers.Viewer viewer, final Object element) {
+            return element instanceof EObject && searchIndex.matches((EObject) element, pattern, this::wordMatches);
         }
     }
 
@@ -109,6 +104,7 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
 
     };
     private final EditPartResolver editPartResolver = new EditPartResolver();
+    private final OutlineSearchIndex searchIndex = new OutlineSearchIndex(adapterFactoryLabelProvider::getText);
 
     /**
      * Constructs a TreeViewer with the default root editpart.
@@ -148,7 +144,7 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
     }
 
     private TreeViewer createFilteredTree(final Composite mainComposite) {
-        final PatternFilter filter = new SearchPatternFilter();
+        final PatternFilter filter = new SearchPatternFilter(searchIndex);
         filter.setIncludeLeadingWildcard(true);
         filteredTree = new FilteredTree(mainComposite, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL, filter, true);
         final TreeViewer treeViewer = filteredTree.getViewer();
@@ -173,7 +169,9 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
     public void setDiagramEditPart(final DiagramEditPart diagramEditPart) {
         this.diagramEditPart = diagramEditPart;
         if (filteredTree != null) {
-            filteredTree.getViewer().setInput(((IGraphicalEditPart) diagramEditPart).resolveSemanticElement());
+            final EObject semanticElement = ((IGraphicalEditPart) diagramEditPart).resolveSemanticElement();
+            searchIndex.setRoot(semanticElement);
+            filteredTree.getViewer().setInput(semanticElement);
             diagramEditPart.getViewer().addSelectionChangedListener(new ISelectionChangedListener() {
 
                 @Override
@@ -201,28 +199,28 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
     }
 
     private void selectTreeItem(final IGraphicalEditPart diagramSelectedPart) {
-        final Tree tree = filteredTree.getViewer().getTree();
-        filteredTree.getViewer().expandToLevel(diagramSelectedPart.resolveSemanticElement(), TreeViewer.ALL_LEVELS);
-        final TreeItem item = findTreeItem(tree.getItems(), diagramSelectedPart.resolveSemanticElement());
-        if (item != null) {
-            filteredTree.getViewer().getTree().setSelection(item);
+        final TreeViewer viewer = filteredTree.getViewer();
+        final EObject semanticElement = diagramSelectedPart.resolveSemanticElement();
+        final TreePath path = pathOf(semanticElement, viewer.getInput());
+        if (path != null) {
+            viewer.setSelection(new TreeSelection(path), true);
         }
     }
 
-    private TreeItem findTreeItem(final TreeItem[] items, final EObject resolveSemanticElement) {
-        for (final TreeItem item : items) {
-            if (item != null && Objects.equal(item.getData(), resolveSemanticElement)) {
-                return item;
-            }
-            final TreeItem findTreeItem = findTreeItem(item.getItems(), resolveSemanticElement);
-            if (findTreeItem != null) {
-                return findTreeItem;
-            }
+    /**
+     * @return the path of the given element in the tree, from its containment hierarchy, or null if it is not
+     *         contained by the input of the tree
+     */
+    static TreePath pathOf(final EObject element, final Object input) {
+        final LinkedList<Object> segments = new LinkedList<>();
+        EObject current = element;
+        while (current != null && !current.equals(input)) {
+            segments.addFirst(current);
+            current = current.eContainer();
         }
-        return null;
+        return current != null && !segments.isEmpty() ? new TreePath(segments.toArray()) : null;
     }
 
-
     /**
      * @see org.eclipse.gef.EditPartViewer#findObjectAtExcluding(Point, Collection, EditPartViewer.Conditional)
      */
@@ -280,6 +278,7 @@ public class BonitaTreeViewer extends AbstractEditPartViewer implements ISelecti
         if (editPartResolver != null) {
             editPartResolver.dispose();
         }
+        searchIndex.dispose();
         super.unhookControl();
     }
 
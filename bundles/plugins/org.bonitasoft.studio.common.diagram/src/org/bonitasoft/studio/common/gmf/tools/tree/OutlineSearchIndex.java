@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.gmf.tools.tree;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Searchable texts (label and string attributes) of the elements of a semantic model, used to filter the outline tree.
+ * The index is built on the first search, then kept up to date by listening to the model changes. The elements
+ * matching a pattern are computed once per pattern, so that filtering the tree is a set lookup per element.
+ */
+class OutlineSearchIndex extends EContentAdapter {
+
+    private static final String[] NO_TEXT = new String[0];
+
+    private final Function<EObject, String> labelProvider;
+    private EObject root;
+    private Map<EObject, String[]> textsByElement;
+    private String matchPattern;
+    private Set<EObject> matchingElements;
+
+    OutlineSearchIndex(Function<EObject, String> labelProvider) {
+        this.labelProvider = labelProvider;
+    }
+
+    /**
+     * Sets the semantic element whose content is searched. The previous index is dropped.
+     */
+    synchronized void setRoot(EObject root) {
+        if (Objects.equals(this.root, root)) {
+            return;
+        }
+        detach();
+        this.root = root;
+    }
+
+    /**
+     * @return whether the label or one of the string attributes of the given element is matched by the given
+     *         matcher. The matcher must only depend on the given pattern.
+     */
+    synchronized boolean matches(EObject element, String pattern, Predicate<String> wordMatcher) {
+        if (root == null) {
+            return matches(texts(element), wordMatcher);
+        }
+        if (textsByElement == null) {
+            build();
+        }
+        if (matchingElements == null || !Objects.equals(pattern, matchPattern)) {
+            matchPattern = pattern;
+            matchingElements = new HashSet<>();
+            textsByElement.forEach((indexedElement, texts) -> {
+                if (matches(texts, wordMatcher)) {
+                    matchingElements.add(indexedElement);
+                }
+            });
+        }
+        if (!textsByElement.containsKey(element)) {
+            // Not part of the searched model (e.g. an element provided by an item provider)
+            return matches(texts(element), wordMatcher);
+        }
+        return matchingElements.contains(element);
+    }
+
+    synchronized void dispose() {
+        detach();
+        root = null;
+    }
+
+    private void build() {
+        textsByElement = new HashMap<>();
+        index(root);
+        root.eAdapters().add(this);
+    }
+
+    private void detach() {
+        if (root != null && textsByElement != null) {
+            root.eAdapters().remove(this);
+        }
+        textsByElement = null;
+        clearMatches();
+    }
+
+    private void clearMatches() {
+        matchPattern = null;
+        matchingElements = null;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER) {
+            return;
+        }
+        synchronized (this) {
+            if (textsByElement == null) {
+                return;
+            }
+            if (notification.getFeature() instanceof EReference reference && reference.isContainment()) {
+                for (var oldElement : values(notification.getOldValue())) {
+                    unindex(oldElement);
+                }
+                for (var newElement : values(notification.getNewValue())) {
+                    index(newElement);
+                }
+            }
+            if (notification.getNotifier() instanceof EObject element && textsByElement.containsKey(element)) {
+                textsByElement.put(element, texts(element));
+            }
+            clearMatches();
+        }
+    }
+
+    private void index(EObject element) {
+        textsByElement.put(element, texts(element));
+        element.eAllContents().forEachRemaining(child -> textsByElement.put(child, texts(child)));
+    }
+
+    private void unindex(EObject element) {
+        textsByElement.remove(element);
+        element.eAllContents().forEachRemaining(textsByElement::remove);
+    }
+
+    private String[] texts(EObject element) {
+        final String label = labelProvider.apply(element);
+        if (label == null) {
+            return NO_TEXT;
+        }
+        final List<String> texts = new ArrayList<>();
+        texts.add(label);
+        for (final EAttribute attribute : element.eClass().getEAllAttributes()) {
+            if ("EString".equals(attribute.getEType().getName())) {
+                final Object value = element.eGet(attribute);
+                if (value != null) {
+                    texts.add(value.toString());
+                }
+            }
+        }
+        return texts.toArray(String[]::new);
+    }
+
+    private static boolean matches(String[] texts, Predicate<String> wordMatcher) {
+        for (final String text : texts) {
+            if (wordMatcher.test(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Collection<EObject> values(Object value) {
+        if (value instanceof EObject element) {
+            return List.of(element);
+        }
+        if (value instanceof Collection<?> values) {
+            return values.stream().filter(EObject.class::isInstance).map(EObject.class::cast).toList();
+        }
+        return List.of();
+    }
+
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DependencySnapshotTest {
+
+    private static final int ARTIFACT_COUNT = 400;
+
+    @TempDir
+    Path localRepository;
+
+    private MavenProject mavenProject;
+    private final AtomicInteger resolvedFiles = new AtomicInteger();
+    private final AtomicInteger treeReads = new AtomicInteger();
+    private final Function<Artifact, File> fileResolver = artifact -> {
+        resolvedFiles.incrementAndGet();
+        return artifact.getFile();
+    };
+
+    @BeforeEach
+    void createProject() throws IOException {
+        mavenProject = new MavenProject();
+        var artifacts = new LinkedHashSet<Artifact>();
+        for (int i = 0; i < ARTIFACT_COUNT; i++) {
+            // one artifact out of four is a test dependency
+            var scope = i % 4 == 0 ? Artifact.SCOPE_TEST : i % 2 == 0 ? Artifact.SCOPE_RUNTIME : Artifact.SCOPE_COMPILE;
+            var artifact = new DefaultArtifact("org.acme", "lib" + i, "1.0." + i, scope, "jar", null,
+                    new DefaultArtifactHandler("jar"));
+            // the last artifacts have not been downloaded
+            if (i < ARTIFACT_COUNT - 10) {
+                artifact.setFile(Files.createFile(localRepository.resolve("lib" + i + "-1.0." + i + ".jar")).toFile());
+            }
+            artifacts.add(artifact);
+            // one artifact out of three is a direct dependency
+            if (i % 3 == 0) {
+                var dependency = new Dependency();
+                dependency.setGroupId(artifact.getGroupId());
+                dependency.setArtifactId(artifact.getArtifactId());
+                dependency.setVersion(artifact.getVersion());
+                dependency.setScope(scope);
+                mavenProject.getModel().addDependency(dependency);
+            }
+        }
+        mavenProject.setArtifacts(artifacts);
+    }
+
+    @Test
+    void should_find_the_same_dependencies_as_a_scan_of_the_project_artifacts() throws Exception {
+        var snapshot = new DependencySnapshot(mavenProject, fileResolver, this::readTree);
+
+        assertThat(snapshot.getCompileDependencies()).containsExactlyElementsOf(scanCompileDependencies());
+        for (Artifact artifact : mavenProject.getArtifacts()) {
+            var fileName = artifact.getArtifactId() + "-" + artifact.getVersion() + ".jar";
+            assertThat(snapshot.findCompileDependency(fileName)).isEqualTo(scanCompileDependency(fileName));
+        }
+        assertThat(snapshot.findCompileDependency("unknown.jar")).isEmpty();
+        assertThat(snapshot.findDirectCompileDependency("lib3-1.0.3.jar")).map(Artifact::getArtifactId)
+                .contains("lib3");
+        assertThat(snapshot.findDirectCompileDependency("lib5-1.0.5.jar")).isEmpty();
+    }
+
+    @Test
+    void should_lookup_dependencies_without_resolving_artifact_files_again() throws Exception {
+        var snapshot = new DependencySnapshot(mavenProject, fileResolver, this::readTree);
+        int resolvedWhenBuilt = resolvedFiles.get();
+
+        for (int i = 0; i < ARTIFACT_COUNT; i++) {
+            snapshot.findCompileDependency("lib" + i + "-1.0." + i + ".jar");
+            snapshot.findDirectCompileDependency("lib" + i + "-1.0." + i + ".jar");
+            snapshot.getCompileDependencies();
+        }
+
+        assertThat(resolvedWhenBuilt).isLessThanOrEqualTo(ARTIFACT_COUNT);
+        assertThat(resolvedFiles.get()).isEqualTo(resolvedWhenBuilt);
+    }
+
+    @Test
+    void should_read_the_dependency_tree_once() throws Exception {
+        var snapshot = new DependencySnapshot(mavenProject, fileResolver, this::readTree);
+        var artifacts = List.copyOf(mavenProject.getArtifacts());
+
+        assertThat(snapshot.getTransitiveDependencies(artifacts.get(1)))
+                .extracting(Artifact::getArtifactId)
+                .containsExactly("lib2", "lib3");
+        assertThat(snapshot.getTransitiveDependencies(artifacts.get(3))).isEmpty();
+        assertThat(snapshot.getTransitiveDependencies(artifacts.get(5))).isEmpty();
+        assertThat(snapshot.getTransitiveDependencies(artifacts.get(1))).hasSize(2);
+
+        assertThat(treeReads.get()).isEqualTo(1);
+    }
+
+    /**
+     * project -> lib1 -> (lib2 -> lib3, lib4 (test scope))
+     */
+    private DependencyNode readTree() {
+        treeReads.incrementAndGet();
+        var root = node("project");
+        var lib1 = node("lib1");
+        var lib2 = node("lib2");
+        root.setChildren(List.of(lib1));
+        lib1.setChildren(List.of(lib2, node("lib4")));
+        lib2.setChildren(List.of(node("lib3")));
+        return root;
+    }
+
+    private static DefaultDependencyNode node(String artifactId) {
+        var version = artifactId.startsWith("lib") ? "1.0." + artifactId.substring(3) : "1.0.0";
+        return new DefaultDependencyNode(
+                new org.eclipse.aether.artifact.DefaultArtifact("org.acme", artifactId, "jar", version));
+    }
+
+    private List<Artifact> scanCompileDependencies() {
+        List<Dependency> dependencies = mavenProject.getDependencies();
+        return mavenProject.getArtifacts().stream()
+                .filter(artifact -> Artifact.SCOPE_COMPILE.equals(artifact.getScope())
+                        || Artifact.SCOPE_RUNTIME.equals(artifact.getScope()))
+                .filter(artifact -> dependencies.stream()
+                        .anyMatch(dep -> Objects.equals(dep.getGroupId(), artifact.getGroupId())
+                                && Objects.equals(dep.getArtifactId(), artifact.getArtifactId())
+                                && Objects.equals(dep.getVersion(), artifact.getBaseVersion())
+                                && Objects.equals(dep.getType(), artifact.getType())
+                                && Objects.equals(dep.getClassifier(), artifact.getClassifier())
+                                && Objects.equals(dep.getScope(), artifact.getScope())))
+                .filter(artifact -> artifact.getFile() != null && artifact.getFile().exists())
+                .collect(Collectors.toList());
+    }
+
+    private Optional<Artifact> scanCompileDependency(String fileName) {
+        Set<Artifact> artifacts = mavenProject.getArtifacts();
+        return artifacts.stream()
+                .filter(artifact -> Artifact.SCOPE_COMPILE.equals(artifact.getScope())
+                        || Artifact.SCOPE_RUNTIME.equals(artifact.getScope()))
+                .filter(artifact -> artifact.getFile() != null && artifact.getFile().exists())
+                .filter(artifact -> Objects.equals(fileName, artifact.getFile().getName()))
+                .findFirst();
+    }
+
+}
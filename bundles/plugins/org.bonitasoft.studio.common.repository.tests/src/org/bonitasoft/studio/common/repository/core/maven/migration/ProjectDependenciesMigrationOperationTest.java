@@ -0,0 +1,279 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.maven.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.bonitasoft.studio.common.repository.core.FileInputStreamSupplier;
+import org.bonitasoft.studio.common.repository.core.InputStreamSupplier;
+import org.bonitasoft.studio.common.repository.core.maven.DependencyGetOperation;
+import org.bonitasoft.studio.common.repository.core.maven.MavenCentralJarLookupOperation;
+import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup;
+import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup.Status;
+import org.bonitasoft.studio.common.repository.core.maven.model.GAV;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectDependenciesMigrationOperationTest {
+
+    private static final int NB_JARS = 300;
+    private static final int NB_ARTIFACTS_IN_TWO_VERSIONS = 20;
+    private static final long SEARCH_LATENCY = 10; // ms
+
+    @TempDir
+    Path tmpDir;
+
+    private Path localRepository;
+    private final Map<String, GAV> gavsBySha1 = new HashMap<>();
+    private final List<InputStreamSupplier> jars = new ArrayList<>();
+    private final AtomicInteger searchCount = new AtomicInteger();
+    private final AtomicInteger runningSearches = new AtomicInteger();
+    private final AtomicInteger maxConcurrentSearches = new AtomicInteger();
+    private final AtomicInteger checkCount = new AtomicInteger();
+    private final AtomicInteger runningChecks = new AtomicInteger();
+    private final AtomicInteger maxConcurrentChecks = new AtomicInteger();
+
+    @BeforeEach
+    void createLocalRepository() throws Exception {
+        localRepository = tmpDir.resolve("repository");
+        for (int i = 0; i < NB_JARS; i++) {
+            // The first artifacts are available in two versions that must be merged
+            var artifactIndex = i < NB_ARTIFACTS_IN_TWO_VERSIONS * 2 ? i / 2 : i;
+            var version = i < NB_ARTIFACTS_IN_TWO_VERSIONS * 2 ? "1." + (i % 2) : "1.0";
+            var gav = new GAV("org.example", "artifact" + artifactIndex, version);
+            var jar = localRepository.resolve(gav.toLocalRepositoryPath());
+            Files.createDirectories(jar.getParent());
+            Files.write(jar, gav.toString().getBytes(StandardCharsets.UTF_8));
+            gavsBySha1.put(DependencyLookupIndex.sha1(jar.toFile()), gav);
+            jars.add(new FileInputStreamSupplier(jar.toFile()));
+        }
+    }
+
+    @AfterEach
+    void closeJars() throws IOException {
+        for (var jar : jars) {
+            jar.close();
+        }
+    }
+
+    @Test
+    void should_find_the_same_dependencies_with_concurrent_lookups() throws Exception {
+        var sequentialOperation = newOperation(tmpDir.resolve("sequential-index.properties"), 1);
+        sequentialOperation.run(new NullProgressMonitor());
+        var maxSequentialSearches = maxConcurrentSearches.getAndSet(0);
+
+        var concurrentOperation = newOperation(tmpDir.resolve("concurrent-index.properties"),
+                ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        concurrentOperation.run(new NullProgressMonitor());
+
+        assertThat(maxSequentialSearches).isEqualTo(1);
+        assertThat(maxConcurrentSearches.get()).isGreaterThan(1)
+                .isLessThanOrEqualTo(ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        assertThat(describe(concurrentOperation.getResult()))
+                .hasSize(NB_JARS - NB_ARTIFACTS_IN_TWO_VERSIONS)
+                .isEqualTo(describe(sequentialOperation.getResult()));
+        assertThat(describe(concurrentOperation.getResult()))
+                .contains("org.example:artifact0:jar:1.1|[artifact0-1.0.jar, artifact0-1.1.jar]");
+    }
+
+    @Test
+    void should_not_search_again_jars_found_by_a_previous_migration() throws Exception {
+        var indexFile = tmpDir.resolve("index.properties");
+        var firstOperation = newOperation(indexFile, ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        firstOperation.run(new NullProgressMonitor());
+        assertThat(searchCount.getAndSet(0)).isEqualTo(NB_JARS);
+
+        // A new index instance reads what the previous migration saved
+        var secondOperation = newOperation(indexFile, ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        secondOperation.run(new NullProgressMonitor());
+
+        assertThat(searchCount.get()).isZero();
+        assertThat(describe(secondOperation.getResult())).isEqualTo(describe(firstOperation.getResult()));
+    }
+
+    @Test
+    void should_search_again_jars_found_with_other_repositories() throws Exception {
+        var indexFile = tmpDir.resolve("index.properties");
+        newOperation(indexFile, ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS)
+                .addRemoteRespository("https://repository.example.org/releases/")
+                .run(new NullProgressMonitor());
+        assertThat(searchCount.getAndSet(0)).isEqualTo(NB_JARS);
+
+        newOperation(indexFile, ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS)
+                .addRemoteRespository("https://mirror.example.org/releases/")
+                .run(new NullProgressMonitor());
+
+        assertThat(searchCount.get()).isEqualTo(NB_JARS);
+    }
+
+    @Test
+    void should_merge_the_jars_replaced_by_the_same_dependency() throws Exception {
+        jars.add(connectorJar("bonita-connector-groovy-1.1.1.jar"));
+        jars.add(connectorJar("bonita-connector-groovy-1.1.2.jar"));
+        var operation = newOperation(tmpDir.resolve("index.properties"),
+                ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        operation.addUsedDependencies(Set.of("bonita-connector-groovy-1.1.1.jar"));
+
+        operation.run(new NullProgressMonitor());
+
+        assertThat(operation.getResult())
+                .filteredOn(dl -> "bonita-connector-groovy".equals(dl.getArtifactId()))
+                .singleElement()
+                .satisfies(dl -> {
+                    assertThat(dl.getJarNames()).containsOnly("bonita-connector-groovy-1.1.1.jar",
+                            "bonita-connector-groovy-1.1.2.jar");
+                    assertThat(dl.isUsed()).isTrue();
+                });
+    }
+
+    @Test
+    void should_check_the_migrated_dependencies_concurrently() throws Exception {
+        var operation = newOperation(tmpDir.resolve("index.properties"),
+                ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+        operation.addUsedDefinitions(Set.of("scripting-groovy", "rest-get", "twitter-direct", "uipath-getjob",
+                "initiator", "initiator-manager", "single-user", "same-task-user"));
+
+        operation.run(new NullProgressMonitor());
+
+        var checkedDependencies = operation.getResult().stream()
+                .filter(dl -> dl.getGroupId().startsWith("org.bonitasoft"))
+                .collect(Collectors.toList());
+        assertThat(checkedDependencies).hasSize(8)
+                .allMatch(dl -> dl.getStatus() == Status.FOUND);
+        assertThat(checkCount.get()).isEqualTo(8);
+        assertThat(maxConcurrentChecks.get()).isGreaterThan(1)
+                .isLessThanOrEqualTo(ProjectDependenciesMigrationOperation.MAX_PARALLEL_LOOKUPS);
+    }
+
+    private ProjectDependenciesMigrationOperation newOperation(Path indexFile, int parallelism) {
+        return new ProjectDependenciesMigrationOperation(jars, new DependencyLookupIndex(indexFile), parallelism) {
+
+            @Override
+            MavenCentralJarLookupOperation createCentralLookup(InputStreamSupplier jar) {
+                return new LocalRepositoryLookupOperation(jar);
+            }
+
+            @Override
+            DependencyGetOperation createDependencyGetOperation(GAV gav) {
+                return new FoundDependencyGetOperation(gav);
+            }
+
+            @Override
+            List<String> mavenSettings() {
+                // Not depending on the Maven settings of the test environment
+                return List.of();
+            }
+        };
+    }
+
+    private InputStreamSupplier connectorJar(String name) throws IOException {
+        var jar = tmpDir.resolve(name);
+        Files.write(jar, name.getBytes(StandardCharsets.UTF_8));
+        return new FileInputStreamSupplier(jar.toFile());
+    }
+
+    private static Set<String> describe(Set<DependencyLookup> dependencies) {
+        return dependencies.stream()
+                .map(dl -> dl.getGAV() + "|" + new TreeSet<>(dl.getJarNames()))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Stands for the retrieval of a dependency from the remote repositories: always finds it, after some latency.
+     */
+    private class FoundDependencyGetOperation extends DependencyGetOperation {
+
+        private DependencyLookup result;
+
+        FoundDependencyGetOperation(GAV gav) {
+            super(gav);
+        }
+
+        @Override
+        protected void runInBuildRule(IProgressMonitor monitor) {
+            checkCount.incrementAndGet();
+            maxConcurrentChecks.accumulateAndGet(runningChecks.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SEARCH_LATENCY * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                runningChecks.decrementAndGet();
+            }
+            result = new DependencyLookup(null, null, Status.FOUND, getGav(), localRepository.toUri().toString());
+        }
+
+        @Override
+        public DependencyLookup getResult() {
+            return result;
+        }
+    }
+
+    /**
+     * Stands for the Maven Central search: finds the jar in the local repository by its SHA-1, after some latency.
+     */
+    private class LocalRepositoryLookupOperation extends MavenCentralJarLookupOperation {
+
+        private final InputStreamSupplier jar;
+        private DependencyLookup result;
+
+        LocalRepositoryLookupOperation(InputStreamSupplier jar) {
+            super(jar);
+            this.jar = jar;
+        }
+
+        @Override
+        public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+            searchCount.incrementAndGet();
+            maxConcurrentSearches.accumulateAndGet(runningSearches.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(SEARCH_LATENCY);
+                var file = jar.toTempFile();
+                var sha1 = DependencyLookupIndex.sha1(file);
+                var gav = gavsBySha1.get(sha1);
+                result = new DependencyLookup(file.getAbsolutePath(), sha1,
+                        gav != null ? Status.FOUND : Status.NOT_FOUND, gav, localRepository.toUri().toString());
+            } catch (IOException e) {
+                throw new InvocationTargetException(e);
+            } finally {
+                runningSearches.decrementAndGet();
+            }
+        }
+
+        @Override
+        public DependencyLookup getResult() {
+            return result;
+        }
+    }
+
+}
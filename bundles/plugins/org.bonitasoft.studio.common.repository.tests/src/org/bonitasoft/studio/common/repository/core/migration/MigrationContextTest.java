@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import org.bonitasoft.studio.common.repository.core.maven.MavenProjectHelper;
+import org.bonitasoft.studio.common.repository.core.migration.report.MigrationReport;
+import org.bonitasoft.studio.common.repository.core.migration.step.BdmModelArtifactMigrationStep;
+import org.bonitasoft.studio.common.repository.core.migration.step.BonitaProjectParentVersionStep;
+import org.bonitasoft.studio.common.repository.core.migration.step.CleanParentStep;
+import org.bonitasoft.studio.common.repository.core.migration.step.SplitGroovyAllIntoModulesStep;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MigrationContextTest {
+
+    @TempDir
+    Path tmpDir;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/legacyParentPom", "/parentPomUpdate" })
+    void should_write_the_same_pom_as_step_by_step_migration(String fixture) throws Exception {
+        var stepByStepProject = copyFixture(fixture, tmpDir.resolve("step-by-step"));
+        var pipelineProject = copyFixture(fixture, tmpDir.resolve("pipeline"));
+
+        for (var step : steps()) {
+            if (step.appliesToProject(stepByStepProject)) {
+                step.run(stepByStepProject, new NullProgressMonitor());
+            }
+        }
+        try (var context = MigrationContext.open(pipelineProject)) {
+            for (var step : steps()) {
+                if (context.appliesToProject(step)) {
+                    context.run(step, new NullProgressMonitor());
+                }
+            }
+            context.flush();
+        }
+
+        assertThat(Files.readAllBytes(pipelineProject.resolve(MigrationStep.POM_FILE_NAME)))
+                .isEqualTo(Files.readAllBytes(stepByStepProject.resolve(MigrationStep.POM_FILE_NAME)));
+    }
+
+    @Test
+    void should_write_pom_files_only_on_flush() throws Exception {
+        var project = copyFixture("/legacyParentPom", tmpDir.resolve("project"));
+        var pomFile = project.resolve(MigrationStep.POM_FILE_NAME);
+        var originalContent = Files.readAllBytes(pomFile);
+
+        try (var context = MigrationContext.open(project)) {
+            context.run(new CleanParentStep(), new NullProgressMonitor());
+            context.run(new BonitaProjectParentVersionStep(), new NullProgressMonitor());
+
+            assertThat(context.isDirty(pomFile)).isTrue();
+            assertThat(Files.readAllBytes(pomFile)).isEqualTo(originalContent);
+
+            context.flush();
+
+            assertThat(context.isDirty(pomFile)).isFalse();
+            assertThat(Files.readAllBytes(pomFile)).isNotEqualTo(originalContent);
+        }
+    }
+
+    @Test
+    void should_rollback_the_changes_of_a_failed_step() throws Exception {
+        var project = copyFixture("/legacyParentPom", tmpDir.resolve("project"));
+        var pomFile = project.resolve(MigrationStep.POM_FILE_NAME);
+
+        try (var context = MigrationContext.open(project)) {
+            context.run(new CleanParentStep(), new NullProgressMonitor());
+            var cleanedModel = context.loadModel(pomFile);
+
+            assertThrows(CoreException.class, () -> context.run(new FailingStep(), new NullProgressMonitor()));
+
+            var model = context.loadModel(pomFile);
+            assertThat(model.getDescription()).isEqualTo(cleanedModel.getDescription());
+            assertThat(model.getParent().getArtifactId()).isEqualTo(cleanedModel.getParent().getArtifactId());
+        }
+    }
+
+    @Test
+    void should_write_pending_changes_before_a_step_working_on_files() throws Exception {
+        var project = copyFixture("/legacyParentPom", tmpDir.resolve("project"));
+        var pomFile = project.resolve(MigrationStep.POM_FILE_NAME);
+
+        try (var context = MigrationContext.open(project)) {
+            context.run(new CleanParentStep(), new NullProgressMonitor());
+            context.run(new FileStep(), new NullProgressMonitor());
+
+            assertThat(context.isDirty(pomFile)).isFalse();
+            var model = context.loadModel(pomFile);
+            assertThat(model.getDescription()).isEqualTo("Updated on file");
+            assertThat(model.getProperties()).isEmpty();
+        }
+    }
+
+    private static List<MigrationStep> steps() {
+        return List.of(new CleanParentStep(),
+                new SplitGroovyAllIntoModulesStep(),
+                new FileStep(),
+                new BdmModelArtifactMigrationStep(true),
+                new BonitaProjectParentVersionStep());
+    }
+
+    private static Path copyFixture(String fixture, Path project) throws IOException {
+        var source = new File(FileLocator.toFileURL(MigrationContextTest.class.getResource(fixture)).getFile())
+                .toPath();
+        try (var files = Files.walk(source)) {
+            files.forEach(file -> {
+                try {
+                    Files.copy(file, project.resolve(source.relativize(file).toString()),
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return project;
+    }
+
+    /**
+     * A step reading and writing the pom.xml file itself.
+     */
+    private static class FileStep implements MigrationStep {
+
+        @Override
+        public MigrationReport run(Path projectRoot, IProgressMonitor monitor) throws CoreException {
+            var pomFile = projectRoot.resolve(POM_FILE_NAME);
+            var model = MavenProjectHelper.readModel(pomFile.toFile());
+            model.setDescription("Updated on file");
+            MavenProjectHelper.saveModel(pomFile, model);
+            return MigrationReport.emptyReport();
+        }
+    }
+
+    private static class FailingStep implements MigrationStep {
+
+        @Override
+        public boolean usesSharedMavenModels() {
+            return true;
+        }
+
+        @Override
+        public MigrationReport run(Path projectRoot, IProgressMonitor monitor) throws CoreException {
+            var model = loadMavenModel(projectRoot);
+            model.setDescription("Not migrated");
+            model.setParent(null);
+            saveMavenModel(model, projectRoot);
+            throw new CoreException(Status.error("Migration failed"));
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.builders.MainProcessBuilder;
+import org.bonitasoft.bpm.model.process.builders.PoolBuilder;
+import org.bonitasoft.bpm.model.process.builders.TaskBuilder;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryResourceCacheTest {
+
+    private static final String MODEL_VERSION = "9.0-test";
+
+    @TempDir
+    Path tmpFolder;
+
+    private File diagramFile;
+    private BinaryResourceCache cache;
+
+    @BeforeEach
+    void generateLargeDiagram() throws Exception {
+        diagramFile = tmpFolder.resolve("LargeDiagram-1.0.proc").toFile();
+        var diagram = MainProcessBuilder.aMainProcess()
+                .withName("LargeDiagram")
+                .withVersion("1.0")
+                .build();
+        for (int p = 0; p < 20; p++) {
+            var pool = PoolBuilder.aPool().withName("Pool" + p).build();
+            for (int t = 0; t < 200; t++) {
+                pool.getElements().add(TaskBuilder.aTask().withName("Task" + t).build());
+            }
+            diagram.getElements().add(pool);
+        }
+        var resource = new ResourceSetImpl().createResource(URI.createFileURI(diagramFile.getAbsolutePath()));
+        resource.getContents().add(diagram);
+        resource.save(null);
+        resource.unload();
+        cache = new BinaryResourceCache(tmpFolder.resolve("cache").toFile(), MODEL_VERSION);
+    }
+
+    @Test
+    void should_load_an_equal_model_from_the_binary_snapshot() throws Exception {
+        var xmiResource = loadXMI();
+        cache.store(xmiResource, diagramFile);
+
+        var binaryResource = createResource();
+        assertThat(cache.load(binaryResource, diagramFile)).isTrue();
+        assertThat(EcoreUtil.equals(xmiResource.getContents(), binaryResource.getContents())).isTrue();
+        assertThat(((MainProcess) binaryResource.getContents().get(0)).getElements()).hasSize(20);
+        assertThat(ids(binaryResource)).isEqualTo(ids(xmiResource));
+    }
+
+    @Test
+    void should_load_an_equal_model_from_a_snapshot_taken_again_after_a_change() throws Exception {
+        cache.store(loadXMI(), diagramFile);
+        var modified = loadXMI();
+        ((MainProcess) modified.getContents().get(0)).setName("RenamedDiagram");
+        modified.save(null);
+        cache.store(modified, diagramFile);
+
+        var binaryResource = createResource();
+
+        assertThat(cache.load(binaryResource, diagramFile)).isTrue();
+        assertThat(((MainProcess) binaryResource.getContents().get(0)).getName()).isEqualTo("RenamedDiagram");
+        assertThat(EcoreUtil.equals(modified.getContents(), binaryResource.getContents())).isTrue();
+    }
+
+    @Test
+    void should_not_load_an_evicted_snapshot() throws Exception {
+        cache.store(loadXMI(), diagramFile);
+
+        cache.evict(diagramFile);
+        var resource = createResource();
+
+        assertThat(cache.getSnapshotFile(diagramFile)).doesNotExist();
+        assertThat(cache.load(resource, diagramFile)).isFalse();
+        assertThat(resource.isLoaded()).isFalse();
+    }
+
+    @Test
+    void should_not_load_snapshot_when_source_file_content_changed() throws Exception {
+        cache.store(loadXMI(), diagramFile);
+        Files.writeString(diagramFile.toPath(), "\n", StandardOpenOption.APPEND);
+
+        var resource = createResource();
+
+        assertThat(cache.load(resource, diagramFile)).isFalse();
+        assertThat(resource.isLoaded()).isFalse();
+    }
+
+    @Test
+    void should_not_load_snapshot_from_another_model_version() throws Exception {
+        cache.store(loadXMI(), diagramFile);
+
+        var resource = createResource();
+
+        assertThat(new BinaryResourceCache(tmpFolder.resolve("cache").toFile(), "other").load(resource, diagramFile))
+                .isFalse();
+        assertThat(resource.isLoaded()).isFalse();
+    }
+
+    @Test
+    void should_discard_corrupted_snapshot() throws Exception {
+        cache.store(loadXMI(), diagramFile);
+        var snapshot = cache.getSnapshotFile(diagramFile);
+        var content = Files.readAllBytes(snapshot.toPath());
+        Files.write(snapshot.toPath(), Arrays.copyOf(content, content.length / 2));
+
+        var resource = createResource();
+
+        assertThat(cache.load(resource, diagramFile)).isFalse();
+        assertThat(resource.isLoaded()).isFalse();
+        assertThat(snapshot).doesNotExist();
+    }
+
+    private Resource createResource() {
+        return new ResourceSetImpl().createResource(URI.createFileURI(diagramFile.getAbsolutePath()));
+    }
+
+    private Resource loadXMI() {
+        return new ResourceSetImpl().getResource(URI.createFileURI(diagramFile.getAbsolutePath()), true);
+    }
+
+    private static List<String> ids(Resource resource) {
+        var ids = new ArrayList<String>();
+        TreeIterator<EObject> it = resource.getAllContents();
+        while (it.hasNext()) {
+            ids.add(((XMLResource) resource).getID(it.next()));
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IFileEditorInput;
+import org.junit.jupiter.api.Test;
+
+class OpenedEditorRegistryTest {
+
+    @Test
+    void should_index_editor_by_file_uri_when_part_is_opened() {
+        var registry = new OpenedEditorRegistry();
+        var file = file("/project/diagrams/MyDiagram-1.0.proc");
+        var editor = editor(file);
+
+        registry.partOpened(editorRef(editor));
+
+        assertThat(registry.find(file, part -> true)).contains(editor);
+        assertThat(registry.find(file("/project/diagrams/Other-1.0.proc"), part -> true)).isEmpty();
+        assertThat(registry.find(file, part -> false)).isEmpty();
+    }
+
+    @Test
+    void should_remove_editor_when_part_is_closed() {
+        var registry = new OpenedEditorRegistry();
+        var file = file("/project/diagrams/MyDiagram-1.0.proc");
+        var editorRef = editorRef(editor(file));
+
+        registry.partOpened(editorRef);
+        registry.partClosed(editorRef);
+
+        assertThat(registry.find(file, part -> true)).isEmpty();
+    }
+
+    @Test
+    void should_reindex_editor_when_its_input_changes() {
+        var registry = new OpenedEditorRegistry();
+        var oldFile = file("/project/diagrams/MyDiagram-1.0.proc");
+        var newFile = file("/project/diagrams/Renamed-1.0.proc");
+        var editor = editor(oldFile);
+        var editorRef = editorRef(editor);
+        registry.partOpened(editorRef);
+
+        var newInput = mock(IFileEditorInput.class);
+        when(newInput.getFile()).thenReturn(newFile);
+        when(editor.getEditorInput()).thenReturn(newInput);
+        registry.partInputChanged(editorRef);
+
+        assertThat(registry.find(oldFile, part -> true)).isEmpty();
+        assertThat(registry.find(newFile, part -> true)).contains(editor);
+    }
+
+    @Test
+    void should_answer_lookups_from_worker_threads_while_editors_open_and_close() throws Exception {
+        var registry = new OpenedEditorRegistry();
+        var files = new ArrayList<IFile>();
+        var editorRefs = new ArrayList<IEditorReference>();
+        for (int i = 0; i < 10; i++) {
+            var file = file("/project/diagrams/Diagram" + i + "-1.0.proc");
+            files.add(file);
+            editorRefs.add(editorRef(editor(file)));
+        }
+
+        var stop = new AtomicBoolean();
+        var lookups = new AtomicLong();
+        var errors = new ConcurrentLinkedQueue<String>();
+        var executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            workers.add(executor.submit(() -> {
+                while (!stop.get()) {
+                    for (var file : files) {
+                        registry.find(file, part -> true)
+                                .filter(editor -> !file.equals(((IFileEditorInput) editor.getEditorInput()).getFile()))
+                                .ifPresent(editor -> errors.add("Wrong editor found for " + file.getFullPath()));
+                        lookups.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        for (int round = 0; round < 500; round++) {
+            editorRefs.forEach(registry::partOpened);
+            editorRefs.forEach(registry::partClosed);
+        }
+        stop.set(true);
+        for (var worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(errors).isEmpty();
+        assertThat(lookups.get()).isPositive();
+        files.forEach(file -> assertThat(registry.find(file, part -> true)).isEmpty());
+    }
+
+    private static IFile file(String fullPath) {
+        var file = mock(IFile.class);
+        when(file.getFullPath()).thenReturn(Path.fromPortableString(fullPath));
+        return file;
+    }
+
+    private static IEditorPart editor(IFile file) {
+        var input = mock(IFileEditorInput.class);
+        when(input.getFile()).thenReturn(file);
+        var editor = mock(IEditorPart.class);
+        when(editor.getEditorInput()).thenReturn(input);
+        return editor;
+    }
+
+    private static IEditorReference editorRef(IEditorPart editor) {
+        var editorRef = mock(IEditorReference.class);
+        when(editorRef.getPart(false)).thenReturn(editor);
+        return editorRef;
+    }
+
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProjectExplorerRefresherTest {
+
+    private static final int NB_FILES = 2000;
+
+    private IProject project;
+    private IFolder folder;
+    private Shell shell;
+    private CountingTreeViewer viewer;
+    private ProjectExplorerRefresher refresher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        project = ResourcesPlugin.getWorkspace().getRoot().getProject("ProjectExplorerRefresherTest");
+        project.create(new NullProgressMonitor());
+        project.open(new NullProgressMonitor());
+        folder = project.getFolder("files");
+        folder.create(true, true, new NullProgressMonitor());
+
+        shell = new Shell(Display.getDefault());
+        viewer = new CountingTreeViewer(shell);
+        viewer.setContentProvider(new ResourceContentProvider());
+        viewer.setLabelProvider(new LabelProvider());
+        viewer.setInput(project);
+        viewer.expandAll();
+
+        refresher = new ProjectExplorerRefresher(() -> viewer);
+        refresher.install(ResourcesPlugin.getWorkspace());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        refresher.uninstall();
+        shell.dispose();
+        project.delete(true, new NullProgressMonitor());
+    }
+
+    @Test
+    void should_refresh_parent_folder_once_when_bulk_creating_files() throws Exception {
+        for (int i = 0; i < NB_FILES; i++) {
+            folder.getFile("file" + i + ".txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+        }
+        waitForRefresh();
+
+        assertThat(viewer.fullRefreshCount).isZero();
+        assertThat(viewer.elementRefreshCount).isBetween(1, 5);
+        assertThat(viewer.updateCount).isZero();
+        assertThat(viewer.testFindItem(folder.getFile("file" + (NB_FILES - 1) + ".txt"))).isNotNull();
+    }
+
+    @Test
+    void should_fall_back_to_a_single_full_refresh_for_changes_spread_over_many_folders() throws Exception {
+        ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+            for (int i = 0; i < ProjectExplorerRefresher.MAX_ELEMENT_REFRESHES + 1; i++) {
+                var subFolder = folder.getFolder("folder" + i);
+                subFolder.create(true, true, null);
+                subFolder.getFile("file.txt").create(new ByteArrayInputStream(new byte[0]), true, null);
+            }
+        }, null);
+        waitForRefresh();
+        viewer.expandAll();
+        resetCounters();
+
+        ResourcesPlugin.getWorkspace().run((IWorkspaceRunnable) monitor -> {
+            for (int i = 0; i < ProjectExplorerRefresher.MAX_ELEMENT_REFRESHES + 1; i++) {
+                folder.getFolder("folder" + i).getFile("other.txt")
+                        .create(new ByteArrayInputStream(new byte[0]), true, null);
+            }
+        }, null);
+        waitForRefresh();
+
+        assertThat(viewer.fullRefreshCount).isEqualTo(1);
+        assertThat(viewer.elementRefreshCount).isZero();
+    }
+
+    @Test
+    void should_update_label_of_modified_files() throws Exception {
+        var file = folder.getFile("file.txt");
+        file.create(new ByteArrayInputStream(new byte[0]), true, null);
+        waitForRefresh();
+        resetCounters();
+
+        file.setContents(new ByteArrayInputStream("content".getBytes()), true, false, null);
+        waitForRefresh();
+
+        assertThat(viewer.fullRefreshCount).isZero();
+        assertThat(viewer.elementRefreshCount).isZero();
+        assertThat(viewer.updateCount).isEqualTo(1);
+    }
+
+    @Test
+    void should_coalesce_full_refresh_requests() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            refresher.requestFullRefresh();
+        }
+        waitForRefresh();
+
+        assertThat(viewer.fullRefreshCount).isEqualTo(1);
+    }
+
+    private void resetCounters() {
+        viewer.fullRefreshCount = 0;
+        viewer.elementRefreshCount = 0;
+        viewer.updateCount = 0;
+    }
+
+    private static void waitForRefresh() {
+        var display = Display.getDefault();
+        int timeout = ProjectExplorerRefresher.COALESCING_DELAY * 5;
+        long end = System.currentTimeMillis() + timeout;
+        display.timerExec(timeout, () -> {
+            // wakes up the display when the timeout is reached
+        });
+        while (System.currentTimeMillis() < end) {
+            if (!display.readAndDispatch()) {
+                display.sleep();
+            }
+        }
+    }
+
+    private static class CountingTreeViewer extends TreeViewer {
+
+        int fullRefreshCount;
+        int elementRefreshCount;
+        int updateCount;
+        private boolean inFullRefresh;
+
+        CountingTreeViewer(Shell shell) {
+            super(shell);
+        }
+
+        @Override
+        public void refresh(boolean updateLabels) {
+            fullRefreshCount++;
+            inFullRefresh = true;
+            try {
+                super.refresh(updateLabels);
+            } finally {
+                inFullRefresh = false;
+            }
+        }
+
+        @Override
+        public void refresh(Object element, boolean updateLabels) {
+            if (!inFullRefresh) {
+                elementRefreshCount++;
+            }
+            super.refresh(element, updateLabels);
+        }
+
+        @Override
+        public void update(Object element, String[] properties) {
+            updateCount++;
+            super.update(element, properties);
+        }
+
+    }
+
+    private static class ResourceContentProvider implements ITreeContentProvider {
+
+        @Override
+        public Object[] getElements(Object inputElement) {
+            return getChildren(inputElement);
+        }
+
+        @Override
+        public Object[] getChildren(Object parentElement) {
+            try {
+                return parentElement instanceof IContainer ? ((IContainer) parentElement).members()
+                        : new Object[0];
+            } catch (CoreException e) {
+                return new Object[0];
+            }
+        }
+
+        @Override
+        public Object getParent(Object element) {
+            return ((IResource) element).getParent();
+        }
+
+        @Override
+        public boolean hasChildren(Object element) {
+            return getChildren(element).length > 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.bonitasoft.studio.common.repository.core.BonitaProject;
+import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.internal.wizards.datatransfer.ArchiveFileExportOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExportBosArchiveOperationTest {
+
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final int NB_FOLDERS = 15;
+    private static final int NB_FILES_PER_FOLDER = 64;
+    private static final int NB_LARGE_FILES = 4;
+    private static final int LARGE_FILE_SIZE = 16 * FILE_SIZE; // 1 GB project in total
+
+    @TempDir
+    Path tmpDir;
+
+    private IProject parentProject;
+    private IProject appProject;
+    private BonitaProject bonitaProject;
+
+    @BeforeEach
+    void createProject() throws Exception {
+        var workspace = ResourcesPlugin.getWorkspace();
+        parentProject = workspace.getRoot().getProject("export-bos-" + System.currentTimeMillis());
+        parentProject.create(new NullProgressMonitor());
+        parentProject.open(new NullProgressMonitor());
+
+        var appLocation = parentProject.getLocation().append("app").toFile().toPath();
+        generateProjectFiles(appLocation);
+        var description = workspace.newProjectDescription(parentProject.getName() + "-app");
+        description.setLocation(parentProject.getLocation().append("app"));
+        appProject = workspace.getRoot().getProject(description.getName());
+        appProject.create(description, new NullProgressMonitor());
+        appProject.open(new NullProgressMonitor());
+        appProject.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+
+        bonitaProject = mock(BonitaProject.class);
+        when(bonitaProject.getParentProject()).thenReturn(parentProject);
+    }
+
+    @AfterEach
+    void deleteProject() throws Exception {
+        appProject.delete(false, true, new NullProgressMonitor());
+        parentProject.delete(true, true, new NullProgressMonitor());
+    }
+
+    @Test
+    void should_export_the_same_entries_as_the_archive_file_export_operation() throws Exception {
+        var fileStore = mock(IRepositoryFileStore.class);
+        when(fileStore.getResource()).thenReturn(appProject.getFolder("web_page"));
+        List<IResource> selectedResources = List.of(appProject.getFolder("diagrams"),
+                appProject.getFolder("lib"),
+                appProject.getFolder("empty"),
+                appProject.getFile("pom.xml"));
+        var operation = new ExportBosArchiveOperation();
+        operation.setBonitaProject(bonitaProject);
+        operation.setFileStores(Set.of(fileStore));
+        operation.addResources(selectedResources);
+        var referenceResources = new ArrayList<>(operation.getResources());
+        var archive = tmpDir.resolve("export.bos");
+        operation.setDestinationPath(archive.toString());
+
+        var status = operation.run(new NullProgressMonitor());
+
+        assertThat(status.isOK()).isTrue();
+        var referenceArchive = exportWithArchiveFileExportOperation(referenceResources,
+                tmpDir.resolve("reference.bos"));
+        var entries = readEntries(archive);
+        var manifestName = parentProject.getName() + "/" + ExportBosArchiveOperation.BOS_ARCHIVE_MANIFEST;
+        assertThat(entries).containsKey(manifestName);
+        entries.remove(manifestName);
+        assertThat(entries).hasSize(NB_FOLDERS * NB_FILES_PER_FOLDER + NB_LARGE_FILES + 3)
+                .isEqualTo(readEntries(referenceArchive));
+        assertThat(parentProject.getFile(ExportBosArchiveOperation.BOS_ARCHIVE_MANIFEST).exists()).isFalse();
+        try (var zipFile = new ZipFile(archive.toFile())) {
+            var manifest = new Properties();
+            manifest.load(zipFile.getInputStream(zipFile.getEntry(manifestName)));
+            assertThat(manifest.getProperty(ExportBosArchiveOperation.TO_OPEN))
+                    .isEqualTo(ExportBosArchiveOperation.NONE);
+        }
+    }
+
+    /**
+     * The export as it was done before: the whole parent project is refreshed and the resources are written
+     * sequentially by the Eclipse archive exporter.
+     */
+    private Path exportWithArchiveFileExportOperation(List<IResource> resources, Path destination)
+            throws Exception {
+        parentProject.refreshLocal(IResource.DEPTH_INFINITE, new NullProgressMonitor());
+        var parentResources = resources.stream()
+                .map(resource -> parentProject
+                        .findMember(resource.getLocation().makeRelativeTo(parentProject.getLocation())))
+                .toList();
+        var operation = new ArchiveFileExportOperation(null, parentResources, destination.toString());
+        operation.setCreateLeadupStructure(true);
+        operation.setUseCompression(true);
+        operation.setUseTarFormat(false);
+        operation.run(new NullProgressMonitor());
+        assertThat(operation.getStatus().isOK()).isTrue();
+        return destination;
+    }
+
+    /**
+     * Reads the archive as a stream, so that the content of each entry is checked against its CRC.
+     *
+     * @return the CRC of the content of each entry by entry name
+     */
+    private static Map<String, Long> readEntries(Path archive) throws IOException {
+        var entries = new HashMap<String, Long>();
+        try (var zip = new ZipInputStream(Files.newInputStream(archive), StandardCharsets.UTF_8)) {
+            var buffer = new byte[64 * 1024];
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                var crc = new CRC32();
+                int read;
+                while ((read = zip.read(buffer)) != -1) {
+                    crc.update(buffer, 0, read);
+                }
+                entries.put(entry.getName(), crc.getValue());
+            }
+        }
+        return entries;
+    }
+
+    private static void generateProjectFiles(Path appFolder) throws IOException {
+        var block = new byte[FILE_SIZE];
+        var alphabet = "abcdefghijklmnop<>/ \n".getBytes(StandardCharsets.US_ASCII);
+        var seed = 42L;
+        for (int i = 0; i < block.length; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            block[i] = alphabet[(int) ((seed >>> 33) % alphabet.length)];
+        }
+        for (int i = 0; i < NB_FOLDERS; i++) {
+            var folder = Files.createDirectories(appFolder.resolve(i % 2 == 0 ? "diagrams" : "web_page")
+                    .resolve("folder" + i));
+            for (int j = 0; j < NB_FILES_PER_FOLDER; j++) {
+                writeFile(folder.resolve("file" + j + ".xml"), block, i * NB_FILES_PER_FOLDER + j, FILE_SIZE);
+            }
+        }
+        var lib = Files.createDirectories(appFolder.resolve("lib"));
+        for (int i = 0; i < NB_LARGE_FILES; i++) {
+            writeFile(lib.resolve("large" + i + ".jar"), block, i, LARGE_FILE_SIZE);
+        }
+        Files.createDirectories(appFolder.resolve("empty"));
+        Files.writeString(appFolder.resolve("pom.xml"), "<project/>");
+        Files.writeString(appFolder.resolve("diagrams").resolve("déjà vu.proc"), "<proc/>");
+    }
+
+    private static void writeFile(Path file, byte[] block, int index, int size) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            out.write(("file " + index + "\n").getBytes(StandardCharsets.US_ASCII));
+            for (int written = 0; written < size; written += block.length) {
+                var offset = index % block.length;
+                out.write(block, offset, block.length - offset);
+                out.write(block, 0, offset);
+            }
+        }
+    }
+
+}
@@ -18,10 +18,15 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.Maven;
 import org.apache.maven.artifact.Artifact;
@@ -45,6 +50,7 @@ import org.eclipse.core.databinding.validation.ValidationStatus;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.m2e.core.MavenPlugin;
@@ -94,6 +100,50 @@ public class DependencyGetOperation implements IRunnableWithProgress {
         }, monitor);
     }
 
+    /**
+     * Runs the operations concurrently, on at most <code>parallelism</code> threads. The calling thread owns the
+     * workspace build rule for the whole batch, the workers run on its behalf.
+     */
+    public static void runConcurrently(Collection<? extends DependencyGetOperation> operations, int parallelism,
+            IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+        if (operations.isEmpty()) {
+            return;
+        }
+        try {
+            BuildScheduler.<Void, Exception> callWithBuildRule(() -> {
+                ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, operations.size()));
+                try {
+                    List<Future<?>> futures = new ArrayList<>();
+                    for (DependencyGetOperation operation : operations) {
+                        futures.add(executor.submit(() -> operation.runInBuildRule(new NullProgressMonitor())));
+                    }
+                    for (Future<?> future : futures) {
+                        future.get();
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+                return null;
+            }, monitor);
+        } catch (InvocationTargetException | InterruptedException e) {
+            throw e;
+        } catch (ExecutionException e) {
+            throw new InvocationTargetException(e.getCause());
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Runs the lookup on the current thread without acquiring the build rule. Only called by
+     * {@link #runConcurrently(Collection, int, IProgressMonitor)}, whose calling thread owns the workspace build rule
+     * while this method runs.
+     */
+    protected void runInBuildRule(IProgressMonitor monitor) {
+        monitor.beginTask(String.format(Messages.lookupDependencyFor, gav), IProgressMonitor.UNKNOWN);
+        result = runGetDependency();
+    }
+
     private DependencyLookup runGetDependency() {
         try {
             ArtifactRepository internalRepository = MavenRepositories.internalRepository();
@@ -0,0 +1,195 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Compile and runtime dependencies of a Maven project, indexed by file name and by GAV.
+ * The artifact files are resolved once when the snapshot is built, and the dependency tree is only read on the first
+ * transitive dependencies lookup. A snapshot is immutable, it is replaced when the Maven project changes.
+ */
+public class DependencySnapshot {
+
+    @FunctionalInterface
+    public interface DependencyTreeReader {
+
+        DependencyNode read() throws CoreException;
+    }
+
+    private final MavenProject mavenProject;
+    private final DependencyTreeReader treeReader;
+    private final List<Artifact> compileDependencies;
+    private final Map<String, Artifact> compileDependenciesByFileName;
+    private final Map<String, Artifact> compileArtifactsByFileName;
+    private final Map<String, DependencyNode> nodesByGav = new HashMap<>();
+    private final Map<String, List<Artifact>> transitiveDependencies = new ConcurrentHashMap<>();
+    private boolean treeRead;
+
+    DependencySnapshot(MavenProject mavenProject, Function<Artifact, File> fileResolver,
+            DependencyTreeReader treeReader) {
+        this.mavenProject = mavenProject;
+        this.treeReader = treeReader;
+        var directDependencies = new HashSet<String>();
+        for (Dependency dependency : mavenProject.getDependencies()) {
+            directDependencies.add(String.join(":", dependency.getGroupId(), dependency.getArtifactId(),
+                    dependency.getVersion(), dependency.getType(), dependency.getClassifier(),
+                    dependency.getScope()));
+        }
+        var dependencies = new ArrayList<Artifact>();
+        var dependenciesByFileName = new HashMap<String, Artifact>();
+        var artifactsByFileName = new HashMap<String, Artifact>();
+        for (Artifact artifact : mavenProject.getArtifacts()) {
+            if (!isCompileOrRuntime(artifact)) {
+                continue;
+            }
+            File file = fileResolver.apply(artifact);
+            if (directDependencies.contains(String.join(":", artifact.getGroupId(), artifact.getArtifactId(),
+                    artifact.getBaseVersion(), artifact.getType(), artifact.getClassifier(), artifact.getScope()))
+                    && artifact.getFile() != null && artifact.getFile().exists()) {
+                dependencies.add(artifact);
+                if (file != null) {
+                    dependenciesByFileName.putIfAbsent(file.getName(), artifact);
+                }
+            }
+            if (file != null && file.exists()) {
+                artifactsByFileName.putIfAbsent(file.getName(), artifact);
+            }
+        }
+        this.compileDependencies = Collections.unmodifiableList(dependencies);
+        this.compileDependenciesByFileName = Collections.unmodifiableMap(dependenciesByFileName);
+        this.compileArtifactsByFileName = Collections.unmodifiableMap(artifactsByFileName);
+    }
+
+    /**
+     * @return the direct compile and runtime dependencies whose file exists
+     */
+    public List<Artifact> getCompileDependencies() {
+        return compileDependencies;
+    }
+
+    /**
+     * @return the direct compile or runtime dependency whose resolved file has the given name
+     */
+    public Optional<Artifact> findDirectCompileDependency(String fileName) {
+        return Optional.ofNullable(fileName).map(compileDependenciesByFileName::get);
+    }
+
+    /**
+     * @return the compile or runtime artifact whose resolved file has the given name
+     */
+    public Optional<Artifact> findCompileDependency(String fileName) {
+        return Optional.ofNullable(fileName).map(compileArtifactsByFileName::get);
+    }
+
+    /**
+     * @return the compile and runtime dependencies of the given artifact in the dependency tree, or an empty list if
+     *         the artifact is not part of the tree
+     */
+    public List<Artifact> getTransitiveDependencies(Artifact artifact) throws CoreException {
+        var gav = gav(artifact.getGroupId(), artifact.getArtifactId(), artifact.getBaseVersion());
+        var result = transitiveDependencies.get(gav);
+        if (result == null) {
+            var node = dependencyTree().get(gav);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            var collector = new Collector();
+            node.getChildren().forEach(child -> child.accept(collector));
+            result = Collections.unmodifiableList(collector.result);
+            transitiveDependencies.put(gav, result);
+        }
+        return result;
+    }
+
+    /**
+     * Nodes of the dependency tree by GAV. When an artifact appears several times in the tree, the last node in
+     * depth-first order is kept.
+     */
+    private synchronized Map<String, DependencyNode> dependencyTree() throws CoreException {
+        if (!treeRead) {
+            DependencyNode root = treeReader.read();
+            if (root != null) {
+                root.accept(new DependencyVisitor() {
+
+                    @Override
+                    public boolean visitEnter(DependencyNode node) {
+                        var a = node.getArtifact();
+                        if (a != null) {
+                            nodesByGav.put(gav(a.getGroupId(), a.getArtifactId(), a.getBaseVersion()), node);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public boolean visitLeave(DependencyNode node) {
+                        return true;
+                    }
+                });
+            }
+            treeRead = true;
+        }
+        return nodesByGav;
+    }
+
+    private static String gav(String groupId, String artifactId, String baseVersion) {
+        return groupId + ":" + artifactId + ":" + baseVersion;
+    }
+
+    private static boolean isCompileOrRuntime(Artifact artifact) {
+        return Artifact.SCOPE_COMPILE.equals(artifact.getScope()) || Artifact.SCOPE_RUNTIME.equals(artifact.getScope());
+    }
+
+    private class Collector implements DependencyVisitor {
+
+        private final List<Artifact> result = new ArrayList<>();
+        private final Map<String, Artifact> artifactMap = mavenProject.getArtifactMap();
+
+        @Override
+        public boolean visitEnter(DependencyNode node) {
+            var a = node.getArtifact();
+            if (a != null) {
+                Artifact artifact = artifactMap.get(a.getGroupId() + ":" + a.getArtifactId());
+                if (artifact != null && isCompileOrRuntime(artifact)) {
+                    result.add(artifact);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visitLeave(DependencyNode node) {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.maven;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+
+/**
+ * Dependency snapshots per Maven project facade. A snapshot is dropped when m2e reports a change of its project, and
+ * a new facade of the project always gets a new snapshot.
+ */
+class DependencySnapshotCache implements IMavenProjectChangedListener {
+
+    private static DependencySnapshotCache INSTANCE;
+
+    private final Map<IProject, Entry> snapshots = new ConcurrentHashMap<>();
+
+    static synchronized DependencySnapshotCache getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new DependencySnapshotCache();
+            MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(INSTANCE);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return the snapshot of the project dependencies, or null if the project is not a Maven project
+     */
+    DependencySnapshot get(IProject project, IProgressMonitor monitor) throws CoreException {
+        IMavenProjectFacade projectFacade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+        if (projectFacade == null) {
+            snapshots.remove(project);
+            return null;
+        }
+        Entry entry = snapshots.get(project);
+        if (entry != null && entry.facade() == projectFacade) {
+            return entry.snapshot();
+        }
+        MavenProject mavenProject = projectFacade.getMavenProject(monitor);
+        if (mavenProject == null) {
+            return null;
+        }
+        var snapshot = new DependencySnapshot(mavenProject, ProjectDependenciesResolver::resolveFile,
+                () -> MavenPlugin.getMavenModelManager().readDependencyTree(projectFacade, mavenProject,
+                        Artifact.SCOPE_COMPILE_PLUS_RUNTIME, new NullProgressMonitor()));
+        snapshots.put(project, new Entry(projectFacade, snapshot));
+        return snapshot;
+    }
+
+    @Override
+    public void mavenProjectChanged(List<MavenProjectChangedEvent> events, IProgressMonitor monitor) {
+        for (MavenProjectChangedEvent event : events) {
+            var facade = event.getMavenProject() != null ? event.getMavenProject() : event.getOldMavenProject();
+            if (facade != null) {
+                snapshots.remove(facade.getProject());
+            }
+        }
+    }
+
+    private record Entry(IMavenProjectFacade facade, DependencySnapshot snapshot) {
+    }
+
+}
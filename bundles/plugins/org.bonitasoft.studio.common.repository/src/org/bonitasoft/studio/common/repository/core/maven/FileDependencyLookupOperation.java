@@ -37,6 +37,7 @@ public class FileDependencyLookupOperation implements IRunnableWithProgress {
     private DependencyLookup result;
     private List<String> repositories = new ArrayList<>();
     private InputStreamSupplier fileToLookup;
+    private MavenCentralJarLookupOperation centralLookup;
 
     public FileDependencyLookupOperation(InputStreamSupplier fileToLookup) {
         this.fileToLookup = fileToLookup;
@@ -47,15 +48,27 @@ public class FileDependencyLookupOperation implements IRunnableWithProgress {
         return this;
     }
 
+    /**
+     * Uses a Maven Central search already run for the file, for instance concurrently with the searches of other
+     * files, instead of running it again.
+     */
+    public FileDependencyLookupOperation withCentralLookup(MavenCentralJarLookupOperation centralLookup) {
+        this.centralLookup = centralLookup;
+        return this;
+    }
+
     public List<String> getRemoteRepositories() {
         return repositories;
     }
 
     @Override
     public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
-        var jarLookupOperation = new MavenCentralJarLookupOperation(fileToLookup);
+        var jarLookupOperation = centralLookup;
         monitor.setTaskName(String.format(Messages.lookupDependencyFor, fileToLookup.getName()));
-        jarLookupOperation.run(new NullProgressMonitor());
+        if (jarLookupOperation == null) {
+            jarLookupOperation = new MavenCentralJarLookupOperation(fileToLookup);
+            jarLookupOperation.run(new NullProgressMonitor());
+        }
         var status = jarLookupOperation.getStatus();
         if (!status.isOK()) {
             throw new InvocationTargetException(new CoreException(status));
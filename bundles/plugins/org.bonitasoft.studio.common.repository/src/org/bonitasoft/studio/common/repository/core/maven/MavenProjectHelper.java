@@ -14,6 +14,8 @@
  */
 package org.bonitasoft.studio.common.repository.core.maven;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -64,6 +66,17 @@ public class MavenProjectHelper {
         return readModel(pomFile.getLocation().toFile());
     }
 
+    /**
+     * Reads a maven model from a pom content held in memory.
+     */
+    public static Model readModel(byte[] pomContent) throws CoreException {
+        var maven = MavenPlugin.getMaven();
+        if (maven == null) {
+            throw new CoreException(Status.error("IMaven singleton is null"));
+        }
+        return maven.readModel(new ByteArrayInputStream(pomContent));
+    }
+
     public static Model readModel(File pomFile) throws CoreException {
         try (InputStream is = Files.newInputStream(pomFile.toPath())) {
             var maven = MavenPlugin.getMaven();
@@ -174,18 +187,61 @@ public class MavenProjectHelper {
         }
     }
 
+    /**
+     * Same as {@link #update(File, Model)} on a pom content held in memory.
+     * 
+     * @return the updated pom content
+     */
+    public static byte[] update(byte[] pomContent, Model model) throws IOException, CoreException {
+        var doc = readDocument(new ByteArrayInputStream(pomContent));
+        if (doc == null) {
+            throw new CoreException(Status.error("Failed to update pom.xml"));
+        }
+        var outputStream = new ByteArrayOutputStream(pomContent.length);
+        try (var writer = WriterFactory.newWriter(outputStream, StandardCharsets.UTF_8.name());) {
+            new MavenJDOMWriter().write(model,
+                    doc,
+                    writer,
+                    Format.getRawFormat()
+                            .setTextMode(TextMode.PRESERVE));
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return the content of a new pom.xml file for the given model
+     */
+    public static byte[] write(Model model) throws IOException, CoreException {
+        var outputStream = new ByteArrayOutputStream();
+        MavenPlugin.getMaven().writeModel(model, outputStream);
+        return outputStream.toByteArray();
+    }
+
     public static Document readDocument(File pomFile) throws IOException {
-        SAXBuilder builder = new SAXBuilder();
-        builder.setIgnoringBoundaryWhitespace(false);
-        builder.setIgnoringElementContentWhitespace(false);
         try {
-            return builder.build(pomFile);
+            return newDocumentBuilder().build(pomFile);
         } catch (JDOMException e) {
             BonitaStudioLog.error(e);
             return null;
         }
     }
 
+    private static Document readDocument(InputStream pomContent) throws IOException {
+        try {
+            return newDocumentBuilder().build(pomContent);
+        } catch (JDOMException e) {
+            BonitaStudioLog.error(e);
+            return null;
+        }
+    }
+
+    private static SAXBuilder newDocumentBuilder() {
+        SAXBuilder builder = new SAXBuilder();
+        builder.setIgnoringBoundaryWhitespace(false);
+        builder.setIgnoringElementContentWhitespace(false);
+        return builder;
+    }
+
     public Optional<Dependency> findDependency(Model model, Dependency dependency) {
         return model.getDependencies()
                 .stream()
@@ -0,0 +1,176 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.maven.migration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeSet;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.CommonRepositoryPlugin;
+import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup;
+import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup.Status;
+import org.bonitasoft.studio.common.repository.core.maven.model.GAV;
+
+/**
+ * Persistent index of the Maven coordinates found for a jar, by SHA-1 of the jar content and by repository
+ * configuration: a lookup done against other repositories, mirrors or credentials is not reused.
+ * Only found dependencies are indexed: a jar that could not be found is looked up again by the next migration.
+ */
+public class DependencyLookupIndex {
+
+    private static final String INDEX_FILE_NAME = "dependency-lookup-index.properties";
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = "@";
+    private static final int NB_FIELDS = 6;
+
+    private static DependencyLookupIndex INSTANCE;
+
+    private final Path indexFile;
+    // Properties is synchronized, the index is filled by concurrent lookups
+    private final Properties entries = new Properties();
+    private volatile boolean dirty;
+
+    DependencyLookupIndex(Path indexFile) {
+        this.indexFile = indexFile;
+        if (Files.isRegularFile(indexFile)) {
+            try (var is = Files.newInputStream(indexFile)) {
+                entries.load(is);
+            } catch (IOException e) {
+                BonitaStudioLog.error(e);
+            }
+            // Entries indexed before the repository configuration was part of the key
+            dirty = entries.keySet().removeIf(key -> !key.toString().contains(KEY_SEPARATOR));
+        }
+    }
+
+    public static synchronized DependencyLookupIndex getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new DependencyLookupIndex(
+                    CommonRepositoryPlugin.getDefault().getStateLocation().append(INDEX_FILE_NAME).toFile().toPath());
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @param repositoriesKey the key of the repository configuration used for the lookup, see
+     *        {@link #repositoriesKey(Collection, Collection)}
+     * @return a new found dependency lookup for the given jar, if a jar with the same SHA-1 has already been found
+     *         with the same repository configuration
+     */
+    public Optional<DependencyLookup> find(String sha1, String repositoriesKey, String jarName) {
+        var key = key(sha1, repositoriesKey);
+        var value = entries.getProperty(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        var fields = value.split("\\" + SEPARATOR, -1);
+        if (fields.length != NB_FIELDS) {
+            entries.remove(key);
+            dirty = true;
+            return Optional.empty();
+        }
+        var gav = new GAV(fields[0], fields[1], fields[2], emptyToNull(fields[3]), emptyToNull(fields[4]), null);
+        return Optional.of(new DependencyLookup(jarName, sha1, Status.FOUND, gav, fields[5]));
+    }
+
+    public void put(String sha1, String repositoriesKey, DependencyLookup dependencyLookup) {
+        if (sha1 == null || dependencyLookup.getStatus() != Status.FOUND) {
+            return;
+        }
+        var gav = dependencyLookup.getGAV();
+        var value = String.join(SEPARATOR, nullToEmpty(gav.getGroupId()), nullToEmpty(gav.getArtifactId()),
+                nullToEmpty(gav.getVersion()), nullToEmpty(gav.getClassifier()), nullToEmpty(gav.getType()),
+                nullToEmpty(dependencyLookup.getRepository()));
+        if (!value.equals(entries.put(key(sha1, repositoriesKey), value))) {
+            dirty = true;
+        }
+    }
+
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            Files.createDirectories(indexFile.getParent());
+            var tmpFile = Files.createTempFile(indexFile.getParent(), INDEX_FILE_NAME, null);
+            try (var os = Files.newOutputStream(tmpFile)) {
+                entries.store(os, "SHA-1 of jars to their Maven coordinates");
+            }
+            Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            BonitaStudioLog.error(e);
+        }
+    }
+
+    /**
+     * @param repositories the remote repository urls the lookups are run against
+     * @param settings the other parts of the Maven configuration changing the lookup results, like mirrors and
+     *        server credentials
+     * @return a key identifying this repository configuration, independent of the order of the repositories
+     */
+    public static String repositoriesKey(Collection<String> repositories, Collection<String> settings) {
+        var digest = newSha1();
+        new TreeSet<>(repositories).forEach(part -> digest.update((part + "\n").getBytes(StandardCharsets.UTF_8)));
+        digest.update(SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        new TreeSet<>(settings).forEach(part -> digest.update((part + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String key(String sha1, String repositoriesKey) {
+        return sha1 + KEY_SEPARATOR + repositoriesKey;
+    }
+
+    private static MessageDigest newSha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the lower case hexadecimal SHA-1 of the file content
+     */
+    public static String sha1(File file) throws IOException {
+        var digest = newSha1();
+        try (var is = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+}
@@ -14,38 +14,65 @@
  */
 package org.bonitasoft.studio.common.repository.core.maven.migration;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.settings.Mirror;
+import org.apache.maven.settings.Server;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.Messages;
 import org.bonitasoft.studio.common.repository.core.InputStreamSupplier;
 import org.bonitasoft.studio.common.repository.core.maven.DependencyGetOperation;
 import org.bonitasoft.studio.common.repository.core.maven.FileDependencyLookupOperation;
+import org.bonitasoft.studio.common.repository.core.maven.MavenCentralJarLookupOperation;
 import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup;
 import org.bonitasoft.studio.common.repository.core.maven.migration.model.DependencyLookup.Status;
 import org.bonitasoft.studio.common.repository.core.maven.model.GAV;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.operation.IRunnableWithProgress;
+import org.eclipse.m2e.core.MavenPlugin;
 
 public class ProjectDependenciesMigrationOperation implements IRunnableWithProgress {
 
     public static final String MAVEN_CENTRAL_REPOSITORY_URL = "https://repo.maven.apache.org/maven2/";
     private static final String BDM_CLIENT_POJO_JAR = "bdm-client-pojo.jar";
+    static final int MAX_PARALLEL_LOOKUPS = 8;
 
     private List<InputStreamSupplier> jars;
     private Set<DependencyLookup> result = new HashSet<>();
     private Set<String> repositories = new HashSet<>();
     private Set<String> usedDependencies = new HashSet<>();
     private Set<String> usedDefinitions = new HashSet<>();
+    private DependencyLookupIndex index;
+    private int parallelism;
 
     public ProjectDependenciesMigrationOperation(List<InputStreamSupplier> jars) {
+        this(jars, DependencyLookupIndex.getInstance(), MAX_PARALLEL_LOOKUPS);
+    }
+
+    ProjectDependenciesMigrationOperation(List<InputStreamSupplier> jars, DependencyLookupIndex index,
+            int parallelism) {
         this.jars = jars;
+        this.index = index;
+        this.parallelism = parallelism;
     }
 
     public ProjectDependenciesMigrationOperation addRemoteRespository(String repositoryUrl) {
@@ -99,18 +126,14 @@ public class ProjectDependenciesMigrationOperation implements IRunnableWithProgr
                 if (!existingDep.isUsed()) {
                     result.remove(existingDep);
                     result.add(dl);
+                    existingDep.getJarNames().forEach(dl::addJar);
+                } else {
+                    dl.getJarNames().forEach(existingDep::addJar);
                 }
             }, () -> result.add(dl));
         }
-        
-        // Check that migrated jars can be retrieved
-        for(DependencyLookup dl : result) {
-            var op = new DependencyGetOperation(dl.getGAV());
-            repositories.stream().forEach(op::addRemoteRespository);
-            op.run(monitor);
-            var lookup = op.getResult();
-            dl.setStatus(lookup != null ? lookup.getStatus() : Status.NOT_FOUND);
-        }
+
+        checkDependencies(monitor);
 
         // Remove all transitive jar from bonita artifacts
         jars.stream()
@@ -122,45 +145,183 @@ public class ProjectDependenciesMigrationOperation implements IRunnableWithProgr
 
         dependenciesToRemove.add(BDM_CLIENT_POJO_JAR);
 
-        Set<InputStreamSupplier> jarsToLookup = jars.stream()
+        List<InputStreamSupplier> jarsToLookup = jars.stream()
                 .filter(f -> !dependenciesToRemove.contains(f.getName()))
-                .collect(Collectors.toSet());
-        for (InputStreamSupplier jarToLookup : jarsToLookup) {
-            FileDependencyLookupOperation op = new FileDependencyLookupOperation(jarToLookup);
-            repositories.stream()
-                    .forEach(op::addRemoteRespository);
-            op.run(monitor);
-            DependencyLookup dependencyLookup = op.getResult();
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, DependencyLookup> mergedDependencies = new HashMap<>();
+        result.forEach(dl -> mergeResult(dl, mergedDependencies));
+        var repositoriesKey = repositoriesKey();
+        // Searches run concurrently, the Maven resolutions that may follow need the build rule and run sequentially
+        for (JarSearch search : searchJars(jarsToLookup, repositoriesKey)) {
+            DependencyLookup dependencyLookup = search.indexedLookup();
+            if (dependencyLookup == null) {
+                FileDependencyLookupOperation op = new FileDependencyLookupOperation(search.jar())
+                        .withCentralLookup(search.centralLookup());
+                repositories.stream()
+                        .forEach(op::addRemoteRespository);
+                op.run(monitor);
+                dependencyLookup = op.getResult();
+                if (dependencyLookup != null) {
+                    index.put(search.sha1(), repositoriesKey, dependencyLookup);
+                }
+            }
             if (dependencyLookup != null) {
-                dependencyLookup.setUsed(usedDependencies.contains(jarToLookup.getName()));
-                mergeResult(dependencyLookup, result);
+                dependencyLookup.setUsed(usedDependencies.contains(search.jar().getName()));
+                mergeResult(dependencyLookup, mergedDependencies);
             }
             monitor.worked(1);
         }
+        result.clear();
+        result.addAll(mergedDependencies.values());
+        index.save();
+    }
+
+    /**
+     * Checks that the migrated jars can be retrieved from the repositories. The checks run concurrently on behalf of
+     * the calling thread, which owns the build rule for the whole batch.
+     */
+    private void checkDependencies(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+        Map<DependencyLookup, DependencyGetOperation> checks = new LinkedHashMap<>();
+        for (DependencyLookup dl : result) {
+            var op = createDependencyGetOperation(dl.getGAV());
+            repositories.stream().forEach(op::addRemoteRespository);
+            checks.put(dl, op);
+        }
+        DependencyGetOperation.runConcurrently(checks.values(), parallelism, monitor);
+        checks.forEach((dl, op) -> {
+            var lookup = op.getResult();
+            dl.setStatus(lookup != null ? lookup.getStatus() : Status.NOT_FOUND);
+        });
+    }
 
+    DependencyGetOperation createDependencyGetOperation(GAV gav) {
+        return new DependencyGetOperation(gav);
     }
 
-    private void mergeResult(DependencyLookup depToMerge, Set<DependencyLookup> dependencies) {
-        dependencies.add(depToMerge);
-        List<DependencyLookup> conflictingDependencies = dependencies.stream()
-                .filter(existingDep -> Objects.equals(depToMerge.getGroupId(), existingDep.getGroupId())
-                        && Objects.equals(depToMerge.getArtifactId(), existingDep.getArtifactId())
-                        && Objects.equals(depToMerge.getGAV().getClassifier(), existingDep.getGAV().getClassifier()))
-                .sorted((d1, d2) -> new DefaultArtifactVersion(d2.getVersion())
-                        .compareTo(new DefaultArtifactVersion(d1.getVersion())))
-                .collect(Collectors.toList());
-        if (conflictingDependencies.size() > 1) {
-            DependencyLookup depToKeep = conflictingDependencies.get(0);
-            for (var dep : conflictingDependencies.subList(1, conflictingDependencies.size())) {
-                dep.getJarNames().forEach(depToKeep::addJar);
-                if (dep.isUsed()) {
-                    depToKeep.setUsed(true);
+    private List<JarSearch> searchJars(List<InputStreamSupplier> jarsToLookup, String repositoriesKey)
+            throws InvocationTargetException, InterruptedException {
+        List<Callable<JarSearch>> searches = new ArrayList<>();
+        for (InputStreamSupplier jar : jarsToLookup) {
+            searches.add(() -> search(jar, repositoriesKey));
+        }
+        return runConcurrently(searches);
+    }
+
+    /**
+     * Runs the tasks on at most {@link #parallelism} threads and returns their results in the same order.
+     */
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks)
+            throws InvocationTargetException, InterruptedException {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()));
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof InvocationTargetException) {
+                        throw (InvocationTargetException) e.getCause();
+                    }
+                    throw new InvocationTargetException(e.getCause());
                 }
-                dependencies.remove(dep);
             }
+            return results;
+        } finally {
+            executor.shutdownNow();
         }
     }
 
+    /**
+     * @return the key of the repositories and of the Maven settings the lookups depend on, so that changing a
+     *         repository url, a mirror or credentials does not reuse the lookups indexed with the previous configuration
+     */
+    private String repositoriesKey() {
+        return DependencyLookupIndex.repositoriesKey(repositories, mavenSettings());
+    }
+
+    /**
+     * @return the mirrors and the server credentials of the Maven settings, passwords being only hashed
+     */
+    List<String> mavenSettings() {
+        List<String> settings = new ArrayList<>();
+        try {
+            var mavenSettings = MavenPlugin.getMaven().getSettings();
+            for (Mirror mirror : mavenSettings.getMirrors()) {
+                settings.add(String.join(" ", "mirror", mirror.getId(), mirror.getUrl(), mirror.getMirrorOf()));
+            }
+            for (Server server : mavenSettings.getServers()) {
+                settings.add(String.join(" ", "server", server.getId(), String.valueOf(server.getUsername()),
+                        String.valueOf(Objects.hashCode(server.getPassword())),
+                        String.valueOf(Objects.hashCode(server.getPrivateKey()))));
+            }
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e);
+        }
+        return settings;
+    }
+
+    private JarSearch search(InputStreamSupplier jar, String repositoriesKey)
+            throws InvocationTargetException, InterruptedException {
+        String sha1 = null;
+        try {
+            sha1 = DependencyLookupIndex.sha1(jar.toTempFile());
+        } catch (IOException e) {
+            BonitaStudioLog.error(e);
+        }
+        if (sha1 != null) {
+            Optional<DependencyLookup> indexedLookup = index.find(sha1, repositoriesKey, jar.getName());
+            if (indexedLookup.isPresent()) {
+                return new JarSearch(jar, sha1, indexedLookup.get(), null);
+            }
+        }
+        MavenCentralJarLookupOperation centralLookup = createCentralLookup(jar);
+        centralLookup.run(new NullProgressMonitor());
+        return new JarSearch(jar, sha1, null, centralLookup);
+    }
+
+    MavenCentralJarLookupOperation createCentralLookup(InputStreamSupplier jar) {
+        return new MavenCentralJarLookupOperation(jar);
+    }
+
+    /**
+     * Keeps, for a groupId, artifactId and classifier, the dependency with the highest version and the jar names of
+     * all the merged ones.
+     */
+    private void mergeResult(DependencyLookup depToMerge, Map<String, DependencyLookup> dependencies) {
+        String key = mergeKey(depToMerge);
+        DependencyLookup existingDep = dependencies.get(key);
+        if (existingDep == null) {
+            dependencies.put(key, depToMerge);
+            return;
+        }
+        DependencyLookup depToKeep = existingDep;
+        DependencyLookup depToDrop = depToMerge;
+        if (new DefaultArtifactVersion(depToMerge.getVersion())
+                .compareTo(new DefaultArtifactVersion(existingDep.getVersion())) > 0) {
+            depToKeep = depToMerge;
+            depToDrop = existingDep;
+            dependencies.put(key, depToKeep);
+        }
+        depToDrop.getJarNames().forEach(depToKeep::addJar);
+        if (depToDrop.isUsed()) {
+            depToKeep.setUsed(true);
+        }
+    }
+
+    private static String mergeKey(DependencyLookup dependencyLookup) {
+        return String.join(":", String.valueOf(dependencyLookup.getGroupId()),
+                String.valueOf(dependencyLookup.getArtifactId()),
+                String.valueOf(dependencyLookup.getGAV().getClassifier()));
+    }
+
     private DependencyLookup newDependencyLookup(String jarName,
             BonitaJarDependencyReplacement dep,
             boolean isUsed) {
@@ -177,4 +338,8 @@ public class ProjectDependenciesMigrationOperation implements IRunnableWithProgr
         return result;
     }
 
+    private record JarSearch(InputStreamSupplier jar, String sha1, DependencyLookup indexedLookup,
+            MavenCentralJarLookupOperation centralLookup) {
+    }
+
 }
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.core.migration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.model.Model;
+import org.bonitasoft.studio.common.repository.core.maven.MavenProjectHelper;
+import org.bonitasoft.studio.common.repository.core.migration.report.MigrationReport;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+/**
+ * Holds the Maven models of a project being migrated, so that each pom.xml file is parsed once and written once
+ * whatever the number of {@link MigrationStep}s updating it.
+ * While a context is open on a project, {@link MigrationStep#loadMavenModel(Path)} and
+ * {@link MigrationStep#saveMavenModel(Model, Path)} work on the in-memory models. Changed files are written by
+ * {@link #flush()}.
+ * Steps that do not {@link MigrationStep#usesSharedMavenModels() use the shared models} work on the files: the
+ * pending changes are written before they run and the models are read again after.
+ */
+public class MigrationContext implements AutoCloseable {
+
+    private static final Map<Path, MigrationContext> OPEN_CONTEXTS = new ConcurrentHashMap<>();
+
+    private final Path projectRoot;
+    private Map<Path, PomState> poms = new LinkedHashMap<>();
+    private Map<Path, PomState> stepSnapshot;
+    private boolean suspended;
+
+    private MigrationContext(Path projectRoot) {
+        this.projectRoot = projectRoot;
+    }
+
+    /**
+     * Opens a migration context on the given project. It must be closed once the migration is done.
+     */
+    public static MigrationContext open(Path projectRoot) {
+        var context = new MigrationContext(normalize(projectRoot));
+        if (OPEN_CONTEXTS.putIfAbsent(context.projectRoot, context) != null) {
+            throw new IllegalStateException(
+                    String.format("A migration context is already open on %s", context.projectRoot));
+        }
+        return context;
+    }
+
+    /**
+     * @return the active migration context of the project containing the given file, if any
+     */
+    public static Optional<MigrationContext> find(Path file) {
+        var path = normalize(file);
+        return OPEN_CONTEXTS.values().stream()
+                .filter(context -> path.startsWith(context.projectRoot))
+                .filter(context -> !context.isSuspended())
+                .findFirst();
+    }
+
+    /**
+     * Runs the given step on the project. When the step uses the shared models, the changes it made are discarded
+     * if it fails.
+     */
+    public MigrationReport run(MigrationStep step, IProgressMonitor monitor) throws CoreException {
+        if (!step.usesSharedMavenModels()) {
+            invalidate();
+            setSuspended(true);
+            try {
+                return step.run(projectRoot, monitor);
+            } finally {
+                setSuspended(false);
+            }
+        }
+        beginStep();
+        try {
+            return step.run(projectRoot, monitor);
+        } catch (CoreException | RuntimeException e) {
+            rollbackStep();
+            throw e;
+        }
+    }
+
+    /**
+     * @see MigrationStep#appliesToProject(Path)
+     */
+    public boolean appliesToProject(MigrationStep step) throws CoreException {
+        if (step.usesSharedMavenModels()) {
+            return step.appliesToProject(projectRoot);
+        }
+        flush();
+        setSuspended(true);
+        try {
+            return step.appliesToProject(projectRoot);
+        } finally {
+            setSuspended(false);
+        }
+    }
+
+    /**
+     * @return a copy of the model of the given pom.xml file, parsed on first access only
+     */
+    public synchronized Model loadModel(Path pomFile) throws CoreException {
+        var key = normalize(pomFile);
+        var pom = poms.get(key);
+        if (pom == null) {
+            byte[] content;
+            try {
+                content = Files.readAllBytes(key);
+            } catch (IOException e) {
+                throw new CoreException(new Status(IStatus.ERROR, MigrationContext.class,
+                        String.format("Failed to read %s", key), e));
+            }
+            pom = new PomState(MavenProjectHelper.readModel(content), content, false);
+            poms.put(key, pom);
+        }
+        return pom.model().clone();
+    }
+
+    /**
+     * Updates the in-memory content of the given pom.xml file. The file is written on next {@link #flush()}.
+     */
+    public synchronized void saveModel(Path pomFile, Model model) throws CoreException {
+        var key = normalize(pomFile);
+        try {
+            var pom = poms.get(key);
+            byte[] content;
+            if (pom != null) {
+                content = MavenProjectHelper.update(pom.content(), model);
+            } else if (Files.exists(key)) {
+                content = MavenProjectHelper.update(Files.readAllBytes(key), model);
+            } else {
+                content = MavenProjectHelper.write(model);
+            }
+            poms.put(key, new PomState(model.clone(), content, true));
+        } catch (IOException e) {
+            throw new CoreException(
+                    new Status(IStatus.ERROR, MigrationContext.class, "Failed to write maven model in pom.xml file.",
+                            e));
+        }
+    }
+
+    /**
+     * Writes the changed pom.xml files.
+     */
+    public synchronized void flush() throws CoreException {
+        for (var entry : poms.entrySet()) {
+            var pom = entry.getValue();
+            if (pom.dirty()) {
+                write(entry.getKey(), pom.content());
+                entry.setValue(new PomState(pom.model(), pom.content(), false));
+            }
+        }
+    }
+
+    /**
+     * Writes the changed pom.xml files and forgets the models, they are read again on next access.
+     */
+    public synchronized void invalidate() throws CoreException {
+        flush();
+        poms.clear();
+    }
+
+    synchronized void beginStep() {
+        stepSnapshot = new LinkedHashMap<>(poms);
+    }
+
+    synchronized void rollbackStep() {
+        if (stepSnapshot != null) {
+            poms = stepSnapshot;
+            stepSnapshot = null;
+        }
+    }
+
+    synchronized boolean isDirty(Path pomFile) {
+        var pom = poms.get(normalize(pomFile));
+        return pom != null && pom.dirty();
+    }
+
+    private synchronized boolean isSuspended() {
+        return suspended;
+    }
+
+    private synchronized void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+    }
+
+    /**
+     * Closes this context without writing pending changes.
+     */
+    @Override
+    public void close() {
+        OPEN_CONTEXTS.remove(projectRoot, this);
+    }
+
+    private static void write(Path pomFile, byte[] content) throws CoreException {
+        try {
+            var tmpFile = Files.createTempFile(pomFile.getParent(), pomFile.getFileName().toString(), null);
+            Files.write(tmpFile, content);
+            Files.move(tmpFile, pomFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new CoreException(new Status(IStatus.ERROR, MigrationContext.class,
+                    String.format("Failed to write %s", pomFile), e));
+        }
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * The model is never modified once stored: {@link #loadModel(Path)} returns copies, so that a snapshot of the
+     * states is enough to roll back a step.
+     */
+    private record PomState(Model model, byte[] content, boolean dirty) {
+    }
+
+}
@@ -59,18 +59,46 @@ public interface MigrationStep {
         return new StepDescription("Migration step", getClass().getName());
     }
 
+    /**
+     * Wether this step only reads and writes pom.xml files with {@link #loadMavenModel(Path)},
+     * {@link #loadParentMavenModel(Path)} and {@link #saveMavenModel(Model, Path)}. Such steps share the models held
+     * by the {@link MigrationContext} instead of reading and writing the files.
+     * 
+     * @return true if this step never accesses pom.xml files directly
+     */
+    default boolean usesSharedMavenModels() {
+        return false;
+    }
+
     default Model loadMavenModel(Path project) throws CoreException {
-        var pomFile = project.resolve(POM_FILE_NAME).toFile();
-        return MavenProjectHelper.readModel(pomFile);
+        var pomFile = project.resolve(POM_FILE_NAME);
+        var context = MigrationContext.find(pomFile);
+        if (context.isPresent()) {
+            return context.get().loadModel(pomFile);
+        }
+        return MavenProjectHelper.readModel(pomFile.toFile());
     }
 
     default Model loadParentMavenModel(Path project) throws CoreException {
-        var parentPomFile = project.getParent().resolve(POM_FILE_NAME).toFile();
-        return parentPomFile.exists() ? MavenProjectHelper.readModel(parentPomFile) : loadMavenModel(project);
+        var parentPomFile = project.getParent().resolve(POM_FILE_NAME);
+        if (!parentPomFile.toFile().exists()) {
+            return loadMavenModel(project);
+        }
+        var context = MigrationContext.find(parentPomFile);
+        if (context.isPresent()) {
+            return context.get().loadModel(parentPomFile);
+        }
+        return MavenProjectHelper.readModel(parentPomFile.toFile());
     }
 
     default void saveMavenModel(Model model, Path project) throws CoreException {
-        MavenProjectHelper.saveModel(project.resolve(POM_FILE_NAME), model);
+        var pomFile = project.resolve(POM_FILE_NAME);
+        var context = MigrationContext.find(pomFile);
+        if (context.isPresent()) {
+            context.get().saveModel(pomFile, model);
+        } else {
+            MavenProjectHelper.saveModel(pomFile, model);
+        }
     }
 
     default Predicate<Dependency> has(String groupId, String artifactId) {
@@ -21,6 +21,7 @@ import org.bonitasoft.studio.common.Strings;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.Messages;
 import org.bonitasoft.studio.common.repository.core.migration.BonitaProjectMigrator;
+import org.bonitasoft.studio.common.repository.core.migration.MigrationContext;
 import org.bonitasoft.studio.common.repository.core.migration.report.MigrationReport;
 import org.bonitasoft.studio.common.repository.core.migration.ui.MigrationStepWizardPage;
 import org.bonitasoft.studio.common.repository.core.migration.ui.ProjectMigrationWizard;
@@ -84,7 +85,15 @@ public class MigrateProjectHandler {
         var shell = Optional.ofNullable(activeShell).filter(s -> !s.isDisposed())
                 .orElseGet(() -> Display.getDefault()
                         .syncCall(() -> PlatformUI.getWorkbench().getModalDialogShellProvider().getShell()));
-        var open = shell.getDisplay().syncCall(() -> new ProjectMigrationWizardDialog(shell, wiz).open());
+        int open;
+        // Pom files are parsed once and written once for all the steps
+        try (var context = MigrationContext.open(project)) {
+            open = shell.getDisplay().syncCall(() -> new ProjectMigrationWizardDialog(shell, wiz).open());
+            // Steps executed before a cancellation keep their changes
+            context.flush();
+        } catch (CoreException e) {
+            throw new ExecutionException(Messages.projectMigrationCancelled, e);
+        }
         if (open == IDialogConstants.OK_ID) {
             return wiz.getReport();
         } else {
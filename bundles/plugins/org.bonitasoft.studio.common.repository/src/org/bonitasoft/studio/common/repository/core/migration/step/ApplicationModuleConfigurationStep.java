@@ -37,6 +37,11 @@ public class ApplicationModuleConfigurationStep implements MigrationStep {
         return new StepDescription(Messages.appModuleMigrationTitle, Messages.appModuleMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.appModuleMigrationTitle);
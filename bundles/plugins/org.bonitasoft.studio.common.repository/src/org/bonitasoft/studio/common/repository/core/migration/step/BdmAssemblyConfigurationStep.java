@@ -40,6 +40,11 @@ public class BdmAssemblyConfigurationStep implements MigrationStep {
                 Messages.bdmAssemblyConfigurationMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.bdmAssemblyConfigurationMigrationTitle);
@@ -23,7 +23,6 @@ import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.Messages;
-import org.bonitasoft.studio.common.repository.core.maven.MavenProjectHelper;
 import org.bonitasoft.studio.common.repository.core.maven.model.GAV;
 import org.bonitasoft.studio.common.repository.core.maven.model.ProjectMetadata;
 import org.bonitasoft.studio.common.repository.core.migration.MavenModelMigration;
@@ -173,16 +172,20 @@ public class BdmModelArtifactMigrationStep implements MavenModelMigration, Migra
                 .anyMatch(matchingBdmClient(versionResolver).or(matchingBdmDaoClient(versionResolver)));
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.bdmModelArtifactMigrationTitle);
         BonitaStudioLog.info(String.format("Starting %s...", BdmModelArtifactMigrationStep.class.getName()));
-        var pomFile = project.resolve(POM_FILE_NAME).toFile();
-        var metadata = ProjectMetadata.read(pomFile);
-        var model = MavenProjectHelper.readModel(pomFile);
+        var model = loadMavenModel(project);
+        var metadata = ProjectMetadata.read(model);
         if (appliesTo(model, metadata)) {
             var report = migrate(model, metadata);
-            MavenProjectHelper.saveModel(pomFile.toPath(), model);
+            saveMavenModel(model, project);
             return report;
         }
         BonitaStudioLog.info(String.format("%s completed.", BdmModelArtifactMigrationStep.class.getName()));
@@ -38,6 +38,11 @@ public class BonitaProjectParentVersionStep implements MigrationStep {
                 Messages.bonitaProjectParentVersionMigrationDescription, ProductVersion.BONITA_RUNTIME_VERSION));
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.bonitaProjectParentVersionMigrationTitle);
@@ -41,6 +41,11 @@ public class CleanParentStep implements MigrationStep {
         return new StepDescription(Messages.cleanParentMigrationTitle, Messages.cleanParentMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.cleanParentMigrationTitle);
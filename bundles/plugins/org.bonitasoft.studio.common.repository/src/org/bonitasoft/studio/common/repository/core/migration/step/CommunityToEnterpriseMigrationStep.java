@@ -24,7 +24,6 @@ import org.apache.maven.model.Model;
 import org.apache.maven.model.PluginExecution;
 import org.bonitasoft.studio.common.repository.Messages;
 import org.bonitasoft.studio.common.repository.core.BonitaProject;
-import org.bonitasoft.studio.common.repository.core.maven.MavenProjectHelper;
 import org.bonitasoft.studio.common.repository.core.maven.model.BonitaCommonDependency;
 import org.bonitasoft.studio.common.repository.core.maven.model.DefaultPluginVersions;
 import org.bonitasoft.studio.common.repository.core.migration.MigrationStep;
@@ -52,12 +51,17 @@ public class CommunityToEnterpriseMigrationStep implements MigrationStep {
                 Messages.communityToEnterpriseMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.communityToEnterpriseMigrationTitle);
         var model = loadMavenModel(project.resolve(BonitaProject.APP_MODULE));
         var report = migrate(model);
-        MavenProjectHelper.saveModel(project.resolve(BonitaProject.APP_MODULE).resolve(POM_FILE_NAME), model);
+        saveMavenModel(model, project.resolve(BonitaProject.APP_MODULE));
         return report;
     }
 
@@ -40,6 +40,11 @@ public class DeleteProjectSettingsMigrationStep implements MigrationStep {
                 Messages.deleteProjectSettingsMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.deleteProjectSettingsMigrationTitle);
@@ -46,6 +46,11 @@ public class GitIgnoreMigrationStep implements MigrationStep {
         return new StepDescription(Messages.gitIgnoreMigrationTitle, Messages.gitIgnoreMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.gitIgnoreMigrationTitle);
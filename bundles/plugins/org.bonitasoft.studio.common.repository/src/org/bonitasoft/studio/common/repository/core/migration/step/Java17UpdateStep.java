@@ -32,6 +32,11 @@ public class Java17UpdateStep implements MigrationStep {
         return new StepDescription(Messages.java17MigrationTitle, Messages.java17MigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.java17MigrationTitle);
@@ -51,6 +51,11 @@ public class JavaDependenciesMigrationStep implements MigrationStep {
                 Messages.javaDependenciesMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.javaDependenciesMigrationTitle);
@@ -66,7 +71,7 @@ public class JavaDependenciesMigrationStep implements MigrationStep {
                 report.updated(dependenciesUpdatesReport.toString());
             }
             var localDependencyStore = new LocalDependenciesStore(project);
-            var mavenModel = MavenProjectHelper.readModel(project.resolve(POM_FILE_NAME).toFile());
+            var mavenModel = loadMavenModel(project);
             var dependenciesToInstall = dependencyLookups.stream()
                     .filter(DependencyLookup::isSelected)
                     .collect(Collectors.toSet());
@@ -96,7 +101,7 @@ public class JavaDependenciesMigrationStep implements MigrationStep {
                         }, () -> mavenModel.addDependency(newDependeny));
             }
 
-            MavenProjectHelper.saveModel(project.resolve(POM_FILE_NAME), mavenModel);
+            saveMavenModel(mavenModel, project);
 
             dependencyLookups.stream()
                     .filter(not(DependencyLookup::isSelected))
@@ -33,6 +33,11 @@ public class ProvidedGroovyScriptRemovedStep implements MigrationStep {
                 Messages.providedGroovyScriptRemovedMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.providedGroovyScriptRemovedMigrationTitle);
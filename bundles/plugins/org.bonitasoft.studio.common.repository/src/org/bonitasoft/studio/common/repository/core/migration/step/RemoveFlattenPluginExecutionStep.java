@@ -37,6 +37,11 @@ public class RemoveFlattenPluginExecutionStep implements MigrationStep {
                 Messages.removeFlattenPluginMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.removeFlattenPluginMigrationTitle);
@@ -74,13 +74,17 @@ public class ReportingAppUpdateMigrationStep implements MigrationStep, MavenMode
                 && Objects.equals(dep.getVersion(), VERSION);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.reportingAppUpdateMigrationTitle);
         BonitaStudioLog.info(String.format("Starting %s...", ReportingAppUpdateMigrationStep.class.getName()));
-        var pomFile = project.resolve("app").resolve(POM_FILE_NAME).toFile();
-        var metadata = ProjectMetadata.read(pomFile);
         var model = loadMavenModel(project.resolve("app"));
+        var metadata = ProjectMetadata.read(model);
         if (appliesTo(model, metadata)) {
             var report = migrate(model, metadata);
             saveMavenModel(model, project.resolve("app"));
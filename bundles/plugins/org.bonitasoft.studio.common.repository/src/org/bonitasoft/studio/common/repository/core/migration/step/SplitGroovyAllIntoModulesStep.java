@@ -35,6 +35,11 @@ public class SplitGroovyAllIntoModulesStep implements MigrationStep {
         return new StepDescription(Messages.splitGroovyAllMigrationTitle, Messages.splitGroovyAllMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.splitGroovyAllMigrationTitle);
@@ -45,6 +45,11 @@ public class UpdateProjectDescriptionMigrationStep implements MigrationStep {
                 Messages.updateProjectDescriptionMigrationDescription);
     }
 
+    @Override
+    public boolean usesSharedMavenModels() {
+        return true;
+    }
+
     @Override
     public MigrationReport run(Path project, IProgressMonitor monitor) throws CoreException {
         monitor.subTask(Messages.updateProjectDescriptionMigrationTitle);
@@ -29,6 +29,7 @@ import org.bonitasoft.studio.common.RedirectURLBuilder;
 import org.bonitasoft.studio.common.Strings;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.Messages;
+import org.bonitasoft.studio.common.repository.core.migration.MigrationContext;
 import org.bonitasoft.studio.common.repository.core.migration.MigrationStep;
 import org.eclipse.core.commands.ExecutionException;
 import org.eclipse.core.commands.NotEnabledException;
@@ -292,7 +293,9 @@ public class MigrationStepWizardPage extends WizardPage {
             if (oldStatus == ExecutionStatus.INITIAL) {
                 String stepName = step.getDescription().title();
                 try {
-                    boolean valid = step.appliesToProject(project);
+                    var context = MigrationContext.find(project);
+                    boolean valid = context.isPresent() ? context.get().appliesToProject(step)
+                            : step.appliesToProject(project);
                     var msg = MessageFormat.format(
                             valid ? "Prerequistes OK for migration step {0}." : "Skipped migration step {0}.",
                             stepName);
@@ -344,7 +347,10 @@ public class MigrationStepWizardPage extends WizardPage {
             String stepName = step.getDescription().title();
             try {
                 monitor.beginTask(stepName, 100);
-                step.run(getWizard().getProject(), monitor).merge(getWizard().getReport());
+                var project = getWizard().getProject();
+                var context = MigrationContext.find(project);
+                var report = context.isPresent() ? context.get().run(step, monitor) : step.run(project, monitor);
+                report.merge(getWizard().getReport());
                 var msg = MessageFormat.format("Migration step {0} successful.", stepName);
                 BonitaStudioLog.info(msg);
                 monitor.worked(100);
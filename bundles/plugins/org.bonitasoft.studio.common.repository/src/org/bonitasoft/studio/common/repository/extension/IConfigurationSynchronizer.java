@@ -40,4 +40,14 @@ public interface IConfigurationSynchronizer {
      * @return the dependency kind
      */
     EStructuralFeature getDependencyKind();
+
+    /**
+     * Computes a fingerprint of the process and configuration content this synchronizer reads. The synchronization
+     * is skipped when the fingerprint is the same as after the previous synchronization of the configuration.
+     *
+     * @return a fingerprint built with a {@link SynchronizationFingerprint}, or null if the synchronizer must always run
+     */
+    default String getFingerprint(Configuration configuration, AbstractProcess process) {
+        return null;
+    }
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.extension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+/**
+ * Builds a SHA-1 digest of the values an {@link IConfigurationSynchronizer} depends on.
+ * Each value is delimited, so that <code>("ab", "c")</code> and <code>("a", "bc")</code> give different fingerprints.
+ */
+public class SynchronizationFingerprint {
+
+    private static final byte VALUE_DELIMITER = 0;
+    private static final byte NULL_VALUE = 1;
+
+    private final MessageDigest digest;
+
+    public SynchronizationFingerprint() {
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public SynchronizationFingerprint append(Object value) {
+        if (value == null) {
+            digest.update(NULL_VALUE);
+        } else {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(VALUE_DELIMITER);
+        return this;
+    }
+
+    /**
+     * Appends the size of the collection followed by each of its elements.
+     */
+    public <T> SynchronizationFingerprint appendAll(Collection<T> values, Consumer<T> elementAppender) {
+        append(values.size());
+        values.forEach(elementAppender);
+        return this;
+    }
+
+    public String compute() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+}
@@ -58,11 +58,9 @@ import org.eclipse.jface.window.Window;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IPartListener;
-import org.eclipse.ui.IViewPart;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.ui.navigator.CommonViewer;
 import org.eclipse.ui.progress.IProgressService;
 
 /**
@@ -190,7 +188,6 @@ public abstract class AbstractFileStore<T>
             if (getParentStore() != null) {
                 getParentStore().refresh();
             }
-            refreshExplorerView();
             fireFileStoreEvent(new FileStoreChangeEvent(EventType.POST_DELETE, this));
         }
     }
@@ -239,21 +236,12 @@ public abstract class AbstractFileStore<T>
         }
     }
 
+    /**
+     * Requests a coalesced refresh of the whole project explorer. Changes made to workspace resources do not need it:
+     * the {@link ProjectExplorerRefresher} already refreshes the affected elements from the resource deltas.
+     */
     public static void refreshExplorerView() {
-        Display.getDefault().asyncExec(() -> {
-            if (PlatformUI.isWorkbenchRunning()
-                    && PlatformUI.getWorkbench().getActiveWorkbenchWindow() != null
-                    && PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage() != null) {
-                IViewPart viewPart = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage()
-                        .findView("org.bonitasoft.studio.application.project.explorer");
-                if (viewPart != null) {
-                    CommonViewer viewer = viewPart.getAdapter(CommonViewer.class);
-                    if (viewer != null && !viewer.getTree().isDisposed()) {
-                        viewer.refresh(true);
-                    }
-                }
-            }
-        });
+        ProjectExplorerRefresher.getInstance().requestFullRefresh();
     }
 
     @Override
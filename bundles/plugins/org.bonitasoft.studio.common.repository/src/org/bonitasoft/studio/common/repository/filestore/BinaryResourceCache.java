@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.CommonRepositoryPlugin;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+/**
+ * Stores EMF binary snapshots of XMI resources to load them without parsing the XMI.
+ * A snapshot is only used when it was taken from a file with the same content hash and with the same model version,
+ * otherwise callers are expected to fall back to the XMI load. XMI ids are stored alongside the binary content as
+ * the binary format does not keep them.
+ */
+public class BinaryResourceCache {
+
+    /** Set this system property to <code>false</code> to disable the binary resource caches. */
+    public static final String ENABLED_PROPERTY = "bonita.binaryResourceCache";
+
+    private static final String SNAPSHOT_FORMAT = "bonita-binary-snapshot-1";
+    private static final String SNAPSHOT_EXTENSION = ".bin";
+
+    private final File cacheFolder;
+    private final String modelVersion;
+
+    public BinaryResourceCache(File cacheFolder, String modelVersion) {
+        this.cacheFolder = cacheFolder;
+        this.modelVersion = modelVersion;
+    }
+
+    public static boolean isEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(ENABLED_PROPERTY));
+    }
+
+    /**
+     * Loads the given unloaded resource from the snapshot of the source file.
+     *
+     * @return <code>true</code> if the resource has been loaded from a valid snapshot, <code>false</code> if the
+     *         resource must be loaded from its source file
+     */
+    public boolean load(Resource resource, File sourceFile) {
+        var snapshot = getSnapshotFile(sourceFile);
+        if (resource.isLoaded() || !snapshot.isFile() || !sourceFile.isFile()) {
+            return false;
+        }
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot.toPath())))) {
+            if (!SNAPSHOT_FORMAT.equals(input.readUTF())
+                    || !modelVersion.equals(input.readUTF())
+                    || !hash(sourceFile).equals(input.readUTF())) {
+                return false;
+            }
+            var ids = new ArrayList<String>();
+            int nbIds = input.readInt();
+            for (int i = 0; i < nbIds; i++) {
+                ids.add(input.readUTF());
+            }
+            resource.load(new SnapshotInputStream(input, ids), Collections.emptyMap());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            BonitaStudioLog.debug(String.format("Invalid binary snapshot for %s: %s", sourceFile.getName(), e.getMessage()),
+                    CommonRepositoryPlugin.PLUGIN_ID);
+            if (resource.isLoaded()) {
+                resource.unload();
+            }
+            evict(sourceFile);
+            return false;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the given resource, freshly loaded from the source file. Resources with load errors or
+     * unknown features are not cached as the binary format could not restore them as is.
+     */
+    public void store(Resource resource, File sourceFile) {
+        if (!resource.isLoaded() || resource.isModified() || !resource.getErrors().isEmpty()
+                || (resource instanceof XMLResource
+                        && !((XMLResource) resource).getEObjectToExtensionMap().isEmpty())) {
+            return;
+        }
+        var snapshot = getSnapshotFile(sourceFile);
+        try {
+            Files.createDirectories(cacheFolder.toPath());
+            var tmpFile = File.createTempFile(sourceFile.getName(), SNAPSHOT_EXTENSION, cacheFolder);
+            try {
+                try (var output = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tmpFile.toPath())))) {
+                    output.writeUTF(SNAPSHOT_FORMAT);
+                    output.writeUTF(modelVersion);
+                    output.writeUTF(hash(sourceFile));
+                    var ids = getIds(resource);
+                    output.writeInt(ids.size());
+                    for (var id : ids) {
+                        output.writeUTF(id);
+                    }
+                    var eObjectOutputStream = new BinaryResourceImpl.EObjectOutputStream(output,
+                            Collections.emptyMap());
+                    eObjectOutputStream.saveResource(resource);
+                    eObjectOutputStream.flush();
+                }
+                Files.move(tmpFile.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile.toPath());
+            }
+        } catch (IOException | RuntimeException e) {
+            BonitaStudioLog.error(e, CommonRepositoryPlugin.PLUGIN_ID);
+        }
+    }
+
+    public void evict(File sourceFile) {
+        try {
+            Files.deleteIfExists(getSnapshotFile(sourceFile).toPath());
+        } catch (IOException e) {
+            BonitaStudioLog.error(e, CommonRepositoryPlugin.PLUGIN_ID);
+        }
+    }
+
+    File getSnapshotFile(File sourceFile) {
+        return new File(cacheFolder, sourceFile.getName() + SNAPSHOT_EXTENSION);
+    }
+
+    private static List<String> getIds(Resource resource) {
+        var ids = new ArrayList<String>();
+        if (resource instanceof XMLResource) {
+            var xmlResource = (XMLResource) resource;
+            TreeIterator<EObject> it = resource.getAllContents();
+            while (it.hasNext()) {
+                var id = xmlResource.getID(it.next());
+                ids.add(id != null ? id : "");
+            }
+        }
+        return ids;
+    }
+
+    private static void restoreIds(Resource resource, List<String> ids) throws IOException {
+        if (ids.isEmpty() || !(resource instanceof XMLResource)) {
+            return;
+        }
+        var xmlResource = (XMLResource) resource;
+        TreeIterator<EObject> it = resource.getAllContents();
+        int index = 0;
+        while (it.hasNext()) {
+            if (index >= ids.size()) {
+                throw new IOException("Snapshot ids do not match the resource content.");
+            }
+            var eObject = it.next();
+            var id = ids.get(index++);
+            xmlResource.setID(eObject, id.isEmpty() ? null : id);
+        }
+        if (index != ids.size()) {
+            throw new IOException("Snapshot ids do not match the resource content.");
+        }
+    }
+
+    static String hash(File file) throws IOException {
+        try {
+            var digest = MessageDigest.getInstance("SHA-1");
+            try (InputStream is = Files.newInputStream(file.toPath())) {
+                var buffer = new byte[8192];
+                int read;
+                while ((read = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Lets {@link Resource#load(InputStream, java.util.Map)} read the binary content directly, so that the resource goes
+     * through its regular loading lifecycle without parsing XMI.
+     */
+    private static class SnapshotInputStream extends FilterInputStream implements URIConverter.Loadable {
+
+        private final List<String> ids;
+
+        SnapshotInputStream(InputStream in, List<String> ids) {
+            super(in);
+            this.ids = ids;
+        }
+
+        @Override
+        public void loadResource(Resource resource) throws IOException {
+            new BinaryResourceImpl.EObjectInputStream(in, Collections.emptyMap()).loadResource(resource);
+            restoreIds(resource, ids);
+        }
+
+    }
+
+}
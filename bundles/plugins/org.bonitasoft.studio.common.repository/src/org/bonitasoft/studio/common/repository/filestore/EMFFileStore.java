@@ -23,6 +23,7 @@ import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
 import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.common.repository.store.AbstractEMFRepositoryStore;
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
@@ -86,8 +87,10 @@ public abstract class EMFFileStore<T extends EObject> extends AbstractFileStore<
                     final TransactionalEditingDomain editingDomain = TransactionUtil.getEditingDomain(eResource);
                     if (editingDomain != null) {
                         editingDomain.getResourceSet().getResource(eResource.getURI(), true);
+                    } else if (eResource.getResourceSet() != null) {
+                        eResource.load(eResource.getResourceSet().getLoadOptions());
                     } else {
-                        eResource.load(Collections.emptyMap());
+                        eResource.load(EMFResourceOptions.loadOptions());
                     }
                 } catch (final IOException | RuntimeException e) {
                     throw new ReadFileStoreException("Failed to load EMF Resource", e);
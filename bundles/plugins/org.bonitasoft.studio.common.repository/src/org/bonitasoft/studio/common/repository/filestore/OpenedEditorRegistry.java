@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.CommonRepositoryPlugin;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IPageListener;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IWindowListener;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPart;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.ide.ResourceUtil;
+
+/**
+ * Keeps track of the editors opened on workspace files, keyed by the platform resource URI of their input.
+ * The registry is written from the UI thread by workbench listeners and can be read from any thread,
+ * so that looking up an opened editor from a background job does not require a Display.syncExec.
+ */
+public class OpenedEditorRegistry implements IWindowListener, IPageListener, IPartListener2 {
+
+    private static final OpenedEditorRegistry INSTANCE = new OpenedEditorRegistry();
+
+    private final Map<URI, Set<IEditorPart>> editorsByURI = new ConcurrentHashMap<>();
+    private final Map<IEditorPart, URI> uriByEditor = new ConcurrentHashMap<>();
+    private volatile boolean installed = false;
+
+    OpenedEditorRegistry() {
+    }
+
+    public static OpenedEditorRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the workbench listeners and indexes the editors already opened. Must be called from the UI thread.
+     */
+    public synchronized void install(IWorkbench workbench) {
+        if (installed) {
+            return;
+        }
+        workbench.addWindowListener(this);
+        for (var window : workbench.getWorkbenchWindows()) {
+            windowOpened(window);
+        }
+        installed = true;
+    }
+
+    public boolean isInstalled() {
+        return installed;
+    }
+
+    public Optional<IEditorPart> find(IResource resource, Predicate<IEditorPart> editorInstanceValidator) {
+        var editors = editorsByURI.get(toURI(resource));
+        if (editors == null) {
+            return Optional.empty();
+        }
+        return editors.stream()
+                .filter(editorInstanceValidator)
+                .findFirst();
+    }
+
+    /**
+     * @return whether an editor is opened on the resource with the given platform resource URI
+     */
+    public boolean isOpened(URI uri) {
+        return editorsByURI.containsKey(uri);
+    }
+
+    static URI toURI(IResource resource) {
+        return URI.createPlatformResourceURI(resource.getFullPath().toString(), true);
+    }
+
+    void register(IEditorPart editor) {
+        unregister(editor);
+        IFile file = null;
+        try {
+            file = ResourceUtil.getFile(editor.getEditorInput());
+        } catch (RuntimeException e) {
+            BonitaStudioLog.error(e, CommonRepositoryPlugin.PLUGIN_ID);
+        }
+        if (file != null) {
+            var uri = toURI(file);
+            uriByEditor.put(editor, uri);
+            editorsByURI.computeIfAbsent(uri, key -> ConcurrentHashMap.newKeySet()).add(editor);
+        }
+    }
+
+    void unregister(IEditorPart editor) {
+        var uri = uriByEditor.remove(editor);
+        if (uri != null) {
+            editorsByURI.computeIfPresent(uri, (key, editors) -> {
+                editors.remove(editor);
+                return editors.isEmpty() ? null : editors;
+            });
+        }
+    }
+
+    private static IEditorPart getEditor(IWorkbenchPartReference partRef) {
+        if (partRef instanceof IEditorReference) {
+            IWorkbenchPart part = partRef.getPart(false);
+            if (part instanceof IEditorPart) {
+                return (IEditorPart) part;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void windowOpened(IWorkbenchWindow window) {
+        window.addPageListener(this);
+        for (var page : window.getPages()) {
+            pageOpened(page);
+        }
+    }
+
+    @Override
+    public void windowClosed(IWorkbenchWindow window) {
+        window.removePageListener(this);
+        for (var page : window.getPages()) {
+            pageClosed(page);
+        }
+    }
+
+    @Override
+    public void windowActivated(IWorkbenchWindow window) {
+        // Nothing to index
+    }
+
+    @Override
+    public void windowDeactivated(IWorkbenchWindow window) {
+        // Nothing to index
+    }
+
+    @Override
+    public void pageOpened(IWorkbenchPage page) {
+        page.addPartListener(this);
+        for (var editorRef : page.getEditorReferences()) {
+            partOpened(editorRef);
+        }
+    }
+
+    @Override
+    public void pageClosed(IWorkbenchPage page) {
+        page.removePartListener(this);
+        for (var editorRef : page.getEditorReferences()) {
+            partClosed(editorRef);
+        }
+    }
+
+    @Override
+    public void pageActivated(IWorkbenchPage page) {
+        // Nothing to index
+    }
+
+    @Override
+    public void partOpened(IWorkbenchPartReference partRef) {
+        var editor = getEditor(partRef);
+        if (editor != null) {
+            register(editor);
+        }
+    }
+
+    @Override
+    public void partClosed(IWorkbenchPartReference partRef) {
+        var editor = getEditor(partRef);
+        if (editor != null) {
+            unregister(editor);
+        }
+    }
+
+    @Override
+    public void partInputChanged(IWorkbenchPartReference partRef) {
+        partOpened(partRef);
+    }
+
+}
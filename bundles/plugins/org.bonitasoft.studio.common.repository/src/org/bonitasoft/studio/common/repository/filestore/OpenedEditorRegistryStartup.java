@@ -0,0 +1,29 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import org.bonitasoft.studio.common.extension.IPostStartupContribution;
+import org.eclipse.ui.PlatformUI;
+
+public class OpenedEditorRegistryStartup implements IPostStartupContribution {
+
+    @Override
+    public void execute() {
+        if (PlatformUI.isWorkbenchRunning()) {
+            OpenedEditorRegistry.getInstance().install(PlatformUI.getWorkbench());
+        }
+    }
+
+}
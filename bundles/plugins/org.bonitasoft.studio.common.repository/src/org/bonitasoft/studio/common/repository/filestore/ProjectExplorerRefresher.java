@@ -0,0 +1,238 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.filestore;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.CommonRepositoryPlugin;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.navigator.CommonViewer;
+
+/**
+ * Refreshes the Bonita project explorer from resource deltas. Changes are accumulated and flushed in a single UI
+ * runnable: the parents of added or removed resources are refreshed, the labels of changed files are updated, and
+ * only large batches of changes fall back to a full refresh of the tree.
+ */
+public class ProjectExplorerRefresher implements IResourceChangeListener {
+
+    public static final String PROJECT_EXPLORER_VIEW_ID = "org.bonitasoft.studio.application.project.explorer";
+
+    /** Above this number of changed elements, a single full refresh is cheaper than element refreshes. */
+    static final int MAX_ELEMENT_REFRESHES = 200;
+    /** Delay in milliseconds used to merge bursts of workspace operations into a single flush. */
+    static final int COALESCING_DELAY = 100;
+
+    private static final int CONTENT_FLAGS = IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.TYPE;
+
+    private static final ProjectExplorerRefresher INSTANCE = new ProjectExplorerRefresher(
+            ProjectExplorerRefresher::findExplorerViewer);
+
+    private final Supplier<StructuredViewer> viewerSupplier;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private Set<IResource> structuralChanges = new HashSet<>();
+    private Set<IResource> contentChanges = new HashSet<>();
+    private boolean fullRefresh = false;
+    private IWorkspace workspace;
+
+    ProjectExplorerRefresher(Supplier<StructuredViewer> viewerSupplier) {
+        this.viewerSupplier = viewerSupplier;
+    }
+
+    public static ProjectExplorerRefresher getInstance() {
+        return INSTANCE;
+    }
+
+    public synchronized void install(IWorkspace workspace) {
+        if (this.workspace == null) {
+            this.workspace = workspace;
+            workspace.addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+        }
+    }
+
+    public synchronized void uninstall() {
+        if (workspace != null) {
+            workspace.removeResourceChangeListener(this);
+            workspace = null;
+        }
+    }
+
+    /**
+     * Requests a refresh of the whole explorer, for changes that are not backed by resource deltas (preferences,
+     * project switch...). Requests received before the next flush are merged.
+     */
+    public void requestFullRefresh() {
+        synchronized (this) {
+            fullRefresh = true;
+        }
+        schedule();
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        var delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+        var structural = new HashSet<IResource>();
+        var content = new HashSet<IResource>();
+        var full = new AtomicBoolean();
+        try {
+            delta.accept(child -> {
+                var resource = child.getResource();
+                if (resource.isDerived() || resource.isTeamPrivateMember()) {
+                    return false;
+                }
+                switch (child.getKind()) {
+                    case IResourceDelta.ADDED:
+                    case IResourceDelta.REMOVED:
+                        var parent = resource.getParent();
+                        if (parent == null || parent.getType() == IResource.ROOT) {
+                            full.set(true);
+                        } else {
+                            structural.add(parent);
+                        }
+                        return false;
+                    case IResourceDelta.CHANGED:
+                        if ((child.getFlags() & CONTENT_FLAGS) != 0) {
+                            content.add(resource);
+                        }
+                        return true;
+                    default:
+                        return true;
+                }
+            });
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e, CommonRepositoryPlugin.PLUGIN_ID);
+            full.set(true);
+        }
+        if (!full.get() && structural.isEmpty() && content.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            fullRefresh |= full.get();
+            structuralChanges.addAll(structural);
+            contentChanges.addAll(content);
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            var display = Display.getDefault();
+            if (display.isDisposed()) {
+                scheduled.set(false);
+                return;
+            }
+            display.asyncExec(() -> display.timerExec(COALESCING_DELAY, this::flush));
+        }
+    }
+
+    void flush() {
+        scheduled.set(false);
+        boolean full;
+        Set<IResource> structural;
+        Set<IResource> content;
+        synchronized (this) {
+            full = fullRefresh;
+            structural = structuralChanges;
+            content = contentChanges;
+            fullRefresh = false;
+            structuralChanges = new HashSet<>();
+            contentChanges = new HashSet<>();
+        }
+        var viewer = viewerSupplier.get();
+        if (viewer == null || viewer.getControl() == null || viewer.getControl().isDisposed()) {
+            return;
+        }
+        if (full || structural.size() + content.size() > MAX_ELEMENT_REFRESHES) {
+            viewer.refresh(true);
+            return;
+        }
+        var refreshedElements = new LinkedHashSet<Object>();
+        structural.stream()
+                .filter(resource -> !hasAncestorIn(resource.getParent(), structural))
+                .forEach(resource -> toViewerElement(viewer, resource).ifPresent(refreshedElements::add));
+        var updatedElements = new LinkedHashSet<Object>();
+        content.stream()
+                .filter(resource -> !hasAncestorIn(resource, structural))
+                .forEach(resource -> toViewerElement(viewer, resource).ifPresent(updatedElements::add));
+        if (refreshedElements.isEmpty() && updatedElements.isEmpty()) {
+            return;
+        }
+        viewer.getControl().setRedraw(false);
+        try {
+            refreshedElements.forEach(element -> viewer.refresh(element, true));
+            updatedElements.forEach(element -> viewer.update(element, null));
+        } finally {
+            viewer.getControl().setRedraw(true);
+        }
+    }
+
+    private static boolean hasAncestorIn(IResource resource, Set<IResource> containers) {
+        var current = resource;
+        while (current != null) {
+            if (containers.contains(current)) {
+                return true;
+            }
+            current = current.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Resources not shown in the tree are skipped: their parent content is computed again when it is expanded.
+     * Some folders and files are displayed as their Java element counterpart.
+     */
+    private static Optional<Object> toViewerElement(StructuredViewer viewer, IResource resource) {
+        if (viewer.testFindItem(resource) != null) {
+            return Optional.of(resource);
+        }
+        var javaElement = JavaCore.create(resource);
+        if (javaElement != null && viewer.testFindItem(javaElement) != null) {
+            return Optional.of(javaElement);
+        }
+        return Optional.empty();
+    }
+
+    private static StructuredViewer findExplorerViewer() {
+        if (PlatformUI.isWorkbenchRunning()
+                && PlatformUI.getWorkbench().getActiveWorkbenchWindow() != null
+                && PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage() != null) {
+            IViewPart viewPart = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage()
+                    .findView(PROJECT_EXPLORER_VIEW_ID);
+            if (viewPart != null) {
+                return viewPart.getAdapter(CommonViewer.class);
+            }
+        }
+        return null;
+    }
+
+}
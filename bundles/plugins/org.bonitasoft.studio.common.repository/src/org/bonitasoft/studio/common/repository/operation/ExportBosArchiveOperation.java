@@ -14,18 +14,18 @@
  */
 package org.bonitasoft.studio.common.repository.operation;
 
-import java.io.ByteArrayInputStream;
 import java.io.CharArrayWriter;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.Writer;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 
 import org.bonitasoft.studio.common.ProductVersion;
@@ -36,6 +36,7 @@ import org.bonitasoft.studio.common.repository.core.BonitaProject;
 import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
 import org.bonitasoft.studio.common.ui.PlatformUtil;
 import org.bonitasoft.studio.common.ui.jface.FileActionDialog;
+import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
@@ -44,9 +45,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.ui.internal.wizards.datatransfer.ArchiveFileExportOperation;
+import org.eclipse.core.runtime.SubMonitor;
 
 /**
  * @author Romain Bioteau
@@ -62,7 +63,6 @@ public class ExportBosArchiveOperation {
     private Set<IResource> resources = new HashSet<>();
     private IStatus status;
     private String destPath;
-    private IFile manifestFile;
     private Set<IResource> resourcesToReOpen;
     private BonitaProject project;
 
@@ -85,43 +85,35 @@ public class ExportBosArchiveOperation {
             destFile.getParentFile().mkdirs();
         }
 
-        status = addManifest();
-        if (!status.isOK()) {
+        if (project == null) {
+            status = Status.error("No active project.");
+            return status;
+        }
+        final byte[] manifest;
+        try {
+            manifest = createManifest();
+        } catch (final IOException e) {
+            BonitaStudioLog.error(e);
+            status = new Status(IStatus.ERROR, CommonRepositoryPlugin.PLUGIN_ID, e.getMessage(), e);
             return status;
         }
 
         try {
-            final ArchiveFileExportOperation op = new ArchiveFileExportOperation(null, makeRelative(resources),
-                    destPath);
-            op.setCreateLeadupStructure(true);
-            op.setUseCompression(true);
-            op.setUseTarFormat(false);
-            op.run(monitor);
-            if (manifestFile != null && manifestFile.exists()) {
-                manifestFile.delete(true, AbstractRepository.NULL_PROGRESS_MONITOR);
-            }
-            status = op.getStatus();
+            var entries = collectEntries(monitor);
+            writeArchive(destFile.toPath(), manifest, entries, monitor);
+            return status;
+        } catch (final OperationCanceledException e) {
+            destFile.delete();
+            status = Status.CANCEL_STATUS;
             return status;
-        } catch (final CoreException | InterruptedException | InvocationTargetException e) {
+        } catch (final CoreException | IOException e) {
+            destFile.delete();
             status = new Status(IStatus.ERROR, CommonRepositoryPlugin.PLUGIN_ID, e.getMessage(), e);
             return status;
         }
     }
 
-    protected IStatus addManifest() {
-        if (project == null) {
-            return Status.error("No active project.");
-        }
-        var root = project.getParentProject();
-        manifestFile = root.getFile(BOS_ARCHIVE_MANIFEST);
-        if (manifestFile.exists()) {
-            try {
-                manifestFile.delete(true, AbstractRepository.NULL_PROGRESS_MONITOR);
-            } catch (final CoreException e) {
-                BonitaStudioLog.error(e);
-                return new Status(IStatus.ERROR, CommonRepositoryPlugin.PLUGIN_ID, e.getMessage(), e);
-            }
-        }
+    protected byte[] createManifest() throws IOException {
         final Properties prop = new Properties();
         prop.put(VERSION, ProductVersion.CURRENT_VERSION);
 
@@ -140,36 +132,95 @@ public class ExportBosArchiveOperation {
         }
 
         final Writer w = new CharArrayWriter();
-        try {
-            prop.store(w, BOS_MANIFEST_COMMENT);
-        } catch (final IOException e) {
-            BonitaStudioLog.error(e);
-            return new Status(IStatus.ERROR, CommonRepositoryPlugin.PLUGIN_ID, e.getMessage(), e);
+        prop.store(w, BOS_MANIFEST_COMMENT);
+        return w.toString().getBytes();
+    }
+
+    /**
+     * Lists the archive entries of the exported resources. Only the exported folders are refreshed, and entries are
+     * named after the location of the resources in the parent project, the parent project itself is not refreshed.
+     */
+    List<ArchiveEntry> collectEntries(IProgressMonitor monitor) throws CoreException {
+        var parentProject = project.getParentProject();
+        var entries = new ArrayList<ArchiveEntry>();
+        for (var resource : resources) {
+            if (monitor.isCanceled()) {
+                throw new OperationCanceledException();
+            }
+            if (resource.isAccessible()) {
+                resource.refreshLocal(resource instanceof IContainer ? IResource.DEPTH_INFINITE : IResource.DEPTH_ZERO,
+                        AbstractRepository.NULL_PROGRESS_MONITOR);
+            }
+            addEntries(parentProject, resource, entries);
         }
+        return entries;
+    }
 
-        final InputStream source = new ByteArrayInputStream(w.toString().getBytes());
-        try {
-            manifestFile.create(source, IResource.FORCE, AbstractRepository.NULL_PROGRESS_MONITOR);
-        } catch (final CoreException e1) {
-            return new Status(IStatus.ERROR, CommonRepositoryPlugin.PLUGIN_ID, e1.getMessage(), e1);
+    private void addEntries(IProject parentProject, IResource resource, List<ArchiveEntry> entries)
+            throws CoreException {
+        if (!resource.isAccessible() || resource.getLocation() == null) {
+            return;
+        }
+        var name = entryName(parentProject, resource);
+        if (resource instanceof IContainer container) {
+            var members = container.members();
+            if (members.length == 0) {
+                entries.add(new ArchiveEntry(name + "/", null, resource.getLocalTimeStamp()));
+            }
+            for (var member : members) {
+                addEntries(parentProject, member, entries);
+            }
+        } else {
+            entries.add(new ArchiveEntry(name, resource.getLocation().toFile().toPath(),
+                    resource.getLocalTimeStamp()));
         }
-        resources.add(manifestFile);
-        return Status.OK_STATUS;
     }
 
-    private IResource makeRelative(IResource resource) throws CoreException {
-        IProject parentProject = project.getParentProject();
-        return parentProject.findMember(resource.getLocation().makeRelativeTo(parentProject.getLocation()));
+    private static String entryName(IProject parentProject, IResource resource) {
+        var parentLocation = parentProject.getLocation();
+        if (parentLocation != null && parentLocation.isPrefixOf(resource.getLocation())) {
+            return parentProject.getFullPath()
+                    .append(resource.getLocation().makeRelativeTo(parentLocation))
+                    .makeRelative()
+                    .toString();
+        }
+        return resource.getFullPath().makeRelative().toString();
     }
 
-    private List<IResource> makeRelative(Set<IResource> resources) throws CoreException {
-        var result = new ArrayList<IResource>();
-        project.getParentProject().refreshLocal(IResource.DEPTH_INFINITE,
-                new NullProgressMonitor());
-        for (IResource r : resources) {
-            result.add(makeRelative(r));
+    private void writeArchive(Path destFile, byte[] manifest, List<ArchiveEntry> entries, IProgressMonitor monitor)
+            throws IOException {
+        var subMonitor = SubMonitor.convert(monitor, entries.size() + 1);
+        long totalSize = 0;
+        for (var entry : entries) {
+            if (entry.file() != null) {
+                totalSize += entry.file().toFile().length();
+            }
+        }
+        var nbThreads = Runtime.getRuntime().availableProcessors();
+        var executor = ParallelZipWriter.fitsZip32(totalSize, entries.size() + 1)
+                ? Executors.newFixedThreadPool(nbThreads)
+                : null;
+        try (var writer = new ParallelZipWriter(Files.newOutputStream(destFile), executor, nbThreads * 2)) {
+            var manifestName = project.getParentProject().getFullPath().append(BOS_ARCHIVE_MANIFEST).makeRelative();
+            writer.addEntry(manifestName.toString(), manifest, System.currentTimeMillis());
+            subMonitor.worked(1);
+            for (var entry : entries) {
+                if (subMonitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+                subMonitor.subTask(entry.name());
+                if (entry.file() == null) {
+                    writer.addDirectory(entry.name(), entry.time());
+                } else {
+                    writer.addFile(entry.name(), entry.file(), entry.time());
+                }
+                subMonitor.worked(1);
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
-        return result;
     }
 
     public IStatus getStatus() {
@@ -237,4 +288,11 @@ public class ExportBosArchiveOperation {
     public void addResources(List<IResource> selectedResoures) {
         resources.addAll(selectedResoures);
     }
+
+    /**
+     * An archive entry: a file or an empty folder when there is no file.
+     */
+    record ArchiveEntry(String name, Path file, long time) {
+    }
+
 }
@@ -0,0 +1,420 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.operation;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a zip archive whose file entries are compressed in parallel by a worker pool. Entries are written in the
+ * order they are added, each one as soon as it is compressed, while the next ones are still being compressed.
+ * Files larger than {@link #MAX_BUFFERED_ENTRY_SIZE} are compressed while being written, so that only a few compressed
+ * entries are held in memory.
+ * This writer does not support the zip64 format: archives that may need it are written sequentially with a
+ * {@link ZipOutputStream}, see {@link #fitsZip32(long, int)}.
+ */
+class ParallelZipWriter implements Closeable {
+
+    static final long MAX_BUFFERED_ENTRY_SIZE = 4 * 1024 * 1024;
+
+    private static final long ZIP32_LIMIT = 0xFFFFFFFFL;
+    private static final int ZIP32_MAX_ENTRIES = 0xFFFF;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int VERSION = 20;
+    private static final int DATA_DESCRIPTOR_FLAG = 0x08;
+    private static final int UTF8_FLAG = 0x800;
+
+    private final OffsetOutputStream out;
+    private final ZipOutputStream sequentialOut;
+    private final ExecutorService executor;
+    private final int window;
+    private final Deque<Future<CompressedItem>> pending = new ArrayDeque<>();
+    private final List<CentralEntry> centralDirectory = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private boolean failed;
+
+    /**
+     * @param out the archive output stream, closed with this writer
+     * @param executor the worker pool compressing the entries, or null to write them sequentially
+     * @param window the maximum number of entries being compressed ahead of the written one
+     */
+    ParallelZipWriter(OutputStream out, ExecutorService executor, int window) {
+        if (executor == null) {
+            this.sequentialOut = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE),
+                    StandardCharsets.UTF_8);
+            this.out = null;
+        } else {
+            this.out = new OffsetOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+            this.sequentialOut = null;
+        }
+        this.executor = executor;
+        this.window = Math.max(1, window);
+    }
+
+    /**
+     * @return whether an archive of files of the given total size can be written without zip64 extensions, even
+     *         when its content cannot be compressed
+     */
+    static boolean fitsZip32(long totalSize, int entryCount) {
+        var worstCaseSize = totalSize + totalSize / 100 + entryCount * 1024L;
+        return entryCount < ZIP32_MAX_ENTRIES && worstCaseSize < ZIP32_LIMIT;
+    }
+
+    /**
+     * Adds a folder entry. Entries whose name has already been added are ignored.
+     */
+    void addDirectory(String name, long time) throws IOException {
+        var directoryName = name.endsWith("/") ? name : name + "/";
+        add(new ZipItem(directoryName, time, null, null));
+    }
+
+    /**
+     * Adds the content of the given file. Entries whose name has already been added are ignored.
+     */
+    void addFile(String name, Path file, long time) throws IOException {
+        add(new ZipItem(name, time, file, null));
+    }
+
+    /**
+     * Adds the given content. Entries whose name has already been added are ignored.
+     */
+    void addEntry(String name, byte[] content, long time) throws IOException {
+        add(new ZipItem(name, time, null, content));
+    }
+
+    private void add(ZipItem item) throws IOException {
+        if (!names.add(item.name())) {
+            return;
+        }
+        if (sequentialOut != null) {
+            writeSequentially(item);
+            return;
+        }
+        if (item.isDirectory() || item.isLarge()) {
+            // Written by the writing thread
+            pending.add(CompletableFuture.completedFuture(new CompressedItem(item, 0, 0, null)));
+        } else {
+            pending.add(executor.submit(() -> compress(item)));
+        }
+        try {
+            while (pending.size() > window) {
+                writeNext();
+            }
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    private void writeSequentially(ZipItem item) throws IOException {
+        var entry = new ZipEntry(item.name());
+        entry.setTime(item.time());
+        sequentialOut.putNextEntry(entry);
+        if (!item.isDirectory()) {
+            try (var input = item.open()) {
+                input.transferTo(sequentialOut);
+            }
+        }
+        sequentialOut.closeEntry();
+    }
+
+    private void writeNext() throws IOException {
+        CompressedItem compressed;
+        try {
+            compressed = pending.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(e.getCause());
+        }
+        var item = compressed.item();
+        if (item.isDirectory()) {
+            writeEntry(item, ZipEntry.STORED, 0, 0, 0, new byte[0]);
+        } else if (compressed.deflated() != null) {
+            writeEntry(item, ZipEntry.DEFLATED, compressed.crc(), compressed.size(), compressed.deflated().length,
+                    compressed.deflated());
+        } else {
+            writeStreamedEntry(item);
+        }
+    }
+
+    private void writeEntry(ZipItem item, int method, long crc, long size, long compressedSize, byte[] data)
+            throws IOException {
+        var name = item.name().getBytes(StandardCharsets.UTF_8);
+        var offset = out.offset();
+        var dosTime = dosTime(item.time());
+        out.writeInt(LOCAL_HEADER_SIGNATURE);
+        out.writeShort(VERSION);
+        out.writeShort(UTF8_FLAG);
+        out.writeShort(method);
+        out.writeInt(dosTime);
+        out.writeInt(crc);
+        out.writeInt(compressedSize);
+        out.writeInt(size);
+        out.writeShort(name.length);
+        out.writeShort(0);
+        out.write(name);
+        out.write(data);
+        addCentralEntry(new CentralEntry(name, UTF8_FLAG, method, dosTime, crc, compressedSize, size, offset));
+    }
+
+    private void writeStreamedEntry(ZipItem item) throws IOException {
+        var name = item.name().getBytes(StandardCharsets.UTF_8);
+        var offset = out.offset();
+        var dosTime = dosTime(item.time());
+        var flags = UTF8_FLAG | DATA_DESCRIPTOR_FLAG;
+        out.writeInt(LOCAL_HEADER_SIGNATURE);
+        out.writeShort(VERSION);
+        out.writeShort(flags);
+        out.writeShort(ZipEntry.DEFLATED);
+        out.writeInt(dosTime);
+        // CRC and sizes are written in the data descriptor
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeInt(0);
+        out.writeShort(name.length);
+        out.writeShort(0);
+        out.write(name);
+        var dataOffset = out.offset();
+        var crc = new CRC32();
+        long size = 0;
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (var input = item.open();
+                var deflated = new DeflaterOutputStream(new NonClosingOutputStream(out), deflater, BUFFER_SIZE)) {
+            var buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                deflated.write(buffer, 0, read);
+                size += read;
+            }
+        } finally {
+            deflater.end();
+        }
+        var compressedSize = out.offset() - dataOffset;
+        out.writeInt(DATA_DESCRIPTOR_SIGNATURE);
+        out.writeInt(crc.getValue());
+        out.writeInt(compressedSize);
+        out.writeInt(size);
+        addCentralEntry(new CentralEntry(name, flags, ZipEntry.DEFLATED, dosTime, crc.getValue(), compressedSize,
+                size, offset));
+    }
+
+    private void addCentralEntry(CentralEntry entry) throws ZipException {
+        if (entry.size() >= ZIP32_LIMIT || entry.compressedSize() >= ZIP32_LIMIT || out.offset() >= ZIP32_LIMIT
+                || centralDirectory.size() >= ZIP32_MAX_ENTRIES) {
+            throw new ZipException("Archive too large to be written without zip64 extensions.");
+        }
+        centralDirectory.add(entry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sequentialOut != null) {
+            sequentialOut.close();
+            return;
+        }
+        try {
+            if (failed) {
+                return;
+            }
+            while (!pending.isEmpty()) {
+                writeNext();
+            }
+            var centralDirectoryOffset = out.offset();
+            for (var entry : centralDirectory) {
+                out.writeInt(CENTRAL_HEADER_SIGNATURE);
+                out.writeShort(VERSION);
+                out.writeShort(VERSION);
+                out.writeShort(entry.flags());
+                out.writeShort(entry.method());
+                out.writeInt(entry.dosTime());
+                out.writeInt(entry.crc());
+                out.writeInt(entry.compressedSize());
+                out.writeInt(entry.size());
+                out.writeShort(entry.name().length);
+                out.writeShort(0); // extra field length
+                out.writeShort(0); // comment length
+                out.writeShort(0); // disk number
+                out.writeShort(0); // internal attributes
+                out.writeInt(0); // external attributes
+                out.writeInt(entry.offset());
+                out.write(entry.name());
+            }
+            var centralDirectorySize = out.offset() - centralDirectoryOffset;
+            if (out.offset() >= ZIP32_LIMIT) {
+                throw new ZipException("Archive too large to be written without zip64 extensions.");
+            }
+            out.writeInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(centralDirectory.size());
+            out.writeShort(centralDirectory.size());
+            out.writeInt(centralDirectorySize);
+            out.writeInt(centralDirectoryOffset);
+            out.writeShort(0);
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            out.close();
+        }
+    }
+
+    private static CompressedItem compress(ZipItem item) throws IOException {
+        var crc = new CRC32();
+        long size = 0;
+        var buffer = new ByteArrayOutputStream();
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try (var input = item.open(); var deflated = new DeflaterOutputStream(buffer, deflater, BUFFER_SIZE)) {
+            var chunk = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = input.read(chunk)) != -1) {
+                crc.update(chunk, 0, read);
+                deflated.write(chunk, 0, read);
+                size += read;
+            }
+        } finally {
+            deflater.end();
+        }
+        return new CompressedItem(item, crc.getValue(), size, buffer.toByteArray());
+    }
+
+    private static long dosTime(long time) {
+        var date = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+        if (date.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return (date.getYear() - 1980L) << 25
+                | date.getMonthValue() << 21
+                | date.getDayOfMonth() << 16
+                | date.getHour() << 11
+                | date.getMinute() << 5
+                | date.getSecond() >> 1;
+    }
+
+    private record ZipItem(String name, long time, Path file, byte[] content) {
+
+        boolean isDirectory() {
+            return file == null && content == null;
+        }
+
+        boolean isLarge() throws IOException {
+            return file != null && Files.size(file) > MAX_BUFFERED_ENTRY_SIZE;
+        }
+
+        InputStream open() throws IOException {
+            return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(content);
+        }
+    }
+
+    private record CompressedItem(ZipItem item, long crc, long size, byte[] deflated) {
+    }
+
+    private record CentralEntry(byte[] name, int flags, int method, long dosTime, long crc, long compressedSize,
+            long size, long offset) {
+    }
+
+    /**
+     * Keeps track of the number of bytes written, to know the offset of each entry, and writes little-endian values.
+     */
+    private static class OffsetOutputStream extends FilterOutputStream {
+
+        private long offset;
+
+        OffsetOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long offset() {
+            return offset;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            offset++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            offset += len;
+        }
+
+        void writeShort(int value) throws IOException {
+            write(value & 0xff);
+            write((value >>> 8) & 0xff);
+        }
+
+        void writeInt(long value) throws IOException {
+            writeShort((int) (value & 0xffff));
+            writeShort((int) ((value >>> 16) & 0xffff));
+        }
+    }
+
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -96,6 +96,7 @@ public abstract class AbstractEMFRepositoryStore<T extends EMFFileStore<?>> exte
 
 	protected EditingDomain createAdapterFactoryEditingDomain() {
 		var domain = new AdapterFactoryEditingDomain(adapterFactory, new BasicCommandStack(), new HashMap<>());
+		EMFResourceOptions.configure(domain.getResourceSet());
 		// always migrate the .proc resource to the latest version
 		domain.getResourceSet().getLoadOptions().put(ProcessResourceImpl.OPTION_MIGRATION_POLICY,
 				MigrationPolicy.ALWAYS_MIGRATE_POLICY);
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.common.repository.store;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.XMLParserPool;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMLParserPoolImpl;
+
+/**
+ * XML load and save options shared by all the EMF resources of the repository (diagrams, connector definitions,
+ * organizations...).
+ * The SAX parsers and the element name to feature lookups are kept for the whole session instead of being created
+ * again for each loaded file.
+ */
+public final class EMFResourceOptions {
+
+    private static final XMLParserPool PARSER_POOL = new XMLParserPoolImpl();
+
+    /**
+     * Keys hold the {@link org.eclipse.emf.ecore.EClass} of the element, the map can be shared between models.
+     */
+    private static final Map<Object, Object> NAME_TO_FEATURE_MAP = Collections.synchronizedMap(new HashMap<>());
+
+    private EMFResourceOptions() {
+    }
+
+    /**
+     * @return new mutable load options
+     */
+    public static Map<Object, Object> loadOptions() {
+        var options = new HashMap<Object, Object>();
+        addLoadOptions(options);
+        return options;
+    }
+
+    /**
+     * Adds the shared load options to the given ones.
+     */
+    public static void addLoadOptions(Map<Object, Object> options) {
+        options.put(XMLResource.OPTION_USE_PARSER_POOL, PARSER_POOL);
+        options.put(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP, NAME_TO_FEATURE_MAP);
+        options.put(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE);
+        options.put(XMLResource.OPTION_USE_DEPRECATED_METHODS, Boolean.FALSE);
+    }
+
+    /**
+     * Applies the shared load options to all the resources loaded on demand by the given resource set.
+     */
+    public static void configure(ResourceSet resourceSet) {
+        addLoadOptions(resourceSet.getLoadOptions());
+    }
+
+    /**
+     * @return new mutable save options, made of the given ones and the shared ones
+     */
+    public static Map<Object, Object> saveOptions(Map<?, ?> options) {
+        var saveOptions = new HashMap<Object, Object>(options);
+        saveOptions.put(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+        return saveOptions;
+    }
+
+}
@@ -37,6 +37,7 @@ import org.bonitasoft.studio.common.Pair;
 import org.bonitasoft.studio.common.emf.tools.ModelHelper;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.extension.IConfigurationSynchronizer;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.bonitasoft.studio.common.repository.filestore.EMFFileStore;
 import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
@@ -72,6 +73,41 @@ public abstract class AbstractConnectorConfigurationSynchronizer implements ICon
         removeConnectorDefinitions(configuration, process, cc, editingDomain);
     }
 
+    /**
+     * The fingerprint covers the connector definitions used in the process, the implementations available for them
+     * and the definition mappings and jar dependencies of the configuration.
+     */
+    @Override
+    public String getFingerprint(final Configuration configuration, final AbstractProcess process) {
+        final SynchronizationFingerprint fingerprint = new SynchronizationFingerprint();
+        final List<Pair<String, String>> definitions = getDefinitions(getExistingConnectors(process));
+        if (!ModelHelper.getAllItemsOfType(process, KpiPackage.Literals.DATABASE_KPI_BINDING).isEmpty()) {
+            definitions.add(new Pair<>(DB_CONNECTOR_FOR_KPI_ID, DB_CONNECTOR_VERSION));
+        }
+        fingerprint.appendAll(definitions, definition -> {
+            fingerprint.append(definition.getFirst()).append(definition.getSecond());
+            fingerprint.appendAll(getAllImplementations(definition.getFirst(), definition.getSecond()),
+                    implementation -> fingerprint.append(implementation.getImplementationId())
+                            .append(implementation.getImplementationVersion())
+                            .append(jarDependencies(implementation)));
+        });
+        fingerprint.appendAll(configuration.getDefinitionMappings(),
+                association -> fingerprint.append(association.getType())
+                        .append(association.getDefinitionId())
+                        .append(association.getDefinitionVersion())
+                        .append(association.getImplementationId())
+                        .append(association.getImplementationVersion()));
+        final FragmentContainer container = getContainer(configuration);
+        fingerprint.append(container != null);
+        if (container != null) {
+            fingerprint.appendAll(container.getChildren(), fc -> {
+                fingerprint.append(fc.getId());
+                fingerprint.appendAll(fc.getFragments(), fragment -> fingerprint.append(fragment.getValue()));
+            });
+        }
+        return fingerprint.compute();
+    }
+
     protected void addNewConnectorDefinition(final Configuration configuration, final AbstractProcess process,
             final CompoundCommand cc,
             final EditingDomain editingDomain) {
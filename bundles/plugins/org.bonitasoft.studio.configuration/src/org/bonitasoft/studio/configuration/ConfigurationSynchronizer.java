@@ -17,6 +17,7 @@ package org.bonitasoft.studio.configuration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 
 import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.configuration.ConfigurationFactory;
@@ -172,7 +173,9 @@ public class ConfigurationSynchronizer implements Synchronizer {
 
         synchronizeFragmentContainers(cc);
 
-        editingDomain.getCommandStack().execute(cc);
+        if (!cc.isEmpty()) {
+            editingDomain.getCommandStack().execute(cc);
+        }
         cc = new CompoundCommand();
 
         if (!exists && !synchronizeLocalConfiguraiton) {
@@ -180,17 +183,29 @@ public class ConfigurationSynchronizer implements Synchronizer {
                     ProcessPackage.Literals.ABSTRACT_PROCESS__CONFIGURATIONS, configuration));
         }
 
+        final SynchronizationFingerprints fingerprints = SynchronizationFingerprints.of(configuration);
+        final List<IConfigurationSynchronizer> outdatedSynchronizers = new ArrayList<>();
         for (final IConfigurationSynchronizer synchronier : synchronizers) {
-            synchronier.synchronize(configuration, process, cc, editingDomain);
+            if (!fingerprints.isUpToDate(synchronier, synchronier.getFingerprint(configuration, process))) {
+                synchronier.synchronize(configuration, process, cc, editingDomain);
+                outdatedSynchronizers.add(synchronier);
+            }
         }
 
         if (configuration.getUsername() == null || configuration.getUsername().isEmpty()) {
             final String defaultUserName = activeOrganizationProvider.getDefaultUser();
-            cc.append(SetCommand.create(editingDomain, configuration,
-                    ConfigurationPackage.Literals.CONFIGURATION__USERNAME, defaultUserName));
+            if (!Objects.equals(configuration.getUsername(), defaultUserName)) {
+                cc.append(SetCommand.create(editingDomain, configuration,
+                        ConfigurationPackage.Literals.CONFIGURATION__USERNAME, defaultUserName));
+            }
         }
 
-        editingDomain.getCommandStack().execute(cc);
+        if (!cc.isEmpty()) {
+            editingDomain.getCommandStack().execute(cc);
+        }
+        for (final IConfigurationSynchronizer synchronier : outdatedSynchronizers) {
+            fingerprints.update(synchronier, synchronier.getFingerprint(configuration, process));
+        }
 
         if (dispose) {
             adapterFactory.dispose();
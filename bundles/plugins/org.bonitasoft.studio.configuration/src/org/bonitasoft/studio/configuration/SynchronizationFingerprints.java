@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.configuration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.bpm.model.configuration.Configuration;
+import org.bonitasoft.studio.common.repository.extension.IConfigurationSynchronizer;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Remembers, on a configuration instance, the fingerprint of each synchronizer inputs after its last synchronization.
+ * Being an adapter, it is neither serialized nor copied with the configuration, which are then synchronized again.
+ */
+class SynchronizationFingerprints extends AdapterImpl {
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    static SynchronizationFingerprints of(Configuration configuration) {
+        var adapter = (SynchronizationFingerprints) EcoreUtil.getExistingAdapter(configuration,
+                SynchronizationFingerprints.class);
+        if (adapter == null) {
+            adapter = new SynchronizationFingerprints();
+            configuration.eAdapters().add(adapter);
+        }
+        return adapter;
+    }
+
+    boolean isUpToDate(IConfigurationSynchronizer synchronizer, String fingerprint) {
+        return fingerprint != null && Objects.equals(fingerprints.get(key(synchronizer)), fingerprint);
+    }
+
+    void update(IConfigurationSynchronizer synchronizer, String fingerprint) {
+        if (fingerprint == null) {
+            fingerprints.remove(key(synchronizer));
+        } else {
+            fingerprints.put(key(synchronizer), fingerprint);
+        }
+    }
+
+    private static String key(IConfigurationSynchronizer synchronizer) {
+        return synchronizer.getClass().getName();
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SynchronizationFingerprints.class;
+    }
+
+}
@@ -27,6 +27,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 
+import org.bonitasoft.bonita2bar.BuildBarException;
 import org.bonitasoft.bonita2bar.process.builder.GroovyConnectorConfigurationConverter;
 import org.bonitasoft.bonita2bar.process.expression.EngineExpressionUtil;
 import org.bonitasoft.bpm.connector.model.implementation.ConnectorImplementation;
@@ -57,22 +58,14 @@ import org.bonitasoft.bpm.model.util.FragmentTypes;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.bar.BusinessArchive;
 import org.bonitasoft.engine.bpm.connector.ConnectorEvent;
-import org.bonitasoft.engine.bpm.process.ActivationState;
-import org.bonitasoft.engine.bpm.process.IllegalProcessStateException;
-import org.bonitasoft.engine.bpm.process.ProcessActivationException;
-import org.bonitasoft.engine.bpm.process.ProcessDefinition;
-import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
-import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
-import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfoCriterion;
-import org.bonitasoft.engine.exception.DeletionException;
 import org.bonitasoft.engine.expression.Expression;
 import org.bonitasoft.engine.expression.InvalidExpressionException;
 import org.bonitasoft.engine.session.APISession;
-import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.studio.common.emf.tools.ModelHelper;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.AbstractRepository;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.bonitasoft.studio.configuration.ConfigurationSynchronizer;
 import org.bonitasoft.studio.connectors.ConnectorPlugin;
 import org.bonitasoft.studio.connectors.configuration.ConnectorsConfigurationSynchronizer;
@@ -83,6 +76,7 @@ import org.bonitasoft.studio.dependencies.repository.DependencyFileStore;
 import org.bonitasoft.studio.dependencies.repository.DependencyRepositoryStore;
 import org.bonitasoft.studio.engine.BOSEngineManager;
 import org.bonitasoft.studio.engine.export.BarExporter;
+import org.bonitasoft.studio.engine.operation.TestSandboxManager;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -145,25 +139,14 @@ public class TestConnectorOperation implements IRunnableWithProgress {
         }
 
         APISession session = null;
-        ProcessAPI processApi = null;
-        long procId = -1;
         try {
             session = BOSEngineManager.getInstance().loginDefaultTenant(AbstractRepository.NULL_PROGRESS_MONITOR);
-            processApi = BOSEngineManager.getInstance().getProcessAPI(session);
+            final ProcessAPI processApi = BOSEngineManager.getInstance().getProcessAPI(session);
             Assert.isNotNull(processApi);
-            var proc = createProcess(implementation);
-
-            final Configuration configuration = ConfigurationFactory.eINSTANCE.createConfiguration();
-            configuration.setName("TestConnectorConfiguration");
-            new ConfigurationSynchronizer(proc, configuration).synchronize();
-            configureProcess(configuration, implementation);
-            final BusinessArchive businessArchive = BarExporter.getInstance().createBusinessArchive(proc,
-                    configuration);
-
-            undeployProcess(proc, processApi);
-            final ProcessDefinition def = processApi.deploy(businessArchive);
-            procId = def.getId();
-            processApi.enableProcess(procId);
+            final String driver = getDatabaseDriver(implementation);
+            final long procId = TestSandboxManager.getInstance().getSandbox(processApi, TEST_CONNECTOR_POOL,
+                    computeSandboxFingerprint(implementation, driver),
+                    version -> createBusinessArchive(version, driver));
             result = processApi.executeConnectorOnProcessDefinition(implementation.getDefinitionId(),
                     implementation.getDefinitionVersion(), inputParameters,
                     inputValues, outputOperations, outputValues, procId);
@@ -173,40 +156,65 @@ public class TestConnectorOperation implements IRunnableWithProgress {
             status = new Status(IStatus.ERROR, ConnectorPlugin.PLUGIN_ID, e.getMessage(), e);
             throw new InvocationTargetException(e);
         } finally {
-            if (processApi != null && procId != -1) {
-                try {
-                    processApi.disableProcess(procId);
-                    processApi.deleteProcessDefinition(procId);
-                } catch (final Exception e) {
-                    BonitaStudioLog.error(e);
-                }
-            }
             if (session != null) {
                 BOSEngineManager.getInstance().logoutDefaultTenant(session);
             }
         }
     }
 
-    private void configureProcess(final Configuration configuration, final ConnectorImplementation implem) {
+    /**
+     * The input values are given when executing the connector, so the sandbox only depends on the implementation, its
+     * dependencies and the data receiving the outputs.
+     */
+    private String computeSandboxFingerprint(final ConnectorImplementation implem, final String driver) {
+        final SynchronizationFingerprint fingerprint = new SynchronizationFingerprint()
+                .append(implem.getDefinitionId())
+                .append(implem.getDefinitionVersion())
+                .append(implem.getImplementationId())
+                .append(implem.getImplementationVersion())
+                .append(implem.getImplementationClassname())
+                .append(driver);
+        fingerprint.appendAll(implem.getJarDependencies().getJarDependency(), fingerprint::append);
+        fingerprint.appendAll(outputOperations, output -> fingerprint.append(output.getLeftOperand().getName()));
+        return fingerprint.compute();
+    }
+
+    private BusinessArchive createBusinessArchive(final String version, final String driver)
+            throws BuildBarException {
+        final Pool proc = createProcess(implementation, version);
+        final Configuration configuration = ConfigurationFactory.eINSTANCE.createConfiguration();
+        configuration.setName("TestConnectorConfiguration");
+        new ConfigurationSynchronizer(proc, configuration).synchronize();
+        configureProcess(configuration, implementation, driver);
+        return BarExporter.getInstance().createBusinessArchive(proc, configuration);
+    }
+
+    private String getDatabaseDriver(final ConnectorImplementation implem) {
         final DatabaseConnectorPropertiesRepositoryStore dbStore = RepositoryManager.getInstance().getRepositoryStore(
                 DatabaseConnectorPropertiesRepositoryStore.class);
         final DatabaseConnectorPropertiesFileStore file = dbStore
                 .getChild(implem.getDefinitionId() + "." + DatabaseConnectorPropertiesRepositoryStore.PROPERTIES_EXT,
                         true);
-        String driver = null;
+        if (file == null) {
+            return null;
+        }
+        final String driver = file.getDefault();
+        if (driver == null) {
+            throw new IllegalStateException("No active database driver configured for this connector");
+        }
+        return driver;
+    }
+
+    private void configureProcess(final Configuration configuration, final ConnectorImplementation implem,
+            final String driver) {
         boolean addDriver = false;
-        if (file != null) {
-            driver = file.getDefault();
-            if (driver != null) {
-                final DependencyRepositoryStore depStore = RepositoryManager.getInstance().getCurrentRepository()
-                        .orElseThrow()
-                        .getRepositoryStore(DependencyRepositoryStore.class);
-                Optional<DependencyFileStore> result = depStore.findDependencyByName(driver);
-                if (result.isPresent()) {
-                    addDriver = true;
-                }
-            } else {
-                throw new IllegalStateException("No active database driver configured for this connector");
+        if (driver != null) {
+            final DependencyRepositoryStore depStore = RepositoryManager.getInstance().getCurrentRepository()
+                    .orElseThrow()
+                    .getRepositoryStore(DependencyRepositoryStore.class);
+            Optional<DependencyFileStore> result = depStore.findDependencyByName(driver);
+            if (result.isPresent()) {
+                addDriver = true;
             }
         }
 
@@ -245,10 +253,10 @@ public class TestConnectorOperation implements IRunnableWithProgress {
         return editingDomain;
     }
 
-    private Pool createProcess(final ConnectorImplementation implemen) {
+    private Pool createProcess(final ConnectorImplementation implemen, final String version) {
         Pool proc = ProcessFactory.eINSTANCE.createPool();
         proc.setName(TEST_CONNECTOR_POOL);
-        proc.setVersion("1.0");
+        proc.setVersion(version);
         final Connector connector = ProcessFactory.eINSTANCE.createConnector();
         connector.setConfiguration(EcoreUtil.copy(connectorConfiguration));
         connector.setEvent(ConnectorEvent.ON_ENTER.name());
@@ -306,30 +314,6 @@ public class TestConnectorOperation implements IRunnableWithProgress {
         this.implementation = implementation;
     }
 
-    protected void undeployProcess(final AbstractProcess process, final ProcessAPI processApi)
-            throws InvalidSessionException,
-            ProcessDefinitionNotFoundException, IllegalProcessStateException, DeletionException {
-        final long nbDeployedProcesses = processApi.getNumberOfProcessDeploymentInfos();
-        if (nbDeployedProcesses > 0) {
-            final List<ProcessDeploymentInfo> processes = processApi.getProcessDeploymentInfos(0,
-                    (int) nbDeployedProcesses,
-                    ProcessDeploymentInfoCriterion.DEFAULT);
-            for (final ProcessDeploymentInfo info : processes) {
-                if (info.getName().equals(process.getName()) && info.getVersion().equals(process.getVersion())) {
-                    try {
-                        if (processApi.getProcessDeploymentInfo(info.getProcessId())
-                                .getActivationState() == ActivationState.ENABLED) {
-                            processApi.disableProcess(info.getProcessId());
-                        }
-                    } catch (final ProcessActivationException e) {
-
-                    }
-                    processApi.deleteProcessDefinition(info.getProcessId());
-                }
-            }
-        }
-    }
-
     public static Set<String> checkImplementationDependencies(final ConnectorImplementation implementation,
             final IProgressMonitor monitor) {
         final Set<String> dependencies = new HashSet<>();
@@ -17,7 +17,6 @@ package org.bonitasoft.studio.connectors.repository;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -30,6 +29,7 @@ import org.bonitasoft.studio.common.repository.provider.DefinitionImageResourceL
 import org.bonitasoft.studio.common.repository.provider.JarBundleResourceLoader;
 import org.bonitasoft.studio.common.repository.provider.JarDefinitionResourceLoader;
 import org.bonitasoft.studio.common.repository.store.AbstractEMFRepositoryStore;
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.xmi.XMLResource;
 
@@ -89,8 +89,8 @@ public class DependencyConnectorDefFileStore extends ConnectorDefFileStore {
         return true;
     }
     
-    private static Map<String, Object> loadOptions() {
-        Map<String, Object> loadOptions = new HashMap<>();
+    private static Map<Object, Object> loadOptions() {
+        Map<Object, Object> loadOptions = EMFResourceOptions.loadOptions();
         loadOptions.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
         loadOptions.put(XMLResource.OPTION_USE_ENCODED_ATTRIBUTE_STYLE, Boolean.TRUE);
         loadOptions.put(XMLResource.OPTION_USE_LEXICAL_HANDLER, Boolean.TRUE);
@@ -18,7 +18,6 @@ import static com.google.common.collect.Iterables.filter;
 import static com.google.common.collect.Iterables.transform;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Objects.requireNonNull;
-import static org.bonitasoft.studio.common.emf.tools.ModelHelper.getAllElementOfTypeIn;
 import static org.bonitasoft.studio.common.predicate.ExpressionPredicates.withExpressionType;
 
 import java.util.Collection;
@@ -148,7 +147,7 @@ public class RefactorContractInputOperation
     }
 
     private void updateContractInputExpressions(final CompoundCommand cc) {
-        for (final Expression exp : filter(getAllElementOfTypeIn(container, Expression.class),
+        for (final Expression exp : filter(getReferenceIndex().getExpressions(container),
                 withExpressionType(ExpressionConstants.CONTRACT_INPUT_TYPE))) {
             for (final ContractInputRefactorPair pairToRefactor : filter(pairsToRefactor, matches(exp))) {
                 if (pairToRefactor.getNewValue() != null) {
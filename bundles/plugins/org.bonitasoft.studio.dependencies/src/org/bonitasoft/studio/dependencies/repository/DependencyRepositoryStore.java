@@ -21,7 +21,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -213,9 +212,14 @@ public class DependencyRepositoryStore extends AbstractRepositoryStore<Dependenc
     }
 
     public Optional<DependencyFileStore> findDependencyByName(String jarName) {
-        return getChildren().stream()
-                .filter(dep -> Objects.equals(jarName, dep.getName()))
-                .findFirst();
+        try {
+            return projectDependenciesResolver
+                    .findDirectCompileDependency(jarName, AbstractRepository.NULL_PROGRESS_MONITOR)
+                    .map(artifact -> new MavenDependencyFileStore(artifact, DependencyRepositoryStore.this));
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e);
+            return Optional.empty();
+        }
     }
     
     public List<DependencyFileStore> findJarDependencies() {
@@ -99,11 +99,12 @@ public class MissingDependenciesDecorator implements ILabelDecorator {
             Fragment fragment = (Fragment) element;
             String lib = fragment.getValue();
             if (lib.endsWith(DependencyRepositoryStore.JAR_EXT)) {
-                if (isDependencyMissing(lib, fragment)) {
+                DependencyFileStore fileStore = store.getChild(lib, true);
+                if (isDependencyMissing(fileStore, lib, fragment)) {
                     return getErrorDecoratedImage(image);
-                } else if (isInRuntimeContainer(lib, fragment)) {
+                } else if (isInRuntimeContainer(fileStore)) {
                     return getWarningDecoratedImage(image);
-                } else if (isInRuntimeContainerWithAnotherVersion(lib, fragment)) {
+                } else if (isInRuntimeContainerWithAnotherVersion(fileStore)) {
                     return getWarningDecoratedImage(image);
                 } else {
                     return image;
@@ -129,28 +130,25 @@ public class MissingDependenciesDecorator implements ILabelDecorator {
         return warningIcon;
     }
 
-    protected boolean isInRuntimeContainerWithAnotherVersion(String lib, Fragment fragment) {
-        DependencyFileStore fileStore = store.getChild(lib, true);
+    protected boolean isInRuntimeContainerWithAnotherVersion(DependencyFileStore fileStore) {
         if (fileStore != null) {
             return fileStore.existsInRuntimeContainerWithAnotherVersion();
         }
         return false;
     }
 
-    protected boolean isInRuntimeContainer(String lib, Fragment fragment) {
-        DependencyFileStore fileStore = store.getChild(lib, true);
+    protected boolean isInRuntimeContainer(DependencyFileStore fileStore) {
         if (fileStore != null) {
             return fileStore.existsInRuntimeContainer();
         }
         return false;
     }
 
-    protected boolean isDependencyMissing(String libName, Fragment fragment) {
-        DependencyFileStore file = store.getChild(libName, true);
-        if (file == null && isGeneratedJar(libName, fragment)) {//Check in custom connector
+    protected boolean isDependencyMissing(DependencyFileStore fileStore, String libName, Fragment fragment) {
+        if (fileStore == null && isGeneratedJar(libName, fragment)) {//Check in custom connector
             return false;
         }
-        return file == null;
+        return fileStore == null;
     }
 
     protected boolean isGeneratedJar(String lib, Fragment fragment) {
@@ -172,11 +170,12 @@ public class MissingDependenciesDecorator implements ILabelDecorator {
             Fragment fragment = (Fragment) element;
             String lib = fragment.getValue();
             if (lib.endsWith(DependencyRepositoryStore.JAR_EXT)) {
-                if (isDependencyMissing(lib, fragment)) {
+                DependencyFileStore fileStore = store.getChild(lib, true);
+                if (isDependencyMissing(fileStore, lib, fragment)) {
                     return text + " (" + Messages.missingDependenciesInRepository + ")";
-                } else if (isInRuntimeContainer(lib, fragment)) {
+                } else if (isInRuntimeContainer(fileStore)) {
                     return text + " (" + Messages.dependencyExistsInRuntimeContainer + ")";
-                } else if (isInRuntimeContainerWithAnotherVersion(lib, fragment)) {
+                } else if (isInRuntimeContainerWithAnotherVersion(fileStore)) {
                     return text + " (" + Messages.dependencyExistsInRuntimeContainerWithAnotherVersion + ")";
                 } else {
                     return text;
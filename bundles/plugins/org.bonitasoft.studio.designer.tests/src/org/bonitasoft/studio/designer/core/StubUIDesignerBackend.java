@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.designer.core;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands for the UI Designer backend: answers on the UI Designer home page, indexes its workspace on demand and logs
+ * a Spring Boot like started line.
+ * It is packaged alone in a jar by the tests, so it must not use any other class (no lambda nor inner class).
+ */
+public class StubUIDesignerBackend implements HttpHandler {
+
+    static final String INDEXED_WORKSPACE_PATH = "/bonita/rest/indexed-workspace";
+
+    private final Path workspace;
+    private volatile String indexedWorkspace = "";
+
+    private StubUIDesignerBackend(Path workspace) {
+        this.workspace = workspace;
+    }
+
+    public static void main(String[] args) throws IOException {
+        var port = Integer.parseInt(System.getProperty("server.port"));
+        var workspace = Path.of(URI.create(System.getProperty("designer.workspace.path")));
+        var server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/bonita", new StubUIDesignerBackend(workspace));
+        server.start();
+        System.out.println("Started StubUIDesignerBackend in 0.1 seconds (process running for 0.2)");
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        var path = exchange.getRequestURI().getPath();
+        var body = new byte[0];
+        if ("POST".equals(exchange.getRequestMethod()) && path.endsWith("/rest/indexing")) {
+            indexedWorkspace = workspace.toRealPath().toString();
+        } else if (path.equals(INDEXED_WORKSPACE_PATH)) {
+            body = indexedWorkspace.getBytes(StandardCharsets.UTF_8);
+        }
+        exchange.sendResponseHeaders(200, body.length > 0 ? body.length : -1);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.designer.core;
+
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.WatchEvent;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bonitasoft.studio.common.repository.model.IRepository;
+import org.bonitasoft.studio.designer.core.RefreshBatch.Refresh;
+import org.bonitasoft.studio.designer.core.repository.WebFragmentRepositoryStore;
+import org.bonitasoft.studio.designer.core.repository.WebPageRepositoryStore;
+import org.bonitasoft.studio.designer.core.repository.WebWidgetRepositoryStore;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UIDWorkspaceSynchronizerTest {
+
+    private static final int NB_PAGES = 50;
+    private static final int NB_FILES_PER_PAGE = 100;
+    private static final long SYNCHRONIZATION_TIMEOUT = 60_000; // ms
+
+    private IProject project;
+    private IFolder webPageFolder;
+    private CountingSynchronizer synchronizer;
+
+    @Before
+    public void connectSynchronizer() throws Exception {
+        project = ResourcesPlugin.getWorkspace().getRoot().getProject("uid-synchronizer-" + UUID.randomUUID());
+        project.create(null);
+        project.open(null);
+        webPageFolder = createFolder("web_page");
+        var webWidgetsFolder = createFolder("web_widgets");
+        var webFragmentsFolder = createFolder("web_fragments");
+
+        var repository = mock(IRepository.class);
+        when(repository.getProject()).thenReturn(project);
+        var webPageStore = mock(WebPageRepositoryStore.class);
+        when(webPageStore.getResource()).thenReturn(webPageFolder);
+        when(repository.getRepositoryStore(WebPageRepositoryStore.class)).thenReturn(webPageStore);
+        var webWidgetStore = mock(WebWidgetRepositoryStore.class);
+        when(webWidgetStore.getResource()).thenReturn(webWidgetsFolder);
+        when(repository.getRepositoryStore(WebWidgetRepositoryStore.class)).thenReturn(webWidgetStore);
+        var webFragmentStore = mock(WebFragmentRepositoryStore.class);
+        when(webFragmentStore.getResource()).thenReturn(webFragmentsFolder);
+        when(repository.getRepositoryStore(WebFragmentRepositoryStore.class)).thenReturn(webFragmentStore);
+
+        synchronizer = new CountingSynchronizer(repository);
+        synchronizer.connect();
+    }
+
+    @After
+    public void deleteProject() throws Exception {
+        synchronizer.disconnect();
+        project.delete(true, true, null);
+    }
+
+    @Test
+    public void should_synchronize_many_written_files_with_a_bounded_number_of_refreshes() throws Exception {
+        var webPageRoot = webPageFolder.getLocation().toFile().toPath();
+        for (int i = 0; i < NB_PAGES; i++) {
+            var assetsFolder = Files.createDirectories(webPageRoot.resolve("page" + i).resolve("assets"));
+            for (int j = 0; j < NB_FILES_PER_PAGE; j++) {
+                Files.writeString(assetsFolder.resolve("asset" + j + ".json"), "{}");
+            }
+        }
+
+        waitUntilSynchronized();
+
+        for (int i = 0; i < NB_PAGES; i++) {
+            for (int j = 0; j < NB_FILES_PER_PAGE; j++) {
+                assertThat(webPageFolder.getFile("page" + i + "/assets/asset" + j + ".json").exists()).isTrue();
+            }
+        }
+        assertThat(webPageFolder.isSynchronized(IResource.DEPTH_INFINITE)).isTrue();
+        assertThat(synchronizer.refreshCount.get()).isLessThan(NB_PAGES * NB_FILES_PER_PAGE / 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_refresh_the_whole_folder_tree_when_events_are_lost() throws Exception {
+        WatchEvent<Object> overflow = mock(WatchEvent.class);
+        when(overflow.kind()).thenReturn(OVERFLOW);
+        var batch = new RefreshBatch();
+
+        synchronizer.collect(webPageFolder.getLocation().toFile().toPath().resolve("page").resolve("assets"),
+                overflow, batch);
+
+        assertThat(batch.refreshes()).containsExactly(new Refresh(webPageFolder, IResource.DEPTH_INFINITE));
+    }
+
+    @Test
+    public void should_refresh_each_folder_once_and_skip_folders_of_refreshed_trees() throws Exception {
+        var page = webPageFolder.getFolder("page");
+        var batch = new RefreshBatch();
+
+        batch.addChangedMembers(page.getFolder("assets"));
+        batch.addChangedMembers(page.getFolder("assets"));
+        batch.addChangedTree(page);
+        batch.addChangedMembers(webPageFolder);
+        batch.addChangedMembers(webPageFolder);
+
+        assertThat(batch.refreshes()).containsExactly(new Refresh(webPageFolder, IResource.DEPTH_ONE),
+                new Refresh(page, IResource.DEPTH_INFINITE));
+    }
+
+    private void waitUntilSynchronized() throws Exception {
+        var deadline = System.currentTimeMillis() + SYNCHRONIZATION_TIMEOUT;
+        do {
+            Thread.sleep(UIDWorkspaceSynchronizer.MAX_BATCH_DELAY.toMillis());
+            Job.getJobManager().join(synchronizer, null);
+        } while (!webPageFolder.isSynchronized(IResource.DEPTH_INFINITE) && System.currentTimeMillis() < deadline);
+    }
+
+    private IFolder createFolder(String name) throws CoreException {
+        var folder = project.getFolder(name);
+        folder.create(true, true, null);
+        return folder;
+    }
+
+    private static class CountingSynchronizer extends UIDWorkspaceSynchronizer {
+
+        private final AtomicInteger refreshCount = new AtomicInteger();
+
+        CountingSynchronizer(IRepository repository) {
+            super(repository);
+        }
+
+        @Override
+        void refreshResource(IResource resource, int depth, IProgressMonitor monitor) throws CoreException {
+            refreshCount.incrementAndGet();
+            super.refreshResource(resource, depth, monitor);
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.designer.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.bonitasoft.studio.common.repository.model.IRepository;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class UIDesignerServerManagerTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private UIDesignerServerManager serverManager;
+
+    @Before
+    public void startStubBackend() throws Exception {
+        var stubJar = createStubBackendJar(tmpFolder.newFile("stub-backend.jar").toPath());
+        var stateLocation = tmpFolder.newFolder("state").toPath();
+        var logFile = tmpFolder.newFile("ui-designer.log");
+        serverManager = new StubUIDesignerServerManager(stubJar, stateLocation, logFile);
+    }
+
+    @After
+    public void stopStubBackend() {
+        serverManager.stop();
+    }
+
+    @Test
+    public void should_reuse_the_backend_process_when_switching_project() throws Exception {
+        var firstProject = tmpFolder.newFolder("first-project");
+        var secondProject = tmpFolder.newFolder("second-project");
+        var firstRepository = aRepository(firstProject);
+        serverManager.projectOpened(firstRepository, new NullProgressMonitor());
+        var pid = serverManager.getProcessId();
+        assertThat(pid).isPositive();
+
+        assertThat(serverManager.getPageDesignerURLBuilder().getUidPort()).isEqualTo(serverManager.getPort());
+
+        serverManager.projectClosed(firstRepository, new NullProgressMonitor());
+        serverManager.projectOpened(aRepository(secondProject), new NullProgressMonitor());
+
+        assertThat(serverManager.getProcessId()).isEqualTo(pid);
+        assertThat(indexedWorkspace()).isEqualTo(secondProject.toPath().toRealPath().toString());
+    }
+
+    @Test
+    public void should_be_ready_once_the_started_line_is_logged() throws Exception {
+        var readiness = UIDReadinessSignal.none();
+
+        readiness.append("INFO Starting UiDesignerApplication\nINFO Started UiDesigner");
+        assertThat(readiness.await(Duration.ZERO)).isEmpty();
+
+        readiness.append("Application in 3.2 seconds (process running for 4.0)\n");
+        assertThat(readiness.await(Duration.ZERO)).contains(true);
+    }
+
+    @Test
+    public void should_not_be_ready_when_the_backend_exits() throws Exception {
+        var readiness = UIDReadinessSignal.none();
+
+        readiness.exited();
+
+        assertThat(readiness.await(Duration.ZERO)).contains(false);
+    }
+
+    private String indexedWorkspace() throws Exception {
+        var uri = URI.create(String.format("http://localhost:%s%s", serverManager.getPort(),
+                StubUIDesignerBackend.INDEXED_WORKSPACE_PATH));
+        return HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(uri).GET().build(), BodyHandlers.ofString())
+                .body();
+    }
+
+    private static IRepository aRepository(File projectFolder) {
+        var project = mock(IProject.class);
+        when(project.getLocation())
+                .thenReturn(org.eclipse.core.runtime.Path.fromOSString(projectFolder.getAbsolutePath()));
+        var repository = mock(IRepository.class);
+        when(repository.getProject()).thenReturn(project);
+        return repository;
+    }
+
+    private static Path createStubBackendJar(Path jarFile) throws Exception {
+        var manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, StubUIDesignerBackend.class.getName());
+        var classFile = StubUIDesignerBackend.class.getName().replace('.', '/') + ".class";
+        try (var jar = new JarOutputStream(Files.newOutputStream(jarFile), manifest);
+                var classContent = StubUIDesignerBackend.class.getResourceAsStream("/" + classFile)) {
+            jar.putNextEntry(new JarEntry(classFile));
+            classContent.transferTo(jar);
+            jar.closeEntry();
+        }
+        return jarFile;
+    }
+
+    private static class StubUIDesignerServerManager extends UIDesignerServerManager {
+
+        private final Path stubJar;
+        private final Path stateLocation;
+        private final File logFile;
+
+        StubUIDesignerServerManager(Path stubJar, Path stateLocation, File logFile) {
+            this.stubJar = stubJar;
+            this.stateLocation = stateLocation;
+            this.logFile = logFile;
+        }
+
+        @Override
+        protected boolean useLaunchManager() {
+            return false;
+        }
+
+        @Override
+        protected String javaBinaryLocation() {
+            return ProcessHandle.current().info().command().orElseThrow();
+        }
+
+        @Override
+        protected String locateUIDjar() {
+            return stubJar.toString();
+        }
+
+        @Override
+        protected Path getStateLocation() {
+            return stateLocation;
+        }
+
+        @Override
+        public File getLogFile() {
+            return logFile;
+        }
+
+        @Override
+        protected IEclipsePreferences getPreferenceStore() {
+            return InstanceScope.INSTANCE.getNode("org.bonitasoft.studio.designer.tests");
+        }
+    }
+
+}
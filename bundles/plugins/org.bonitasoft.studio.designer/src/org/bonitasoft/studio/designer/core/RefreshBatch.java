@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.designer.core;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
+
+/**
+ * Folders to refresh for a batch of file system events, merged into the smallest set of refreshes: a folder is
+ * refreshed once whatever the number of changes in it, and not at all when one of its parents is refreshed deeply.
+ */
+class RefreshBatch {
+
+    private final Map<IPath, Refresh> refreshes = new HashMap<>();
+
+    /**
+     * Refreshes the given folder and its direct members.
+     */
+    void addChangedMembers(IContainer container) {
+        add(container, IResource.DEPTH_ONE);
+    }
+
+    /**
+     * Refreshes the given folder and all its content, when the events in it may have been missed.
+     */
+    void addChangedTree(IContainer container) {
+        add(container, IResource.DEPTH_INFINITE);
+    }
+
+    private void add(IContainer container, int depth) {
+        refreshes.merge(container.getFullPath(), new Refresh(container, depth),
+                (previous, refresh) -> previous.depth() >= refresh.depth() ? previous : refresh);
+    }
+
+    boolean isEmpty() {
+        return refreshes.isEmpty();
+    }
+
+    /**
+     * @return the refreshes to run, parents first
+     */
+    List<Refresh> refreshes() {
+        return refreshes.values().stream()
+                .filter(refresh -> !isRefreshedByParent(refresh.container().getFullPath()))
+                .sorted(Comparator.comparingInt(refresh -> refresh.container().getFullPath().segmentCount()))
+                .toList();
+    }
+
+    private boolean isRefreshedByParent(IPath path) {
+        for (var parent = path.removeLastSegments(1); parent.segmentCount() > 0; parent = parent
+                .removeLastSegments(1)) {
+            var refresh = refreshes.get(parent);
+            if (refresh != null && refresh.depth() == IResource.DEPTH_INFINITE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a rule covering the given refreshes only
+     */
+    static ISchedulingRule rule(List<Refresh> refreshes, IResourceRuleFactory ruleFactory) {
+        return MultiRule.combine(refreshes.stream()
+                .map(refresh -> ruleFactory.refreshRule(refresh.container()))
+                .filter(Objects::nonNull)
+                .toArray(ISchedulingRule[]::new));
+    }
+
+    record Refresh(IContainer container, int depth) {
+    }
+
+}
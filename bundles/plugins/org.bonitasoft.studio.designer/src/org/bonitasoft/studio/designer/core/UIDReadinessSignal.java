@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.designer.core;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.designer.UIDesignerPlugin;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.model.IProcess;
+
+/**
+ * Tells when the UI Designer backend is ready from the line it logs once started, so that the Studio does not have to
+ * poll its home page.
+ */
+class UIDReadinessSignal {
+
+    /**
+     * Logged by Spring Boot once the application context is started and the web server is listening.
+     */
+    static final Pattern STARTED_LINE = Pattern.compile("Started \\S+ in [0-9.,]+ seconds");
+
+    private final CompletableFuture<Boolean> ready = new CompletableFuture<>();
+    private final StringBuilder pendingLine = new StringBuilder();
+
+    /**
+     * @return a signal that never fires, readiness is then only checked by reaching the backend
+     */
+    static UIDReadinessSignal none() {
+        return new UIDReadinessSignal();
+    }
+
+    /**
+     * Reads the output of the given backend process, writes it in the log file and watches for the started line.
+     */
+    static UIDReadinessSignal watch(Process process, File logFile) {
+        var signal = new UIDReadinessSignal();
+        var outputReader = new Thread(() -> {
+            try (var reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+                    Writer log = new FileWriter(logFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    log.write(line);
+                    log.write(System.lineSeparator());
+                    log.flush();
+                    signal.accept(line);
+                }
+            } catch (IOException e) {
+                BonitaStudioLog.debug("UI Designer output is not available anymore.", e, UIDesignerPlugin.PLUGIN_ID);
+            }
+        }, "UI Designer output");
+        outputReader.setDaemon(true);
+        outputReader.start();
+        process.onExit().thenRun(signal::exited);
+        return signal;
+    }
+
+    /**
+     * Watches the output of the given launched backend process for the started line.
+     */
+    static UIDReadinessSignal watch(IProcess process) {
+        var signal = new UIDReadinessSignal();
+        var debugPlugin = DebugPlugin.getDefault();
+        debugPlugin.addDebugEventListener(new IDebugEventSetListener() {
+
+            @Override
+            public void handleDebugEvents(DebugEvent[] events) {
+                for (var event : events) {
+                    if (event.getKind() == DebugEvent.TERMINATE && event.getSource() == process) {
+                        signal.exited();
+                        debugPlugin.removeDebugEventListener(this);
+                    }
+                }
+            }
+        });
+        var streamsProxy = process.getStreamsProxy();
+        if (streamsProxy != null && streamsProxy.getOutputStreamMonitor() != null) {
+            var outputMonitor = streamsProxy.getOutputStreamMonitor();
+            outputMonitor.addListener((text, monitor) -> signal.append(text));
+            // Output logged before the listener was added
+            signal.append(outputMonitor.getContents());
+        }
+        if (process.isTerminated()) {
+            signal.exited();
+        }
+        return signal;
+    }
+
+    /**
+     * Appends a chunk of the backend output, which may contain partial lines.
+     */
+    synchronized void append(String text) {
+        if (text == null) {
+            return;
+        }
+        for (var c : text.toCharArray()) {
+            if (c == '\n' || c == '\r') {
+                accept(pendingLine.toString());
+                pendingLine.setLength(0);
+            } else {
+                pendingLine.append(c);
+            }
+        }
+    }
+
+    void accept(String line) {
+        if (STARTED_LINE.matcher(line).find()) {
+            ready.complete(true);
+        }
+    }
+
+    void exited() {
+        ready.complete(false);
+    }
+
+    /**
+     * @return true once the backend is started, false if it exited, empty if none happened within the given timeout
+     */
+    Optional<Boolean> await(Duration timeout) throws InterruptedException {
+        try {
+            return Optional.of(ready.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.of(false);
+        }
+    }
+
+}
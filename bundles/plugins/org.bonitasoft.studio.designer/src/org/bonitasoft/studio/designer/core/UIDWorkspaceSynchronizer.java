@@ -5,7 +5,10 @@ import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -15,8 +18,12 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -26,26 +33,46 @@ import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
 import org.bonitasoft.studio.common.repository.filestore.AbstractFileStore;
 import org.bonitasoft.studio.common.repository.model.IRepository;
+import org.bonitasoft.studio.designer.UIDesignerPlugin;
 import org.bonitasoft.studio.designer.core.repository.WebFragmentRepositoryStore;
 import org.bonitasoft.studio.designer.core.repository.WebPageRepositoryStore;
 import org.bonitasoft.studio.designer.core.repository.WebWidgetRepositoryStore;
+import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
 
 import com.sun.nio.file.SensitivityWatchEventModifier;
 
+/**
+ * Refreshes the workspace when the UI Designer changes the files of the web_page, web_widgets and web_fragments
+ * folders.
+ * The file system events are merged until no new event is received during a short quiet period, then the changed
+ * folders are refreshed by a single job. When events are lost, the whole folder tree where it happened is refreshed.
+ */
 public class UIDWorkspaceSynchronizer {
 
+    /**
+     * Events are merged until none is received during this period...
+     */
+    static final Duration QUIET_PERIOD = Duration.ofMillis(200);
+    /**
+     * ...or until the first merged event is this old, so that a continuous stream of events is still synchronized.
+     */
+    static final Duration MAX_BATCH_DELAY = Duration.ofSeconds(1);
+
     private static boolean enabled;
     private IRepository repository;
     private WatchService watcher;
     private ExecutorService executor;
-    private Map<WatchKey, Path> keys = new HashMap<>();
+    private Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    private List<Path> roots = new ArrayList<>();
     private Future<?> pollingRunnable;
 
     public UIDWorkspaceSynchronizer(IRepository repository) {
@@ -56,76 +83,133 @@ public class UIDWorkspaceSynchronizer {
         this.executor = Executors.newSingleThreadExecutor();
         watcher = FileSystems.getDefault().newWatchService();
 
-        Consumer<Path> register = registerWatchKeys(keys);
-
-        IProject project = repository.getProject();
         IFolder webPageFolder = repository.getRepositoryStore(WebPageRepositoryStore.class).getResource();
         IFolder webWidgetsFolder = repository.getRepositoryStore(WebWidgetRepositoryStore.class).getResource();
         IFolder webFragmentsFolder = repository.getRepositoryStore(WebFragmentRepositoryStore.class).getResource();
 
-        register.accept(webPageFolder.getLocation().toFile().toPath());
-        register.accept(webWidgetsFolder.getLocation().toFile().toPath());
-        register.accept(webFragmentsFolder.getLocation().toFile().toPath());
+        roots = List.of(webPageFolder.getLocation().toFile().toPath(),
+                webWidgetsFolder.getLocation().toFile().toPath(),
+                webFragmentsFolder.getLocation().toFile().toPath());
+        roots.forEach(registerWatchKeys(keys));
 
         enabled = true;
-        pollingRunnable = executor.submit(() -> {
-            while (true) {
-                final WatchKey key;
-                try {
-                    key = watcher.take(); // wait for a key to be available
-                } catch (InterruptedException ex) {
-                    return;
-                }
+        pollingRunnable = executor.submit(this::processEvents);
+    }
 
-                final Path dir = keys.get(key);
-                if (dir == null) {
-                    continue;
+    private void processEvents() {
+        var batch = new RefreshBatch();
+        Instant batchStart = null;
+        while (true) {
+            final WatchKey key;
+            try {
+                key = batch.isEmpty() ? watcher.take() : watcher.poll(nextPollTimeout(batchStart), MILLISECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+            if (key != null) {
+                if (batchStart == null) {
+                    batchStart = Instant.now();
                 }
+                collect(key, batch);
+            }
+            if (!batch.isEmpty() && (key == null || nextPollTimeout(batchStart) == 0)) {
+                scheduleRefresh(batch);
+                batch = new RefreshBatch();
+                batchStart = null;
+            }
+        }
+    }
+
+    private static long nextPollTimeout(Instant batchStart) {
+        var batchEnd = batchStart.plus(MAX_BATCH_DELAY);
+        return Math.max(0, Math.min(QUIET_PERIOD.toMillis(), Duration.between(Instant.now(), batchEnd).toMillis()));
+    }
+
+    private void collect(WatchKey key, RefreshBatch batch) {
+        final Path dir = keys.get(key);
+        if (dir == null) {
+            return;
+        }
+        key.pollEvents().forEach(e -> collect(dir, e, batch));
+        boolean valid = key.reset(); // IMPORTANT: The key must be reset after processed
+        if (!valid) {
+            keys.remove(key);
+            AbstractFileStore.refreshExplorerView();
+        }
+    }
+
+    void collect(Path dir, WatchEvent<?> event, RefreshBatch batch) {
+        if (event.kind() == OVERFLOW) {
+            // Events have been lost, refresh the whole tree and watch the folders created meanwhile
+            roots.stream()
+                    .filter(dir::startsWith)
+                    .findFirst()
+                    .ifPresent(root -> {
+                        register(root);
+                        batch.addChangedTree(toContainer(root));
+                    });
+            return;
+        }
+        final Path absPath = dir.resolve((Path) event.context());
+        batch.addChangedMembers(toContainer(dir));
+        if (event.kind() == ENTRY_CREATE && absPath.toFile().isDirectory()) {
+            // Its content may have been created before it is watched
+            register(absPath);
+            batch.addChangedTree(toContainer(absPath));
+        }
+    }
+
+    private void register(Path dir) {
+        try {
+            registerWatchKeys(keys).accept(dir);
+        } catch (RuntimeException e) {
+            // The folder has been removed meanwhile, its parent is refreshed anyway
+            BonitaStudioLog.debug(e.getMessage(), UIDesignerPlugin.PLUGIN_ID);
+        }
+    }
+
+    private IContainer toContainer(Path absPath) {
+        IProject project = repository.getProject();
+        Path relativePath = project.getLocation().toFile().toPath().relativize(absPath);
+        if (relativePath.toString().isEmpty()) {
+            return project;
+        }
+        return project.getFolder(org.eclipse.core.runtime.Path.fromOSString(relativePath.toString()));
+    }
+
+    private void scheduleRefresh(RefreshBatch batch) {
+        var refreshes = batch.refreshes();
+        if (!enabled || refreshes.isEmpty()) {
+            return;
+        }
+        var job = new WorkspaceJob("Refreshing UID resources...") {
 
-                key.pollEvents().stream()
-                        .filter(e -> (e.kind() != OVERFLOW))
-                        .forEach(e -> {
-                            Path p = ((WatchEvent<Path>) e).context();
-                            final Path absPath = dir.resolve(p);
-                            Path relativePath = project.getLocation().toFile().toPath().relativize(absPath);
-                            var path = org.eclipse.core.runtime.Path.fromOSString(relativePath.toString());
-                            if (absPath.toFile().isDirectory()) {
-                                if (e.kind() == ENTRY_CREATE) {
-                                    register.accept(absPath);
-                                }
-                                if (e.kind() == ENTRY_MODIFY) {
-                                    refreshResource(project.getFolder(path));
-                                } else {
-                                    refreshResource(project.getFolder(path).getParent());
-                                }
-                            } else {
-                                if (e.kind() == ENTRY_CREATE || e.kind() == ENTRY_MODIFY) {
-                                    refreshResource(project.getFile(path));
-                                } else {
-                                    refreshResource(project.getFile(path).getParent());
-                                }
-                            }
-                        });
-
-                boolean valid = key.reset(); // IMPORTANT: The key must be reset after processed
-                if (!valid) {
-                    AbstractFileStore.refreshExplorerView();
+            @Override
+            public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+                for (var refresh : refreshes) {
+                    refreshResource(refresh.container(), refresh.depth(), monitor);
                 }
+                return org.eclipse.core.runtime.Status.OK_STATUS;
+            }
+
+            @Override
+            public boolean belongsTo(Object family) {
+                return family == UIDWorkspaceSynchronizer.this;
             }
-        });
+        };
+        job.setRule(RefreshBatch.rule(refreshes, ResourcesPlugin.getWorkspace().getRuleFactory()));
+        job.setSystem(true);
+        job.schedule();
     }
 
-    private void refreshResource(IResource resource) {
+    void refreshResource(IResource resource, int depth, IProgressMonitor monitor) throws CoreException {
         if (enabled && resource != null && resource.exists()) {
-            try {
-                resource.refreshLocal(IResource.DEPTH_ONE, null);
-            } catch (CoreException e2) {
-                BonitaStudioLog.error(e2);
-            }
+            resource.refreshLocal(depth, monitor);
         }
     }
 
     public void disconnect() throws IOException {
+        Job.getJobManager().cancel(this);
         if (pollingRunnable != null) {
             pollingRunnable.cancel(true);
         }
@@ -192,7 +276,6 @@ public class UIDWorkspaceSynchronizer {
                     var widgetRepositoryStore = currentRepository.orElseThrow()
                             .getRepositoryStore(WebWidgetRepositoryStore.class);
                     widgetRepositoryStore.getResource().refreshLocal(IResource.DEPTH_INFINITE, monitor);
-                    AbstractFileStore.refreshExplorerView();
                 }
                 return org.eclipse.core.runtime.Status.OK_STATUS;
             }
@@ -21,6 +21,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
@@ -30,12 +31,14 @@ import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,7 +70,6 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
-import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.jdt.internal.launching.StandardVMType;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -91,12 +93,17 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
     private static final String BONITA_DATA_REPOSITORY_ORIGIN = "designer.bonita.bdm.url";
     private static final int UID_DEFAULT_PORT = 8081;
     private static final String UID_TMP_FOLDER = "designer.workspace-uid.path";
+    private static final String UID_WORKSPACE_LINK = "uid-project-workspace";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration REACHABILITY_CHECK_INTERVAL = Duration.ofSeconds(2);
     private PageDesignerURLFactory pageDesignerURLBuilder;
     private boolean started = false;
     private UIDWorkspaceSynchronizer synchronizer;
     private Process process;
+    private boolean workspaceLinked = false;
+    private boolean detached = false;
 
-    private UIDesignerServerManager() {
+    UIDesignerServerManager() {
         addShutdownHook();
     }
 
@@ -120,15 +127,13 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
     }
 
     public synchronized void start(IRepository repository, IProgressMonitor monitor) {
-        if (launch == null
-                || Stream.of(launch.getProcesses())
-                        .findFirst()
-                        .map(IProcess::isTerminated)
-                        .orElse(false)) {
+        if (isRunning() && detached) {
+            switchProject(repository, monitor);
+        } else if (!isRunning()) {
             monitor.beginTask(Messages.startingUIDesigner, IProgressMonitor.UNKNOWN);
             BonitaStudioLog.info(Messages.startingUIDesigner, UIDesignerPlugin.PLUGIN_ID);
             Instant start = Instant.now();
-            if (PlatformUI.isWorkbenchRunning()) {
+            if (useLaunchManager()) {
                 int healthCheckServerPort = BonitaStudioPreferencesPlugin.getDefault().getPreferenceStore()
                         .getInt(BonitaPreferenceConstants.HEALTHCHECK_SERVER_PORT);
                 DataRepositoryServerManager dataRepositoryServerManager = DataRepositoryServerManager.getInstance();
@@ -140,9 +145,10 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
                 startUidWithLaunchManager(repository, start, healthCheckServerPort, dataRepositoryServerManager,
                         dataRepositoryPort);
             } else {
+                pageDesignerURLBuilder = new PageDesignerURLFactory(getPreferenceStore());
                 try {
-                    process = start(repository.getProject().getLocation().toFile().toPath(),
-                            new PageDesignerURLFactory(getPreferenceStore()),
+                    process = start(workspacePath(repository.getProject().getLocation().toFile().toPath()),
+                            pageDesignerURLBuilder,
                             getLogFile());
                 } catch (IOException e) {
                     BonitaStudioLog.error(e);
@@ -151,6 +157,113 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
         }
     }
 
+    private boolean isRunning() {
+        if (launch != null) {
+            return Stream.of(launch.getProcesses())
+                    .findFirst()
+                    .map(p -> !p.isTerminated())
+                    .orElse(true);
+        }
+        return process != null && process.isAlive();
+    }
+
+    protected boolean useLaunchManager() {
+        return PlatformUI.isWorkbenchRunning();
+    }
+
+    /**
+     * Points the running backend at the given project instead of restarting it: the workspace link it was started
+     * with is retargeted and the backend indexes the artifacts of the new project.
+     * The backend is restarted if it cannot be switched.
+     */
+    private void switchProject(IRepository repository, IProgressMonitor monitor) {
+        Instant start = Instant.now();
+        var projectPath = repository.getProject().getLocation().toFile().toPath();
+        try {
+            linkWorkspace(projectPath);
+            reindex(pageDesignerURLBuilder);
+            if (launch != null) {
+                synchronizer = new UIDWorkspaceSynchronizer(repository);
+                synchronizer.connect();
+                started = true;
+            }
+            detached = false;
+            BonitaStudioLog.info(String.format("UI Designer has been switched to %s in %sms", projectPath,
+                    Duration.between(start, Instant.now()).toMillis()), UIDesignerPlugin.PLUGIN_ID);
+        } catch (IOException e) {
+            BonitaStudioLog.error("Failed to switch UI Designer project, restarting it.", e,
+                    UIDesignerPlugin.PLUGIN_ID);
+            stop();
+            start(repository, monitor);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Disconnects the running backend from the closed project, it is kept alive to be switched to the next opened
+     * project.
+     */
+    private synchronized void detach() {
+        if (synchronizer != null) {
+            try {
+                synchronizer.disconnect();
+            } catch (IOException e) {
+                BonitaStudioLog.error(e);
+            }
+            synchronizer = null;
+        }
+        started = false;
+        detached = true;
+    }
+
+    private void reindex(PageDesignerURLFactory urlBuilder) throws IOException, InterruptedException {
+        URI uri;
+        try {
+            uri = urlBuilder.indexation().toURI();
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+        var response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(String.format("Failed to index UI Designer artifacts (status = %s)",
+                    response.statusCode()));
+        }
+    }
+
+    /**
+     * @return the workspace path given to the backend: a link to the project when links are supported, so that the
+     *         backend can be switched to another project, the project itself otherwise.
+     */
+    private Path workspacePath(Path projectPath) {
+        try {
+            var link = linkWorkspace(projectPath);
+            workspaceLinked = true;
+            return link;
+        } catch (IOException | UnsupportedOperationException e) {
+            BonitaStudioLog.warning(String.format(
+                    "Cannot link UI Designer workspace to %s, it will be restarted on project switch: %s",
+                    projectPath, e.getMessage()), UIDesignerPlugin.PLUGIN_ID);
+            workspaceLinked = false;
+            return projectPath;
+        }
+    }
+
+    /**
+     * Replaces the workspace link atomically, so that the backend never sees a missing workspace.
+     */
+    private Path linkWorkspace(Path projectPath) throws IOException {
+        var link = getStateLocation().resolve(UID_WORKSPACE_LINK);
+        var tmpLink = link.resolveSibling(UID_WORKSPACE_LINK + ".tmp");
+        Files.createDirectories(link.getParent());
+        Files.deleteIfExists(tmpLink);
+        Files.createSymbolicLink(tmpLink, projectPath.toAbsolutePath());
+        Files.move(tmpLink, link, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return link;
+    }
+
     private void startUidWithLaunchManager(IRepository repository, Instant start, int healthCheckServerPort,
             DataRepositoryServerManager dataRepositoryServerManager, int dataRepositoryPort) {
         this.runtimePort = BonitaStudioPreferencesPlugin.getDefault().getPreferenceStore()
@@ -163,7 +276,7 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
             final ILaunchConfigurationWorkingCopy workingCopy = ltype.newInstance(null, "Standalone UI Designer");
             workingCopy.setAttribute(IExternalToolConstants.ATTR_LOCATION, javaBinaryLocation());
             workingCopy.setAttribute(IExternalToolConstants.ATTR_TOOL_ARGUMENTS,
-                    buildCommand(repository.getProject().getLocation().toFile().toPath(), 
+                    buildCommand(workspacePath(repository.getProject().getLocation().toFile().toPath()),
                             pageDesignerURLBuilder.getUidPort(),
                             healthCheckServerPort,
                             dataRepositoryPort, true).stream()
@@ -172,7 +285,11 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
             env.put("JAVA_TOOL_OPTIONS", "-Dfile.encoding=UTF-8");
             workingCopy.setAttribute(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES, env);
             launch = workingCopy.launch(ILaunchManager.RUN_MODE, AbstractRepository.NULL_PROGRESS_MONITOR);
-            if (waitForUID(pageDesignerURLBuilder)) {
+            var readiness = Stream.of(launch.getProcesses())
+                    .findFirst()
+                    .map(UIDReadinessSignal::watch)
+                    .orElseGet(UIDReadinessSignal::none);
+            if (waitUntilReady(readiness, pageDesignerURLBuilder)) {
                 schedule(healthCheckServerPort,
                         dataRepositoryPort,
                         dataRepositoryServerManager);
@@ -206,25 +323,24 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
      * Start method that doesn't required the Workbench to be running.
      * This is used when migrating a workspace
      * 
-     * @param projectPath
+     * @param workspacePath
      * @param logFile
      * @return 
      * @throws IOException
      */
-    private Process start(Path projectPath, PageDesignerURLFactory pageDesignerURLBuilder, File logFile) throws IOException {
+    private Process start(Path workspacePath, PageDesignerURLFactory pageDesignerURLBuilder, File logFile) throws IOException {
         if(pageDesignerURLBuilder == null) {
             pageDesignerURLBuilder = new PageDesignerURLFactory(getPreferenceStore());
         }
         var java = javaBinaryLocation();
         var command = new ArrayList<String>();
         command.add(java);
-        command.addAll(buildCommand(projectPath,pageDesignerURLBuilder.getUidPort(),-1, -1, false));
+        command.addAll(buildCommand(workspacePath,pageDesignerURLBuilder.getUidPort(),-1, -1, false));
         var uidProcess = new ProcessBuilder()
                 .command(command)
                 .redirectErrorStream(true)
-                .redirectOutput(logFile)
                 .start();
-        if (waitForUID(pageDesignerURLBuilder)) {
+        if (waitUntilReady(UIDReadinessSignal.watch(uidProcess, logFile), pageDesignerURLBuilder)) {
             return uidProcess;
         } else {
             if (uidProcess != null) {
@@ -257,57 +373,63 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
     }
 
     public boolean waitForUID(final PageDesignerURLFactory pageDesignerURLBuilder) {
-        try {
-            return connectToURL(pageDesignerURLBuilder.openPageDesignerHome());
-        } catch (URISyntaxException | MalformedURLException e) {
-            return false;
-        }
+        return waitUntilReady(UIDReadinessSignal.none(), pageDesignerURLBuilder);
     }
 
-    private boolean connectToURL(final URL url) throws URISyntaxException {
+    /**
+     * Waits for the backend to log that it is started. The backend is also reached at regular intervals in case its
+     * started line is not available.
+     */
+    private boolean waitUntilReady(UIDReadinessSignal readiness, PageDesignerURLFactory pageDesignerURLBuilder) {
+        BonitaStudioLog.debug("Waiting for UI Designer to be up and running...", UIDesignerPlugin.PLUGIN_ID);
         var httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(5))
                 .build();
-        var request = HttpRequest.newBuilder()
-                .method("HEAD", HttpRequest.BodyPublishers.noBody())
-                .uri(url.toURI())
-                .build();
-        HttpResponse<Void> response = retriesUntil(httpClient, request, 200, 30, 2000); // 1 minute timeout (30*2000ms)
-        return response != null;
-    }
-
-    private HttpResponse<Void> retriesUntil(HttpClient client, HttpRequest request, int expectedStatus, int nbOfRetries,
-            int delayBetweenRetries) {
-        BonitaStudioLog.debug("Waiting for UI Designer to be up and running...", UIDesignerPlugin.PLUGIN_ID);
-        int retry = nbOfRetries;
-        while (retry >= 0) {
-            try {
-                HttpResponse<Void> httpResponse = client.send(request, BodyHandlers.discarding());
-                if (expectedStatus == httpResponse.statusCode()) {
-                    return httpResponse;
-                } else {
-                    retry--;
-                    BonitaStudioLog
-                            .debug(String.format("Failed to reach UI Designer (status = %s). Number of retries = %s",
-                                    httpResponse.statusCode(), retry), UIDesignerPlugin.PLUGIN_ID);
-                    Thread.sleep(delayBetweenRetries);
+        var deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        try {
+            var request = HttpRequest.newBuilder()
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .uri(pageDesignerURLBuilder.openPageDesignerHome().toURI())
+                    .build();
+            while (Instant.now().isBefore(deadline)) {
+                Optional<Boolean> ready = readiness.await(REACHABILITY_CHECK_INTERVAL);
+                if (ready.isPresent()) {
+                    if (!ready.get()) {
+                        BonitaStudioLog.error("The UI Designer process has exited before being started.",
+                                UIDesignerPlugin.PLUGIN_ID);
+                    }
+                    return ready.get();
                 }
-            } catch (IOException | InterruptedException e) {
-                // Connection refused, the UID is not started yet
-                retry--;
-                try {
-                    Thread.sleep(delayBetweenRetries);
-                } catch (InterruptedException e1) {
-                    BonitaStudioLog.error(e);
+                if (isReachable(httpClient, request)) {
+                    return true;
                 }
-                BonitaStudioLog.debug(String.format("Failed to reach UI Designer (%s). Number of retries = %s",
-                        request.uri(), retry), UIDesignerPlugin.PLUGIN_ID);
             }
+        } catch (URISyntaxException | MalformedURLException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
         BonitaStudioLog.error(
                 "The UI Designer failed to start and cannot be reached. Check UI Designer logs for more information.",
                 UIDesignerPlugin.PLUGIN_ID);
-        return null;
+        return false;
+    }
+
+    private boolean isReachable(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            HttpResponse<Void> httpResponse = client.send(request, BodyHandlers.discarding());
+            if (httpResponse.statusCode() == 200) {
+                return true;
+            }
+            BonitaStudioLog.debug(String.format("Failed to reach UI Designer (status = %s).",
+                    httpResponse.statusCode()), UIDesignerPlugin.PLUGIN_ID);
+        } catch (IOException e) {
+            // Connection refused, the UID is not started yet
+            BonitaStudioLog.debug(String.format("Failed to reach UI Designer (%s).", request.uri()),
+                    UIDesignerPlugin.PLUGIN_ID);
+        }
+        return false;
     }
 
     public File getLogFile() {
@@ -320,6 +442,7 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
         if (DataRepositoryServerManager.isStarted()) {
             DataRepositoryServerManager.getInstance().stop();
         }
+        detached = false;
         if (launch != null) {
             if (synchronizer != null) {
                 try {
@@ -327,6 +450,7 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
                 } catch (IOException e) {
                     BonitaStudioLog.error(e);
                 }
+                synchronizer = null;
             }
             try {
                 launch.terminate();
@@ -405,10 +529,13 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
         return port;
     }
 
-    protected String locateUIDjar() throws IOException {
+    protected Path getStateLocation() {
         Bundle uiDesignerBundle = Platform.getBundle(UIDesignerPlugin.PLUGIN_ID);
-        IPath stateLocation = Platform.getStateLocation(uiDesignerBundle);
-        Path uiDesignerJar = stateLocation.toFile().toPath().resolve(UI_DESIGNER_JAR);
+        return Platform.getStateLocation(uiDesignerBundle).toFile().toPath();
+    }
+
+    protected String locateUIDjar() throws IOException {
+        Path uiDesignerJar = getStateLocation().resolve(UI_DESIGNER_JAR);
 
         if (!uiDesignerJar.toFile().exists()) {
             final URL url = Platform.getBundle(UIDesignerPlugin.PLUGIN_ID).getResource("webapp");
@@ -425,9 +552,7 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
     }
     
     protected String tmpFolder(boolean quotePath) throws IOException {
-        Bundle uiDesignerBundle = Platform.getBundle(UIDesignerPlugin.PLUGIN_ID);
-        IPath stateLocation = Platform.getStateLocation(uiDesignerBundle);
-        var tmpFolder = stateLocation.append("uid-tmp-workspace").toFile();
+        var tmpFolder = getStateLocation().resolve("uid-tmp-workspace").toFile();
         return quotePath ? "\"" +  tmpFolder.toURI() + "\"" : tmpFolder.toURI().toString();
     }
 
@@ -443,14 +568,23 @@ public class UIDesignerServerManager implements IBonitaProjectListener {
         return started;
     }
 
+    long getProcessId() {
+        return process != null ? process.pid() : -1;
+    }
+
     @Override
     public void projectOpened(IRepository repository, IProgressMonitor monitor) {
         start(repository, monitor);
     }
 
     @Override
-    public void projectClosed(IRepository repository, IProgressMonitor monitor) {
-        stop();
+    public synchronized void projectClosed(IRepository repository, IProgressMonitor monitor) {
+        if (workspaceLinked && isRunning()) {
+            // The backend is stopped on Studio shutdown
+            detach();
+        } else {
+            stop();
+        }
     }
 
     public UIDStandaloneInstance startStandalone(Path uidWorkspace, 
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.diagram.custom.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLParserPool;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DiagramResourceLoadOptionsTest {
+
+    private static final String[] FIXTURES = { "ProcessWithLegacyForms-1.0.proc",
+            "ProcessWithoutLegacyForms-1.0.proc" };
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private final List<URI> diagrams = new ArrayList<>();
+
+    @Before
+    public void copyFixtures() throws Exception {
+        for (var fixture : FIXTURES) {
+            var file = tmpFolder.newFile(fixture).toPath();
+            try (InputStream is = DiagramResourceLoadOptionsTest.class.getResourceAsStream("/" + fixture)) {
+                Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            diagrams.add(URI.createFileURI(file.toString()));
+        }
+    }
+
+    @Test
+    public void should_load_the_same_models_with_the_shared_options() throws Exception {
+        for (var diagram : diagrams) {
+            var defaultResource = load(diagram, false);
+            var tunedResource = load(diagram, true);
+
+            assertThat(tunedResource.getErrors()).isEmpty();
+            assertThat(tunedResource.getContents()).hasSameSizeAs(defaultResource.getContents()).isNotEmpty();
+            assertThat(EcoreUtil.equals(defaultResource.getContents(), tunedResource.getContents())).isTrue();
+        }
+    }
+
+    @Test
+    public void should_load_the_same_models_after_a_save_with_the_shared_options() throws Exception {
+        for (var diagram : diagrams) {
+            var defaultResource = load(diagram, false);
+            var tunedResource = load(diagram, true);
+            var savedDiagram = URI.createFileURI(tmpFolder.newFile("saved-" + diagram.lastSegment()).toString());
+            tunedResource.setURI(savedDiagram);
+            tunedResource.save(EMFResourceOptions.saveOptions(Map.of(XMLResource.OPTION_ENCODING, "UTF-8")));
+
+            var reloadedResource = load(savedDiagram, true);
+
+            assertThat(reloadedResource.getErrors()).isEmpty();
+            assertThat(EcoreUtil.equals(defaultResource.getContents(), reloadedResource.getContents())).isTrue();
+        }
+    }
+
+    @Test
+    public void should_configure_the_shared_load_options_on_a_resource_set() throws Exception {
+        var resourceSet = new ResourceSetImpl();
+
+        EMFResourceOptions.configure(resourceSet);
+
+        assertThat(resourceSet.getLoadOptions())
+                .containsEntry(XMLResource.OPTION_DEFER_IDREF_RESOLUTION, Boolean.TRUE)
+                .containsEntry(XMLResource.OPTION_USE_DEPRECATED_METHODS, Boolean.FALSE)
+                .containsKeys(XMLResource.OPTION_USE_PARSER_POOL, XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP);
+        assertThat(resourceSet.getLoadOptions().get(XMLResource.OPTION_USE_PARSER_POOL)).isInstanceOf(XMLParserPool.class);
+    }
+
+    @Test
+    public void should_share_the_parser_pool_and_the_feature_map_between_resource_sets() throws Exception {
+        var options = EMFResourceOptions.loadOptions();
+        var otherOptions = EMFResourceOptions.loadOptions();
+
+        assertThat(otherOptions).isNotSameAs(options);
+        assertThat(otherOptions.get(XMLResource.OPTION_USE_PARSER_POOL))
+                .isSameAs(options.get(XMLResource.OPTION_USE_PARSER_POOL));
+        assertThat(otherOptions.get(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP))
+                .isSameAs(options.get(XMLResource.OPTION_USE_XML_NAME_TO_FEATURE_MAP));
+    }
+
+    @Test
+    public void should_add_the_configuration_cache_to_the_save_options() throws Exception {
+        var saveOptions = EMFResourceOptions.saveOptions(Map.of(XMLResource.OPTION_ENCODING, "UTF-8"));
+
+        assertThat(saveOptions).containsEntry(XMLResource.OPTION_ENCODING, "UTF-8")
+                .containsEntry(XMLResource.OPTION_CONFIGURATION_CACHE, Boolean.TRUE);
+    }
+
+    private static Resource load(URI uri, boolean sharedOptions) {
+        var resourceSet = new ResourceSetImpl();
+        if (sharedOptions) {
+            EMFResourceOptions.configure(resourceSet);
+        }
+        return resourceSet.getResource(uri, true);
+    }
+
+}
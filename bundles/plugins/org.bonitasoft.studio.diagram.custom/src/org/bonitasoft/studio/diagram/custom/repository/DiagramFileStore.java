@@ -31,17 +31,21 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.studio.common.ModelVersion;
 import org.bonitasoft.studio.common.editingdomain.BonitaResourceSetInfoDelegate;
 import org.bonitasoft.studio.common.emf.tools.ModelHelper;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.AbstractRepository;
+import org.bonitasoft.studio.common.repository.filestore.BinaryResourceCache;
 import org.bonitasoft.studio.common.repository.filestore.EMFFileStore;
+import org.bonitasoft.studio.common.repository.filestore.OpenedEditorRegistry;
 import org.bonitasoft.studio.common.repository.model.IBuildable;
 import org.bonitasoft.studio.common.repository.model.IDeployable;
 import org.bonitasoft.studio.common.repository.model.IRenamable;
 import org.bonitasoft.studio.common.repository.model.IRepositoryFileStore;
 import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
 import org.bonitasoft.studio.common.ui.IDisplayable;
 import org.bonitasoft.studio.diagram.custom.i18n.Messages;
 import org.bonitasoft.bpm.model.process.AbstractProcess;
@@ -138,11 +142,26 @@ public class DiagramFileStore extends EMFFileStore<MainProcess> implements IDepl
         return super.getEMFResource();
     }
 
+    /**
+     * Once the {@link OpenedEditorRegistry} is installed, the lookup is answered from any thread without
+     * synchronizing with the UI thread. Otherwise, the workbench is searched in the UI thread and the registry is installed.
+     */
     public DiagramEditor getOpenedEditor() {
+        var registry = OpenedEditorRegistry.getInstance();
+        if (registry.isInstalled()) {
+            return registry.find(getResource(), this::validateEditorInstance)
+                    .map(DiagramEditor.class::cast)
+                    .orElse(null);
+        }
         AtomicReference<DiagramEditor> openedEditorObservable = new AtomicReference<>();
-        Display.getDefault().syncExec(() -> openedEditorObservable.set(findOpenedEditor()
-                .map(DiagramEditor.class::cast)
-                .orElse(null)));
+        Display.getDefault().syncExec(() -> {
+            if (PlatformUI.isWorkbenchRunning()) {
+                registry.install(PlatformUI.getWorkbench());
+            }
+            openedEditorObservable.set(findOpenedEditor()
+                    .map(DiagramEditor.class::cast)
+                    .orElse(null));
+        });
         return openedEditorObservable.get();
     }
 
@@ -151,6 +170,51 @@ public class DiagramFileStore extends EMFFileStore<MainProcess> implements IDepl
         return editor instanceof ProcessDiagramEditor;
     }
 
+    /**
+     * Diagrams that are not opened in an editor are loaded from their binary snapshot when it matches the file content
+     * and the current model version. Otherwise the XMI is loaded and, if it is up to date, a new snapshot is taken.
+     */
+    @Override
+    protected void doLoad(Resource eResource) throws ReadFileStoreException {
+        var cache = getBinaryResourceCache();
+        if (eResource == null || eResource.isLoaded() || cache.isEmpty() || isOpened()) {
+            super.doLoad(eResource);
+            return;
+        }
+        var file = getResource().getLocation().toFile();
+        if (cache.get().load(eResource, file)) {
+            return;
+        }
+        super.doLoad(eResource);
+        if (isCurrentModelVersion(eResource)) {
+            cache.get().store(eResource, file);
+        }
+    }
+
+    private Optional<BinaryResourceCache> getBinaryResourceCache() {
+        if (getParentStore() instanceof DiagramRepositoryStore && getResource().exists()
+                && getResource().getLocation() != null) {
+            return ((DiagramRepositoryStore) getParentStore()).getBinaryResourceCache();
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isCurrentModelVersion(Resource resource) {
+        return resource.getContents().stream()
+                .filter(MainProcess.class::isInstance)
+                .map(MainProcess.class::cast)
+                .findFirst()
+                .map(MainProcess::getBonitaModelVersion)
+                .filter(ModelVersion.CURRENT_DIAGRAM_VERSION::equals)
+                .isPresent();
+    }
+
+    @Override
+    protected void doDelete() {
+        getBinaryResourceCache().ifPresent(cache -> cache.evict(getResource().getLocation().toFile()));
+        super.doDelete();
+    }
+
     public List<Pool> getProcesses(boolean reloadResource) {
         try {
             if (reloadResource && getOpenedEditor() == null) {
@@ -185,7 +249,7 @@ public class DiagramFileStore extends EMFFileStore<MainProcess> implements IDepl
         }
 
         try {
-            resource.save(ProcessDiagramEditorUtil.getSaveOptions());
+            resource.save(EMFResourceOptions.saveOptions(ProcessDiagramEditorUtil.getSaveOptions()));
         } catch (final IOException e) {
             BonitaStudioLog.error(e);
         }
@@ -39,6 +39,7 @@ import org.bonitasoft.bpm.model.process.provider.ProcessItemProviderAdapterFacto
 import org.bonitasoft.bpm.model.process.util.ProcessResourceImpl;
 import org.bonitasoft.bpm.model.process.util.migration.MigrationPolicy;
 import org.bonitasoft.bpm.model.util.ModelLoader;
+import org.bonitasoft.studio.common.ModelVersion;
 import org.bonitasoft.studio.common.NamingUtils;
 import org.bonitasoft.studio.common.editingdomain.BonitaEditingDomainUtil;
 import org.bonitasoft.studio.common.emf.tools.EMFResourceUtil;
@@ -46,8 +47,10 @@ import org.bonitasoft.studio.common.gmf.tools.RemoveDanglingReferences;
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.platform.tools.CopyInputStream;
 import org.bonitasoft.studio.common.repository.ImportArchiveData;
+import org.bonitasoft.studio.common.repository.filestore.BinaryResourceCache;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.common.repository.store.AbstractEMFRepositoryStore;
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
 import org.bonitasoft.studio.diagram.custom.Activator;
 import org.bonitasoft.studio.diagram.custom.i18n.Messages;
 import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditorUtil;
@@ -88,6 +91,7 @@ public class DiagramRepositoryStore extends AbstractEMFRepositoryStore<DiagramFi
 
 	private final Map<String, String> eObjectIdToLabel = new HashMap<>();
 	private List<Pool> computedProcessesList;
+	private BinaryResourceCache binaryResourceCache;
 
 	@Override
 	public String getName() {
@@ -307,6 +311,7 @@ public class DiagramRepositoryStore extends AbstractEMFRepositoryStore<DiagramFi
 			resources.add(gmf);
 			
 			var loadOptions = new HashMap<Object, Object>(((XMLResource) diagramResource).getDefaultLoadOptions());
+			EMFResourceOptions.addLoadOptions(loadOptions);
 			loadOptions.put(XMLResource.OPTION_RECORD_UNKNOWN_FEATURE, Boolean.TRUE);
 			loadOptions.put(XMLResource.OPTION_EXTENDED_META_DATA, Boolean.TRUE);
 			gmf.load(loadOptions);
@@ -318,8 +323,8 @@ public class DiagramRepositoryStore extends AbstractEMFRepositoryStore<DiagramFi
 			resources.remove(gmf);
 
 			// force migration
-			Map<String, MigrationPolicy> migrateOptions = Map.of(ProcessResourceImpl.OPTION_MIGRATION_POLICY,
-					MigrationPolicy.ALWAYS_MIGRATE_POLICY);
+			Map<Object, Object> migrateOptions = EMFResourceOptions.loadOptions();
+			migrateOptions.put(ProcessResourceImpl.OPTION_MIGRATION_POLICY, MigrationPolicy.ALWAYS_MIGRATE_POLICY);
 			diagramResource.load(migrateOptions);
 			if (diagramResource.getContents().isEmpty()) {
 				throw new IOException("Resource is empty.");
@@ -336,7 +341,7 @@ public class DiagramRepositoryStore extends AbstractEMFRepositoryStore<DiagramFi
 			diagram.eResource().getContents().removeIf(this::isFormDiagram);
 
 			try {
-				diagramResource.save(ProcessDiagramEditorUtil.getSaveOptions());
+				diagramResource.save(EMFResourceOptions.saveOptions(ProcessDiagramEditorUtil.getSaveOptions()));
 			} catch (final IOException e) {
 				BonitaStudioLog.error(e);
 			}
@@ -431,6 +436,25 @@ public class DiagramRepositoryStore extends AbstractEMFRepositoryStore<DiagramFi
 		return computedProcessesList;
 	}
 
+	/**
+	 * @return the cache of diagram binary snapshots, stored in the project working location, or an empty optional when
+	 *         disabled with the {@link BinaryResourceCache#ENABLED_PROPERTY} system property
+	 */
+	public synchronized Optional<BinaryResourceCache> getBinaryResourceCache() {
+		if (!BinaryResourceCache.isEnabled()) {
+			return Optional.empty();
+		}
+		if (binaryResourceCache == null) {
+			var project = getResource().getProject();
+			if (!project.isAccessible()) {
+				return Optional.empty();
+			}
+			var cacheFolder = project.getWorkingLocation(Activator.PLUGIN_ID).append("binary-cache").toFile();
+			binaryResourceCache = new BinaryResourceCache(cacheFolder, ModelVersion.CURRENT_DIAGRAM_VERSION);
+		}
+		return Optional.of(binaryResourceCache);
+	}
+
 	@Override
 	public int getImportOrder() {
 		return 999;
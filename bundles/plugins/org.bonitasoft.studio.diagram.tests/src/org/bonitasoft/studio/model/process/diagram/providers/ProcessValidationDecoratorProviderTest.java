@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.model.process.diagram.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.bonitasoft.studio.model.process.diagram.providers.ProcessValidationDecoratorProvider.StatusDecorator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.transaction.RecordingCommand;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.gmf.runtime.diagram.ui.services.decorator.IDecoratorTarget;
+import org.eclipse.gmf.runtime.notation.Diagram;
+import org.eclipse.gmf.runtime.notation.Node;
+import org.eclipse.gmf.runtime.notation.NotationFactory;
+import org.eclipse.gmf.runtime.notation.View;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProcessValidationDecoratorProviderTest {
+
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+    private final List<StatusDecorator> decorators = new ArrayList<>();
+    private Executor uiExecutor;
+    private TransactionalEditingDomain editingDomain;
+    private Node task;
+    private Node pool;
+
+    @Before
+    public void createDiagram() throws Exception {
+        uiExecutor = ProcessValidationDecoratorProvider.refreshExecutor;
+        ProcessValidationDecoratorProvider.refreshExecutor = scheduledRefreshes::add;
+        editingDomain = TransactionalEditingDomain.Factory.INSTANCE.createEditingDomain();
+        var resource = new XMIResourceImpl(URI.createURI("memory:/ProcessValidationDecoratorProviderTest.proc"));
+        editingDomain.getCommandStack().execute(new RecordingCommand(editingDomain) {
+
+            @Override
+            protected void doExecute() {
+                Diagram diagram = NotationFactory.eINSTANCE.createDiagram();
+                pool = NotationFactory.eINSTANCE.createNode();
+                task = NotationFactory.eINSTANCE.createNode();
+                diagram.getPersistedChildren().add(pool);
+                diagram.getPersistedChildren().add(task);
+                resource.getContents().add(diagram);
+                resource.setID(pool, "pool");
+                resource.setID(task, "task");
+                editingDomain.getResourceSet().getResources().add(resource);
+            }
+        });
+    }
+
+    @After
+    public void dispose() {
+        decorators.forEach(StatusDecorator::deactivate);
+        ProcessValidationDecoratorProvider.refreshExecutor = uiExecutor;
+        editingDomain.dispose();
+    }
+
+    @Test
+    public void should_refresh_the_decorators_of_a_validation_in_a_single_pass() throws Exception {
+        var taskDecorator = activeDecorator(task);
+        var poolDecorator = activeDecorator(pool);
+
+        // One marker event by element and by constraint during a validation
+        for (int i = 0; i < 10; i++) {
+            ProcessValidationDecoratorProvider.refreshDecorators(task);
+            ProcessValidationDecoratorProvider.refreshDecorators(pool);
+        }
+
+        assertThat(scheduledRefreshes).hasSize(1);
+        scheduledRefreshes.get(0).run();
+        verify(taskDecorator, times(1)).refresh();
+        verify(poolDecorator, times(1)).refresh();
+    }
+
+    @Test
+    public void should_schedule_a_new_pass_for_the_events_following_a_refresh() throws Exception {
+        var taskDecorator = activeDecorator(task);
+        ProcessValidationDecoratorProvider.refreshDecorators(task);
+        scheduledRefreshes.get(0).run();
+
+        ProcessValidationDecoratorProvider.refreshDecorators(task);
+
+        assertThat(scheduledRefreshes).hasSize(2);
+        scheduledRefreshes.get(1).run();
+        verify(taskDecorator, times(2)).refresh();
+    }
+
+    @Test
+    public void should_not_refresh_the_decorators_of_other_elements() throws Exception {
+        var taskDecorator = activeDecorator(task);
+        var poolDecorator = activeDecorator(pool);
+
+        ProcessValidationDecoratorProvider.refreshDecorators(task);
+        scheduledRefreshes.get(0).run();
+
+        verify(taskDecorator, times(1)).refresh();
+        verify(poolDecorator, times(0)).refresh();
+    }
+
+    private StatusDecorator activeDecorator(View view) {
+        var target = mock(IDecoratorTarget.class);
+        when(target.getAdapter(View.class)).thenReturn(view);
+        var decorator = spy(new StatusDecorator(target));
+        doNothing().when(decorator).refresh();
+        decorator.activate();
+        decorators.add(decorator);
+        return decorator;
+    }
+
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.model.process.diagram.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ValidationMarkerIndexTest {
+
+    private static final String MARKER_TYPE = "org.bonitasoft.studio.diagram.diagnostic";
+
+    private IResource resource;
+    private ValidationMarkerIndex index;
+
+    @Before
+    public void createIndex() throws Exception {
+        resource = mock(IResource.class);
+        index = new ValidationMarkerIndex(MARKER_TYPE);
+    }
+
+    @Test
+    public void should_read_the_markers_of_the_resource_once() throws Exception {
+        var taskMarker = marker(resource, "task");
+        var otherTaskMarker = marker(resource, "task");
+        var poolMarker = marker(resource, "pool");
+        resourceMarkers(taskMarker, otherTaskMarker, poolMarker);
+
+        assertThat(index.getMarkers(resource, "task")).containsExactly(taskMarker, otherTaskMarker);
+        assertThat(index.getMarkers(resource, "pool")).containsExactly(poolMarker);
+        assertThat(index.getMarkers(resource, "gateway")).isEmpty();
+
+        verify(resource, times(1)).findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
+    }
+
+    @Test
+    public void should_index_an_added_marker_without_reading_the_markers_again() throws Exception {
+        var taskMarker = marker(resource, "task");
+        resourceMarkers(taskMarker);
+        index.getMarkers(resource, "task");
+
+        var poolMarker = marker(resource, "pool");
+        index.markerChanged(poolMarker);
+
+        assertThat(index.getMarkers(resource, "pool")).containsExactly(poolMarker);
+        assertThat(index.getMarkers(resource, "task")).containsExactly(taskMarker);
+        verify(resource, times(1)).findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
+    }
+
+    @Test
+    public void should_move_a_marker_attached_to_another_element() throws Exception {
+        var marker = marker(resource, "task");
+        resourceMarkers(marker);
+        index.getMarkers(resource, "task");
+
+        when(marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, null))
+                .thenReturn("pool");
+        index.markerChanged(marker);
+
+        assertThat(index.getMarkers(resource, "task")).isEmpty();
+        assertThat(index.getMarkers(resource, "pool")).containsExactly(marker);
+    }
+
+    @Test
+    public void should_remove_a_deleted_marker() throws Exception {
+        var taskMarker = marker(resource, "task");
+        var otherTaskMarker = marker(resource, "task");
+        resourceMarkers(taskMarker, otherTaskMarker);
+        index.getMarkers(resource, "task");
+
+        index.markerDeleted(taskMarker);
+
+        assertThat(index.getMarkers(resource, "task")).containsExactly(otherTaskMarker);
+        verify(resource, times(1)).findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
+    }
+
+    @Test
+    public void should_ignore_the_markers_of_other_resources_and_types() throws Exception {
+        resourceMarkers();
+        index.getMarkers(resource, "task");
+
+        index.markerChanged(marker(mock(IResource.class), "task"));
+        var problemMarker = marker(resource, "task");
+        when(problemMarker.isSubtypeOf(MARKER_TYPE)).thenReturn(false);
+        index.markerChanged(problemMarker);
+
+        assertThat(index.getMarkers(resource, "task")).isEmpty();
+    }
+
+    @Test
+    public void should_not_index_marker_events_before_the_first_lookup() throws Exception {
+        var taskMarker = marker(resource, "task");
+        resourceMarkers(taskMarker);
+
+        index.markerChanged(marker(resource, "task"));
+
+        assertThat(index.getMarkers(resource, "task")).containsExactly(taskMarker);
+    }
+
+    @Test
+    public void should_read_the_markers_again_once_invalidated() throws Exception {
+        var taskMarker = marker(resource, "task");
+        resourceMarkers(taskMarker);
+        index.getMarkers(resource, "task");
+
+        var poolMarker = marker(resource, "pool");
+        resourceMarkers(poolMarker);
+        index.invalidate();
+
+        assertThat(index.getMarkers(resource, "task")).isEmpty();
+        assertThat(index.getMarkers(resource, "pool")).containsExactly(poolMarker);
+        verify(resource, times(2)).findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
+    }
+
+    @Test
+    public void should_read_the_markers_of_another_resource() throws Exception {
+        resourceMarkers(marker(resource, "task"));
+        index.getMarkers(resource, "task");
+
+        var otherResource = mock(IResource.class);
+        var otherMarker = marker(otherResource, "task");
+        when(otherResource.findMarkers(anyString(), anyBoolean(), anyInt()))
+                .thenReturn(new IMarker[] { otherMarker });
+
+        assertThat(index.getMarkers(otherResource, "task")).containsExactly(otherMarker);
+    }
+
+    private void resourceMarkers(IMarker... markers) throws Exception {
+        when(resource.findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE)).thenReturn(markers);
+    }
+
+    private static IMarker marker(IResource resource, String elementId) throws Exception {
+        var marker = mock(IMarker.class);
+        when(marker.getResource()).thenReturn(resource);
+        when(marker.exists()).thenReturn(true);
+        when(marker.isSubtypeOf(MARKER_TYPE)).thenReturn(true);
+        when(marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, null))
+                .thenReturn(elementId);
+        return marker;
+    }
+
+}
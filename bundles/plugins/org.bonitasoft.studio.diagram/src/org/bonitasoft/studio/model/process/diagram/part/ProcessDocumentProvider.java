@@ -14,8 +14,13 @@
  */
 package org.bonitasoft.studio.model.process.diagram.part;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -546,7 +551,7 @@ public class ProcessDocumentProvider extends AbstractDocumentProvider implements
     }
 
     /**
-     * @generated
+     * @generated BonitaSoft
      */
     protected void doSaveDocument(IProgressMonitor monitor, Object element, final IDocument document, boolean overwrite)
             throws CoreException {
@@ -567,9 +572,10 @@ public class ProcessDocumentProvider extends AbstractDocumentProvider implements
                     Resource nextResource = it.next();
                     monitor.setTaskName(
                             NLS.bind(Messages.ProcessDocumentProvider_SaveNextResourceTask, nextResource.getURI()));
-                    if (nextResource.isLoaded() && !info.getEditingDomain().isReadOnly(nextResource)) {
+                    if (nextResource.isLoaded() && !info.getEditingDomain().isReadOnly(nextResource)
+                            && needsSave(nextResource)) {
                         try {
-                            nextResource.save(ProcessDiagramEditorUtil.getSaveOptions());
+                            saveResource(nextResource);
                         } catch (IOException e) {
                             fireElementStateChangeFailed(element);
                             throw new CoreException(new Status(IStatus.ERROR,
@@ -662,6 +668,50 @@ public class ProcessDocumentProvider extends AbstractDocumentProvider implements
         }
     }
 
+    /**
+     * Resources loaded in a shared editing domain track their modifications, every command executed, undone or
+     * redone on them sets their modified flag: the ones that are not modified are left untouched.
+     * 
+     * @generated BonitaSoft
+     */
+    private static boolean needsSave(Resource resource) {
+        return !resource.isTrackingModification() || resource.isModified();
+    }
+
+    /**
+     * Saves a modified workspace resource by streaming it to a temporary file, instead of serializing it in memory to
+     * compare it with the file content. The content is then written through the workspace, so that the file keeps its
+     * attributes, gets a local history entry and a resource delta.
+     * A file changed on disk but not yet refreshed is saved through the previous save, which reports the conflict.
+     * 
+     * @generated BonitaSoft
+     */
+    protected void saveResource(Resource resource) throws IOException {
+        IFile file = WorkspaceSynchronizer.getFile(resource);
+        if (!resource.isTrackingModification() || file == null || !file.exists()
+                || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+            resource.save(ProcessDiagramEditorUtil.getSaveOptions());
+            return;
+        }
+        Map<Object, Object> options = new HashMap<>(ProcessDiagramEditorUtil.getSaveOptions());
+        options.remove(Resource.OPTION_SAVE_ONLY_IF_CHANGED);
+        java.nio.file.Path tmpFile = Files.createTempFile(file.getName(), ".tmp"); //$NON-NLS-1$
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmpFile))) {
+                resource.save(out, options);
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(tmpFile))) {
+                file.setContents(in, IResource.KEEP_HISTORY, null);
+            } catch (CoreException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+        resource.setTimeStamp(file.getLocalTimeStamp());
+        resource.setModified(false);
+    }
+
     /**
      * @generated BonitaSoft
      */
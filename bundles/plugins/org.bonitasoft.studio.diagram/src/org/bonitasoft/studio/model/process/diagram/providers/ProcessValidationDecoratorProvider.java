@@ -19,9 +19,12 @@ package org.bonitasoft.studio.model.process.diagram.providers;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.bonitasoft.bpm.model.process.Container;
 import org.bonitasoft.studio.model.process.diagram.edit.parts.MainProcessEditPart;
@@ -79,6 +82,18 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 	*/
 	private static Map/*<String, List<IDecorator>>*/ allDecorators = new HashMap();
 
+	/**
+	* Ids of the views to refresh by diagram, refreshed together in a single UI pass
+	* @generated BonitaSoft
+	*/
+	private static final Map<Diagram, Set<String>> pendingRefreshes = new LinkedHashMap<>();
+
+	/**
+	* Runs the queued refreshes in the UI thread
+	* @generated BonitaSoft
+	*/
+	static Executor refreshExecutor = runnable -> PlatformUI.getWorkbench().getDisplay().asyncExec(runnable);
+
 	/**
 	* @generated
 	*/
@@ -122,35 +137,56 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 	}
 
 	/**
-	* @generated
+	* Marker events come one by one during a validation: the refreshes are queued and run in a single UI pass
+	* @generated BonitaSoft
 	*/
 	private static void refreshDecorators(String viewId, Diagram diagram) {
-		final List decorators = viewId != null ? (List) allDecorators.get(viewId) : null;
-		if (decorators == null || decorators.isEmpty() || diagram == null) {
+		if (viewId == null || diagram == null || diagram.eIsProxy()) {
 			return;
 		}
-		if (!diagram.eIsProxy()) {
-			final Diagram fdiagram = diagram;
-			PlatformUI.getWorkbench().getDisplay().asyncExec(new Runnable() {
-
-				public void run() {
-					try {
-
-						if (!fdiagram.eIsProxy())
-							TransactionUtil.getEditingDomain(fdiagram).runExclusive(new Runnable() {
-
-								public void run() {
-									for (Iterator it = decorators.iterator(); it.hasNext();) {
-										IDecorator decorator = (IDecorator) it.next();
-										decorator.refresh();
-									}
-								}
-							});
-					} catch (Exception e) {
-						ProcessDiagramEditorPlugin.getInstance().logError("Decorator refresh failure", e); //$NON-NLS-1$
-					}
+		boolean schedule;
+		synchronized (pendingRefreshes) {
+			schedule = pendingRefreshes.isEmpty();
+			pendingRefreshes.computeIfAbsent(diagram, d -> new LinkedHashSet<>()).add(viewId);
+		}
+		if (schedule) {
+			refreshExecutor.execute(ProcessValidationDecoratorProvider::refreshPendingDecorators);
+		}
+	}
+
+	/**
+	* @generated BonitaSoft
+	*/
+	private static void refreshPendingDecorators() {
+		Map<Diagram, Set<String>> refreshes;
+		synchronized (pendingRefreshes) {
+			refreshes = new LinkedHashMap<>(pendingRefreshes);
+			pendingRefreshes.clear();
+		}
+		for (Map.Entry<Diagram, Set<String>> refresh : refreshes.entrySet()) {
+			Diagram diagram = refresh.getKey();
+			List<IDecorator> decorators = new ArrayList<>();
+			for (String viewId : refresh.getValue()) {
+				List viewDecorators = (List) allDecorators.get(viewId);
+				if (viewDecorators != null) {
+					decorators.addAll(viewDecorators);
 				}
-			});
+			}
+			if (decorators.isEmpty() || diagram.eIsProxy()) {
+				continue;
+			}
+			try {
+				TransactionUtil.getEditingDomain(diagram).runExclusive(new Runnable() {
+
+					public void run() {
+						for (IDecorator decorator : decorators) {
+							decorator.refresh();
+						}
+					}
+				});
+			} catch (Exception e) {
+				ProcessDiagramEditorPlugin.getInstance().logError("Decorator refresh failure", e); //$NON-NLS-1$
+			}
 		}
 	}
 
@@ -188,7 +224,7 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void refresh() {
 			removeDecoration();
@@ -201,7 +237,7 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 				return;
 			}
 
-			// query for all the validation markers of the current resource
+			// look up the validation markers of the element in the index of the current resource
 			String elementId = ViewUtil.getIdStr(view);
 			if (elementId == null) {
 				return;
@@ -212,41 +248,33 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 			if (resource == null || !resource.exists()) {
 				return;
 			}
-			IMarker[] markers = null;
-			try {
-				markers = resource.findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE);
-			} catch (CoreException e) {
-				ProcessDiagramEditorPlugin.getInstance().logError("Validation markers refresh failure", e); //$NON-NLS-1$
-			}
-			if (markers == null || markers.length == 0) {
+			ValidationMarkerIndex markerIndex = fileObserver != null ? fileObserver.markerIndex
+					: new ValidationMarkerIndex(MARKER_TYPE);
+			List<IMarker> markers = markerIndex.getMarkers(resource, elementId);
+			if (markers.isEmpty()) {
 				return;
 			}
 			Label toolTip = null;
-			for (int i = 0; i < markers.length; i++) {
-				IMarker marker = markers[i];
-				String attribute = marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID,
-						""); //$NON-NLS-1$
-				if (attribute.equals(elementId)) {
-					int nextSeverity = marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
-					Image nextImage = getImage(nextSeverity);
-					if (foundMarker == null) {
-						foundMarker = marker;
-						toolTip = new Label(marker.getAttribute(IMarker.MESSAGE, ""), //$NON-NLS-1$
-								nextImage);
-					} else {
-						if (toolTip.getChildren().isEmpty()) {
-							Label comositeLabel = new Label();
-							FlowLayout fl = new FlowLayout(false);
-							fl.setMinorSpacing(0);
-							comositeLabel.setLayoutManager(fl);
-							comositeLabel.add(toolTip);
-							toolTip = comositeLabel;
-						}
-						toolTip.add(new Label(marker.getAttribute(IMarker.MESSAGE, ""), //$NON-NLS-1$
-								nextImage));
+			for (IMarker marker : markers) {
+				int nextSeverity = marker.getAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+				Image nextImage = getImage(nextSeverity);
+				if (foundMarker == null) {
+					foundMarker = marker;
+					toolTip = new Label(marker.getAttribute(IMarker.MESSAGE, ""), //$NON-NLS-1$
+							nextImage);
+				} else {
+					if (toolTip.getChildren().isEmpty()) {
+						Label comositeLabel = new Label();
+						FlowLayout fl = new FlowLayout(false);
+						fl.setMinorSpacing(0);
+						comositeLabel.setLayoutManager(fl);
+						comositeLabel.add(toolTip);
+						toolTip = comositeLabel;
 					}
-					severity = (nextSeverity > severity) ? nextSeverity : severity;
+					toolTip.add(new Label(marker.getAttribute(IMarker.MESSAGE, ""), //$NON-NLS-1$
+							nextImage));
 				}
+				severity = (nextSeverity > severity) ? nextSeverity : severity;
 			}
 			if (foundMarker == null) {
 				return;
@@ -293,7 +321,7 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void activate() {
 			if (viewId == null) {
@@ -320,12 +348,12 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 				return;
 			}
 			if (fileObserver == null) {
-				FileChangeManager.getInstance().addFileObserver(fileObserver = new MarkerObserver(diagramView));
+				fileObserver = MarkerObserver.connect(diagramView);
 			}
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void deactivate() {
 			if (viewId == null) {
@@ -341,9 +369,9 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 				}
 			}
 
-			// stop listening to changes in resources if there are no more decorators
-			if (fileObserver != null && allDecorators.isEmpty()) {
-				FileChangeManager.getInstance().removeFileObserver(fileObserver);
+			// stop listening to changes in resources if there are no more decorators on the diagram
+			if (fileObserver != null) {
+				fileObserver.disconnect();
 				fileObserver = null;
 			}
 			super.deactivate();
@@ -355,11 +383,27 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 	*/
 	static class MarkerObserver implements IFileObserver {
 
+		/**
+		* One observer per diagram, shared by all the decorators of the diagram
+		* @generated BonitaSoft
+		*/
+		private static final Map<Diagram, MarkerObserver> observers = new HashMap<>();
+
 		/**
 		* @generated
 		*/
 		private Diagram diagram;
 
+		/**
+		* @generated BonitaSoft
+		*/
+		private final ValidationMarkerIndex markerIndex = new ValidationMarkerIndex(MARKER_TYPE);
+
+		/**
+		* @generated BonitaSoft
+		*/
+		private int connectedDecorators;
+
 		/**
 		* @generated
 		*/
@@ -368,21 +412,52 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
+		*/
+		static MarkerObserver connect(Diagram diagram) {
+			synchronized (observers) {
+				MarkerObserver observer = observers.get(diagram);
+				if (observer == null) {
+					observer = new MarkerObserver(diagram);
+					observers.put(diagram, observer);
+					FileChangeManager.getInstance().addFileObserver(observer);
+				}
+				observer.connectedDecorators++;
+				return observer;
+			}
+		}
+
+		/**
+		* @generated BonitaSoft
+		*/
+		void disconnect() {
+			synchronized (observers) {
+				if (--connectedDecorators == 0) {
+					observers.remove(diagram);
+					FileChangeManager.getInstance().removeFileObserver(this);
+				}
+			}
+		}
+
+		/**
+		* @generated BonitaSoft
 		*/
 		public void handleFileRenamed(IFile oldFile, IFile file) {
+			markerIndex.invalidate();
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void handleFileMoved(IFile oldFile, IFile file) {
+			markerIndex.invalidate();
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void handleFileDeleted(IFile file) {
+			markerIndex.invalidate();
 		}
 
 		/**
@@ -401,20 +476,22 @@ public class ProcessValidationDecoratorProvider extends AbstractProvider impleme
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void handleMarkerDeleted(IMarker marker, Map attributes) {
+			markerIndex.markerDeleted(marker);
 			String viewId = (String) attributes.get(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID);
 			refreshDecorators(viewId, diagram);
 		}
 
 		/**
-		* @generated
+		* @generated BonitaSoft
 		*/
 		public void handleMarkerChanged(IMarker marker) {
 			if (!MARKER_TYPE.equals(getType(marker))) {
 				return;
 			}
+			markerIndex.markerChanged(marker);
 			String viewId = marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, ""); //$NON-NLS-1$
 			refreshDecorators(viewId, diagram);
 		}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.model.process.diagram.providers;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditorPlugin;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Validation markers of a diagram file by diagram element id.
+ * The markers are read once from the workspace, then the index is kept up to date from the marker events, so that
+ * decorating an element does not scan all the markers of the file.
+ */
+public class ValidationMarkerIndex {
+
+    private final String markerType;
+    private IResource resource;
+    private Map<String, Set<IMarker>> markersByElementId;
+    private final Map<IMarker, String> elementIdByMarker = new HashMap<>();
+
+    public ValidationMarkerIndex(String markerType) {
+        this.markerType = markerType;
+    }
+
+    /**
+     * @return the markers of the given resource attached to the given element
+     */
+    public synchronized List<IMarker> getMarkers(IResource resource, String elementId) {
+        if (markersByElementId == null || !resource.equals(this.resource)) {
+            build(resource);
+        }
+        var markers = markersByElementId.get(elementId);
+        return markers != null ? List.copyOf(markers) : List.of();
+    }
+
+    private void build(IResource resource) {
+        this.resource = resource;
+        markersByElementId = new HashMap<>();
+        elementIdByMarker.clear();
+        try {
+            for (var marker : resource.findMarkers(markerType, true, IResource.DEPTH_INFINITE)) {
+                index(marker);
+            }
+        } catch (CoreException e) {
+            ProcessDiagramEditorPlugin.getInstance().logError("Validation markers refresh failure", e); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Indexes a marker of the indexed resource that has been created or whose attributes have changed.
+     */
+    synchronized void markerChanged(IMarker marker) {
+        if (markersByElementId == null || !isIndexed(marker)) {
+            return;
+        }
+        remove(marker);
+        index(marker);
+    }
+
+    synchronized void markerDeleted(IMarker marker) {
+        if (markersByElementId != null) {
+            remove(marker);
+        }
+    }
+
+    /**
+     * Forgets all the markers, they are read again on the next lookup.
+     */
+    synchronized void invalidate() {
+        markersByElementId = null;
+        elementIdByMarker.clear();
+    }
+
+    private boolean isIndexed(IMarker marker) {
+        if (!marker.getResource().equals(resource) && !resource.contains(marker.getResource())) {
+            return false;
+        }
+        try {
+            return marker.exists() && marker.isSubtypeOf(markerType);
+        } catch (CoreException e) {
+            return false;
+        }
+    }
+
+    private void index(IMarker marker) {
+        var elementId = marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, null);
+        if (elementId != null) {
+            markersByElementId.computeIfAbsent(elementId, id -> new LinkedHashSet<>()).add(marker);
+            elementIdByMarker.put(marker, elementId);
+        }
+    }
+
+    private void remove(IMarker marker) {
+        var elementId = elementIdByMarker.remove(marker);
+        if (elementId != null) {
+            var markers = markersByElementId.get(elementId);
+            markers.remove(marker);
+            if (markers.isEmpty()) {
+                markersByElementId.remove(elementId);
+            }
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import java.util.Objects;
 
 import org.bonitasoft.studio.common.emf.tools.ModelHelper;
 import org.bonitasoft.studio.common.repository.extension.IConfigurationSynchronizer;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.configuration.ConfigurationFactory;
 import org.bonitasoft.bpm.model.configuration.ConfigurationPackage;
@@ -80,6 +81,19 @@ public class AdditionalResourcesConfigurationSyncronizer implements IConfigurati
                 ConfigurationPackage.Literals.CONFIGURATION__ADDITIONAL_RESOURCES, resourceToRemove);
     }
 
+    @Override
+    public String getFingerprint(Configuration configuration, AbstractProcess process) {
+        var fingerprint = new SynchronizationFingerprint();
+        Pool pool = ModelHelper.getParentPool(process);
+        if (pool != null) {
+            fingerprint.appendAll(pool.getAdditionalResources(),
+                    additionalResource -> fingerprint.append(additionalResource.getName()));
+        }
+        fingerprint.appendAll(configuration.getAdditionalResources(),
+                additionalResource -> fingerprint.append(additionalResource.getBarPath()));
+        return fingerprint.compute();
+    }
+
     @Override
     public String getFragmentContainerId() {
         return null;
@@ -19,8 +19,17 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+
+import org.bonitasoft.engine.api.LoginAPI;
+import org.bonitasoft.engine.api.TenantAdministrationAPI;
 import org.bonitasoft.engine.exception.ServerAPIException;
+import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.studio.common.repository.extension.IEngineAction;
 import org.bonitasoft.studio.common.repository.model.IRepository;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.Test;
@@ -39,4 +48,30 @@ public class BOSEngineManagerTest {
         assertThat(isRunning).isFalse();
     }
 
+    @Test
+    public void should_run_all_post_startup_contributions_with_a_single_session() throws Exception {
+        final BOSEngineManager engineManager = spy(new BOSEngineManager(new NullProgressMonitor()));
+        final LoginAPI loginAPI = mock(LoginAPI.class);
+        final APISession session = mock(APISession.class);
+        when(loginAPI.login(BOSEngineManager.BONITA_TECHNICAL_USER, BOSEngineManager.BONITA_TECHNICAL_USER_PASSWORD))
+                .thenReturn(session);
+        doReturn(loginAPI).when(engineManager).getLoginAPI();
+        doReturn(mock(TenantAdministrationAPI.class)).when(engineManager).getTenantAdministrationAPI(session);
+        final IRepository repository = mock(IRepository.class);
+        final IEngineAction firstContribution = mock(IEngineAction.class);
+        final IEngineAction secondContribution = mock(IEngineAction.class);
+        when(firstContribution.shouldRun(repository)).thenReturn(true);
+        when(secondContribution.shouldRun(repository)).thenReturn(true);
+        doReturn(List.of(firstContribution, secondContribution)).when(engineManager).getPostStartupContributions();
+
+        final boolean isRunning = engineManager.postEngineStart(repository);
+
+        assertThat(isRunning).isTrue();
+        verify(firstContribution).run(session, repository);
+        verify(secondContribution).run(session, repository);
+        verify(loginAPI, times(1)).login(BOSEngineManager.BONITA_TECHNICAL_USER,
+                BOSEngineManager.BONITA_TECHNICAL_USER_PASSWORD);
+        verify(loginAPI, times(1)).logout(session);
+    }
+
 }
@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.maven.artifact.Artifact;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BusinessArchiveFingerprintTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private File libraryJar;
+    private File workspaceProjectClasses;
+    private File installedWorkspaceProjectJar;
+    private List<Artifact> artifacts;
+
+    /**
+     * Same resolution as ProjectDependenciesResolver.resolveFile, with a local repository in the temporary folder.
+     */
+    private final Function<Artifact, File> fileResolver = artifact -> artifact.getFile().isDirectory()
+            ? installedWorkspaceProjectJar
+            : artifact.getFile();
+
+    @Before
+    public void createDependencies() throws Exception {
+        libraryJar = jar(tmpFolder.newFile("library-1.0.jar"), "library", 1_000L);
+        workspaceProjectClasses = tmpFolder.newFolder("workspace-project", "target", "classes");
+        installedWorkspaceProjectJar = jar(tmpFolder.newFile("workspace-project-1.0.0-SNAPSHOT.jar"),
+                "workspace project", 1_000L);
+        artifacts = List.of(artifact(libraryJar), artifact(workspaceProjectClasses));
+    }
+
+    @Test
+    public void should_hash_the_jar_of_a_workspace_resolved_dependency() throws Exception {
+        var jars = BusinessArchiveFingerprint.resolvedJars(artifacts, fileResolver);
+
+        assertThat(jars).containsExactlyInAnyOrder(libraryJar, installedWorkspaceProjectJar);
+    }
+
+    @Test
+    public void should_change_when_a_workspace_resolved_dependency_changes() throws Exception {
+        var fingerprint = jarsFingerprint();
+
+        jar(installedWorkspaceProjectJar, "workspace project with a new class", 2_000L);
+
+        assertThat(jarsFingerprint()).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void should_not_change_when_dependencies_are_unchanged() throws Exception {
+        assertThat(jarsFingerprint()).isEqualTo(jarsFingerprint());
+    }
+
+    @Test
+    public void should_replace_the_checksum_of_a_rebuilt_jar() throws Exception {
+        var checksum = BusinessArchiveFingerprint.checksum(libraryJar.toPath());
+        var nbChecksums = BusinessArchiveFingerprint.cachedChecksums();
+
+        jar(libraryJar, "library with a new class", 2_000L);
+
+        assertThat(BusinessArchiveFingerprint.checksum(libraryJar.toPath())).isNotEqualTo(checksum);
+        assertThat(BusinessArchiveFingerprint.cachedChecksums()).isEqualTo(nbChecksums);
+    }
+
+    @Test
+    public void should_not_keep_more_checksums_than_the_cache_size() throws Exception {
+        var jarsFolder = tmpFolder.newFolder("repository");
+        for (int i = 0; i <= BusinessArchiveFingerprint.MAX_JAR_CHECKSUMS; i++) {
+            var jar = jar(new File(jarsFolder, "artifact" + i + "-1.0.jar"), "artifact" + i, 1_000L);
+            BusinessArchiveFingerprint.checksum(jar.toPath());
+        }
+
+        assertThat(BusinessArchiveFingerprint.cachedChecksums())
+                .isEqualTo(BusinessArchiveFingerprint.MAX_JAR_CHECKSUMS);
+    }
+
+    private String jarsFingerprint() throws Exception {
+        var digest = MessageDigest.getInstance("SHA-256");
+        BusinessArchiveFingerprint.updateWithJars(digest,
+                BusinessArchiveFingerprint.resolvedJars(artifacts, fileResolver));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static File jar(File file, String content, long lastModified) throws Exception {
+        Files.writeString(file.toPath(), content);
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified));
+        return file;
+    }
+
+    private static Artifact artifact(File file) {
+        var artifact = mock(Artifact.class);
+        when(artifact.getFile()).thenReturn(file);
+        return artifact;
+    }
+
+}
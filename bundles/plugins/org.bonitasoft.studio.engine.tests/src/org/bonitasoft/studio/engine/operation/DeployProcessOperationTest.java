@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.bpm.model.process.builders.PoolBuilder.aPool;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.bpm.bar.BusinessArchive;
+import org.bonitasoft.engine.bpm.process.ActivationState;
+import org.bonitasoft.engine.bpm.process.ProcessDefinition;
+import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
+import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.studio.engine.BOSEngineManager;
+import org.eclipse.core.databinding.validation.IValidator;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DeployProcessOperationTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Mock
+    private ProcessAPI processAPI;
+    @Mock
+    private BOSEngineManager engineManager;
+
+    private DeploymentLedger ledger;
+    private final Map<Long, ProcessDeploymentInfo> deployedDefinitions = new HashMap<>();
+    private int nbUndeployments;
+    private String fingerprint = "fingerprint";
+    private Pool pool;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = aPool().withName("TestProcess").withVersion("1.0").build();
+        ledger = new DeploymentLedger(tmpFolder.getRoot().toPath().resolve("deployments.properties"));
+        when(engineManager.createSession(notNull(), any(), any(IProgressMonitor.class)))
+                .thenReturn(mock(APISession.class));
+        when(engineManager.getProcessAPI(notNull())).thenReturn(processAPI);
+        // Local engine stand-in
+        when(processAPI.deploy(any(BusinessArchive.class))).thenAnswer(invocation -> {
+            final long id = deployedDefinitions.size() + 1L;
+            final ProcessDeploymentInfo info = mock(ProcessDeploymentInfo.class);
+            when(info.getName()).thenReturn(pool.getName());
+            when(info.getVersion()).thenReturn(pool.getVersion());
+            when(info.getDeploymentDate()).thenReturn(new Date(1000L * id));
+            when(info.getActivationState()).thenReturn(ActivationState.ENABLED);
+            deployedDefinitions.put(id, info);
+            final ProcessDefinition definition = mock(ProcessDefinition.class);
+            when(definition.getId()).thenReturn(id);
+            return definition;
+        });
+        when(processAPI.getProcessDeploymentInfo(anyLong())).thenAnswer(invocation -> {
+            final ProcessDeploymentInfo info = deployedDefinitions.get(invocation.getArgument(0));
+            if (info == null) {
+                throw new ProcessDefinitionNotFoundException("Not found");
+            }
+            return info;
+        });
+    }
+
+    @Test
+    public void should_not_deploy_again_an_unchanged_process() throws Exception {
+        assertThat(createFixture().run(new NullProgressMonitor()).isOK()).isTrue();
+
+        final DeployProcessOperation operation = createFixture();
+        final IStatus status = operation.run(new NullProgressMonitor());
+
+        assertThat(status.isOK()).isTrue();
+        assertThat(operation.getProcessDefId(pool)).isEqualTo(1L);
+        assertThat(nbUndeployments).isEqualTo(1);
+        verify(processAPI, times(1)).deploy(any(BusinessArchive.class));
+        verify(processAPI, times(1)).enableProcess(anyLong());
+    }
+
+    @Test
+    public void should_deploy_again_a_process_whose_business_archive_has_changed() throws Exception {
+        createFixture().run(new NullProgressMonitor());
+
+        fingerprint = "changed";
+        final DeployProcessOperation operation = createFixture();
+        operation.run(new NullProgressMonitor());
+
+        assertThat(operation.getProcessDefId(pool)).isEqualTo(2L);
+        assertThat(nbUndeployments).isEqualTo(2);
+        verify(processAPI, times(2)).deploy(any(BusinessArchive.class));
+        assertThat(ledger.get("TestProcess", "1.0")).hasValueSatisfying(definition -> {
+            assertThat(definition.fingerprint()).isEqualTo("changed");
+            assertThat(definition.id()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    public void should_deploy_again_a_process_deployed_from_elsewhere() throws Exception {
+        createFixture().run(new NullProgressMonitor());
+        when(deployedDefinitions.get(1L).getDeploymentDate()).thenReturn(new Date(42L));
+
+        createFixture().run(new NullProgressMonitor());
+
+        verify(processAPI, times(2)).deploy(any(BusinessArchive.class));
+    }
+
+    @Test
+    public void should_deploy_again_a_process_missing_from_the_engine() throws Exception {
+        createFixture().run(new NullProgressMonitor());
+        deployedDefinitions.clear();
+
+        createFixture().run(new NullProgressMonitor());
+
+        verify(processAPI, times(2)).deploy(any(BusinessArchive.class));
+    }
+
+    @Test
+    public void should_always_deploy_when_fingerprint_cannot_be_computed() throws Exception {
+        fingerprint = null;
+
+        createFixture().run(new NullProgressMonitor());
+        createFixture().run(new NullProgressMonitor());
+
+        verify(processAPI, times(2)).deploy(any(BusinessArchive.class));
+        verify(processAPI, never()).getProcessDeploymentInfo(anyLong());
+        assertThat(ledger.get("TestProcess", "1.0")).isEmpty();
+    }
+
+    private DeployProcessOperation createFixture() {
+        final DeployProcessOperation operation = new DeployProcessOperation() {
+
+            @Override
+            protected String fingerprint(Pool process, IProgressMonitor monitor) {
+                return fingerprint;
+            }
+
+            @Override
+            protected BusinessArchive createBusinessArchive(Pool process) {
+                return mock(BusinessArchive.class);
+            }
+
+            @Override
+            protected List<IValidator<BusinessArchive>> getValidators() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            protected IStatus undeploy(List<Pool> processes, IProgressMonitor monitor) {
+                nbUndeployments++;
+                processes.forEach(process -> ledger.remove(process.getName(), process.getVersion()));
+                return Status.OK_STATUS;
+            }
+
+            @Override
+            protected DeploymentLedger getLedger() {
+                return ledger;
+            }
+
+            @Override
+            protected BOSEngineManager getEngineManager() {
+                return engineManager;
+            }
+        };
+        operation.addProcessToDeploy(pool);
+        operation.setDisablePopup(true);
+        return operation;
+    }
+}
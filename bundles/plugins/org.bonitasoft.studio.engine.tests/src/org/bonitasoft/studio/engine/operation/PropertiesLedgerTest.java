@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.bonitasoft.studio.engine.EnginePlugin;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PropertiesLedgerTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = tmpFolder.getRoot().toPath().resolve("state").resolve("ledger.properties");
+    }
+
+    @Test
+    public void should_read_the_entries_recorded_before_a_restart() throws Exception {
+        var ledger = new PropertiesLedger(file, EnginePlugin.PLUGIN_ID);
+        ledger.putAll(Map.of("fingerprint", "abc", "users", "4"));
+        ledger.put("groups", "2");
+
+        var restartedLedger = new PropertiesLedger(file, EnginePlugin.PLUGIN_ID);
+
+        assertThat(restartedLedger.get("fingerprint")).isEqualTo("abc");
+        assertThat(restartedLedger.get("users")).isEqualTo("4");
+        assertThat(restartedLedger.get("groups")).isEqualTo("2");
+        assertThat(file.getParent()).isDirectoryNotContaining("glob:**.tmp");
+    }
+
+    @Test
+    public void should_forget_a_removed_entry() throws Exception {
+        var ledger = new PropertiesLedger(file, EnginePlugin.PLUGIN_ID);
+        ledger.put("Pool--1.0", "abc;1;1000");
+
+        ledger.remove("Pool--1.0");
+
+        assertThat(ledger.get("Pool--1.0")).isNull();
+        assertThat(new PropertiesLedger(file, EnginePlugin.PLUGIN_ID).get("Pool--1.0")).isNull();
+    }
+
+    @Test
+    public void should_be_empty_without_file() throws Exception {
+        assertThat(new PropertiesLedger(file, EnginePlugin.PLUGIN_ID).get("fingerprint")).isNull();
+    }
+
+}
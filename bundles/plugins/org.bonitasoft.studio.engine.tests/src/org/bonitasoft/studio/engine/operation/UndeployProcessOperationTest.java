@@ -17,8 +17,11 @@ package org.bonitasoft.studio.engine.operation;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.bonitasoft.bpm.model.process.builders.PoolBuilder.aPool;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -28,13 +31,27 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.net.CookieHandler;
 import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfoCriterion;
+import org.bonitasoft.engine.exception.DeletionException;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.studio.engine.BOSEngineManager;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -42,13 +59,66 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
 @RunWith(MockitoJUnitRunner.class)
 public class UndeployProcessOperationTest {
 
+    private static final int NB_PROCESSES = 50;
+    private static final String API_TOKEN = "api-token";
+
     @Mock
     private ProcessAPI processAPI;
     @Mock
     private HttpURLConnection connection;
+    @Mock
+    private BOSEngineManager engineManager;
+
+    private HttpServer portal;
+    private final String sessionId = UUID.randomUUID().toString();
+    private final AtomicInteger nbLogins = new AtomicInteger();
+    private final AtomicInteger nbLogouts = new AtomicInteger();
+    private final List<String> deletedDefinitions = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void startPortal() throws Exception {
+        // Local portal stand-in, the requests are only accepted with the cookie and the token of its single session
+        portal = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        portal.createContext("/bonita/loginservice", exchange -> {
+            nbLogins.incrementAndGet();
+            exchange.getResponseHeaders().add("Set-Cookie", "JSESSIONID=" + sessionId + "; Path=/bonita");
+            respond(exchange, HttpURLConnection.HTTP_OK);
+        });
+        portal.createContext("/bonita/API/system/session/1", exchange -> {
+            if (hasSessionCookie(exchange)) {
+                exchange.getResponseHeaders().add("X-Bonita-API-Token", API_TOKEN);
+                respond(exchange, HttpURLConnection.HTTP_OK);
+            } else {
+                respond(exchange, HttpURLConnection.HTTP_UNAUTHORIZED);
+            }
+        });
+        portal.createContext("/bonita/API/bpm/process/", exchange -> {
+            if ("DELETE".equals(exchange.getRequestMethod()) && hasSessionCookie(exchange)
+                    && API_TOKEN.equals(exchange.getRequestHeaders().getFirst("X-Bonita-API-Token"))) {
+                final String path = exchange.getRequestURI().getPath();
+                deletedDefinitions.add(path.substring(path.lastIndexOf('/') + 1));
+                respond(exchange, HttpURLConnection.HTTP_OK);
+            } else {
+                respond(exchange, HttpURLConnection.HTTP_UNAUTHORIZED);
+            }
+        });
+        portal.createContext("/bonita/logoutservice", exchange -> {
+            nbLogouts.incrementAndGet();
+            respond(exchange, HttpURLConnection.HTTP_OK);
+        });
+        portal.start();
+    }
+
+    @After
+    public void stopPortal() throws Exception {
+        portal.stop(0);
+    }
 
     @Test
     public void should_disable_process_definition_before_deleting_instances_and_definition() throws Exception {
@@ -69,6 +139,131 @@ public class UndeployProcessOperationTest {
                 .contains("http://localhost:8080/bonita/bonita/API/system/session/1","http://localhost:8080/bonita/bonita/API/bpm/process/1", "http://localhost:8080/bonita/bonita/logoutservice");
     }
 
+    @Test
+    public void should_undeploy_a_batch_of_processes_with_a_single_engine_and_portal_session() throws Exception {
+        when(engineManager.createSession(notNull(), any(), any(IProgressMonitor.class)))
+                .thenReturn(mock(APISession.class));
+        when(engineManager.getProcessAPI(notNull())).thenReturn(processAPI);
+        when(processAPI.getNumberOfProcessDeploymentInfos()).thenReturn((long) NB_PROCESSES);
+        final UndeployProcessOperation operation = createPortalFixture();
+        for (int i = 0; i < NB_PROCESSES; i++) {
+            when(processAPI.getProcessDefinitionId("Process" + i, "1.0")).thenReturn((long) i);
+            operation.addProcessToUndeploy(aPool().withName("Process" + i).withVersion("1.0").build());
+        }
+        final CookieHandler defaultCookieHandler = CookieHandler.getDefault();
+
+        final IStatus status = operation.run(new NullProgressMonitor());
+
+        assertThat(status.isOK()).isTrue();
+        verify(engineManager, times(1)).createSession(notNull(), any(), any(IProgressMonitor.class));
+        verify(engineManager, times(1)).logoutDefaultTenant(notNull());
+        verify(processAPI, times(NB_PROCESSES)).disableProcess(anyLong());
+        verify(processAPI, times(NB_PROCESSES)).deleteProcessInstances(anyLong(), eq(0), eq(1000));
+        verify(processAPI, times(NB_PROCESSES)).deleteArchivedProcessInstances(anyLong(), eq(0), eq(1000));
+        verify(processAPI, never()).deleteProcessDefinition(anyLong());
+        assertThat(nbLogins).hasValue(1);
+        assertThat(nbLogouts).hasValue(1);
+        assertThat(deletedDefinitions).hasSize(NB_PROCESSES).doesNotHaveDuplicates();
+        assertThat(CookieHandler.getDefault()).isSameAs(defaultCookieHandler);
+    }
+
+    @Test
+    public void should_report_the_name_and_version_of_the_process_that_failed_to_be_undeployed() throws Exception {
+        when(engineManager.createSession(notNull(), any(), any(IProgressMonitor.class)))
+                .thenReturn(mock(APISession.class));
+        when(engineManager.getProcessAPI(notNull())).thenReturn(processAPI);
+        when(processAPI.getNumberOfProcessDeploymentInfos()).thenReturn(2L);
+        final UndeployProcessOperation operation = createPortalFixture();
+        when(processAPI.getProcessDefinitionId("Process", "1.0")).thenReturn(1L);
+        when(processAPI.getProcessDefinitionId("FailingProcess", "2.0")).thenReturn(2L);
+        when(processAPI.deleteProcessInstances(2L, 0, 1000)).thenThrow(new DeletionException("Instances are locked"));
+        operation.addProcessToUndeploy(aPool().withName("Process").withVersion("1.0").build());
+        operation.addProcessToUndeploy(aPool().withName("FailingProcess").withVersion("2.0").build());
+
+        final IStatus status = operation.run(new NullProgressMonitor());
+
+        assertThat(status.getSeverity()).isEqualTo(IStatus.ERROR);
+        assertThat(status.getMessage()).startsWith("FailingProcess (2.0): ").contains("Instances are locked");
+        assertThat(status.getException()).isInstanceOf(DeletionException.class);
+        verify(engineManager, times(1)).logoutDefaultTenant(notNull());
+    }
+
+    @Test
+    public void should_undeploy_all_processes_with_a_single_engine_and_portal_session() throws Exception {
+        when(engineManager.loginDefaultTenant(any(IProgressMonitor.class))).thenReturn(mock(APISession.class));
+        when(engineManager.getProcessAPI(notNull())).thenReturn(processAPI);
+        final List<ProcessDeploymentInfo> infos = new ArrayList<>();
+        for (int i = 0; i < NB_PROCESSES; i++) {
+            final ProcessDeploymentInfo info = mock(ProcessDeploymentInfo.class);
+            when(info.getProcessId()).thenReturn((long) i);
+            when(info.getDisplayName()).thenReturn("Process" + i);
+            infos.add(info);
+        }
+        when(processAPI.getProcessDeploymentInfos(0, Integer.MAX_VALUE, ProcessDeploymentInfoCriterion.DEFAULT))
+                .thenReturn(infos);
+
+        final IStatus status = createPortalFixture().undeployAll().run(new NullProgressMonitor());
+
+        assertThat(status.isOK()).isTrue();
+        verify(engineManager, times(1)).loginDefaultTenant(any(IProgressMonitor.class));
+        verify(processAPI, times(NB_PROCESSES)).disableProcess(anyLong());
+        assertThat(nbLogins).hasValue(1);
+        assertThat(nbLogouts).hasValue(1);
+        assertThat(deletedDefinitions).hasSize(NB_PROCESSES);
+    }
+
+    @Test
+    public void should_disable_process_definitions_concurrently_with_a_bounded_parallelism() throws Exception {
+        when(engineManager.loginDefaultTenant(any(IProgressMonitor.class))).thenReturn(mock(APISession.class));
+        when(engineManager.getProcessAPI(notNull())).thenReturn(processAPI);
+        final List<ProcessDeploymentInfo> infos = new ArrayList<>();
+        for (int i = 0; i < NB_PROCESSES; i++) {
+            final ProcessDeploymentInfo info = mock(ProcessDeploymentInfo.class);
+            when(info.getProcessId()).thenReturn((long) i);
+            infos.add(info);
+        }
+        when(processAPI.getProcessDeploymentInfos(0, Integer.MAX_VALUE, ProcessDeploymentInfoCriterion.DEFAULT))
+                .thenReturn(infos);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return null;
+        }).when(processAPI).disableProcess(anyLong());
+
+        createPortalFixture().undeployAll().run(new NullProgressMonitor());
+
+        assertThat(maxRunning.get()).isBetween(2, 4);
+    }
+
+    private UndeployProcessOperation createPortalFixture() {
+        final String urlBase = "http://localhost:" + portal.getAddress().getPort();
+        return new UndeployProcessOperation(engineManager) {
+
+            @Override
+            protected String getUrlBase() {
+                return urlBase;
+            }
+
+            @Override
+            protected HttpURLConnection openLoginConnection(IProgressMonitor monitor) throws IOException {
+                return openConnection(urlBase + "/bonita/loginservice?username=install&password=install");
+            }
+        };
+    }
+
+    private boolean hasSessionCookie(HttpExchange exchange) {
+        final String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        return cookie != null && cookie.contains("JSESSIONID=" + sessionId);
+    }
+
+    private static void respond(HttpExchange exchange, int code) throws IOException {
+        exchange.sendResponseHeaders(code, -1);
+        exchange.close();
+    }
+
     private UndeployProcessOperation createFixture() throws Exception {
         final BOSEngineManager engineManager = mock(BOSEngineManager.class);
         when(engineManager.createSession(notNull(), any(), any(IProgressMonitor.class))).thenReturn(mock(APISession.class));
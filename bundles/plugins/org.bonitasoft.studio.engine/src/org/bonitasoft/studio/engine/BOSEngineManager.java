@@ -17,7 +17,9 @@ package org.bonitasoft.studio.engine;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -51,6 +53,7 @@ import org.bonitasoft.studio.common.repository.extension.IEngineAction;
 import org.bonitasoft.studio.common.repository.model.IRepository;
 import org.bonitasoft.studio.engine.export.BarExporter;
 import org.bonitasoft.studio.engine.i18n.Messages;
+import org.bonitasoft.studio.engine.operation.TestSandboxManager;
 import org.bonitasoft.studio.engine.preferences.EnginePreferenceConstants;
 import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.process.AbstractProcess;
@@ -173,15 +176,20 @@ public class BOSEngineManager {
 
 	protected boolean postEngineStart(IRepository repository) {
 		// RESUME ENGINE IF PAUSED AT STARTUP
+		APISession apiSession = null;
 		try {
-			final APISession apiSession = getLoginAPI().login(BONITA_TECHNICAL_USER, BONITA_TECHNICAL_USER_PASSWORD);
+			apiSession = getLoginAPI().login(BONITA_TECHNICAL_USER, BONITA_TECHNICAL_USER_PASSWORD);
 			final TenantAdministrationAPI tenantManagementAPI = getTenantAdministrationAPI(apiSession);
 			if (tenantManagementAPI.isPaused()) {
 				tenantManagementAPI.resume();
 			}
-			executePostStartupContributions(repository);
+			executePostStartupContributions(apiSession, repository);
 		} catch (final Exception e) {
 			return handlePostEngineStartException(e);
+		} finally {
+			if (apiSession != null) {
+				logoutDefaultTenant(apiSession);
+			}
 		}
 		return true;
 	}
@@ -207,6 +215,7 @@ public class BOSEngineManager {
 	}
 
 	public synchronized void stop() {
+		undeployTestSandboxes();
 		if (dropBusinessDataDBOnExit()) {
 			TenantAdministrationAPI tenantManagementAPI = null;
 			APISession session = null;
@@ -236,33 +245,54 @@ public class BOSEngineManager {
 		isRunning = false;
 	}
 
+	private void undeployTestSandboxes() {
+		final TestSandboxManager sandboxManager = TestSandboxManager.getInstance();
+		if (sandboxManager.hasSandboxes() && isRunning() && BOSWebServerManager.getInstance().serverIsStarted()) {
+			APISession session = null;
+			try {
+				session = loginDefaultTenant(null);
+				sandboxManager.undeployAll(getProcessAPI(session));
+			} catch (final Exception e) {
+				BonitaStudioLog.error("An error occured while undeploying test sandboxes.", e);
+			} finally {
+				if (session != null) {
+					logoutDefaultTenant(session);
+				}
+			}
+		}
+		sandboxManager.reset();
+	}
+
 	private boolean dropBusinessDataDBOnExit() {
 		final IPreferenceStore preferenceStore = EnginePlugin.getDefault().getPreferenceStore();
 		return preferenceStore.getBoolean(EnginePreferenceConstants.DROP_BUSINESS_DATA_DB_ON_EXIT_PREF);
 	}
 
-	protected void executePostStartupContributions(IRepository repository) throws Exception {
+	/**
+	 * Runs the post startup contributions with the technical session opened at engine startup, instead of a new
+	 * session per contribution.
+	 */
+	protected void executePostStartupContributions(final APISession session, IRepository repository)
+			throws Exception {
+		for (final IEngineAction contrib : getPostStartupContributions()) {
+			if (contrib.shouldRun(repository)) {
+				contrib.run(session, repository);
+			}
+		}
+	}
+
+	protected List<IEngineAction> getPostStartupContributions() {
 		final IConfigurationElement[] elements = BonitaStudioExtensionRegistryManager.getInstance()
 				.getConfigurationElements(POSTSTARTUP_CONTIBUTION_ID);
-		IEngineAction contrib = null;
+		final List<IEngineAction> contributions = new ArrayList<>();
 		for (final IConfigurationElement elem : elements) {
 			try {
-				contrib = (IEngineAction) elem.createExecutableExtension("class"); //$NON-NLS-1$
+				contributions.add((IEngineAction) elem.createExecutableExtension("class")); //$NON-NLS-1$
 			} catch (final CoreException e) {
 				BonitaStudioLog.error(e);
 			}
-			if (contrib != null && contrib.shouldRun(repository)) {
-				final APISession session = getLoginAPI().login(BONITA_TECHNICAL_USER, BONITA_TECHNICAL_USER_PASSWORD);
-				try {
-					contrib.run(session, repository);
-				} finally {
-					if (session != null) {
-						logoutDefaultTenant(session);
-					}
-				}
-			}
 		}
-
+		return contributions;
 	}
 
 	public boolean isRunning() {
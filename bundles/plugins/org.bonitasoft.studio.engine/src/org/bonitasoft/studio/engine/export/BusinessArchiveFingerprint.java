@@ -0,0 +1,222 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.apache.maven.artifact.Artifact;
+import org.bonitasoft.bpm.model.configuration.Configuration;
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.common.repository.core.maven.ProjectDependenciesResolver;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.m2e.core.MavenPlugin;
+
+/**
+ * Deterministic hash of the inputs of the business archive of a pool: the process model (including its form
+ * mappings), the configuration, the files of the project (forms, scripts, connector implementations...) and the
+ * checksums of the resolved jar dependencies.
+ * Two equal fingerprints mean that building the business archive again would produce the same content.
+ */
+public class BusinessArchiveFingerprint {
+
+    /**
+     * Build outputs, and diagrams whose in memory model is serialized instead.
+     */
+    private static final Set<String> IGNORED_FOLDERS = Set.of("target", "bin", "node_modules", "diagrams");
+
+    static final int MAX_JAR_CHECKSUMS = 4096;
+
+    /**
+     * Last computed checksum of each jar path, with the size and the modification time it was computed for: jars of
+     * the local Maven repository rarely change. A rebuilt jar replaces its entry, and the least recently used jars are
+     * dropped above {@link #MAX_JAR_CHECKSUMS} entries.
+     */
+    private static final Map<Path, JarChecksum> JAR_CHECKSUMS = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, JarChecksum> eldest) {
+            return size() > MAX_JAR_CHECKSUMS;
+        }
+    };
+
+    private final BarExporter barExporter = BarExporter.getInstance();
+
+    public String compute(final Pool process, final String configurationId, final IProgressMonitor monitor)
+            throws CoreException {
+        final MessageDigest digest = newDigest();
+        final Configuration configuration = barExporter.getConfiguration(process, configurationId);
+        update(digest, String.valueOf(configurationId));
+        update(digest, process.getName() + "--" + process.getVersion());
+        serialize(EcoreUtil.getRootContainer(process), digest);
+        serialize(configuration, digest);
+        var appProject = RepositoryManager.getInstance().getCurrentProject().orElseThrow().getAppProject();
+        try {
+            updateWithProjectFiles(digest, appProject.getLocation().toFile().toPath());
+            updateWithJars(digest, resolvedJars(appProject, monitor));
+        } catch (IOException e) {
+            throw new CoreException(Status.error("Failed to compute business archive fingerprint", e));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Serializes a copy of the model, the XMI ids of the original resource are not kept so the output only depends on
+     * the model content.
+     */
+    protected void serialize(final EObject model, final MessageDigest digest) throws CoreException {
+        final XMIResourceImpl resource = new XMIResourceImpl();
+        resource.getContents().add(EcoreUtil.copy(model));
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            resource.save(out, Map.of(XMLResource.OPTION_PROCESS_DANGLING_HREF,
+                    XMLResource.OPTION_PROCESS_DANGLING_HREF_DISCARD));
+        } catch (IOException e) {
+            throw new CoreException(Status.error("Failed to serialize " + model.eClass().getName(), e));
+        }
+    }
+
+    /**
+     * The files are identified by their relative path, size and modification time, so that they are not read.
+     */
+    protected void updateWithProjectFiles(final MessageDigest digest, final Path projectLocation) throws IOException {
+        final Map<String, String> files = new TreeMap<>();
+        Files.walkFileTree(projectLocation, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                var name = dir.getFileName().toString();
+                if (!dir.equals(projectLocation) && (name.startsWith(".") || IGNORED_FOLDERS.contains(name))) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                files.put(projectLocation.relativize(file).toString().replace('\\', '/'),
+                        attrs.size() + ":" + attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        files.forEach((path, stamp) -> update(digest, path + "=" + stamp));
+    }
+
+    protected List<File> resolvedJars(final IProject appProject, final IProgressMonitor monitor)
+            throws CoreException {
+        var facade = MavenPlugin.getMavenProjectRegistry().getProject(appProject);
+        if (facade == null) {
+            throw new CoreException(Status.error("Cannot find Maven project for " + appProject));
+        }
+        return resolvedJars(facade.getMavenProject(monitor).getArtifacts(), ProjectDependenciesResolver::resolveFile);
+    }
+
+    /**
+     * The artifacts are resolved like in the business archive: an artifact of a project imported in the workspace
+     * resolves to a directory, it is replaced by its jar in the local repository.
+     */
+    static List<File> resolvedJars(final Collection<Artifact> artifacts, final Function<Artifact, File> fileResolver) {
+        final List<File> jars = new ArrayList<>();
+        artifacts.stream()
+                .map(fileResolver)
+                .filter(file -> file != null && file.isFile())
+                .sorted()
+                .forEach(jars::add);
+        return jars;
+    }
+
+    static void updateWithJars(final MessageDigest digest, final List<File> jars) throws IOException {
+        for (final File jar : jars) {
+            update(digest, jar.getName() + "=" + checksum(jar.toPath()));
+        }
+    }
+
+    static String checksum(final Path jar) throws IOException {
+        var attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        var path = jar.toAbsolutePath();
+        JarChecksum cached;
+        synchronized (JAR_CHECKSUMS) {
+            cached = JAR_CHECKSUMS.get(path);
+        }
+        if (cached != null && cached.size() == attributes.size()
+                && cached.lastModified() == attributes.lastModifiedTime().toMillis()) {
+            return cached.checksum();
+        }
+        final MessageDigest digest = newDigest();
+        try (InputStream is = Files.newInputStream(jar)) {
+            final byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        var checksum = HexFormat.of().formatHex(digest.digest());
+        synchronized (JAR_CHECKSUMS) {
+            JAR_CHECKSUMS.put(path,
+                    new JarChecksum(attributes.size(), attributes.lastModifiedTime().toMillis(), checksum));
+        }
+        return checksum;
+    }
+
+    static int cachedChecksums() {
+        synchronized (JAR_CHECKSUMS) {
+            return JAR_CHECKSUMS.size();
+        }
+    }
+
+    private static void update(final MessageDigest digest, final String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record JarChecksum(long size, long lastModified, String checksum) {
+    }
+
+}
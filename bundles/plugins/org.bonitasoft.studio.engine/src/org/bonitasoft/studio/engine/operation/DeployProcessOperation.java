@@ -26,7 +26,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.bonitasoft.bonita2bar.BuildBarException;
@@ -38,8 +39,11 @@ import org.bonitasoft.bpm.model.process.ProcessPackage;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.api.result.StatusCode;
 import org.bonitasoft.engine.bpm.bar.BusinessArchive;
+import org.bonitasoft.engine.bpm.process.ActivationState;
 import org.bonitasoft.engine.bpm.process.Problem;
 import org.bonitasoft.engine.bpm.process.ProcessDefinition;
+import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
 import org.bonitasoft.engine.bpm.process.ProcessEnablementException;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.studio.common.emf.tools.ExpressionHelper;
@@ -48,7 +52,9 @@ import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.engine.BOSEngineManager;
 import org.bonitasoft.studio.engine.EnginePlugin;
 import org.bonitasoft.studio.engine.export.BarExporter;
+import org.bonitasoft.studio.engine.export.BusinessArchiveFingerprint;
 import org.bonitasoft.studio.engine.i18n.Messages;
+import org.bonitasoft.studio.engine.operation.DeploymentLedger.DeployedDefinition;
 import org.bonitasoft.studio.engine.ui.dialog.ProcessEnablementProblemsDialog;
 import org.bonitasoft.studio.ui.util.StatusCollectors;
 import org.eclipse.core.databinding.validation.IValidator;
@@ -76,6 +82,10 @@ public class DeployProcessOperation {
 
 	private final Map<Pool, Long> processIdsMap = new HashMap<>();
 
+	private final List<Pool> processesToDeploy = new ArrayList<>();
+
+	private final Map<Pool, String> fingerprints = new HashMap<>();
+
 	private int problemResolutionResult;
 
 	private boolean disablePopup;
@@ -102,8 +112,27 @@ public class DeployProcessOperation {
 		if (processes.isEmpty()) {
 			return ValidationStatus.error(Messages.noProcessToRun);
 		}
+		for (final Pool process : processes) {
+			final String fingerprint = fingerprint(process, monitor);
+			final Long upToDateDefinitionId = fingerprint != null
+					? findUpToDateDefinition(process, fingerprint, monitor)
+					: null;
+			if (upToDateDefinitionId != null) {
+				BonitaStudioLog.info(String.format("%s is already deployed and up to date", getProcessLabel(process)),
+						EnginePlugin.PLUGIN_ID);
+				processIdsMap.put(process, upToDateDefinitionId);
+			} else {
+				processesToDeploy.add(process);
+				if (fingerprint != null) {
+					fingerprints.put(process, fingerprint);
+				}
+			}
+		}
+		if (processesToDeploy.isEmpty()) {
+			return status;
+		}
 		try {
-			status.add(undeploy(processes, monitor));
+			status.add(undeploy(processesToDeploy, monitor));
 		} catch (final Exception e) {
 			BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
 			return ValidationStatus.error(Messages.undeploymentFailedMessage, e);
@@ -133,8 +162,7 @@ public class DeployProcessOperation {
 
 	private IStatus enable(final IProgressMonitor monitor) {
 		IStatus status = Status.CANCEL_STATUS;
-		for (final Entry<Pool, Long> entry : processIdsMap.entrySet()) {
-			final Pool process = entry.getKey();
+		for (final Pool process : processesToDeploy) {
 			monitor.subTask(NLS.bind(Messages.enablingProcess, getProcessLabel(process)));
 			try {
 				status = enableProcess(process, monitor);
@@ -152,7 +180,7 @@ public class DeployProcessOperation {
 	protected IStatus deploy(final IProgressMonitor monitor) {
 		MultiStatus multiStatus = new MultiStatus(EnginePlugin.PLUGIN_ID, -1, null, null);
 		try {
-			for (var process : processes) {
+			for (var process : processesToDeploy) {
 				multiStatus.add(deployProcess(process, monitor));
 				if (hasErrors(multiStatus)) {
 					return multiStatus;
@@ -173,7 +201,7 @@ public class DeployProcessOperation {
 		BusinessArchive bar;
 		IStatus deployStatus = Status.OK_STATUS;
 		try {
-			bar = BarExporter.getInstance().createBusinessArchive(addDefaultFormMapping(process), configurationId);
+			bar = createBusinessArchive(addDefaultFormMapping(process));
 			deployStatus = validateBarContent(bar);
 			if (hasErrors(deployStatus)) {
 				return deployStatus;
@@ -187,8 +215,8 @@ public class DeployProcessOperation {
 		ProcessDefinition def = null;
 		APISession session = null;
 		try {
-			session = BOSEngineManager.getInstance().createSession(process, configurationId, monitor);
-			final ProcessAPI processApi = BOSEngineManager.getInstance().getProcessAPI(session);
+			session = getEngineManager().createSession(process, configurationId, monitor);
+			final ProcessAPI processApi = getEngineManager().getProcessAPI(session);
 			def = processApi.deploy(bar);
 		} catch (final Exception e) {
 			String message = String.format("Error when trying to deploy process %s (%s)", process.getName(),
@@ -198,13 +226,88 @@ public class DeployProcessOperation {
 		} finally {
 			removeDefaultFormMapping(process);
 			if (session != null) {
-				BOSEngineManager.getInstance().logoutDefaultTenant(session);
+				getEngineManager().logoutDefaultTenant(session);
 			}
 		}
 		processIdsMap.put(process, def.getId());
 		return deployStatus;
 	}
 
+	protected BusinessArchive createBusinessArchive(final Pool process) throws BuildBarException {
+		return BarExporter.getInstance().createBusinessArchive(process, configurationId);
+	}
+
+	/**
+	 * @return the fingerprint of the business archive of the given process, or null if it cannot be computed
+	 */
+	protected String fingerprint(final Pool process, final IProgressMonitor monitor) {
+		try {
+			return new BusinessArchiveFingerprint().compute(process, configurationId, monitor);
+		} catch (final Exception e) {
+			BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+			return null;
+		}
+	}
+
+	/**
+	 * @return the id of the enabled process definition deployed from a business archive with the same fingerprint, or
+	 *         null if the process has to be deployed
+	 */
+	protected Long findUpToDateDefinition(final Pool process, final String fingerprint,
+			final IProgressMonitor monitor) {
+		final Optional<DeployedDefinition> deployedDefinition = getLedger()
+				.get(process.getName(), process.getVersion())
+				.filter(definition -> definition.fingerprint().equals(fingerprint));
+		if (deployedDefinition.isEmpty()) {
+			return null;
+		}
+		final long definitionId = deployedDefinition.get().id();
+		APISession session = null;
+		try {
+			session = getEngineManager().createSession(process, configurationId, monitor);
+			final ProcessDeploymentInfo info = getEngineManager().getProcessAPI(session)
+					.getProcessDeploymentInfo(definitionId);
+			if (Objects.equals(info.getName(), process.getName())
+					&& Objects.equals(info.getVersion(), process.getVersion())
+					&& info.getDeploymentDate() != null
+					&& info.getDeploymentDate().getTime() == deployedDefinition.get().deploymentDate()
+					&& info.getActivationState() == ActivationState.ENABLED) {
+				return definitionId;
+			}
+		} catch (final ProcessDefinitionNotFoundException e) {
+			// Undeployed from elsewhere
+		} catch (final Exception e) {
+			BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+		} finally {
+			if (session != null) {
+				getEngineManager().logoutDefaultTenant(session);
+			}
+		}
+		return null;
+	}
+
+	private void recordDeployment(final Pool process, final ProcessAPI processApi, final long processDefinitionId) {
+		final String fingerprint = fingerprints.get(process);
+		if (fingerprint == null) {
+			return;
+		}
+		try {
+			final ProcessDeploymentInfo info = processApi.getProcessDeploymentInfo(processDefinitionId);
+			getLedger().record(process.getName(), process.getVersion(),
+					new DeployedDefinition(fingerprint, processDefinitionId, info.getDeploymentDate().getTime()));
+		} catch (final ProcessDefinitionNotFoundException e) {
+			BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+		}
+	}
+
+	protected DeploymentLedger getLedger() {
+		return DeploymentLedger.getInstance();
+	}
+
+	protected BOSEngineManager getEngineManager() {
+		return BOSEngineManager.getInstance();
+	}
+
 	protected IStatus validateBarContent(BusinessArchive bar) {
 		return getValidators().stream().map(validator -> validator.validate(bar))
 				.collect(StatusCollectors.toMultiStatus());
@@ -256,11 +359,12 @@ public class DeployProcessOperation {
 	}
 
 	protected IStatus enableProcess(final Pool process, final IProgressMonitor monitor) throws Exception {
-		final APISession session = BOSEngineManager.getInstance().createSession(process, configurationId, monitor);
-		final ProcessAPI processApi = BOSEngineManager.getInstance().getProcessAPI(session);
+		final APISession session = getEngineManager().createSession(process, configurationId, monitor);
+		final ProcessAPI processApi = getEngineManager().getProcessAPI(session);
 		final Long processDefinitionId = processIdsMap.get(process);
 		try {
 			processApi.enableProcess(processDefinitionId);
+			recordDeployment(process, processApi, processDefinitionId);
 		} catch (final ProcessEnablementException e) {
 			final List<Problem> processResolutionProblems = processApi
 					.getProcessResolutionProblems(processDefinitionId);
@@ -285,7 +389,7 @@ public class DeployProcessOperation {
 					: handleProcessEnablementException(process, processResolutionProblems, monitor);
 		} finally {
 			if (session != null) {
-				BOSEngineManager.getInstance().logoutDefaultTenant(session);
+				getEngineManager().logoutDefaultTenant(session);
 			}
 		}
 		return Status.OK_STATUS;
@@ -321,9 +425,10 @@ public class DeployProcessOperation {
 
 	protected IStatus undeploy(final List<Pool> processes, final IProgressMonitor monitor) throws Exception {
 		final UndeployProcessOperation undeployProcessOperation = new UndeployProcessOperation(
-				BOSEngineManager.getInstance());
+				getEngineManager());
 		undeployProcessOperation.setConfigurationId(configurationId);
 		for (final Pool process : processes) {
+			getLedger().remove(process.getName(), process.getVersion());
 			undeployProcessOperation.addProcessToUndeploy(process);
 		}
 		return undeployProcessOperation.run(monitor);
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.operation;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.bonitasoft.studio.engine.EnginePlugin;
+
+/**
+ * Local record of the process definitions deployed from the studio, with the fingerprint of their business archive.
+ * The deployment date of the definition is kept as a marker, to detect a definition deployed again from elsewhere or
+ * an engine whose database has been reset.
+ */
+public class DeploymentLedger {
+
+    private static final String LEDGER_FILE_NAME = "deployments.properties";
+
+    private static DeploymentLedger INSTANCE;
+
+    private final PropertiesLedger ledger;
+
+    DeploymentLedger(final Path file) {
+        this.ledger = new PropertiesLedger(file, EnginePlugin.PLUGIN_ID);
+    }
+
+    public static synchronized DeploymentLedger getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new DeploymentLedger(
+                    EnginePlugin.getDefault().getStateLocation().append(LEDGER_FILE_NAME).toFile().toPath());
+        }
+        return INSTANCE;
+    }
+
+    public synchronized Optional<DeployedDefinition> get(final String processName, final String processVersion) {
+        final String value = ledger.get(key(processName, processVersion));
+        if (value == null) {
+            return Optional.empty();
+        }
+        final String[] segments = value.split(";");
+        if (segments.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new DeployedDefinition(segments[0], Long.parseLong(segments[1]),
+                    Long.parseLong(segments[2])));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void record(final String processName, final String processVersion,
+            final DeployedDefinition definition) {
+        ledger.put(key(processName, processVersion),
+                String.join(";", definition.fingerprint(), String.valueOf(definition.id()),
+                        String.valueOf(definition.deploymentDate())));
+    }
+
+    public synchronized void remove(final String processName, final String processVersion) {
+        ledger.remove(key(processName, processVersion));
+    }
+
+    private static String key(final String processName, final String processVersion) {
+        return processName + "--" + processVersion;
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the deployed business archive
+     * @param id the id of the process definition
+     * @param deploymentDate the deployment date of the process definition, in milliseconds
+     */
+    public record DeployedDefinition(String fingerprint, long id, long deploymentDate) {
+    }
+
+}
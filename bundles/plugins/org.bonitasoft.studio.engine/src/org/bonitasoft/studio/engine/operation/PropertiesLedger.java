@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.operation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+
+/**
+ * Properties file recording what has been pushed to the engine from the studio, so that it is not pushed again
+ * after a restart. The file is read on first access and replaced atomically on each change, a reader never sees a
+ * partially written file.
+ */
+public class PropertiesLedger {
+
+    private final Path file;
+    private final String pluginId;
+    private Properties entries;
+
+    /**
+     * @param file the properties file, usually in the state location of the plugin
+     * @param pluginId the id of the plugin logging the read and write failures
+     */
+    public PropertiesLedger(final Path file, final String pluginId) {
+        this.file = file;
+        this.pluginId = pluginId;
+    }
+
+    public synchronized String get(final String key) {
+        return entries().getProperty(key);
+    }
+
+    /**
+     * Sets all the given entries with a single write of the file.
+     */
+    public synchronized void putAll(final Map<String, String> values) {
+        entries().putAll(values);
+        store();
+    }
+
+    public synchronized void put(final String key, final String value) {
+        putAll(Map.of(key, value));
+    }
+
+    public synchronized void remove(final String key) {
+        if (entries().remove(key) != null) {
+            store();
+        }
+    }
+
+    private Properties entries() {
+        if (entries == null) {
+            entries = new Properties();
+            if (Files.isRegularFile(file)) {
+                try (InputStream is = Files.newInputStream(file)) {
+                    entries.load(is);
+                } catch (final IOException e) {
+                    BonitaStudioLog.error(e, pluginId);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void store() {
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tmpFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmpFile)) {
+                entries.store(os, null);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            BonitaStudioLog.error(e, pluginId);
+        }
+    }
+
+}
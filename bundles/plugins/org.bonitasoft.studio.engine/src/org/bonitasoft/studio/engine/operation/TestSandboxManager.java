@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.engine.operation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.bpm.bar.BusinessArchive;
+import org.bonitasoft.engine.bpm.process.ActivationState;
+import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfoSearchDescriptor;
+import org.bonitasoft.engine.search.SearchOptionsBuilder;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.engine.EnginePlugin;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Keeps the pools used to test expressions and connectors deployed and enabled between evaluations.
+ * A sandbox is deployed once per pool name and fingerprint of what the pool depends on (connector implementation,
+ * jars, outputs...). All the sandboxes are undeployed when a file that may change the process classpath (jars, Maven
+ * descriptors, sources, connector definitions and implementations) is modified, and when the engine is stopped.
+ * Callers usually compute the fingerprint with a
+ * {@link org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint}.
+ */
+public class TestSandboxManager implements IResourceChangeListener {
+
+    /** Maximum number of sandboxes kept deployed, the least recently used one is undeployed first. */
+    static final int MAX_SANDBOXES = 5;
+
+    private static final String SANDBOX_VERSION_PREFIX = "sandbox-";
+    private static final Set<String> CLASSPATH_FILE_EXTENSIONS = Set.of("jar", "groovy", "java", "impl", "def",
+            "properties");
+    private static final String POM_FILE_NAME = "pom.xml";
+
+    private static TestSandboxManager INSTANCE;
+
+    private final Map<String, Long> sandboxes = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> cleanedPoolNames = new HashSet<>();
+    private final AtomicLong classpathGeneration = new AtomicLong();
+    private long sandboxesGeneration;
+    private int deployCount;
+
+    TestSandboxManager() {
+    }
+
+    public static synchronized TestSandboxManager getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new TestSandboxManager();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(INSTANCE, IResourceChangeEvent.POST_CHANGE);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return the id of an enabled process definition built with the given fingerprint, deploying it with the
+     *         archive provided by the builder if needed
+     */
+    public synchronized long getSandbox(ProcessAPI processApi, String poolName, String fingerprint,
+            SandboxArchiveBuilder builder) throws Exception {
+        long generation = classpathGeneration.get();
+        if (generation != sandboxesGeneration) {
+            undeployAll(processApi);
+            sandboxesGeneration = generation;
+        }
+        var key = poolName + "/" + fingerprint;
+        var processId = sandboxes.get(key);
+        if (processId != null) {
+            if (isEnabled(processApi, processId)) {
+                return processId;
+            }
+            sandboxes.remove(key);
+        }
+        var version = SANDBOX_VERSION_PREFIX + fingerprint.substring(0, Math.min(12, fingerprint.length()));
+        if (cleanedPoolNames.add(poolName)) {
+            // Sandboxes left by a previous session
+            undeployUntracked(processApi, poolName, null);
+        } else {
+            undeployUntracked(processApi, poolName, version);
+        }
+        var definition = processApi.deploy(builder.build(version));
+        processApi.enableProcess(definition.getId());
+        deployCount++;
+        sandboxes.put(key, definition.getId());
+        evictLeastRecentlyUsed(processApi);
+        return definition.getId();
+    }
+
+    /**
+     * Undeploys the sandboxes known by this manager, for instance before the engine stops.
+     */
+    public synchronized void undeployAll(ProcessAPI processApi) {
+        for (var processId : new ArrayList<>(sandboxes.values())) {
+            undeploy(processApi, processId);
+        }
+        sandboxes.clear();
+    }
+
+    /**
+     * Forgets the deployed sandboxes without undeploying them, when the engine they were deployed on is gone.
+     */
+    public synchronized void reset() {
+        sandboxes.clear();
+        cleanedPoolNames.clear();
+    }
+
+    public synchronized boolean hasSandboxes() {
+        return !sandboxes.isEmpty();
+    }
+
+    public synchronized int getDeployCount() {
+        return deployCount;
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        if (event.getDelta() == null) {
+            return;
+        }
+        try {
+            event.getDelta().accept(delta -> {
+                var resource = delta.getResource();
+                if (resource.isDerived()) {
+                    return false;
+                }
+                if (resource.getType() == IResource.FILE && affectsClasspath(resource, delta)) {
+                    classpathGeneration.incrementAndGet();
+                    return false;
+                }
+                return true;
+            });
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+            classpathGeneration.incrementAndGet();
+        }
+    }
+
+    private static boolean affectsClasspath(IResource file, IResourceDelta delta) {
+        if (delta.getKind() == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) == 0) {
+            return false;
+        }
+        return POM_FILE_NAME.equals(file.getName())
+                || (file.getFileExtension() != null && CLASSPATH_FILE_EXTENSIONS.contains(file.getFileExtension()));
+    }
+
+    private void evictLeastRecentlyUsed(ProcessAPI processApi) {
+        var it = sandboxes.entrySet().iterator();
+        while (sandboxes.size() > MAX_SANDBOXES && it.hasNext()) {
+            var processId = it.next().getValue();
+            it.remove();
+            undeploy(processApi, processId);
+        }
+    }
+
+    private void undeployUntracked(ProcessAPI processApi, String poolName, String version) throws Exception {
+        var searchOptions = new SearchOptionsBuilder(0, Integer.MAX_VALUE)
+                .filter(ProcessDeploymentInfoSearchDescriptor.NAME, poolName);
+        if (version != null) {
+            searchOptions.filter(ProcessDeploymentInfoSearchDescriptor.VERSION, version);
+        }
+        for (ProcessDeploymentInfo info : processApi.searchProcessDeploymentInfos(searchOptions.done())
+                .getResult()) {
+            if (!sandboxes.containsValue(info.getProcessId())) {
+                undeploy(processApi, info.getProcessId());
+            }
+        }
+    }
+
+    private static boolean isEnabled(ProcessAPI processApi, long processId) {
+        try {
+            return processApi.getProcessDeploymentInfo(processId).getActivationState() == ActivationState.ENABLED;
+        } catch (ProcessDefinitionNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void undeploy(ProcessAPI processApi, long processId) {
+        try {
+            if (processApi.getProcessDeploymentInfo(processId).getActivationState() == ActivationState.ENABLED) {
+                processApi.disableProcess(processId);
+            }
+            processApi.deleteProcessDefinition(processId);
+        } catch (ProcessDefinitionNotFoundException e) {
+            // Already undeployed
+        } catch (Exception e) {
+            BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SandboxArchiveBuilder {
+
+        /**
+         * Builds the archive of the sandbox pool with the given version.
+         */
+        BusinessArchive build(String version) throws Exception;
+    }
+
+}
@@ -17,16 +17,22 @@ package org.bonitasoft.studio.engine.operation;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.net.CookieHandler;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
-import java.net.ProtocolException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.process.ProcessActivationException;
@@ -61,6 +67,7 @@ public class UndeployProcessOperation {
     private static final String HTTP_METHOD_DELETE = "DELETE";
     private static final String HTTP_METHOD_POST = "POST";
     private static final int MAX_RESULTS = 1000;
+    private static final int MAX_PARALLELISM = 4;
     private String configurationId;
     private final List<AbstractProcess> processes = new ArrayList<AbstractProcess>();
     private final BOSEngineManager engineManager;
@@ -90,6 +97,8 @@ public class UndeployProcessOperation {
         if (undeployAll) {
             try {
                 return undeployAll(monitor);
+            } catch (final DefinitionUndeploymentException e) {
+                return errorStatus(e);
             } catch (final Exception e) {
                 BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
                 return Status.error(String.format(Messages.undeploymentFailedMessage+": %s",e.getMessage()), e);
@@ -102,29 +111,36 @@ public class UndeployProcessOperation {
     }
 
     protected IStatus undeploy(final IProgressMonitor monitor) {
-        for (final AbstractProcess process : processes) {
-            try {
-                undeployProcess(process, monitor);
-            } catch (Exception e) {
-                BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
-                return new Status(Status.ERROR, EnginePlugin.PLUGIN_ID, String.format("%s (%s): %s",process.getName(),process.getVersion(),e.getMessage()), e);
-            }
+        try {
+            undeployProcesses(processes, monitor);
+        } catch (DefinitionUndeploymentException e) {
+            return errorStatus(e);
+        } catch (Exception e) {
+            BonitaStudioLog.error(e, EnginePlugin.PLUGIN_ID);
+            return Status.error(String.format("%s: %s", Messages.undeploymentFailedMessage, e.getMessage()), e);
         }
         return Status.OK_STATUS;
     }
 
+    /**
+     * @return an error status naming the process definition that failed to be undeployed
+     */
+    private static IStatus errorStatus(final DefinitionUndeploymentException e) {
+        BonitaStudioLog.error(e.getCause(), EnginePlugin.PLUGIN_ID);
+        return new Status(IStatus.ERROR, EnginePlugin.PLUGIN_ID,
+                String.format("%s: %s", e.getProcessLabel(), e.getCause().getMessage()), e.getCause());
+    }
+
     protected IStatus undeployAll(final IProgressMonitor monitor) throws Exception {
         final APISession session = engineManager.loginDefaultTenant(monitor);
         try {
             final ProcessAPI processApi = engineManager.getProcessAPI(session);
-            for (final ProcessDeploymentInfo info : processApi.getProcessDeploymentInfos(0, Integer.MAX_VALUE, ProcessDeploymentInfoCriterion.DEFAULT)) {
-                disableProcessDefinition(info.getDisplayName(), processApi, info.getProcessId(), monitor);
-                deleteProcessInstances(info.getDisplayName(), processApi, info.getProcessId(), monitor);
-                deleteArchivedProcessInstances(processApi, info.getProcessId());
-                deleteProcessDefinition(info.getDisplayName(), processApi, info.getProcessId(), monitor);
+            final Map<Long, String> definitions = new LinkedHashMap<>();
+            for (final ProcessDeploymentInfo info : processApi.getProcessDeploymentInfos(0, Integer.MAX_VALUE,
+                    ProcessDeploymentInfoCriterion.DEFAULT)) {
+                definitions.put(info.getProcessId(), info.getDisplayName());
             }
-        } catch (final ProcessDefinitionNotFoundException e) {
-            // Skip
+            undeployDefinitions(processApi, definitions, monitor);
         } finally {
             if (session != null) {
                 engineManager.logoutDefaultTenant(session);
@@ -134,19 +150,30 @@ public class UndeployProcessOperation {
     }
 
     protected void undeployProcess(final AbstractProcess process, final IProgressMonitor monitor) throws Exception {
-        final APISession session = engineManager.createSession(process, configurationId, monitor);
+        undeployProcesses(List.of(process), monitor);
+    }
+
+    /**
+     * Undeploys the given processes using a single engine session and a single portal session.
+     */
+    protected void undeployProcesses(final List<AbstractProcess> processes, final IProgressMonitor monitor)
+            throws Exception {
+        final APISession session = engineManager.createSession(processes.get(0), configurationId, monitor);
         try {
             final ProcessAPI processApi = engineManager.getProcessAPI(session);
-            final long nbDeployedProcesses = processApi.getNumberOfProcessDeploymentInfos();
-            if (nbDeployedProcesses > 0) {
-                final long processDefinitionId = processApi.getProcessDefinitionId(process.getName(), process.getVersion());
-                disableProcessDefinition(getProcessLabel(process), processApi, processDefinitionId, monitor);
-                deleteProcessInstances(getProcessLabel(process), processApi, processDefinitionId, monitor);
-                deleteArchivedProcessInstances(processApi, processDefinitionId);
-                deleteProcessDefinition(getProcessLabel(process), processApi, processDefinitionId, monitor);
+            if (processApi.getNumberOfProcessDeploymentInfos() == 0) {
+                return;
+            }
+            final Map<Long, String> definitions = new LinkedHashMap<>();
+            for (final AbstractProcess process : processes) {
+                try {
+                    definitions.put(processApi.getProcessDefinitionId(process.getName(), process.getVersion()),
+                            getProcessLabel(process));
+                } catch (final ProcessDefinitionNotFoundException e) {
+                    // Skip
+                }
             }
-        } catch (final ProcessDefinitionNotFoundException e) {
-            // Skip
+            undeployDefinitions(processApi, definitions, monitor);
         } finally {
             if (session != null) {
                 engineManager.logoutDefaultTenant(session);
@@ -154,24 +181,72 @@ public class UndeployProcessOperation {
         }
     }
 
-    private void deleteProcessDefinition(final String processLabel, final ProcessAPI processApi, final long processDefinitionId,
-            final IProgressMonitor monitor)
-            throws DeletionException, URISyntaxException, IOException {
-        monitor.subTask(Messages.bind(Messages.deletingProcessDefinition, processLabel));
-        CookieHandler.setDefault(new CookieManager(null, CookiePolicy.ACCEPT_ALL));
-        String apiToken = logToSession(monitor);
+    private void undeployDefinitions(final ProcessAPI processApi, final Map<Long, String> definitions,
+            final IProgressMonitor monitor) throws Exception {
+        final List<Long> disabledDefinitions = forEachDefinition(definitions, (processDefinitionId, processLabel) -> {
+            try {
+                disableProcessDefinition(processLabel, processApi, processDefinitionId, monitor);
+                deleteProcessInstances(processLabel, processApi, processDefinitionId, monitor);
+                deleteArchivedProcessInstances(processApi, processDefinitionId);
+                return true;
+            } catch (final ProcessDefinitionNotFoundException e) {
+                // Skip
+                return false;
+            }
+        });
+        if (disabledDefinitions.isEmpty()) {
+            return;
+        }
+        try (PortalSession portalSession = new PortalSession(monitor)) {
+            for (final Long processDefinitionId : disabledDefinitions) {
+                final String processLabel = definitions.get(processDefinitionId);
+                subTask(monitor, Messages.bind(Messages.deletingProcessDefinition, processLabel));
+                try {
+                    deleteProcessDefinition(processApi, processDefinitionId, portalSession);
+                } catch (final IOException | DeletionException e) {
+                    throw new DefinitionUndeploymentException(processLabel, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the task for each process definition with a bounded parallelism.
+     *
+     * @return the ids of the process definitions for which the task returned true, in the iteration order of the
+     *         definitions
+     */
+    private List<Long> forEachDefinition(final Map<Long, String> definitions, final DefinitionTask task)
+            throws Exception {
+        if (definitions.isEmpty()) {
+            return List.of();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(MAX_PARALLELISM, definitions.size()));
         try {
-            deleteProcessDefinition(processApi, processDefinitionId,apiToken);
+            final Map<Long, Future<Boolean>> results = new LinkedHashMap<>();
+            definitions.forEach((processDefinitionId, processLabel) -> results.put(processDefinitionId,
+                    executor.submit(() -> task.run(processDefinitionId, processLabel))));
+            final List<Long> processDefinitionIds = new ArrayList<>();
+            for (final Entry<Long, Future<Boolean>> result : results.entrySet()) {
+                try {
+                    if (Boolean.TRUE.equals(result.getValue().get())) {
+                        processDefinitionIds.add(result.getKey());
+                    }
+                } catch (final ExecutionException e) {
+                    throw new DefinitionUndeploymentException(definitions.get(result.getKey()), e.getCause());
+                }
+            }
+            return processDefinitionIds;
         } finally {
-            logoutFromSession(apiToken);
+            executor.shutdownNow();
         }
     }
 
-    protected void deleteProcessDefinition(final ProcessAPI processApi, final long processDefinitionId, String apiToken) throws IOException, MalformedURLException,
-            ProtocolException, DeletionException {
-        final HttpURLConnection deleteConnection = openConnection(getUrlBase() + API_PROCESS_RESOURCE + processDefinitionId);
+    protected void deleteProcessDefinition(final ProcessAPI processApi, final long processDefinitionId,
+            final PortalSession portalSession) throws IOException, DeletionException {
+        final HttpURLConnection deleteConnection = portalSession
+                .openConnection(getUrlBase() + API_PROCESS_RESOURCE + processDefinitionId);
         deleteConnection.setRequestMethod(HTTP_METHOD_DELETE);
-        deleteConnection.setRequestProperty(BONITA_API_TOKEN_HEADER, apiToken);
         if (HttpURLConnection.HTTP_OK != deleteConnection.getResponseCode()) {
             processApi.deleteProcessDefinition(processDefinitionId);
         }
@@ -186,28 +261,6 @@ public class UndeployProcessOperation {
         return BOSWebServerManager.getInstance().generateUrlBase();
     }
 
-    protected void logoutFromSession(String apiToken) throws IOException, MalformedURLException, ProtocolException {
-        final HttpURLConnection logoutConnection = openConnection(getUrlBase() + API_LOGOUT);
-        logoutConnection.setRequestMethod(HTTP_METHOD_POST);
-        logoutConnection.setRequestProperty(BONITA_API_TOKEN_HEADER, apiToken);
-        if (HttpURLConnection.HTTP_OK != logoutConnection.getResponseCode()) {
-            BonitaStudioLog.error("Cannot unlog to session " + logoutConnection.getResponseCode(), EnginePlugin.PLUGIN_ID);
-        }
-    }
-
-    protected String logToSession(final IProgressMonitor monitor) throws MalformedURLException, UnsupportedEncodingException, URISyntaxException, IOException {
-        HttpURLConnection connection = openLoginConnection(monitor);
-        if (HttpURLConnection.HTTP_OK != connection.getResponseCode()) {
-            BonitaStudioLog.error("Cannot log to session " + connection.getResponseCode(), EnginePlugin.PLUGIN_ID);
-        }
-        connection.disconnect();
-
-        connection = openConnection(getUrlBase() + API_SESSION);
-        String apiToken = connection.getHeaderField(BONITA_API_TOKEN_HEADER);
-        connection.disconnect();
-        return apiToken;
-    }
-
     protected HttpURLConnection openLoginConnection(final IProgressMonitor monitor) throws MalformedURLException, UnsupportedEncodingException,
             URISyntaxException, IOException {
         final URL loginUrl = new LoginUrlBuilder().toURL(monitor);
@@ -227,7 +280,7 @@ public class UndeployProcessOperation {
             final IProgressMonitor monitor)
             throws DeletionException {
         boolean allInstancesDeleted = false;
-        monitor.subTask(Messages.bind(Messages.deletingProcessInstances, processLabel));
+        subTask(monitor, Messages.bind(Messages.deletingProcessInstances, processLabel));
         while (!allInstancesDeleted) {
             try {
                 final long nbDeletedProcessInstances = processApi.deleteProcessInstances(processDefinitionId, 0, MAX_RESULTS);
@@ -246,17 +299,106 @@ public class UndeployProcessOperation {
     private void disableProcessDefinition(final String processLabel, final ProcessAPI processApi, final long processDefinitionId,
             final IProgressMonitor monitor)
             throws ProcessDefinitionNotFoundException {
-        monitor.subTask(Messages.bind(Messages.undeploying, processLabel));
+        subTask(monitor, Messages.bind(Messages.undeploying, processLabel));
         try {
-            monitor.subTask(Messages.bind(Messages.disablingProcessDefinition, processLabel));
+            subTask(monitor, Messages.bind(Messages.disablingProcessDefinition, processLabel));
             processApi.disableProcess(processDefinitionId);
         } catch (final ProcessActivationException e) {
             BonitaStudioLog.debug("Failed to disable the process", e, EnginePlugin.PLUGIN_ID);
         }
     }
 
+    private static void subTask(final IProgressMonitor monitor, final String name) {
+        synchronized (monitor) {
+            monitor.subTask(name);
+        }
+    }
+
     private String getProcessLabel(final AbstractProcess process) {
         return process.getName() + " (" + process.getVersion() + ")";
     }
 
+    /**
+     * Failure to undeploy a process definition, with the label of the process it was deployed from.
+     */
+    private static class DefinitionUndeploymentException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String processLabel;
+
+        DefinitionUndeploymentException(final String processLabel, final Throwable cause) {
+            super(cause);
+            this.processLabel = processLabel;
+        }
+
+        String getProcessLabel() {
+            return processLabel;
+        }
+    }
+
+    @FunctionalInterface
+    private interface DefinitionTask {
+
+        boolean run(long processDefinitionId, String processLabel) throws Exception;
+    }
+
+    /**
+     * A portal session for the whole undeployment: it keeps its own cookies instead of relying on the JVM wide
+     * {@link java.net.CookieHandler}.
+     */
+    protected class PortalSession implements AutoCloseable {
+
+        private final CookieManager cookieManager = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+        private final URI portalUri;
+        private final String apiToken;
+
+        PortalSession(final IProgressMonitor monitor) throws URISyntaxException, IOException {
+            portalUri = new URI(getUrlBase() + "/bonita/");
+            final HttpURLConnection loginConnection = openLoginConnection(monitor);
+            if (HttpURLConnection.HTTP_OK != loginConnection.getResponseCode()) {
+                BonitaStudioLog.error("Cannot log to session " + loginConnection.getResponseCode(),
+                        EnginePlugin.PLUGIN_ID);
+            }
+            storeCookies(loginConnection);
+            loginConnection.disconnect();
+
+            final HttpURLConnection sessionConnection = openConnection(getUrlBase() + API_SESSION);
+            apiToken = sessionConnection.getHeaderField(BONITA_API_TOKEN_HEADER);
+            storeCookies(sessionConnection);
+            sessionConnection.disconnect();
+        }
+
+        HttpURLConnection openConnection(final String url) throws IOException {
+            final HttpURLConnection connection = UndeployProcessOperation.this.openConnection(url);
+            for (final Entry<String, List<String>> header : cookieManager.get(portalUri, Map.of()).entrySet()) {
+                if (!header.getValue().isEmpty()) {
+                    connection.setRequestProperty(header.getKey(), String.join("; ", header.getValue()));
+                }
+            }
+            if (apiToken != null) {
+                connection.setRequestProperty(BONITA_API_TOKEN_HEADER, apiToken);
+            }
+            return connection;
+        }
+
+        private void storeCookies(final HttpURLConnection connection) throws IOException {
+            final Map<String, List<String>> headers = connection.getHeaderFields();
+            if (headers != null) {
+                cookieManager.put(portalUri, headers);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            final HttpURLConnection logoutConnection = openConnection(getUrlBase() + API_LOGOUT);
+            logoutConnection.setRequestMethod(HTTP_METHOD_POST);
+            if (HttpURLConnection.HTTP_OK != logoutConnection.getResponseCode()) {
+                BonitaStudioLog.error("Cannot unlog to session " + logoutConnection.getResponseCode(),
+                        EnginePlugin.PLUGIN_ID);
+            }
+            logoutConnection.disconnect();
+        }
+    }
+
 }
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.groovy.ui.viewer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jface.text.Document;
+import org.eclipse.ui.texteditor.IDocumentProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScriptEditorInputPoolTest {
+
+    private static final IPath SOURCE_FOLDER = Path.fromPortableString("/app/src-providedGroovy");
+
+    private ScriptEditorInputPool pool;
+    private IDocumentProvider documentProvider;
+
+    @Before
+    public void createPool() throws Exception {
+        pool = new ScriptEditorInputPool();
+        documentProvider = mock(IDocumentProvider.class);
+    }
+
+    @Test
+    public void should_create_distinct_inputs_in_the_source_folder() throws Exception {
+        var input = pool.acquire(SOURCE_FOLDER);
+        var otherInput = pool.acquire(SOURCE_FOLDER);
+
+        assertThat(input.getPath(null).removeLastSegments(1)).isEqualTo(SOURCE_FOLDER);
+        assertThat(input.getName()).startsWith("BonitaTmpScript").endsWith(".groovy");
+        assertThat(otherInput).isNotEqualTo(input);
+    }
+
+    @Test
+    public void should_reuse_a_released_input_still_connected() throws Exception {
+        var input = pool.acquire(SOURCE_FOLDER);
+        var document = new Document("return 42");
+        when(documentProvider.getDocument(input)).thenReturn(document);
+
+        pool.release(input, documentProvider);
+
+        verify(documentProvider).connect(input);
+        verify(documentProvider, never()).disconnect(input);
+        assertThat(document.get()).isEmpty();
+        assertThat(pool.acquire(SOURCE_FOLDER)).isSameAs(input);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    public void should_drop_the_connection_of_the_pool_once_the_editor_is_connected() throws Exception {
+        var input = pool.acquire(SOURCE_FOLDER);
+        pool.release(input, documentProvider);
+        pool.acquire(SOURCE_FOLDER);
+
+        pool.connected(input);
+        pool.connected(input);
+
+        verify(documentProvider, times(1)).disconnect(input);
+    }
+
+    @Test
+    public void should_not_keep_more_inputs_than_the_pool_size() throws Exception {
+        var inputs = new ScriptEditorInput[ScriptEditorInputPool.MAX_SIZE + 1];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = pool.acquire(SOURCE_FOLDER);
+        }
+        for (ScriptEditorInput input : inputs) {
+            pool.release(input, documentProvider);
+        }
+
+        assertThat(pool.size()).isEqualTo(ScriptEditorInputPool.MAX_SIZE);
+        verify(documentProvider, never()).connect(inputs[ScriptEditorInputPool.MAX_SIZE]);
+    }
+
+    @Test
+    public void should_disconnect_the_released_inputs_of_another_project() throws Exception {
+        var input = pool.acquire(SOURCE_FOLDER);
+        pool.release(input, documentProvider);
+
+        var otherProjectInput = pool.acquire(Path.fromPortableString("/otherApp/src-providedGroovy"));
+
+        assertThat(otherProjectInput).isNotEqualTo(input);
+        verify(documentProvider).disconnect(input);
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    public void should_disconnect_the_released_inputs_when_cleared() throws Exception {
+        var input = pool.acquire(SOURCE_FOLDER);
+        pool.release(input, documentProvider);
+
+        pool.clear();
+
+        verify(documentProvider).disconnect(input);
+        assertThat(pool.acquire(SOURCE_FOLDER)).isNotEqualTo(input);
+    }
+
+}
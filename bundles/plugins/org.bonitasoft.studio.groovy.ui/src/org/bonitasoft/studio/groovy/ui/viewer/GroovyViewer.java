@@ -16,9 +16,6 @@ package org.bonitasoft.studio.groovy.ui.viewer;
 
 import static com.google.common.collect.Lists.newArrayList;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -51,16 +48,12 @@ import org.bonitasoft.studio.expression.editor.viewer.ExpressionViewer;
 import org.bonitasoft.studio.groovy.BonitaScriptGroovyCompilationUnit;
 import org.bonitasoft.studio.groovy.GroovyUtil;
 import org.bonitasoft.studio.groovy.ScriptVariable;
-import org.bonitasoft.studio.groovy.repository.GroovyFileStore;
 import org.bonitasoft.studio.groovy.ui.Activator;
 import org.bonitasoft.studio.groovy.ui.Messages;
 import org.bonitasoft.studio.groovy.ui.job.UnknownElementsIndexer;
 import org.codehaus.groovy.eclipse.editor.GroovyEditor;
 import org.codehaus.groovy.eclipse.preferences.PreferenceConstants;
-import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.jdt.internal.ui.JavaPlugin;
@@ -86,7 +79,6 @@ import org.eclipse.ui.ISources;
 import org.eclipse.ui.IWorkbenchPart;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.Workbench;
-import org.eclipse.ui.part.FileEditorInput;
 import org.eclipse.ui.texteditor.rulers.IColumnSupport;
 
 import com.google.common.collect.Lists;
@@ -108,6 +100,8 @@ public class GroovyViewer implements IDocumentListener {
 
     private IEditorInput input;
 
+    private ScriptEditorInput pooledInput;
+
     private List<ScriptVariable> nodes;
 
     private Set<String> knowVariables;
@@ -141,7 +135,8 @@ public class GroovyViewer implements IDocumentListener {
         this.restrictScriptSize = restrictScriptSize;
         enbaleSyntaxHighligthing();
         if (input == null) {
-            this.input = new FileEditorInput(createTempSourceFile());
+            pooledInput = createScriptInput();
+            this.input = pooledInput;
         } else {
             this.input = input;
         }
@@ -151,7 +146,11 @@ public class GroovyViewer implements IDocumentListener {
             final DummyEditorSite site = new DummyEditorSite(mainComposite.getShell(), editor);
             groovyEditorContext.set(ISources.ACTIVE_SITE_NAME, site);
             editor.init(site, this.input);
-            editor.doSave(AbstractRepository.NULL_PROGRESS_MONITOR);
+            if (pooledInput != null) {
+                ScriptEditorInputPool.getInstance().connected(pooledInput);
+            } else if (!(this.input instanceof ScriptEditorInput)) {
+                editor.doSave(AbstractRepository.NULL_PROGRESS_MONITOR);
+            }
             ASTProvider astProvider = JavaPlugin.getDefault().getASTProvider();
             org.eclipse.jdt.groovy.core.util.ReflectionUtils.executePrivateMethod(ASTProvider.class,
                     "activeJavaEditorChanged", new Class[] { IWorkbenchPart.class }, astProvider,
@@ -189,23 +188,14 @@ public class GroovyViewer implements IDocumentListener {
         });
     }
 
-    private IFile createTempSourceFile() {
+    /**
+     * The script is edited in memory, in a virtual file of the generated Groovy sources folder of the app project.
+     * The input and its working copy are taken from the pool and given back when the viewer is disposed.
+     */
+    private ScriptEditorInput createScriptInput() {
         var appProject = RepositoryManager.getInstance().getCurrentProject().orElseThrow().getAppProject();
-        var tmpScriptFile = appProject.getFile(AppProjectConfiguration.GENERATED_GROOVY_SOURCES_FODLER + "/"
-                + GroovyFileStore.tmpScriptName());
-        try {
-            if(tmpScriptFile.exists()) {
-                tmpScriptFile.delete(true, new NullProgressMonitor());
-            }
-            if(!tmpScriptFile.getParent().exists()) {
-                Files.createDirectories(tmpScriptFile.getLocation().toFile().toPath().getParent());
-                tmpScriptFile.getParent().refreshLocal(IResource.DEPTH_ONE, new NullProgressMonitor());
-            }
-            tmpScriptFile.create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor());
-        } catch (CoreException | IOException e) {
-            BonitaStudioLog.error(e);
-        }
-        return tmpScriptFile;
+        return ScriptEditorInputPool.getInstance().acquire(appProject.getFullPath()
+                .append(AppProjectConfiguration.GENERATED_GROOVY_SOURCES_FODLER));
     }
 
     private IEclipseContext createGroovyEditorContext() {
@@ -333,9 +323,16 @@ public class GroovyViewer implements IDocumentListener {
     public void dispose() {
         SourceViewer viewer = (SourceViewer) editor.getViewer();
         if (viewer != null) {
-            // Stops reconciler thread before deleting groovy file
+            // Stops reconciler thread before disconnecting the script working copy
             viewer.unconfigure();
         }
+        if (pooledInput != null && editor.getDocumentProvider() != null) {
+            final IDocument document = editor.getDocumentProvider().getDocument(pooledInput);
+            if (document != null) {
+                document.removeDocumentListener(this);
+            }
+            ScriptEditorInputPool.getInstance().release(pooledInput, editor.getDocumentProvider());
+        }
         final IColumnSupport columSupport = (IColumnSupport) editor.getAdapter(IColumnSupport.class);
         if (columSupport != null) {
             columSupport.dispose();
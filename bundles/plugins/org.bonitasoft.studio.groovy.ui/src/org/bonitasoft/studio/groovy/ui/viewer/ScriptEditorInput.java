@@ -25,15 +25,28 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.IPersistableElement;
 import org.eclipse.ui.IStorageEditorInput;
+import org.eclipse.ui.editors.text.ILocationProvider;
 
 
 /**
- * @author Romain Bioteau
+ * In memory input of the embedded Groovy editors.
+ * The script is not backed by a workspace file: the Java document provider connects an in memory file buffer for the
+ * storage path and creates a working copy on it, resolved with the classpath of the project containing the path.
+ * Nothing is written to disk, so opening a script editor does not trigger any resource delta nor build.
  *
+ * @author Romain Bioteau
  */
-public class ScriptEditorInput implements IStorageEditorInput {
+public class ScriptEditorInput implements IStorageEditorInput, ILocationProvider {
 
+    private final IPath path;
 
+    /**
+     * @param path the workspace path of the virtual script file, its first segment must be the name of the Java
+     *        project providing the classpath. No file must exist at this path.
+     */
+    public ScriptEditorInput(final IPath path) {
+        this.path = path;
+    }
 
     /* (non-Javadoc)
      * @see org.eclipse.ui.IEditorInput#exists()
@@ -56,7 +69,7 @@ public class ScriptEditorInput implements IStorageEditorInput {
      */
     @Override
     public String getName() {
-        return "Script editor input";
+        return path.lastSegment();
     }
 
     /* (non-Javadoc)
@@ -75,19 +88,30 @@ public class ScriptEditorInput implements IStorageEditorInput {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
-    public Object getAdapter(Class arg0) {
-        // TODO Auto-generated method stub
+    public <T> T getAdapter(final Class<T> adapter) {
+        // The location provider lets the text file document provider share its in memory buffer with the working copy
+        if (ILocationProvider.class.equals(adapter)) {
+            return (T) this;
+        }
         return null;
     }
 
+    /* (non-Javadoc)
+     * @see org.eclipse.ui.editors.text.ILocationProvider#getPath(java.lang.Object)
+     */
+    @Override
+    public IPath getPath(final Object element) {
+        return path;
+    }
+
     @Override
     public IStorage getStorage() throws CoreException {
-        // TODO Auto-generated method stub
         return new IStorage() {
 
             @Override
-            public Object getAdapter(Class arg0) {
+            public <T> T getAdapter(final Class<T> adapter) {
                 return null;
             }
 
@@ -103,14 +127,24 @@ public class ScriptEditorInput implements IStorageEditorInput {
 
             @Override
             public IPath getFullPath() {
-                return null;
+                return path;
             }
 
             @Override
             public InputStream getContents() throws CoreException {
-                return new ByteArrayInputStream(new byte[]{});
+                return new ByteArrayInputStream(new byte[] {});
             }
         };
     }
 
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof ScriptEditorInput && path.equals(((ScriptEditorInput) obj).path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.groovy.ui.viewer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.groovy.repository.GroovyFileStore;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.texteditor.IDocumentProvider;
+
+/**
+ * Pool of the {@link ScriptEditorInput} of the embedded Groovy editors.
+ * A released input stays connected to its document provider, so its in memory buffer and its working copy, resolved
+ * with the project classpath, are reused by the next editor opened on the same source folder instead of being created
+ * again. The editor parts themselves are not pooled: their site and their controls belong to the dialog shell.
+ * Only accessed from the UI thread.
+ */
+public class ScriptEditorInputPool {
+
+    static final int MAX_SIZE = 4;
+
+    private static final ScriptEditorInputPool INSTANCE = new ScriptEditorInputPool();
+
+    /**
+     * Released inputs with the document provider holding them, the last released input last.
+     */
+    private final Map<ScriptEditorInput, IDocumentProvider> releasedInputs = new LinkedHashMap<>();
+
+    /**
+     * Acquired inputs still holding the connection of the pool until their editor connects them.
+     */
+    private final Map<ScriptEditorInput, IDocumentProvider> acquiredInputs = new LinkedHashMap<>();
+
+    public static ScriptEditorInputPool getInstance() {
+        return INSTANCE;
+    }
+
+    ScriptEditorInputPool() {
+    }
+
+    /**
+     * @param sourceFolder the workspace path of the source folder of the script, in the project providing the
+     *        classpath
+     * @return the last released input of this source folder, or a new input. The released inputs of other source
+     *         folders, from a previous project, are disconnected.
+     */
+    public ScriptEditorInput acquire(final IPath sourceFolder) {
+        ScriptEditorInput result = null;
+        for (final Entry<ScriptEditorInput, IDocumentProvider> entry : new ArrayList<>(releasedInputs.entrySet())) {
+            if (sourceFolder.equals(entry.getKey().getPath(null).removeLastSegments(1))) {
+                result = entry.getKey();
+            } else {
+                releasedInputs.remove(entry.getKey());
+                entry.getValue().disconnect(entry.getKey());
+            }
+        }
+        if (result != null) {
+            acquiredInputs.put(result, releasedInputs.remove(result));
+            return result;
+        }
+        return new ScriptEditorInput(sourceFolder.append(GroovyFileStore.tmpScriptName()));
+    }
+
+    /**
+     * Drops the connection kept by the pool once the editor of an acquired input has connected it.
+     */
+    public void connected(final ScriptEditorInput input) {
+        final IDocumentProvider documentProvider = acquiredInputs.remove(input);
+        if (documentProvider != null) {
+            documentProvider.disconnect(input);
+        }
+    }
+
+    /**
+     * Keeps the input connected and clears its document, before the editor disconnects it. When the pool is full,
+     * the input is not kept and will be disconnected by its editor.
+     */
+    public void release(final ScriptEditorInput input, final IDocumentProvider documentProvider) {
+        connected(input);
+        if (releasedInputs.containsKey(input) || releasedInputs.size() >= MAX_SIZE) {
+            return;
+        }
+        try {
+            documentProvider.connect(input);
+        } catch (final CoreException e) {
+            BonitaStudioLog.error(e);
+            return;
+        }
+        final IDocument document = documentProvider.getDocument(input);
+        if (document != null) {
+            document.set("");
+        }
+        releasedInputs.put(input, documentProvider);
+    }
+
+    /**
+     * Disconnects all the released inputs.
+     */
+    public void clear() {
+        releasedInputs.forEach((input, documentProvider) -> documentProvider.disconnect(input));
+        releasedInputs.clear();
+        acquiredInputs.forEach((input, documentProvider) -> documentProvider.disconnect(input));
+        acquiredInputs.clear();
+    }
+
+    int size() {
+        return releasedInputs.size();
+    }
+
+}
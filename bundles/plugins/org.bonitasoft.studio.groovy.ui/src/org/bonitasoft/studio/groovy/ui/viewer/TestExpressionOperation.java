@@ -17,32 +17,24 @@ package org.bonitasoft.studio.groovy.ui.viewer;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.bonitasoft.bonita2bar.BuildBarException;
 import org.bonitasoft.bonita2bar.process.expression.EngineExpressionUtil;
 import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.configuration.ConfigurationFactory;
-import org.bonitasoft.bpm.model.process.AbstractProcess;
 import org.bonitasoft.bpm.model.process.Pool;
 import org.bonitasoft.bpm.model.process.ProcessFactory;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.bar.BusinessArchive;
-import org.bonitasoft.engine.bpm.process.IllegalProcessStateException;
-import org.bonitasoft.engine.bpm.process.ProcessActivationException;
-import org.bonitasoft.engine.bpm.process.ProcessDefinition;
-import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
-import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
-import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfoCriterion;
-import org.bonitasoft.engine.exception.DeletionException;
 import org.bonitasoft.engine.session.APISession;
-import org.bonitasoft.engine.session.InvalidSessionException;
-import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.bonitasoft.studio.configuration.ConfigurationSynchronizer;
 import org.bonitasoft.studio.dependencies.repository.DependencyFileStore;
 import org.bonitasoft.studio.engine.BOSEngineManager;
 import org.bonitasoft.studio.engine.export.BarExporter;
+import org.bonitasoft.studio.engine.operation.TestSandboxManager;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -67,49 +59,38 @@ public class TestExpressionOperation implements IRunnableWithProgress {
         Assert.isNotNull(expression);
 
         APISession session = null;
-        ProcessAPI processApi = null;
-        long procId = -1;
         try {
             session = BOSEngineManager.getInstance().loginDefaultTenant(monitor);
-            processApi = BOSEngineManager.getInstance().getProcessAPI(session);
+            final ProcessAPI processApi = BOSEngineManager.getInstance().getProcessAPI(session);
             Assert.isNotNull(processApi);
-            var process = createProcess();
-
-            final Configuration configuration = ConfigurationFactory.eINSTANCE.createConfiguration();
-            configuration.setName("TestExpressionConfiguration");
-            new ConfigurationSynchronizer(process, configuration).synchronize();
-
-            final BusinessArchive businessArchive = BarExporter.getInstance().createBusinessArchive(process,
-                    configuration);
-
-            undeployProcess(process, processApi);
-            final ProcessDefinition def = processApi.deploy(businessArchive);
-            procId = def.getId();
-            processApi.enableProcess(procId);
+            // The sandbox pool is empty: only the project classpath, tracked by the sandbox manager, matters
+            final long procId = TestSandboxManager.getInstance().getSandbox(processApi, TEST_EXPRESSION_POOL,
+                    new SynchronizationFingerprint().append(TEST_EXPRESSION_POOL).compute(),
+                    this::createBusinessArchive);
             expression.setReturnType(Object.class.getName());
             result = processApi.evaluateExpressionOnProcessDefinition(EngineExpressionUtil.createExpression(expression),
                     inputValues, procId);
         } catch (final Exception e) {
             result = e;
         } finally {
-            if (processApi != null && procId != -1) {
-                try {
-                    processApi.disableProcess(procId);
-                    processApi.deleteProcessDefinition(procId);
-                } catch (final Exception e) {
-                    BonitaStudioLog.error(e);
-                }
-            }
             if (session != null) {
                 BOSEngineManager.getInstance().logoutDefaultTenant(session);
             }
         }
     }
 
-    private Pool createProcess() {
+    private BusinessArchive createBusinessArchive(final String version) throws BuildBarException {
+        final Pool process = createProcess(version);
+        final Configuration configuration = ConfigurationFactory.eINSTANCE.createConfiguration();
+        configuration.setName("TestExpressionConfiguration");
+        new ConfigurationSynchronizer(process, configuration).synchronize();
+        return BarExporter.getInstance().createBusinessArchive(process, configuration);
+    }
+
+    private Pool createProcess(final String version) {
         var proc = ProcessFactory.eINSTANCE.createPool();
         proc.setName(TEST_EXPRESSION_POOL);
-        proc.setVersion("1.0");
+        proc.setVersion(version);
         return proc;
     }
 
@@ -121,27 +102,6 @@ public class TestExpressionOperation implements IRunnableWithProgress {
         this.expression = expression;
     }
 
-    protected void undeployProcess(final AbstractProcess process, final ProcessAPI processApi)
-            throws InvalidSessionException,
-            ProcessDefinitionNotFoundException, IllegalProcessStateException, DeletionException {
-        final long nbDeployedProcesses = processApi.getNumberOfProcessDeploymentInfos();
-        if (nbDeployedProcesses > 0) {
-            final List<ProcessDeploymentInfo> processes = processApi.getProcessDeploymentInfos(0,
-                    (int) nbDeployedProcesses,
-                    ProcessDeploymentInfoCriterion.DEFAULT);
-            for (final ProcessDeploymentInfo info : processes) {
-                if (info.getName().equals(process.getName()) && info.getVersion().equals(process.getVersion())) {
-                    try {
-                        processApi.disableProcess(info.getProcessId());
-                    } catch (final ProcessActivationException e) {
-
-                    }
-                    processApi.deleteProcessDefinition(info.getProcessId());
-                }
-            }
-        }
-    }
-
     public void setContextMap(final Map<String, Serializable> variableMap) {
         inputValues = variableMap;
     }
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.AbstractRepository;
@@ -47,6 +48,8 @@ public class GroovyFileStore extends AbstractFileStore<String> {
 
     private static final String UTF_8 = "UTF-8";
 
+    private static final AtomicLong TMP_SCRIPT_COUNTER = new AtomicLong(System.currentTimeMillis());
+
     public GroovyFileStore(final String fileName, final GroovyRepositoryStore parentStore) {
         super(fileName, parentStore);
     }
@@ -161,8 +164,12 @@ public class GroovyFileStore extends AbstractFileStore<String> {
         return getParentStore().getResource().getFile(getName());
     }
 
+    /**
+     * @return a script name that is unique for this session, even when several scripts are created in the same
+     *         millisecond
+     */
     public static String tmpScriptName() {
-        return String.format("BonitaTmpScript%s.groovy", System.currentTimeMillis());
+        return String.format("BonitaTmpScript%s.groovy", TMP_SCRIPT_COUNTER.incrementAndGet());
     }
 
 }
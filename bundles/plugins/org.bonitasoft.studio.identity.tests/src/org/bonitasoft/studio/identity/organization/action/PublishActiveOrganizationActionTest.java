@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.identity.organization.action;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.bonitasoft.engine.api.IdentityAPI;
+import org.bonitasoft.engine.identity.Group;
+import org.bonitasoft.engine.identity.Role;
+import org.bonitasoft.engine.identity.User;
+import org.bonitasoft.engine.search.SearchResult;
+import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.studio.common.repository.model.IRepository;
+import org.bonitasoft.studio.identity.organization.model.organization.Organization;
+import org.bonitasoft.studio.identity.organization.operation.PublishOrganizationOperation;
+import org.bonitasoft.studio.identity.organization.repository.OrganizationFileStore;
+import org.bonitasoft.studio.identity.organization.repository.OrganizationRepositoryStore;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PublishActiveOrganizationActionTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private final APISession session = mock(APISession.class);
+    private final IdentityAPI identityAPI = mock(IdentityAPI.class);
+    private final IRepository repository = mock(IRepository.class);
+    private final OrganizationFileStore organizationFileStore = mock(OrganizationFileStore.class);
+    private final IFile organizationFile = mock(IFile.class);
+    private final PublishOrganizationOperation publishOperation = mock(PublishOrganizationOperation.class);
+    private OrganizationPublicationLedger ledger;
+    private String organizationContent = "<organization>ACME</organization>";
+
+    @Before
+    public void setUp() throws Exception {
+        ledger = new OrganizationPublicationLedger(tmpFolder.getRoot().toPath().resolve("organization.properties"));
+        final OrganizationRepositoryStore store = mock(OrganizationRepositoryStore.class);
+        when(repository.getRepositoryStore(OrganizationRepositoryStore.class)).thenReturn(store);
+        when(store.getChild(any(), anyBoolean())).thenReturn(organizationFileStore);
+        when(organizationFileStore.getName()).thenReturn("ACME.xml");
+        when(organizationFileStore.getResource()).thenReturn(organizationFile);
+        when(organizationFileStore.getContent()).thenReturn(mock(Organization.class));
+        when(organizationFile.getContents())
+                .thenAnswer(invocation -> new ByteArrayInputStream(
+                        organizationContent.getBytes(StandardCharsets.UTF_8)));
+        // The engine starts empty, and holds the organization once published
+        final SearchResult<User> noUser = searchResult(0);
+        final SearchResult<User> users = searchResult(4);
+        final SearchResult<Group> groups = searchResult(2);
+        final SearchResult<Role> roles = searchResult(1);
+        when(identityAPI.searchUsers(any())).thenReturn(noUser, users);
+        when(identityAPI.searchGroups(any())).thenReturn(searchResult(0), groups);
+        when(identityAPI.searchRoles(any())).thenReturn(searchResult(0), roles);
+    }
+
+    @Test
+    public void should_not_publish_an_unchanged_organization_again_on_restart() throws Exception {
+        createAction(true).run(session, repository);
+        verify(publishOperation).run(any(IProgressMonitor.class));
+        clearInvocations(publishOperation);
+
+        final PublishActiveOrganizationAction restartAction = createAction(true);
+        restartAction.run(session, repository);
+
+        verify(restartAction, never()).createPublishOperation(any());
+        verify(publishOperation, never()).run(any(IProgressMonitor.class));
+        assertThat(ledger.get()).hasValueSatisfying(published -> {
+            assertThat(published.users()).isEqualTo(4);
+            assertThat(published.groups()).isEqualTo(2);
+            assertThat(published.roles()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void should_publish_a_modified_organization_on_restart() throws Exception {
+        createAction(true).run(session, repository);
+        organizationContent = "<organization>ACME with a new user</organization>";
+        createAction(true).run(session, repository);
+
+        verify(publishOperation, times(2)).run(any(IProgressMonitor.class));
+    }
+
+    @Test
+    public void should_publish_the_organization_again_when_the_engine_database_has_been_reset() throws Exception {
+        createAction(true).run(session, repository);
+        when(identityAPI.searchUsers(any())).thenReturn(searchResult(0));
+        when(identityAPI.searchGroups(any())).thenReturn(searchResult(0));
+        when(identityAPI.searchRoles(any())).thenReturn(searchResult(0));
+        createAction(false).run(session, repository);
+
+        verify(publishOperation, times(2)).run(any(IProgressMonitor.class));
+    }
+
+    private PublishActiveOrganizationAction createAction(final boolean loadOrganization) {
+        final PublishActiveOrganizationAction action = spy(new PublishActiveOrganizationAction());
+        try {
+            doReturn(identityAPI).when(action).getIdentityAPI(session);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+        doReturn(ledger).when(action).getLedger();
+        doReturn(loadOrganization).when(action).shouldLoadOrganization();
+        doReturn(publishOperation).when(action).createPublishOperation(any());
+        return action;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SearchResult<T> searchResult(final long count) {
+        final SearchResult<T> result = mock(SearchResult.class);
+        when(result.getCount()).thenReturn(count);
+        return result;
+    }
+
+}
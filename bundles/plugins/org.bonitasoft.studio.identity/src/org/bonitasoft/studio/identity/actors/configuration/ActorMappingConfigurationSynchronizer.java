@@ -25,6 +25,7 @@ import org.bonitasoft.bpm.model.configuration.ConfigurationPackage;
 import org.bonitasoft.bpm.model.process.AbstractProcess;
 import org.bonitasoft.bpm.model.process.Actor;
 import org.bonitasoft.studio.common.repository.extension.IConfigurationSynchronizer;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.eclipse.emf.common.command.CompoundCommand;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.edit.command.AddCommand;
@@ -109,6 +110,18 @@ public class ActorMappingConfigurationSynchronizer implements IConfigurationSync
 
 	}
 
+	@Override
+	public String getFingerprint(Configuration configuration, AbstractProcess process) {
+		SynchronizationFingerprint fingerprint = new SynchronizationFingerprint();
+		fingerprint.appendAll(process.getActors(), actor -> fingerprint.append(actor.getName()));
+		ActorMappingsType mappings = configuration.getActorMappings();
+		fingerprint.append(mappings != null);
+		if (mappings != null) {
+			fingerprint.appendAll(mappings.getActorMapping(), mapping -> fingerprint.append(mapping.getName()));
+		}
+		return fingerprint.compute();
+	}
+
 	@Override
 	public String getFragmentContainerId() {
 		return null;
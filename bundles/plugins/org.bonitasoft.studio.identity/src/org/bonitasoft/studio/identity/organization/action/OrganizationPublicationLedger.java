@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.identity.organization.action;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bonitasoft.studio.engine.operation.PropertiesLedger;
+import org.bonitasoft.studio.identity.IdentityPlugin;
+
+/**
+ * Fingerprint of the last organization published in the embedded engine at startup, with the number of users, groups
+ * and roles read from the engine right after the publication. Different counts on the next startup mean that the
+ * organization has been edited in the portal or that the engine database has been reset.
+ */
+public class OrganizationPublicationLedger {
+
+    private static final String LEDGER_FILE_NAME = "organization.properties";
+    private static final String FINGERPRINT_KEY = "fingerprint";
+    private static final String USERS_KEY = "users";
+    private static final String GROUPS_KEY = "groups";
+    private static final String ROLES_KEY = "roles";
+
+    private static OrganizationPublicationLedger INSTANCE;
+
+    private final PropertiesLedger ledger;
+
+    OrganizationPublicationLedger(final Path file) {
+        this.ledger = new PropertiesLedger(file, IdentityPlugin.PLUGIN_ID);
+    }
+
+    public static synchronized OrganizationPublicationLedger getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new OrganizationPublicationLedger(
+                    IdentityPlugin.getDefault().getStateLocation().append(LEDGER_FILE_NAME).toFile().toPath());
+        }
+        return INSTANCE;
+    }
+
+    public synchronized Optional<PublishedOrganization> get() {
+        final String fingerprint = ledger.get(FINGERPRINT_KEY);
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new PublishedOrganization(fingerprint,
+                    Long.parseLong(ledger.get(USERS_KEY)),
+                    Long.parseLong(ledger.get(GROUPS_KEY)),
+                    Long.parseLong(ledger.get(ROLES_KEY))));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void record(final PublishedOrganization organization) {
+        ledger.putAll(Map.of(FINGERPRINT_KEY, organization.fingerprint(),
+                USERS_KEY, String.valueOf(organization.users()),
+                GROUPS_KEY, String.valueOf(organization.groups()),
+                ROLES_KEY, String.valueOf(organization.roles())));
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the organization file and of the default user
+     * @param users the number of users in the engine after the publication
+     * @param groups the number of groups in the engine after the publication
+     * @param roles the number of roles in the engine after the publication
+     */
+    public record PublishedOrganization(String fingerprint, long users, long groups, long roles) {
+
+        /**
+         * @return true if the same organization has been published and the engine has the same number of users, groups
+         *         and roles as after the publication
+         */
+        public boolean matches(final String fingerprint, final long users, final long groups, final long roles) {
+            return this.fingerprint.equals(fingerprint) && this.users == users && this.groups == groups
+                    && this.roles == roles;
+        }
+    }
+
+}
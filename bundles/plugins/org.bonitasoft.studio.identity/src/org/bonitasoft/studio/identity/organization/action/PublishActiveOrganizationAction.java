@@ -14,6 +14,15 @@
  */
 package org.bonitasoft.studio.identity.organization.action;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.exception.BonitaHomeNotSetException;
 import org.bonitasoft.engine.exception.SearchException;
@@ -21,12 +30,16 @@ import org.bonitasoft.engine.exception.ServerAPIException;
 import org.bonitasoft.engine.exception.UnknownAPITypeException;
 import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.AbstractRepository;
 import org.bonitasoft.studio.common.repository.core.ActiveOrganizationProvider;
 import org.bonitasoft.studio.common.repository.extension.IEngineAction;
 import org.bonitasoft.studio.common.repository.model.IRepository;
 import org.bonitasoft.studio.engine.BOSEngineManager;
+import org.bonitasoft.studio.identity.IdentityPlugin;
 import org.bonitasoft.studio.identity.i18n.Messages;
+import org.bonitasoft.studio.identity.organization.action.OrganizationPublicationLedger.PublishedOrganization;
+import org.bonitasoft.studio.identity.organization.model.organization.Organization;
 import org.bonitasoft.studio.identity.organization.operation.PublishOrganizationOperation;
 import org.bonitasoft.studio.identity.organization.operation.UpdateOrganizationOperation;
 import org.bonitasoft.studio.identity.organization.repository.OrganizationFileStore;
@@ -34,6 +47,7 @@ import org.bonitasoft.studio.identity.organization.repository.OrganizationReposi
 import org.bonitasoft.studio.preferences.BonitaPreferenceConstants;
 import org.bonitasoft.studio.preferences.BonitaStudioPreferencesPlugin;
 import org.bonitasoft.studio.ui.notification.BonitaNotificator;
+import org.eclipse.core.runtime.CoreException;
 
 /**
  * @author Romain Bioteau
@@ -48,9 +62,12 @@ public class PublishActiveOrganizationAction implements IEngineAction {
 
     @Override
     public void run(final APISession session, IRepository repository) throws Exception {
-        if (noOrganizationDeployed(session)
-                || BonitaStudioPreferencesPlugin.getDefault().getPreferenceStore()
-                        .getBoolean(BonitaPreferenceConstants.LOAD_ORGANIZATION)) {
+        final IdentityAPI identityAPI = getIdentityAPI(session);
+        final long users = countUsers(identityAPI);
+        final long groups = countGroups(identityAPI);
+        final long roles = countRoles(identityAPI);
+        final boolean noOrganizationDeployed = users == 0 && groups == 0 && roles == 0;
+        if (noOrganizationDeployed || shouldLoadOrganization()) {
             final String artifactId = activeOrganizationProvider.getActiveOrganization();
             final OrganizationRepositoryStore store = repository
                     .getRepositoryStore(OrganizationRepositoryStore.class);
@@ -65,19 +82,75 @@ public class PublishActiveOrganizationAction implements IEngineAction {
                         Messages.noOrganizationFoundMsg);
                 return;
             }
-            final PublishOrganizationOperation op = new UpdateOrganizationOperation(
-                    organizationFileStore.getContent());
+            final OrganizationPublicationLedger ledger = getLedger();
+            final String fingerprint = fingerprint(organizationFileStore);
+            if (!noOrganizationDeployed && fingerprint != null && ledger.get()
+                    .filter(published -> published.matches(fingerprint, users, groups, roles)).isPresent()) {
+                BonitaStudioLog.debug(
+                        String.format("Organization %s unchanged since its last publication, skipped.",
+                                organizationFileStore.getName()),
+                        IdentityPlugin.PLUGIN_ID);
+                return;
+            }
+            final PublishOrganizationOperation op = createPublishOperation(organizationFileStore.getContent());
             op.setSession(session);
             op.run(AbstractRepository.NULL_PROGRESS_MONITOR);
+            if (fingerprint != null) {
+                ledger.record(new PublishedOrganization(fingerprint, countUsers(identityAPI),
+                        countGroups(identityAPI), countRoles(identityAPI)));
+            }
+        }
+    }
+
+    /**
+     * The fingerprint covers the content of the organization file and the default user, which is mapped to the
+     * profiles when the organization is published.
+     *
+     * @return the fingerprint of the organization, or null if the organization file cannot be read
+     */
+    protected String fingerprint(final OrganizationFileStore organizationFileStore) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream is = new DigestInputStream(organizationFileStore.getResource().getContents(), digest)) {
+                is.transferTo(OutputStream.nullOutputStream());
+            }
+            digest.update(String.valueOf(activeOrganizationProvider.getDefaultUser())
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final CoreException | IOException | NoSuchAlgorithmException e) {
+            BonitaStudioLog.error(e, IdentityPlugin.PLUGIN_ID);
+            return null;
         }
     }
 
-    private boolean noOrganizationDeployed(final APISession session)
-            throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException, SearchException {
-        final IdentityAPI identityAPI = BOSEngineManager.getInstance().getIdentityAPI(session);
-        return identityAPI.searchUsers(new SearchOptionsBuilder(0, 1).done()).getCount() == 0
-                && identityAPI.searchGroups(new SearchOptionsBuilder(0, 1).done()).getCount() == 0
-                && identityAPI.searchRoles(new SearchOptionsBuilder(0, 1).done()).getCount() == 0;
+    protected PublishOrganizationOperation createPublishOperation(final Organization organization) {
+        return new UpdateOrganizationOperation(organization);
+    }
+
+    protected IdentityAPI getIdentityAPI(final APISession session)
+            throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
+        return BOSEngineManager.getInstance().getIdentityAPI(session);
+    }
+
+    protected OrganizationPublicationLedger getLedger() {
+        return OrganizationPublicationLedger.getInstance();
+    }
+
+    protected boolean shouldLoadOrganization() {
+        return BonitaStudioPreferencesPlugin.getDefault().getPreferenceStore()
+                .getBoolean(BonitaPreferenceConstants.LOAD_ORGANIZATION);
+    }
+
+    private static long countUsers(final IdentityAPI identityAPI) throws SearchException {
+        return identityAPI.searchUsers(new SearchOptionsBuilder(0, 1).done()).getCount();
+    }
+
+    private static long countGroups(final IdentityAPI identityAPI) throws SearchException {
+        return identityAPI.searchGroups(new SearchOptionsBuilder(0, 1).done()).getCount();
+    }
+
+    private static long countRoles(final IdentityAPI identityAPI) throws SearchException {
+        return identityAPI.searchRoles(new SearchOptionsBuilder(0, 1).done()).getCount();
     }
 
     @Override
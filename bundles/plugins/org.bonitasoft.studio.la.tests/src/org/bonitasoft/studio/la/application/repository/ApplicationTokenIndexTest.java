@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.la.application.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.engine.business.application.xml.ApplicationNodeBuilder.newApplication;
+import static org.bonitasoft.engine.business.application.xml.ApplicationNodeBuilder.newApplicationContainer;
+import static org.bonitasoft.studio.fakes.IResourceFakesBuilder.anIFile;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bonitasoft.engine.business.application.exporter.ApplicationNodeContainerConverter;
+import org.bonitasoft.engine.business.application.xml.ApplicationNodeContainer;
+import org.bonitasoft.studio.common.repository.RepositoryAccessor;
+import org.bonitasoft.studio.la.validator.ApplicationTokenUnicityValidator;
+import org.eclipse.core.databinding.validation.ValidationStatus;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ApplicationTokenIndexTest {
+
+    private static final int NB_DESCRIPTORS = 200;
+
+    private final ApplicationNodeContainerConverter converter = new ApplicationNodeContainerConverter();
+    private final List<ApplicationFileStore> fileStores = new ArrayList<>();
+    private final List<IFile> resources = new ArrayList<>();
+    private RepositoryAccessor repositoryAccessor;
+
+    @Before
+    public void createDescriptors() throws Exception {
+        var store = mock(ApplicationRepositoryStore.class);
+        when(store.getConverter()).thenReturn(converter);
+        when(store.validate(Mockito.anyString(), Mockito.any(InputStream.class)))
+                .thenReturn(ValidationStatus.ok());
+        var folder = "/" + UUID.randomUUID() + "/app/applications/";
+        for (int i = 0; i < NB_DESCRIPTORS; i++) {
+            var name = "app" + i + ".xml";
+            var xml = converter.marshallToXML(newApplicationContainer()
+                    .havingApplications(newApplication("token" + i, "App " + i, "1.0")).create());
+            var resource = anIFile().withName(name).exists()
+                    .withContentSupplier(() -> new ByteArrayInputStream(xml)).build();
+            when(resource.getFullPath()).thenReturn(Path.fromOSString(folder + name));
+            when(resource.getModificationStamp()).thenReturn(1L);
+            var fileStore = spy(new ApplicationFileStore(name, store));
+            doReturn(resource).when(fileStore).getResource();
+            fileStores.add(fileStore);
+            resources.add(resource);
+        }
+        when(store.getChildren()).thenReturn(fileStores);
+        repositoryAccessor = mock(RepositoryAccessor.class);
+        when(repositoryAccessor.getRepositoryStore(ApplicationRepositoryStore.class)).thenReturn(store);
+    }
+
+    @Test
+    public void should_not_parse_descriptors_when_validating_after_warm_up() throws Exception {
+        var validator = new ApplicationTokenUnicityValidator(repositoryAccessor, new ApplicationNodeContainer(),
+                "app0.xml");
+        assertThat(validator.validate("token1").isOK()).isFalse();
+        clearInvocations(fileStores.toArray());
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(validator.validate("token" + (i + 1)).isOK()).isFalse();
+            assertThat(validator.validate("newToken" + i).isOK()).isTrue();
+        }
+
+        for (var fileStore : fileStores) {
+            verify(fileStore, never()).getContent();
+        }
+    }
+
+    @Test
+    public void should_parse_again_only_modified_descriptors() throws Exception {
+        var tokenIndex = ApplicationTokenIndex.getInstance();
+        fileStores.forEach(tokenIndex::getTokens);
+        clearInvocations(fileStores.toArray());
+
+        when(resources.get(3).getModificationStamp()).thenReturn(2L);
+        fileStores.forEach(tokenIndex::getTokens);
+
+        verify(fileStores.get(3), times(1)).getContent();
+        verify(fileStores.get(4), never()).getContent();
+        assertThat(tokenIndex.getTokens(fileStores.get(3))).containsExactly("token3");
+    }
+
+    @Test
+    public void should_index_saved_descriptors_without_parsing_them() throws Exception {
+        var tokenIndex = new ApplicationTokenIndex();
+        var fileStore = fileStores.get(7);
+
+        tokenIndex.update(fileStore, newApplicationContainer()
+                .havingApplications(newApplication("savedToken", "Saved", "1.0")).create());
+
+        assertThat(tokenIndex.getTokens(fileStore)).containsExactly("savedToken");
+        verify(fileStore, never()).getContent();
+
+        tokenIndex.remove(fileStore);
+
+        assertThat(tokenIndex.size()).isZero();
+    }
+
+}
@@ -36,6 +36,7 @@ import org.bonitasoft.studio.engine.operation.GetApiSessionOperation;
 import org.bonitasoft.studio.la.LivingApplicationPlugin;
 import org.bonitasoft.studio.la.application.repository.ApplicationFileStore;
 import org.bonitasoft.studio.la.application.repository.ApplicationRepositoryStore;
+import org.bonitasoft.studio.la.application.repository.ApplicationTokenIndex;
 import org.bonitasoft.studio.la.application.ui.provider.DeployApplicationFileStoreLabelProvider;
 import org.bonitasoft.studio.la.i18n.Messages;
 import org.bonitasoft.studio.ui.dialog.ExceptionDialogHandler;
@@ -98,12 +99,7 @@ public class DeployApplicationAction {
     }
 
     private boolean isUnparsable(ApplicationFileStore fileStore) {
-        try {
-            fileStore.getContent();
-            return false;
-        } catch (ReadFileStoreException e) {
-            return true;
-        }
+        return !ApplicationTokenIndex.getInstance().isParsable(fileStore);
     }
 
     private Optional<ApplicationNodeContainer> getApplicationNodeContainer(
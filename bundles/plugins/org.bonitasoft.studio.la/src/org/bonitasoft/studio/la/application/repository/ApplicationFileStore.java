@@ -114,11 +114,18 @@ public class ApplicationFileStore extends AbstractFileStore<ApplicationNodeConta
                             AbstractRepository.NULL_PROGRESS_MONITOR);
                 }
             }
+            ApplicationTokenIndex.getInstance().update(this, (ApplicationNodeContainer) content);
         } catch (JAXBException | IOException | SAXException | CoreException e) {
             BonitaStudioLog.error("Failed to save application model", e);
         }
     }
 
+    @Override
+    protected void doDelete() {
+        ApplicationTokenIndex.getInstance().remove(this);
+        super.doDelete();
+    }
+
     /*
      * (non-Javadoc)
      * @see org.bonitasoft.studio.common.repository.filestore.AbstractFileStore#getResource()
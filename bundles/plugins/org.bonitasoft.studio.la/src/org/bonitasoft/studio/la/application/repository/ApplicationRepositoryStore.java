@@ -122,14 +122,8 @@ public class ApplicationRepositoryStore extends AbstractRepositoryStore<Applicat
     }
 
     private Predicate<? super ApplicationFileStore> withToken(String token) {
-        return fStore -> {
-            try {
-                return fStore.getContent().getAllApplications().stream()
-                        .anyMatch(node -> Objects.equals(node.getToken(), token));
-            } catch (final ReadFileStoreException e) {
-                return false;
-            }
-        };
+        var tokenIndex = ApplicationTokenIndex.getInstance();
+        return fStore -> tokenIndex.getTokens(fStore).contains(token);
     }
 
     @Override
@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.la.application.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.engine.business.application.xml.AbstractApplicationNode;
+import org.bonitasoft.engine.business.application.xml.ApplicationNodeContainer;
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
+import org.bonitasoft.studio.la.LivingApplicationPlugin;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Index of the application tokens declared in each application descriptor, so that the token unicity can be checked
+ * without parsing all the descriptors.
+ * An entry is dropped when its descriptor is changed or removed in the workspace, and replaced when the descriptor is
+ * saved by its {@link ApplicationFileStore}. Entries are also checked against the modification stamp of the descriptor
+ * before being used.
+ */
+public class ApplicationTokenIndex implements IResourceChangeListener {
+
+    private static final String XML_EXTENSION = "xml";
+
+    private static ApplicationTokenIndex INSTANCE;
+
+    private final Map<IPath, Entry> entries = new ConcurrentHashMap<>();
+
+    ApplicationTokenIndex() {
+    }
+
+    public static synchronized ApplicationTokenIndex getInstance() {
+        if (INSTANCE == null) {
+            INSTANCE = new ApplicationTokenIndex();
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(INSTANCE, IResourceChangeEvent.POST_CHANGE);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * @return the tokens of the applications declared in the given descriptor, an empty list if it cannot be parsed
+     */
+    public List<String> getTokens(ApplicationFileStore fileStore) {
+        return getEntry(fileStore).tokens();
+    }
+
+    /**
+     * @return whether the given descriptor content can be parsed
+     */
+    public boolean isParsable(ApplicationFileStore fileStore) {
+        return getEntry(fileStore).parsable();
+    }
+
+    /**
+     * Indexes the content just written in the given descriptor.
+     */
+    void update(ApplicationFileStore fileStore, ApplicationNodeContainer content) {
+        var resource = fileStore.getResource();
+        if (resource != null && resource.getFullPath() != null) {
+            entries.put(resource.getFullPath(), new Entry(resource.getModificationStamp(), tokens(content), true));
+        }
+    }
+
+    /**
+     * Removes the given descriptor from the index.
+     */
+    void remove(ApplicationFileStore fileStore) {
+        var resource = fileStore.getResource();
+        if (resource != null && resource.getFullPath() != null) {
+            entries.remove(resource.getFullPath());
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Entry getEntry(ApplicationFileStore fileStore) {
+        IFile resource = fileStore.getResource();
+        if (resource == null || resource.getFullPath() == null) {
+            return read(fileStore, IResource.NULL_STAMP);
+        }
+        var path = resource.getFullPath();
+        var stamp = resource.getModificationStamp();
+        var entry = entries.get(path);
+        if (entry == null || entry.modificationStamp() != stamp) {
+            entry = read(fileStore, stamp);
+            entries.put(path, entry);
+        }
+        return entry;
+    }
+
+    private static Entry read(ApplicationFileStore fileStore, long modificationStamp) {
+        try {
+            return new Entry(modificationStamp, tokens(fileStore.getContent()), true);
+        } catch (ReadFileStoreException e) {
+            BonitaStudioLog.debug(String.format("Failed to parse application descriptor file '%s'",
+                    fileStore.getName()), e, LivingApplicationPlugin.PLUGIN_ID);
+            return new Entry(modificationStamp, List.of(), false);
+        }
+    }
+
+    private static List<String> tokens(ApplicationNodeContainer content) {
+        return content.getAllApplications().stream()
+                .map(AbstractApplicationNode::getToken)
+                .toList();
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        if (event.getDelta() == null || entries.isEmpty()) {
+            return;
+        }
+        try {
+            event.getDelta().accept(delta -> {
+                var resource = delta.getResource();
+                if (resource.getType() != IResource.FILE) {
+                    return true;
+                }
+                if (XML_EXTENSION.equals(resource.getFileExtension()) && isChanged(delta)) {
+                    var entry = entries.get(resource.getFullPath());
+                    // Keep the entries updated on save, their stamp is the one of the new content
+                    if (entry != null && (delta.getKind() == IResourceDelta.REMOVED
+                            || entry.modificationStamp() != resource.getModificationStamp())) {
+                        entries.remove(resource.getFullPath());
+                    }
+                }
+                return false;
+            });
+        } catch (CoreException e) {
+            BonitaStudioLog.error(e, LivingApplicationPlugin.PLUGIN_ID);
+            entries.clear();
+        }
+    }
+
+    private static boolean isChanged(IResourceDelta delta) {
+        return delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & IResourceDelta.CONTENT) != 0
+                || (delta.getFlags() & IResourceDelta.REPLACED) != 0;
+    }
+
+    private record Entry(long modificationStamp, List<String> tokens, boolean parsable) {
+    }
+
+}
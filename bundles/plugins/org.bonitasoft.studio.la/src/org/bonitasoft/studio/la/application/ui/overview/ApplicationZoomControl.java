@@ -22,6 +22,7 @@ import org.bonitasoft.studio.application.views.extension.card.zoom.ZoomListener;
 import org.bonitasoft.studio.application.views.overview.AbstractOverviewZoomControl;
 import org.bonitasoft.studio.common.extension.OverviewContribution;
 import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.common.repository.model.IRepositoryStore;
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.la.application.repository.ApplicationFileStore;
 import org.bonitasoft.studio.la.application.repository.ApplicationRepositoryStore;
@@ -51,6 +52,11 @@ public class ApplicationZoomControl extends AbstractOverviewZoomControl<Applicat
         return ApplicationOverviewContribution.NEW_APPLICATION_COMMAND;
     }
 
+    @Override
+    protected IRepositoryStore<?> getRepositoryStore() {
+        return RepositoryManager.getInstance().getRepositoryStore(ApplicationRepositoryStore.class);
+    }
+
     @Override
     protected List<ApplicationFileStore> getFileStores() {
         return RepositoryManager.getInstance().getRepositoryStore(ApplicationRepositoryStore.class).getChildren();
@@ -63,7 +69,7 @@ public class ApplicationZoomControl extends AbstractOverviewZoomControl<Applicat
                     .map(app -> new Element(app.getDisplayName(), app.getDescription()))
                     .collect(Collectors.toList());
         } catch (ReadFileStoreException e) {
-            errorHandler.openErrorDialog(getShell(), e.getMessage(), e);
+            openErrorDialog(e);
             return Collections.emptyList();
         }
     }
@@ -22,10 +22,9 @@ import java.util.stream.Collectors;
 import org.bonitasoft.engine.business.application.xml.AbstractApplicationNode;
 import org.bonitasoft.engine.business.application.xml.ApplicationNodeContainer;
 import org.bonitasoft.studio.common.databinding.validator.UniqueValidator;
-import org.bonitasoft.studio.common.log.BonitaStudioLog;
 import org.bonitasoft.studio.common.repository.RepositoryAccessor;
-import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.la.application.repository.ApplicationRepositoryStore;
+import org.bonitasoft.studio.la.application.repository.ApplicationTokenIndex;
 import org.bonitasoft.studio.ui.validator.ValidatorBuilder;
 import org.eclipse.core.runtime.IStatus;
 
@@ -72,22 +71,12 @@ public class ApplicationTokenUnicityValidator extends UniqueValidator {
     }
 
     public List<String> getTokenList() {
+        var tokenIndex = ApplicationTokenIndex.getInstance();
         final List<String> allTokens = repositoryAccessor.getRepositoryStore(ApplicationRepositoryStore.class)
                 .getChildren()
                 .stream()
                 .filter(fStore -> !Objects.equals(fStore.getName(), filename))
-                .map(fStore -> {
-                    try {
-                        return fStore.getContent();
-                    } catch (final ReadFileStoreException e) {
-                        BonitaStudioLog.error(String.format("Failed to parse application descriptor file '%s'",
-                                fStore.getName()), e);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .flatMap(container -> container.getAllApplications().stream())
-                .map(AbstractApplicationNode::getToken)
+                .flatMap(fStore -> tokenIndex.getTokens(fStore).stream())
                 .collect(Collectors.toList());
         applicationWorkingCopy.getAllApplications().stream()
                 .map(AbstractApplicationNode::getToken)
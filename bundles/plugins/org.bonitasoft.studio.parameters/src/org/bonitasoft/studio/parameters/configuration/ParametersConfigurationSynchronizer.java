@@ -15,6 +15,7 @@
 package org.bonitasoft.studio.parameters.configuration;
 
 import org.bonitasoft.studio.common.repository.extension.IConfigurationSynchronizer;
+import org.bonitasoft.studio.common.repository.extension.SynchronizationFingerprint;
 import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.configuration.ConfigurationPackage;
 import org.bonitasoft.bpm.model.parameter.Parameter;
@@ -84,6 +85,16 @@ public class ParametersConfigurationSynchronizer implements IConfigurationSynchr
     }
 
 
+    @Override
+    public String getFingerprint(final Configuration configuration, final AbstractProcess process) {
+        final SynchronizationFingerprint fingerprint = new SynchronizationFingerprint();
+        fingerprint.appendAll(process.getParameters(),
+                p -> fingerprint.append(p.getName()).append(p.getTypeClassname()));
+        fingerprint.appendAll(configuration.getParameters(),
+                p -> fingerprint.append(p.getName()).append(p.getTypeClassname()));
+        return fingerprint.compute();
+    }
+
     @Override
     public String getFragmentContainerId() {
         return null;
@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.refactoring.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.bonitasoft.studio.common.predicate.ExpressionPredicates.containingReferencedElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bonitasoft.bpm.model.edit.process.CustomProcessItemProviderAdapterFactory;
+import org.bonitasoft.bpm.model.expression.Expression;
+import org.bonitasoft.bpm.model.expression.ExpressionFactory;
+import org.bonitasoft.bpm.model.expression.Operation;
+import org.bonitasoft.bpm.model.parameter.Parameter;
+import org.bonitasoft.bpm.model.parameter.ParameterFactory;
+import org.bonitasoft.bpm.model.process.Data;
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.bpm.model.process.ProcessFactory;
+import org.bonitasoft.bpm.model.process.Task;
+import org.bonitasoft.bpm.model.util.ExpressionConstants;
+import org.bonitasoft.studio.common.emf.tools.ExpressionHelper;
+import org.bonitasoft.studio.common.emf.tools.ModelHelper;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
+import org.eclipse.emf.transaction.impl.TransactionalCommandStackImpl;
+import org.eclipse.emf.transaction.impl.TransactionalEditingDomainImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReferenceIndexTest {
+
+    private static final int NB_DATA = 50;
+
+    private TransactionalEditingDomain domain;
+    private Pool pool;
+    private final List<Data> data = new ArrayList<>();
+    private final List<Expression> patterns = new ArrayList<>();
+    private final List<Expression> conditions = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        domain = new TransactionalEditingDomainImpl(new CustomProcessItemProviderAdapterFactory(),
+                new TransactionalCommandStackImpl());
+        pool = ProcessFactory.eINSTANCE.createPool();
+        for (int i = 0; i < NB_DATA; i++) {
+            final Data aData = ProcessFactory.eINSTANCE.createData();
+            aData.setName(String.format("var%03d", i));
+            aData.setDataType(ProcessFactory.eINSTANCE.createBooleanType());
+            pool.getData().add(aData);
+            data.add(aData);
+
+            final Task task = ProcessFactory.eINSTANCE.createTask();
+            final Expression pattern = createExpression(ExpressionConstants.PATTERN_TYPE,
+                    "hello ${" + aData.getName() + "}", aData);
+            final Expression condition = createExpression(ExpressionConstants.CONDITION_TYPE,
+                    aData.getName() + " == true", aData);
+            task.getOperations().add(createOperation(pattern));
+            task.getOperations().add(createOperation(condition));
+            pool.getElements().add(task);
+            patterns.add(pattern);
+            conditions.add(condition);
+        }
+        final Parameter parameter = ParameterFactory.eINSTANCE.createParameter();
+        parameter.setName("var000");
+        final Task task = ProcessFactory.eINSTANCE.createTask();
+        task.getOperations().add(createOperation(createExpression(ExpressionConstants.SCRIPT_TYPE, "var000", parameter)));
+        pool.getElements().add(task);
+    }
+
+    @Test
+    public void should_find_the_same_expressions_as_a_model_scan() throws Exception {
+        final ReferenceIndex index = new ReferenceIndex();
+
+        for (final Data aData : data) {
+            final List<Expression> scanned = ModelHelper.getAllElementOfTypeIn(pool, Expression.class).stream()
+                    .filter(containingReferencedElement(aData))
+                    .collect(Collectors.toList());
+            final List<Expression> indexed = index.getCandidateExpressions(pool, aData).stream()
+                    .filter(containingReferencedElement(aData))
+                    .collect(Collectors.toList());
+
+            assertThat(indexed).containsExactlyInAnyOrderElementsOf(scanned).hasSize(2);
+        }
+        assertThat(index.getExpressions(pool))
+                .containsExactlyElementsOf(ModelHelper.getAllElementOfTypeIn(pool, Expression.class));
+        assertThat(index.getTraversals()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_traverse_the_pool_once_when_renaming_50_data() throws Exception {
+        final ReferenceIndex index = new ReferenceIndex();
+        final RefactorDataOperation refactorDataOperation = new RefactorDataOperation(
+                RefactoringOperationType.UPDATE) {
+
+            @Override
+            protected ReferenceIndex getReferenceIndex() {
+                return index;
+            }
+        };
+        refactorDataOperation.setAskConfirmation(false);// Skip UI
+        refactorDataOperation.setEditingDomain(domain);
+        refactorDataOperation.setDataContainer(pool);
+        for (final Data aData : data) {
+            final Data newData = ProcessFactory.eINSTANCE.createData();
+            newData.setName(aData.getName().replace("var", "renamed"));
+            newData.setDataType(ProcessFactory.eINSTANCE.createBooleanType());
+            refactorDataOperation.addItemToRefactor(newData, aData);
+        }
+
+        refactorDataOperation.run(null);
+
+        assertThat(index.getTraversals()).isEqualTo(1);
+        for (int i = 0; i < NB_DATA; i++) {
+            final String newName = String.format("renamed%03d", i);
+            assertThat(patterns.get(i).getContent()).isEqualTo("hello ${" + newName + "}");
+            assertThat(conditions.get(i).getContent()).isEqualTo(newName + " == true");
+            assertThat(conditions.get(i).getName()).isEqualTo(newName + " == true");
+        }
+    }
+
+    private static Expression createExpression(final String type, final String content, final EObject dependency) {
+        final Expression expression = ExpressionFactory.eINSTANCE.createExpression();
+        expression.setName(content);
+        expression.setContent(content);
+        expression.setType(type);
+        expression.getReferencedElements().add(ExpressionHelper.createDependencyFromEObject(dependency));
+        return expression;
+    }
+
+    private static Operation createOperation(final Expression rightOperand) {
+        final Operation operation = ExpressionFactory.eINSTANCE.createOperation();
+        operation.setRightOperand(rightOperand);
+        return operation;
+    }
+
+}
@@ -14,26 +14,19 @@
  */
 package org.bonitasoft.studio.refactoring.core;
 
-import static com.google.common.base.Predicates.and;
-import static com.google.common.collect.Iterables.filter;
 import static com.google.common.collect.Iterables.transform;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static org.bonitasoft.studio.common.predicate.ExpressionPredicates.containingReferencedElement;
-import static org.bonitasoft.studio.common.predicate.ExpressionPredicates.withExpressionType;
-import static org.bonitasoft.studio.common.predicate.ExpressionPredicates.withReferencedElement;
 import static org.bonitasoft.studio.refactoring.core.script.ReferenceDiff.newReferenceDiff;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import org.bonitasoft.bpm.model.util.ExpressionConstants;
-import org.bonitasoft.studio.common.emf.tools.ModelHelper;
 import org.bonitasoft.bpm.model.expression.Expression;
 import org.bonitasoft.studio.refactoring.core.script.ConditionExpressionScriptContrainer;
 import org.bonitasoft.studio.refactoring.core.script.GroovyExpressionScriptContrainer;
@@ -51,7 +44,6 @@ import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 
 import com.google.common.base.Function;
-import com.google.common.collect.Sets;
 
 /**
  * @author Romain Bioteau
@@ -68,6 +60,7 @@ public abstract class AbstractRefactorOperation<Y extends EObject, Z extends EOb
     private boolean askConfirmation;
     protected List<T> pairsToRefactor = new ArrayList<>();
     private final DependencyFeatureNameResolver dependencyFeatureNameResolver;
+    private ReferenceIndex referenceIndex;
 
     public AbstractRefactorOperation(final RefactoringOperationType operationType) {
         this.operationType = operationType;
@@ -77,12 +70,17 @@ public abstract class AbstractRefactorOperation<Y extends EObject, Z extends EOb
 
     protected CompoundCommand buildCompoundCommand(final IProgressMonitor monitor)
             throws InterruptedException, InvocationTargetException {
-        if (canExecute()) {
-            updateReferencesInScripts(monitor);
-        }
+        referenceIndex = new ReferenceIndex();
+        try {
+            if (canExecute()) {
+                updateReferencesInScripts(monitor);
+            }
 
-        if (canExecute()) {
-            compoundCommand = doBuildCompoundCommand(compoundCommand, monitor);
+            if (canExecute()) {
+                compoundCommand = doBuildCompoundCommand(compoundCommand, monitor);
+            }
+        } finally {
+            referenceIndex = null;
         }
         return compoundCommand;
     }
@@ -160,68 +158,41 @@ public abstract class AbstractRefactorOperation<Y extends EObject, Z extends EOb
     protected Set<ScriptContainer<?>> allScriptWithReferencedElement(final RefactorPair<Y, Z> pairRefactor) {
         final Set<ScriptContainer<?>> result = newHashSet();
         final Z oldValue = pairRefactor.getOldValue();
-        final EObject container = getContainer(oldValue);
-        result.addAll(allGroovyScriptWithReferencedElement(container, oldValue));
-        result.addAll(allPatternScriptWithReferencedElement(container, oldValue));
-        result.addAll(allConditionExpressionWithReferencedElement(container, oldValue));
+        final EAttribute dependencyNameFeature = dependencyFeatureNameResolver
+                .resolveNameDependencyFeatureFor(oldValue);
+        final Predicate<Expression> referencingOldValue = containingReferencedElement(oldValue);
+        for (final Expression expression : getReferenceIndex().getCandidateExpressions(getContainer(oldValue),
+                oldValue)) {
+            final ScriptContainer<?> scriptContainer = toScriptContainer(expression, dependencyNameFeature);
+            if (scriptContainer != null && referencingOldValue.test(expression)) {
+                result.add(scriptContainer);
+            }
+        }
         return result;
     }
 
-    private Collection<? extends ScriptContainer<?>> allPatternScriptWithReferencedElement(final EObject container,
-            final Z referencedElement) {
-        return Sets.newHashSet(transform(
-                filter(ModelHelper.getAllElementOfTypeIn(container, Expression.class),
-                        and(withExpressionType(ExpressionConstants.PATTERN_TYPE), withReferencedElement(referencedElement))),
-                toTextExpressionScriptContainer(
-                        dependencyFeatureNameResolver.resolveNameDependencyFeatureFor(referencedElement))));
-    }
-
-    private Collection<? extends ScriptContainer<?>> allConditionExpressionWithReferencedElement(final EObject container,
-            final Z referencedElement) {
-        return Sets.newHashSet(transform(
-                filter(ModelHelper.getAllElementOfTypeIn(container, Expression.class),
-                        and(withExpressionType(ExpressionConstants.CONDITION_TYPE),
-                                withReferencedElement(referencedElement))),
-                toConditionExpressionScriptContainer(
-                        dependencyFeatureNameResolver.resolveNameDependencyFeatureFor(referencedElement))));
-    }
-
-    private Collection<? extends ScriptContainer<?>> allGroovyScriptWithReferencedElement(final EObject container,
-            final Z referencedElement) {
-        return ModelHelper.getAllElementOfTypeIn(container, Expression.class).stream()
-                .filter(exp -> Objects.equals(exp.getType(), ExpressionConstants.SCRIPT_TYPE))
-                .filter(containingReferencedElement(referencedElement))
-                .map(toGroovyExpressionScriptContainer(
-                        dependencyFeatureNameResolver.resolveNameDependencyFeatureFor(referencedElement)))
-                .collect(Collectors.toSet());
-    }
-
-    private Function<Expression, TextExpressionScriptContainer> toTextExpressionScriptContainer(
-            final EAttribute dependencyNameFeature) {
-        return new Function<Expression, TextExpressionScriptContainer>() {
-
-            @Override
-            public TextExpressionScriptContainer apply(final Expression expression) {
+    private ScriptContainer<?> toScriptContainer(final Expression expression, final EAttribute dependencyNameFeature) {
+        switch (expression.getType() != null ? expression.getType() : "") {
+            case ExpressionConstants.SCRIPT_TYPE:
+                return new GroovyExpressionScriptContrainer(expression, dependencyNameFeature,
+                        new GroovyScriptRefactoringOperationFactory());
+            case ExpressionConstants.PATTERN_TYPE:
                 return new TextExpressionScriptContainer(expression, dependencyNameFeature);
-            }
-        };
-    }
-
-    private Function<Expression, ConditionExpressionScriptContrainer> toConditionExpressionScriptContainer(
-            final EAttribute dependencyNameFeature) {
-        return new Function<Expression, ConditionExpressionScriptContrainer>() {
-
-            @Override
-            public ConditionExpressionScriptContrainer apply(final Expression expression) {
+            case ExpressionConstants.CONDITION_TYPE:
                 return new ConditionExpressionScriptContrainer(expression, dependencyNameFeature);
-            }
-        };
+            default:
+                return null;
+        }
     }
 
-    private java.util.function.Function<Expression, GroovyExpressionScriptContrainer> toGroovyExpressionScriptContainer(
-            final EAttribute dependencyNameFeature) {
-        return expression -> new GroovyExpressionScriptContrainer(expression, dependencyNameFeature,
-                new GroovyScriptRefactoringOperationFactory());
+    /**
+     * The index is shared by all the pairs of the operation while its command is built, otherwise a new index is
+     * created for each call.
+     *
+     * @return the expressions of the refactored containers, indexed by referenced element
+     */
+    protected ReferenceIndex getReferenceIndex() {
+        return referenceIndex != null ? referenceIndex : new ReferenceIndex();
     }
 
     protected ScriptRefactoringAction<T> createScriptExpressionRefactoringAction(final List<T> pairsToRefactor,
@@ -128,8 +128,7 @@ public class RefactorDataOperation extends AbstractRefactorOperation<Data, Data,
     }
 
     private void updateDataReferenceInExpressions(CompoundCommand compoundCommand, boolean updateScriptExpressions) {
-        final List<Expression> expressions = ModelHelper.getAllItemsOfType(dataContainer,
-                ExpressionPackage.Literals.EXPRESSION);
+        final List<Expression> expressions = getReferenceIndex().getExpressions(dataContainer);
         for (final Expression exp : expressions) {
             if (updateScriptExpressions || notASciptExpression(exp)) {
                 for (final EObject dependency : exp.getReferencedElements()) {
@@ -197,7 +196,7 @@ public class RefactorDataOperation extends AbstractRefactorOperation<Data, Data,
             final DataRefactorPair pairToRefactor) {
         List<Expression> expressions = null;
         if (pairToRefactor.getOldValue().eContainer() instanceof Pool) {
-            expressions = ModelHelper.getAllItemsOfType(dataContainer, ExpressionPackage.Literals.EXPRESSION);
+            expressions = getReferenceIndex().getExpressions(dataContainer);
         } else {
             expressions = ModelHelper.getAllItemsOfType(pairToRefactor.getOldValue().eContainer(),
                     ExpressionPackage.Literals.EXPRESSION);
@@ -228,8 +227,7 @@ public class RefactorDataOperation extends AbstractRefactorOperation<Data, Data,
     }
 
     protected void updateDataReferenceInVariableExpressions(final CompoundCommand cc) {
-        final List<Expression> expressions = ModelHelper.getAllItemsOfType(dataContainer,
-                ExpressionPackage.Literals.EXPRESSION);
+        final List<Expression> expressions = getReferenceIndex().getExpressions(dataContainer);
         for (final DataRefactorPair pairToRefactor : pairsToRefactor) {
             for (final Expression exp : expressions) {
                 if (ExpressionConstants.VARIABLE_TYPE.equals(exp.getType())
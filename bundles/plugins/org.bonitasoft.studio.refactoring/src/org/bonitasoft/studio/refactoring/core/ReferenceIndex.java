@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.refactoring.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bonitasoft.bpm.model.expression.Expression;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Expressions of the containers of a refactor operation, indexed by the name of the elements they reference.
+ * Each container is traversed once per operation, whatever the number of refactored elements, and the expressions
+ * referencing a refactored element are looked up in the index.
+ * Expression dependencies are copies of the referenced elements, so they are matched by name and not by identity.
+ */
+public class ReferenceIndex {
+
+    private static final String NAME_FEATURE = "name";
+
+    private final Map<EObject, ContainerIndex> containerIndexes = new HashMap<>();
+    private int traversals;
+
+    /**
+     * @return all the expressions of the container, including the container itself, in containment order
+     */
+    public List<Expression> getExpressions(final EObject container) {
+        return Collections.unmodifiableList(index(container).expressions);
+    }
+
+    /**
+     * @return the expressions of the container having a dependency with the same name as the referenced element, or
+     *         all the expressions having dependencies when the referenced element has no name
+     */
+    public Collection<Expression> getCandidateExpressions(final EObject container, final EObject referencedElement) {
+        final ContainerIndex index = index(container);
+        if (!hasName(referencedElement)) {
+            return index.withDependencies;
+        }
+        return index.byDependencyName.getOrDefault(nameOf(referencedElement), Collections.emptySet());
+    }
+
+    int getTraversals() {
+        return traversals;
+    }
+
+    private ContainerIndex index(final EObject container) {
+        if (container == null) {
+            return ContainerIndex.EMPTY;
+        }
+        return containerIndexes.computeIfAbsent(container, this::traverse);
+    }
+
+    private ContainerIndex traverse(final EObject container) {
+        traversals++;
+        final ContainerIndex index = new ContainerIndex();
+        if (container instanceof Expression) {
+            index.add((Expression) container);
+        }
+        final TreeIterator<EObject> contents = container.eAllContents();
+        while (contents.hasNext()) {
+            final EObject eObject = contents.next();
+            if (eObject instanceof Expression) {
+                index.add((Expression) eObject);
+            }
+        }
+        return index;
+    }
+
+    private static boolean hasName(final EObject eObject) {
+        final EStructuralFeature feature = eObject.eClass().getEStructuralFeature(NAME_FEATURE);
+        return feature instanceof EAttribute && String.class.equals(feature.getEType().getInstanceClass());
+    }
+
+    private static String nameOf(final EObject eObject) {
+        return (String) eObject.eGet(eObject.eClass().getEStructuralFeature(NAME_FEATURE));
+    }
+
+    private static class ContainerIndex {
+
+        static final ContainerIndex EMPTY = new ContainerIndex();
+
+        private final List<Expression> expressions = new ArrayList<>();
+        private final Set<Expression> withDependencies = new LinkedHashSet<>();
+        private final Map<String, Set<Expression>> byDependencyName = new HashMap<>();
+
+        void add(final Expression expression) {
+            expressions.add(expression);
+            for (final EObject dependency : expression.getReferencedElements()) {
+                withDependencies.add(expression);
+                if (hasName(dependency)) {
+                    byDependencyName.computeIfAbsent(nameOf(dependency), name -> new LinkedHashSet<>())
+                            .add(expression);
+                }
+            }
+        }
+    }
+
+}
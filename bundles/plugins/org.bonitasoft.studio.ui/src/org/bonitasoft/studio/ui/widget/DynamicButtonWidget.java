@@ -264,6 +264,11 @@ public class DynamicButtonWidget {
         label.setToolTipText(tooltip);
     }
 
+    public void updateId(String id) {
+        toolItem.setData(SWTBotConstants.SWTBOT_WIDGET_ID_KEY, id);
+        this.id = Optional.ofNullable(id);
+    }
+
     public void updateImage(Image image) {
         toolItem.setImage(image);
         this.image = Optional.ofNullable(image);
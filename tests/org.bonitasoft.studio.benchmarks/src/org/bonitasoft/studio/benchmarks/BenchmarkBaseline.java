@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Scores read from a JMH JSON result file, keyed by benchmark name and parameters.
+ */
+public class BenchmarkBaseline {
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final Map<String, Score> scores;
+
+    private BenchmarkBaseline(Map<String, Score> scores) {
+        this.scores = scores;
+    }
+
+    public static BenchmarkBaseline read(File jmhJsonResult) throws IOException {
+        var scores = new LinkedHashMap<String, Score>();
+        for (JsonNode run : new ObjectMapper().readTree(jmhJsonResult)) {
+            var primaryMetric = run.get("primaryMetric");
+            scores.put(key(run), new Score(primaryMetric.get("score").asDouble(),
+                    primaryMetric.get("scoreUnit").asText(),
+                    THROUGHPUT_MODE.equals(run.get("mode").asText())));
+        }
+        return new BenchmarkBaseline(scores);
+    }
+
+    private static String key(JsonNode run) {
+        var params = new TreeMap<String, String>();
+        var paramsNode = run.get("params");
+        if (paramsNode != null) {
+            paramsNode.fields().forEachRemaining(e -> params.put(e.getKey(), e.getValue().asText()));
+        }
+        return params.isEmpty() ? run.get("benchmark").asText() : run.get("benchmark").asText() + params;
+    }
+
+    /**
+     * @param maxRegression tolerated relative degradation, e.g. 0.25 for 25%
+     * @return a description of each benchmark of the current run that is slower than this baseline
+     */
+    public List<String> regressionsOf(BenchmarkBaseline current, double maxRegression) {
+        var regressions = new ArrayList<String>();
+        current.scores.forEach((key, score) -> {
+            var reference = scores.get(key);
+            if (reference != null && reference.unit.equals(score.unit)
+                    && reference.isRegressedBy(score, maxRegression)) {
+                regressions.add(String.format("%s: %.3f %s (baseline %.3f %s)", key, score.value, score.unit,
+                        reference.value, reference.unit));
+            }
+        });
+        return regressions;
+    }
+
+    private static class Score {
+
+        private final double value;
+        private final String unit;
+        private final boolean higherIsBetter;
+
+        Score(double value, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        boolean isRegressedBy(Score other, double maxRegression) {
+            if (higherIsBetter) {
+                return other.value < value * (1 - maxRegression);
+            }
+            return other.value > value * (1 + maxRegression);
+        }
+    }
+
+}
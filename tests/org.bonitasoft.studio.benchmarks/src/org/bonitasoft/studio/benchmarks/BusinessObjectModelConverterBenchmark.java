@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.engine.bdm.BusinessObjectModelConverter;
+import org.bonitasoft.engine.bdm.model.BusinessObjectModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BusinessObjectModelConverterBenchmark {
+
+    @Param({ "50", "300" })
+    public int nbBusinessObjects;
+
+    @Param({ "20" })
+    public int nbFields;
+
+    private final BusinessObjectModelConverter converter = new BusinessObjectModelConverter();
+    private BusinessObjectModel model;
+    private byte[] zippedModel;
+
+    @Setup
+    public void generateModel() throws Exception {
+        model = SyntheticProjectGenerator.businessObjectModel(nbBusinessObjects, nbFields);
+        zippedModel = converter.zip(model);
+    }
+
+    @Benchmark
+    public byte[] zip() throws Exception {
+        return converter.zip(model);
+    }
+
+    @Benchmark
+    public BusinessObjectModel unzip() throws Exception {
+        return converter.unzip(zippedModel);
+    }
+
+}
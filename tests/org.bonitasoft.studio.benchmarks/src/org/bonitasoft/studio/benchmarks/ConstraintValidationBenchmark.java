@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import static org.bonitasoft.studio.model.process.diagram.providers.ProcessValidationProvider.runWithConstraints;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.studio.validation.common.operation.BatchValidatorFactory;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.validation.service.IBatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the execution of the registered EMF validation constraints on a generated diagram,
+ * without the marker creation done by the batch validation operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConstraintValidationBenchmark {
+
+    @Param({ "1", "5" })
+    public int nbPools;
+
+    @Param({ "20", "200" })
+    public int nbTasks;
+
+    private MainProcess diagram;
+    private IBatchValidator validator;
+
+    @Setup
+    public void generateDiagram() {
+        diagram = SyntheticProjectGenerator.diagram("ConstraintValidationBenchmark", "1.0", nbPools, nbTasks);
+        validator = new BatchValidatorFactory().create();
+    }
+
+    @Benchmark
+    public IStatus validate() {
+        var status = new AtomicReference<IStatus>();
+        runWithConstraints(null, () -> status.set(validator.validate(diagram, new NullProgressMonitor())));
+        return status.get();
+    }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.studio.common.NamingUtils;
+import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramRepositoryStore;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures process lookups in the diagram store of the current project, populated with generated diagrams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiagramRepositoryStoreBenchmark {
+
+    @Param({ "10", "100" })
+    public int nbDiagrams;
+
+    @Param({ "3" })
+    public int nbPools;
+
+    @Param({ "50" })
+    public int nbTasks;
+
+    private DiagramRepositoryStore store;
+    private final List<DiagramFileStore> fileStores = new ArrayList<>();
+    private String lastProcessName;
+
+    @Setup(Level.Trial)
+    public void populateStore() {
+        store = RepositoryManager.getInstance().getRepositoryStore(DiagramRepositoryStore.class);
+        for (var diagram : SyntheticProjectGenerator.diagrams(nbDiagrams, nbPools, nbTasks)) {
+            var fileStore = store.createRepositoryFileStore(NamingUtils.toDiagramFilename(diagram));
+            fileStore.save(diagram);
+            fileStores.add(fileStore);
+            lastProcessName = diagram.getName() + "-Pool" + (nbPools - 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanStore() {
+        store.resetComputedProcesses();
+        fileStores.forEach(DiagramFileStore::delete);
+        fileStores.clear();
+    }
+
+    @Benchmark
+    public Pool findProcess() {
+        store.resetComputedProcesses();
+        return store.findProcess(lastProcessName, "1.0");
+    }
+
+    @Benchmark
+    public Pool findProcessWithComputedProcesses() {
+        if (!store.hasComputedProcesses()) {
+            store.computeProcesses(new NullProgressMonitor());
+        }
+        return store.findProcess(lastProcessName, "1.0");
+    }
+
+}
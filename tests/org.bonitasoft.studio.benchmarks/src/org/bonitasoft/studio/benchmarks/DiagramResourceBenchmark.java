@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.studio.common.repository.filestore.BinaryResourceCache;
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditorUtil;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the EMF XMI load and save of a standalone .proc file, and its load from a binary snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiagramResourceBenchmark {
+
+    @Param({ "5", "20" })
+    public int nbPools;
+
+    @Param({ "50", "500" })
+    public int nbTasks;
+
+    private File tmpFolder;
+    private File diagramFile;
+    private URI diagramURI;
+    private Resource loadedResource;
+    private BinaryResourceCache binaryResourceCache;
+
+    @Setup
+    public void saveGeneratedDiagram() throws IOException {
+        tmpFolder = Files.createTempDirectory("diagram-benchmark").toFile();
+        diagramFile = SyntheticProjectGenerator.save(
+                SyntheticProjectGenerator.diagram("DiagramResourceBenchmark", "1.0", nbPools, nbTasks), tmpFolder);
+        diagramURI = URI.createFileURI(diagramFile.getAbsolutePath());
+        loadedResource = new ResourceSetImpl().getResource(diagramURI, true);
+        binaryResourceCache = new BinaryResourceCache(new File(tmpFolder, "binary-cache"), "benchmark");
+        binaryResourceCache.store(loadedResource, diagramFile);
+    }
+
+    @TearDown
+    public void deleteTmpFolder() {
+        loadedResource.unload();
+        FileUtils.deleteQuietly(tmpFolder);
+    }
+
+    @Benchmark
+    public Resource load() {
+        var resource = new ResourceSetImpl().getResource(diagramURI, true);
+        resource.unload();
+        return resource;
+    }
+
+    @Benchmark
+    public Resource loadFromBinarySnapshot() {
+        var resource = new ResourceSetImpl().createResource(diagramURI);
+        if (!binaryResourceCache.load(resource, diagramFile)) {
+            throw new IllegalStateException("Binary snapshot is not valid");
+        }
+        resource.unload();
+        return resource;
+    }
+
+    @Benchmark
+    public Resource saveUnchanged() throws IOException {
+        loadedResource.save(ProcessDiagramEditorUtil.getSaveOptions());
+        return loadedResource;
+    }
+
+    @Benchmark
+    public Resource saveToFile() throws IOException {
+        loadedResource.save(Collections.singletonMap(XMLResource.OPTION_ENCODING, "UTF-8"));
+        return loadedResource;
+    }
+
+}
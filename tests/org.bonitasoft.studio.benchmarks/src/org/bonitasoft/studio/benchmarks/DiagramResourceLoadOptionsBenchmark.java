@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.bonitasoft.studio.common.repository.store.EMFResourceOptions;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the XMI load of a .proc file with the default load options and with the options shared by the repository
+ * stores, see {@link EMFResourceOptions}. Run with <code>-Djmh.gcProfiler=true</code> to compare the allocations too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DiagramResourceLoadOptionsBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean sharedOptions;
+
+    @Param({ "5" })
+    public int nbPools;
+
+    @Param({ "50", "500" })
+    public int nbTasks;
+
+    private File tmpFolder;
+    private URI diagramURI;
+
+    @Setup
+    public void saveGeneratedDiagram() throws IOException {
+        tmpFolder = Files.createTempDirectory("load-options-benchmark").toFile();
+        var diagramFile = SyntheticProjectGenerator.save(
+                SyntheticProjectGenerator.diagram("DiagramResourceLoadOptionsBenchmark", "1.0", nbPools, nbTasks),
+                tmpFolder);
+        diagramURI = URI.createFileURI(diagramFile.getAbsolutePath());
+    }
+
+    @TearDown
+    public void deleteTmpFolder() {
+        FileUtils.deleteQuietly(tmpFolder);
+    }
+
+    @Benchmark
+    public Resource load() {
+        var resourceSet = new ResourceSetImpl();
+        if (sharedOptions) {
+            EMFResourceOptions.configure(resourceSet);
+        }
+        var resource = resourceSet.getResource(diagramURI, true);
+        resource.unload();
+        return resource;
+    }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.bpm.model.expression.Expression;
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.Task;
+import org.bonitasoft.studio.common.emf.tools.ModelHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelHelperBenchmark {
+
+    @Param({ "5", "20" })
+    public int nbPools;
+
+    @Param({ "50", "500" })
+    public int nbTasks;
+
+    private MainProcess diagram;
+
+    @Setup
+    public void generateDiagram() {
+        diagram = SyntheticProjectGenerator.diagram("ModelHelperBenchmark", "1.0", nbPools, nbTasks);
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return ModelHelper.getAllElementOfTypeIn(diagram, Task.class);
+    }
+
+    @Benchmark
+    public List<Expression> getAllExpressions() {
+        return ModelHelper.getAllElementOfTypeIn(diagram, Expression.class);
+    }
+
+}
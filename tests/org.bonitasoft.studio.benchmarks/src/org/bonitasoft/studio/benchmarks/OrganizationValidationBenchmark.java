@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.studio.identity.organization.model.organization.Organization;
+import org.bonitasoft.studio.identity.organization.validator.OrganizationValidator;
+import org.eclipse.core.runtime.IStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrganizationValidationBenchmark {
+
+    @Param({ "100", "2000" })
+    public int nbUsers;
+
+    @Param({ "50" })
+    public int nbGroups;
+
+    @Param({ "10" })
+    public int nbRoles;
+
+    private final OrganizationValidator validator = new OrganizationValidator();
+    private Organization organization;
+
+    @Setup
+    public void generateOrganization() {
+        organization = SyntheticProjectGenerator.organization(nbUsers, nbGroups, nbRoles);
+    }
+
+    @Benchmark
+    public IStatus validate() {
+        return validator.validate(organization);
+    }
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bonitasoft.studio.common.log.BonitaStudioLog;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.swt.widgets.Display;
+import org.junit.Before;
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the JMH benchmarks of this bundle inside the running Studio and compares the results with the
+ * published baseline when there is one.
+ * <ul>
+ * <li><code>jmh.include</code>: regexp of the benchmarks to run</li>
+ * <li><code>jmh.result</code>: JSON result file</li>
+ * <li><code>jmh.baseline</code>: JSON result file of the reference run</li>
+ * <li><code>jmh.maxRegression</code>: tolerated relative degradation before failing</li>
+ * <li><code>jmh.gcProfiler</code>: also reports the allocations of each benchmark operation</li>
+ * </ul>
+ * Benchmarks are not forked: they need the OSGi runtime and the current project of this Studio instance.
+ */
+public class StudioBenchmarkSuite {
+
+    @Before
+    public void ensureProjectExists() throws Exception {
+        var error = new AtomicReference<Exception>();
+        Display.getDefault().syncExec(() -> {
+            try {
+                InitialProjectRule.ensureDefaultProjectExists();
+            } catch (Exception e) {
+                error.set(e);
+            }
+        });
+        if (error.get() != null) {
+            throw error.get();
+        }
+    }
+
+    @Test
+    public void runBenchmarks() throws Exception {
+        var resultFile = new File(System.getProperty("jmh.result", "target/jmh-result.json"));
+        resultFile.getParentFile().mkdirs();
+        var builder = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", ".*"))
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getAbsolutePath());
+        if (Boolean.getBoolean("jmh.gcProfiler")) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        var options = builder.build();
+
+        assertThat(new Runner(options).run()).isNotEmpty();
+
+        var baselineFile = new File(System.getProperty("jmh.baseline", "baselines/jmh-baseline.json"));
+        if (!baselineFile.isFile()) {
+            BonitaStudioLog.info(String.format("No benchmark baseline found at %s, comparison skipped.",
+                    baselineFile.getAbsolutePath()), "org.bonitasoft.studio.benchmarks");
+            return;
+        }
+        var maxRegression = Double.parseDouble(System.getProperty("jmh.maxRegression", "0.25"));
+        assertThat(BenchmarkBaseline.read(baselineFile).regressionsOf(BenchmarkBaseline.read(resultFile), maxRegression))
+                .as("Benchmarks slower than the published baseline by more than %s%%", maxRegression * 100)
+                .isEmpty();
+    }
+
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bonitasoft.bpm.model.expression.Expression;
+import org.bonitasoft.bpm.model.expression.ExpressionFactory;
+import org.bonitasoft.bpm.model.process.Data;
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.bpm.model.process.ProcessFactory;
+import org.bonitasoft.bpm.model.process.Task;
+import org.bonitasoft.bpm.model.util.ExpressionConstants;
+import org.bonitasoft.engine.bdm.model.BusinessObject;
+import org.bonitasoft.engine.bdm.model.BusinessObjectModel;
+import org.bonitasoft.engine.bdm.model.field.FieldType;
+import org.bonitasoft.engine.bdm.model.field.SimpleField;
+import org.bonitasoft.studio.common.ModelVersion;
+import org.bonitasoft.studio.identity.organization.model.organization.Group;
+import org.bonitasoft.studio.identity.organization.model.organization.Membership;
+import org.bonitasoft.studio.identity.organization.model.organization.Organization;
+import org.bonitasoft.studio.identity.organization.model.organization.OrganizationFactory;
+import org.bonitasoft.studio.identity.organization.model.organization.PasswordType;
+import org.bonitasoft.studio.identity.organization.model.organization.Role;
+import org.bonitasoft.studio.identity.organization.model.organization.User;
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditorUtil;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+
+/**
+ * Builds deterministic synthetic models (N diagrams x M pools x K tasks, large BDMs and organizations)
+ * so that benchmarks measure the same workload from one run to another.
+ */
+public final class SyntheticProjectGenerator {
+
+    private SyntheticProjectGenerator() {
+    }
+
+    public static List<MainProcess> diagrams(int nbDiagrams, int nbPools, int nbTasks) {
+        var diagrams = new ArrayList<MainProcess>(nbDiagrams);
+        for (int i = 0; i < nbDiagrams; i++) {
+            diagrams.add(diagram("Diagram" + i, "1.0", nbPools, nbTasks));
+        }
+        return diagrams;
+    }
+
+    public static MainProcess diagram(String name, String version, int nbPools, int nbTasks) {
+        var diagram = ProcessFactory.eINSTANCE.createMainProcess();
+        diagram.setName(name);
+        diagram.setVersion(version);
+        diagram.setBonitaModelVersion(ModelVersion.CURRENT_DIAGRAM_VERSION);
+        for (int p = 0; p < nbPools; p++) {
+            diagram.getElements().add(pool(name + "-Pool" + p, nbTasks));
+        }
+        return diagram;
+    }
+
+    public static Pool pool(String name, int nbTasks) {
+        var pool = ProcessFactory.eINSTANCE.createPool();
+        pool.setName(name);
+        pool.setVersion("1.0");
+        pool.getData().add(data("poolData", "'" + name + "'"));
+        for (int t = 0; t < nbTasks; t++) {
+            pool.getElements().add(task("Task" + t));
+        }
+        return pool;
+    }
+
+    private static Task task(String name) {
+        var task = ProcessFactory.eINSTANCE.createTask();
+        task.setName(name);
+        task.getData().add(data(name + "Data", "poolData + '" + name + "'"));
+        return task;
+    }
+
+    private static Data data(String name, String script) {
+        var data = ProcessFactory.eINSTANCE.createData();
+        data.setName(name);
+        data.setDefaultValue(script(name + "Script", script));
+        return data;
+    }
+
+    private static Expression script(String name, String content) {
+        var expression = ExpressionFactory.eINSTANCE.createExpression();
+        expression.setName(name);
+        expression.setContent(content);
+        expression.setType(ExpressionConstants.SCRIPT_TYPE);
+        expression.setInterpreter(ExpressionConstants.GROOVY);
+        expression.setReturnType(String.class.getName());
+        return expression;
+    }
+
+    /**
+     * Saves the given diagram as a standalone .proc file, outside of any repository.
+     */
+    public static File save(MainProcess diagram, File targetFolder) throws IOException {
+        var file = new File(targetFolder, diagram.getName() + "-" + diagram.getVersion() + ".proc");
+        Resource resource = new ResourceSetImpl().createResource(URI.createFileURI(file.getAbsolutePath()));
+        resource.getContents().add(diagram);
+        resource.save(ProcessDiagramEditorUtil.getSaveOptions());
+        return file;
+    }
+
+    public static BusinessObjectModel businessObjectModel(int nbObjects, int nbFields) {
+        var model = new BusinessObjectModel();
+        for (int i = 0; i < nbObjects; i++) {
+            var businessObject = new BusinessObject();
+            businessObject.setQualifiedName("com.company.model.BusinessObject" + i);
+            for (int f = 0; f < nbFields; f++) {
+                var field = new SimpleField();
+                field.setName("field" + f);
+                field.setType(f % 2 == 0 ? FieldType.STRING : FieldType.LONG);
+                businessObject.addField(field);
+            }
+            model.addBusinessObject(businessObject);
+        }
+        return model;
+    }
+
+    public static Organization organization(int nbUsers, int nbGroups, int nbRoles) {
+        var factory = OrganizationFactory.eINSTANCE;
+        var organization = factory.createOrganization();
+        organization.setName("Synthetic");
+        organization.setGroups(factory.createGroups());
+        organization.setRoles(factory.createRoles());
+        organization.setUsers(factory.createUsers());
+        organization.setMemberships(factory.createMemberships());
+        for (int g = 0; g < nbGroups; g++) {
+            Group group = factory.createGroup();
+            group.setName("group" + g);
+            group.setDisplayName("Group " + g);
+            organization.getGroups().getGroup().add(group);
+        }
+        for (int r = 0; r < nbRoles; r++) {
+            Role role = factory.createRole();
+            role.setName("role" + r);
+            role.setDisplayName("Role " + r);
+            organization.getRoles().getRole().add(role);
+        }
+        for (int u = 0; u < nbUsers; u++) {
+            User user = factory.createUser();
+            user.setUserName("user" + u);
+            user.setFirstName("First" + u);
+            user.setLastName("Last" + u);
+            if (u > 0) {
+                user.setManager("user" + (u - 1) / 2);
+            }
+            PasswordType password = factory.createPasswordType();
+            password.setValue("bpm");
+            user.setPassword(password);
+            organization.getUsers().getUser().add(user);
+
+            Membership membership = factory.createMembership();
+            membership.setUserName(user.getUserName());
+            membership.setGroupName("group" + u % Math.max(nbGroups, 1));
+            membership.setRoleName("role" + u % Math.max(nbRoles, 1));
+            organization.getMemberships().getMembership().add(membership);
+        }
+        return organization;
+    }
+
+}
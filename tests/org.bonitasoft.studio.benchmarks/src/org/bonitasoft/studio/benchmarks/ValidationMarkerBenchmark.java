@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.bpm.model.process.Data;
+import org.bonitasoft.bpm.model.process.Element;
+import org.bonitasoft.studio.common.NamingUtils;
+import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramRepositoryStore;
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditorPlugin;
+import org.bonitasoft.studio.model.process.diagram.providers.ValidationMarkerIndex;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the lookup of the validation markers of every element of a generated diagram, as done by the status
+ * decorators after a validation, with the markers spread over the pools and the tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ValidationMarkerBenchmark {
+
+    private static final String MARKER_TYPE = ProcessDiagramEditorPlugin.ID + ".diagnostic";
+
+    @Param({ "1" })
+    public int nbPools;
+
+    @Param({ "2000" })
+    public int nbTasks;
+
+    @Param({ "5000" })
+    public int nbMarkers;
+
+    private DiagramFileStore fileStore;
+    private IResource resource;
+    private final List<String> elementIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void createMarkers() throws CoreException {
+        var diagram = SyntheticProjectGenerator.diagram("ValidationMarkerBenchmark", "1.0", nbPools, nbTasks);
+        diagram.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof Element && !(eObject instanceof Data)) {
+                elementIds.add(EcoreUtil.getURI(eObject).fragment());
+            }
+        });
+        var store = RepositoryManager.getInstance().getRepositoryStore(DiagramRepositoryStore.class);
+        fileStore = store.createRepositoryFileStore(NamingUtils.toDiagramFilename(diagram));
+        fileStore.save(diagram);
+        resource = fileStore.getResource();
+        resource.getWorkspace().run(monitor -> {
+            for (int i = 0; i < nbMarkers; i++) {
+                var elementId = elementIds.get(i % elementIds.size());
+                var marker = resource.createMarker(MARKER_TYPE);
+                marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+                marker.setAttribute(IMarker.MESSAGE, "Benchmark constraint");
+                marker.setAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, elementId);
+            }
+        }, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDiagram() {
+        fileStore.delete();
+        elementIds.clear();
+    }
+
+    /**
+     * Former decorator refresh: every element scans all the markers of the diagram file.
+     */
+    @Benchmark
+    public int scanMarkersForEachElement() throws CoreException {
+        int nbMarkers = 0;
+        for (String elementId : elementIds) {
+            for (IMarker marker : resource.findMarkers(MARKER_TYPE, true, IResource.DEPTH_INFINITE)) {
+                if (elementId.equals(
+                        marker.getAttribute(org.eclipse.gmf.runtime.common.ui.resources.IMarker.ELEMENT_ID, ""))) {
+                    nbMarkers++;
+                }
+            }
+        }
+        return nbMarkers;
+    }
+
+    /**
+     * Markers read once then looked up by element id, including the index creation.
+     */
+    @Benchmark
+    public int lookUpMarkersInIndex() {
+        var index = new ValidationMarkerIndex(MARKER_TYPE);
+        int nbMarkers = 0;
+        for (String elementId : elementIds) {
+            nbMarkers += index.getMarkers(resource, elementId).size();
+        }
+        return nbMarkers;
+    }
+
+}
@@ -18,6 +18,7 @@ import org.bonitasoft.studio.tests.BonitaProjectIT;
 import org.bonitasoft.studio.tests.TestFullScenario;
 import org.bonitasoft.studio.tests.TestPatchedBundles;
 import org.bonitasoft.studio.tests.TestPathSize;
+import org.bonitasoft.studio.tests.bar.BusinessArchiveFingerprintIT;
 import org.bonitasoft.studio.tests.bar.ExportBarIT;
 import org.bonitasoft.studio.tests.bar.TestExportProcessBar;
 import org.bonitasoft.studio.tests.businessobject.DeployBDMOperationIT;
@@ -31,11 +32,15 @@ import org.bonitasoft.studio.tests.data.DataRefactorIT;
 import org.bonitasoft.studio.tests.deploy.TestDeployCommand;
 import org.bonitasoft.studio.tests.designer.MigrateUIDOperationIT;
 import org.bonitasoft.studio.tests.designer.UIDArtifactCreationIT;
+import org.bonitasoft.studio.tests.diagram.ConcurrentDiagramResourceAccessIT;
+import org.bonitasoft.studio.tests.diagram.EvictedDiagramProcessesIT;
+import org.bonitasoft.studio.tests.diagram.ProcessDocumentProviderSaveIT;
 import org.bonitasoft.studio.tests.document.RefactorDocumentOperationTest;
 import org.bonitasoft.studio.tests.document.TestDocumentRefactoring;
 import org.bonitasoft.studio.tests.engine.RuntimeIntegrationIT;
 import org.bonitasoft.studio.tests.engine.TestSubprocessEventExport;
 import org.bonitasoft.studio.tests.exporter.bpmn.BPMNDataExportImportTest;
+import org.bonitasoft.studio.tests.expressionEditor.GroovyViewerWorkingCopyIT;
 import org.bonitasoft.studio.tests.exporter.bpmn.BPMNImportExportTest;
 import org.bonitasoft.studio.tests.exporter.bpmn.BPMNSequenceFlowConditionExportImportTest;
 import org.bonitasoft.studio.tests.importer.api.ProcBuilderTests;
@@ -92,6 +97,10 @@ import org.junit.runners.Suite;
         DataRefactorIT.class,
         TestNonInterruptingBoundaryTimerEvent.class,
         TestDeployCommand.class,
+        ConcurrentDiagramResourceAccessIT.class,
+        EvictedDiagramProcessesIT.class,
+        ProcessDocumentProviderSaveIT.class,
+        GroovyViewerWorkingCopyIT.class,
         TestValidationConstraints.class,
         TestConnectorOperationIT.class,
         TestWebserviceVersionForBPMNImport.class,
@@ -103,6 +112,7 @@ import org.junit.runners.Suite;
         TestProcessParameters.class,
         TestParametersRefactoring.class,
         ExportBarIT.class,
+        BusinessArchiveFingerprintIT.class,
         UIDesignerWorkspaceIntegrationIT.class,
         TestMessageRefactoring.class,
         UIDArtifactCreationIT.class,
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.tests.bar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.bpm.model.process.ProcessPackage;
+import org.bonitasoft.studio.configuration.preferences.ConfigurationPreferenceConstants;
+import org.bonitasoft.studio.diagram.custom.commands.NewDiagramCommandHandler;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.engine.export.BusinessArchiveFingerprint;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.emf.transaction.util.TransactionUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BusinessArchiveFingerprintIT {
+
+    @Rule
+    public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
+
+    private DiagramFileStore diagram;
+    private Pool pool;
+
+    @Before
+    public void createDiagram() throws Exception {
+        diagram = new NewDiagramCommandHandler().newDiagram();
+        pool = diagram.getProcesses(true).get(0);
+    }
+
+    @After
+    public void deleteDiagram() throws Exception {
+        diagram.delete();
+    }
+
+    @Test
+    public void should_compute_the_same_fingerprint_until_the_process_changes() throws Exception {
+        var fingerprint = fingerprint();
+
+        assertThat(fingerprint()).isEqualTo(fingerprint);
+
+        changeDocumentation("Changed after the deployment");
+
+        assertThat(fingerprint()).isNotEqualTo(fingerprint);
+    }
+
+    private String fingerprint() throws Exception {
+        return new BusinessArchiveFingerprint().compute(pool, ConfigurationPreferenceConstants.LOCAL_CONFIGURATION,
+                new NullProgressMonitor());
+    }
+
+    private void changeDocumentation(String documentation) {
+        var domain = TransactionUtil.getEditingDomain(pool);
+        if (domain != null) {
+            domain.getCommandStack().execute(
+                    SetCommand.create(domain, pool, ProcessPackage.Literals.ELEMENT__DOCUMENTATION, documentation));
+        } else {
+            pool.setDocumentation(documentation);
+        }
+    }
+
+}
@@ -14,6 +14,7 @@
  */
 package org.bonitasoft.studio.tests.configuration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -25,10 +26,14 @@ import org.bonitasoft.bpm.model.configuration.Configuration;
 import org.bonitasoft.bpm.model.configuration.ConfigurationFactory;
 import org.bonitasoft.bpm.model.configuration.DefinitionMapping;
 import org.bonitasoft.bpm.model.configuration.FragmentContainer;
+import org.bonitasoft.bpm.model.parameter.Parameter;
+import org.bonitasoft.bpm.model.parameter.ParameterFactory;
 import org.bonitasoft.bpm.model.process.AbstractProcess;
 import org.bonitasoft.bpm.model.process.Actor;
 import org.bonitasoft.bpm.model.process.ActorFilter;
+import org.bonitasoft.bpm.model.process.AdditionalResource;
 import org.bonitasoft.bpm.model.process.Connector;
+import org.bonitasoft.bpm.model.process.Pool;
 import org.bonitasoft.bpm.model.process.ProcessFactory;
 import org.bonitasoft.bpm.model.process.Task;
 import org.bonitasoft.bpm.model.util.FragmentTypes;
@@ -40,6 +45,10 @@ import org.bonitasoft.studio.common.repository.provider.ConnectorDefinitionRegis
 import org.bonitasoft.studio.configuration.ConfigurationSynchronizer;
 import org.bonitasoft.studio.connectors.repository.ConnectorDefRepositoryStore;
 import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.transaction.RecordingCommand;
+import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -50,6 +59,8 @@ public class TestConfigurationSynhronizer {
     @Rule
     public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
     private Configuration configuration;
+    private TransactionalEditingDomain editingDomain;
+    private int executedCommands;
 
     @Before
     public void setUp() throws Exception {
@@ -67,6 +78,10 @@ public class TestConfigurationSynhronizer {
     @After
     public void tearDown() throws Exception {
         configuration = null;
+        if (editingDomain != null) {
+            editingDomain.dispose();
+            editingDomain = null;
+        }
     }
 
     @Test
@@ -245,6 +260,155 @@ public class TestConfigurationSynhronizer {
         assertEquals("Actor filter mapping synchronization failed after removing all connector", 0, mappings.size());
     }
 
+    @Test
+    public void should_not_execute_any_command_when_process_and_configuration_are_unchanged() throws Exception {
+        Pool pool = createPoolInEditingDomain();
+        modify(() -> {
+            Actor actor = ProcessFactory.eINSTANCE.createActor();
+            actor.setName("Employee");
+            pool.getActors().add(actor);
+            pool.getParameters().add(createParameter("url", String.class.getName()));
+            pool.getAdditionalResources().add(createAdditionalResource("config.properties"));
+            pool.getConnectors().add(createEmailConnector("emailConnector"));
+        });
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(synchronize(pool)).isZero();
+        assertThat(configuration.getActorMappings().getActorMapping()).hasSize(1);
+        assertThat(configuration.getParameters()).hasSize(1);
+        assertThat(configuration.getAdditionalResources()).hasSize(1);
+        assertThat(configuration.getDefinitionMappings()).hasSize(1);
+    }
+
+    @Test
+    public void should_synchronize_added_actor() throws Exception {
+        Pool pool = createSynchronizedPool();
+
+        modify(() -> {
+            Actor actor = ProcessFactory.eINSTANCE.createActor();
+            actor.setName("Manager");
+            pool.getActors().add(actor);
+        });
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getActorMappings().getActorMapping()).extracting(ActorMapping::getName)
+                .containsExactly("Manager");
+        assertThat(synchronize(pool)).isZero();
+    }
+
+    @Test
+    public void should_synchronize_added_and_modified_parameters() throws Exception {
+        Pool pool = createSynchronizedPool();
+
+        modify(() -> pool.getParameters().add(createParameter("url", String.class.getName())));
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getParameters()).extracting(Parameter::getName).containsExactly("url");
+        assertThat(synchronize(pool)).isZero();
+
+        modify(() -> pool.getParameters().get(0).setTypeClassname(Integer.class.getName()));
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getParameters().get(0).getTypeClassname()).isEqualTo(Integer.class.getName());
+        assertThat(synchronize(pool)).isZero();
+    }
+
+    @Test
+    public void should_synchronize_added_additional_resource() throws Exception {
+        Pool pool = createSynchronizedPool();
+
+        modify(() -> pool.getAdditionalResources().add(createAdditionalResource("config.properties")));
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getAdditionalResources()).extracting(r -> r.getBarPath())
+                .containsExactly("config.properties");
+        assertThat(synchronize(pool)).isZero();
+    }
+
+    @Test
+    public void should_synchronize_added_and_removed_connectors() throws Exception {
+        Pool pool = createSynchronizedPool();
+        Connector connector = createEmailConnector("emailConnector");
+
+        modify(() -> pool.getConnectors().add(connector));
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getDefinitionMappings()).hasSize(1);
+        assertThat(getProcessContainer(FragmentTypes.CONNECTOR, configuration).getChildren()).hasSize(1);
+        assertThat(synchronize(pool)).isZero();
+
+        modify(() -> pool.getConnectors().remove(connector));
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getDefinitionMappings()).isEmpty();
+        assertThat(getProcessContainer(FragmentTypes.CONNECTOR, configuration).getChildren()).isEmpty();
+        assertThat(synchronize(pool)).isZero();
+    }
+
+    @Test
+    public void should_synchronize_again_when_configuration_changed() throws Exception {
+        Pool pool = createPoolInEditingDomain();
+        modify(() -> pool.getParameters().add(createParameter("url", String.class.getName())));
+        synchronize(pool);
+
+        configuration.getParameters().clear();
+
+        assertThat(synchronize(pool)).isPositive();
+        assertThat(configuration.getParameters()).extracting(Parameter::getName).containsExactly("url");
+    }
+
+    private Pool createSynchronizedPool() {
+        Pool pool = createPoolInEditingDomain();
+        synchronize(pool);
+        assertThat(synchronize(pool)).isZero();
+        return pool;
+    }
+
+    private Pool createPoolInEditingDomain() {
+        editingDomain = TransactionalEditingDomain.Factory.INSTANCE.createEditingDomain();
+        editingDomain.getCommandStack().addCommandStackListener(event -> executedCommands++);
+        Pool pool = ProcessFactory.eINSTANCE.createPool();
+        pool.setName("Pool");
+        modify(() -> {
+            var resource = new XMIResourceImpl(URI.createURI("memory:/fingerprint.proc"));
+            editingDomain.getResourceSet().getResources().add(resource);
+            resource.getContents().add(pool);
+        });
+        return pool;
+    }
+
+    private void modify(Runnable change) {
+        editingDomain.getCommandStack().execute(new RecordingCommand(editingDomain) {
+
+            @Override
+            protected void doExecute() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * @return the number of commands executed by the synchronization
+     */
+    private int synchronize(Pool pool) {
+        executedCommands = 0;
+        new ConfigurationSynchronizer(pool, configuration).synchronize();
+        return executedCommands;
+    }
+
+    private static Parameter createParameter(String name, String type) {
+        Parameter parameter = ParameterFactory.eINSTANCE.createParameter();
+        parameter.setName(name);
+        parameter.setTypeClassname(type);
+        return parameter;
+    }
+
+    private static AdditionalResource createAdditionalResource(String name) {
+        AdditionalResource additionalResource = ProcessFactory.eINSTANCE.createAdditionalResource();
+        additionalResource.setName(name);
+        return additionalResource;
+    }
+
     private ActorFilter createActorFilter(String name) {
         ActorFilter c = ProcessFactory.eINSTANCE.createActorFilter();
         c.setName(name);
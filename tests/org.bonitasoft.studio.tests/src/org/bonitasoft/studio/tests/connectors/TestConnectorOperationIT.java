@@ -37,6 +37,7 @@ import org.bonitasoft.studio.common.repository.core.maven.AddDependencyOperation
 import org.bonitasoft.studio.common.repository.model.ReadFileStoreException;
 import org.bonitasoft.studio.connectors.operation.TestConnectorOperation;
 import org.bonitasoft.studio.connectors.repository.ConnectorImplRepositoryStore;
+import org.bonitasoft.studio.engine.operation.TestSandboxManager;
 import org.bonitasoft.studio.tests.util.InitialProjectRule;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.Assert;
@@ -69,9 +70,31 @@ public class TestConnectorOperationIT {
                 testConnectorOperation.getResult().values().iterator().next());
     }
 
+    @Test
+    public void testRepeatedExecutionsReuseTheSandboxProcess() throws Exception {
+        TestConnectorOperation firstOperation = createOperation();
+        firstOperation.run(new NullProgressMonitor());
+        int deployCount = TestSandboxManager.getInstance().getDeployCount();
+
+        TestConnectorOperation secondOperation = createOperation();
+        secondOperation.run(new NullProgressMonitor());
+        TestConnectorOperation otherInputOperation = createOperation("\"Other Result\"");
+        otherInputOperation.run(new NullProgressMonitor());
+
+        Assert.assertEquals("The sandbox process should not be deployed again", deployCount,
+                TestSandboxManager.getInstance().getDeployCount());
+        Assert.assertEquals("The result is not right", firstOperation.getResult(), secondOperation.getResult());
+        Assert.assertEquals("The result is not right", "Other Result",
+                otherInputOperation.getResult().values().iterator().next());
+    }
+
     private TestConnectorOperation createOperation() throws Exception {
+        return createOperation("\"Expected Result\"");
+    }
+
+    private TestConnectorOperation createOperation(String script) throws Exception {
         TestConnectorOperation testConnectorOperation = new TestConnectorOperation();
-        ConnectorConfiguration configuration = createConnectorConfiguration();
+        ConnectorConfiguration configuration = createConnectorConfiguration(script);
         testConnectorOperation.setConnectorConfiguration(configuration);
 
         Connector connector = createConnectorOutput();
@@ -112,7 +135,7 @@ public class TestConnectorOperationIT {
         return connector;
     }
 
-    private ConnectorConfiguration createConnectorConfiguration() {
+    private ConnectorConfiguration createConnectorConfiguration(String script) {
         ConnectorConfiguration configuration = ConnectorConfigurationFactory.eINSTANCE.createConnectorConfiguration();
         configuration.setDefinitionId(GROOVY_DEF_ID);
         configuration.setVersion(GROOVY_DEF_VERSION);
@@ -120,7 +143,7 @@ public class TestConnectorOperationIT {
         Expression expressionInput = ExpressionFactory.eINSTANCE.createExpression();
         expressionInput.setType(ExpressionConstants.SCRIPT_TYPE);
         expressionInput.setInterpreter(ExpressionConstants.GROOVY);
-        expressionInput.setContent("\"Expected Result\"");
+        expressionInput.setContent(script);
         parameter.setExpression(expressionInput);
         parameter.setKey("script");
         configuration.getParameters().add(parameter);
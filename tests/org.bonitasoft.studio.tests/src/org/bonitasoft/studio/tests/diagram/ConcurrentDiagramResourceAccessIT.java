@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.tests.diagram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.studio.common.repository.filestore.OpenedEditorRegistry;
+import org.bonitasoft.studio.diagram.custom.commands.NewDiagramCommandHandler;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDiagramEditor;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Runs in the UI thread: worker threads must resolve diagram resources and opened editors without any Display
+ * synchronization, otherwise they would block while the UI thread waits for them.
+ */
+public class ConcurrentDiagramResourceAccessIT {
+
+    private static final int NB_DIAGRAMS = 3;
+    private static final int NB_WORKERS = 8;
+
+    @Rule
+    public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
+
+    private final List<DiagramFileStore> diagrams = new ArrayList<>();
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        OpenedEditorRegistry.getInstance().install(PlatformUI.getWorkbench());
+        for (int i = 0; i < NB_DIAGRAMS; i++) {
+            diagrams.add(new NewDiagramCommandHandler().newDiagram());
+        }
+        executor = Executors.newFixedThreadPool(NB_WORKERS);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().closeAllEditors(false);
+        diagrams.forEach(DiagramFileStore::delete);
+    }
+
+    @Test
+    public void should_find_opened_editors_from_worker_threads_without_the_ui_thread() throws Exception {
+        var editors = new ArrayList<ProcessDiagramEditor>();
+        for (var diagram : diagrams) {
+            editors.add((ProcessDiagramEditor) diagram.open());
+        }
+
+        // The UI thread does not dispatch any event while waiting for the workers
+        List<Future<ProcessDiagramEditor>> results = new ArrayList<>();
+        for (var diagram : diagrams) {
+            results.add(executor.submit((Callable<ProcessDiagramEditor>) () -> {
+                assertThat(diagram.getEMFResource().getContents().get(0)).isInstanceOf(MainProcess.class);
+                return (ProcessDiagramEditor) diagram.getOpenedEditor();
+            }));
+        }
+        for (int i = 0; i < NB_DIAGRAMS; i++) {
+            assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isSameAs(editors.get(i));
+        }
+
+        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().closeAllEditors(false);
+        for (var diagram : diagrams) {
+            assertThat(executor.submit(diagram::getOpenedEditor).get(10, TimeUnit.SECONDS)).isNull();
+        }
+    }
+
+    @Test
+    public void should_resolve_resources_from_worker_threads_while_editors_open_and_close() throws Exception {
+        var stop = new AtomicBoolean();
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var workers = new ArrayList<Future<?>>();
+        for (int t = 0; t < NB_WORKERS; t++) {
+            workers.add(executor.submit(() -> {
+                while (!stop.get()) {
+                    for (var diagram : diagrams) {
+                        try {
+                            var resource = diagram.getEMFResource();
+                            assertThat(resource).isNotNull();
+                            var editor = diagram.getOpenedEditor();
+                            if (editor != null) {
+                                assertThat(editor).isInstanceOf(ProcessDiagramEditor.class);
+                            }
+                        } catch (Throwable e) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            }));
+        }
+
+        var page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+        var display = Display.getCurrent();
+        for (int round = 0; round < 5; round++) {
+            diagrams.forEach(DiagramFileStore::open);
+            while (display.readAndDispatch()) {
+                // flush pending UI events
+            }
+            page.closeAllEditors(false);
+            while (display.readAndDispatch()) {
+                // flush pending UI events
+            }
+        }
+        stop.set(true);
+        for (var worker : workers) {
+            worker.get(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(errors).isEmpty();
+    }
+
+}
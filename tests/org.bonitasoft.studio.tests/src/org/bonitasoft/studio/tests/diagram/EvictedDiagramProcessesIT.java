@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.tests.diagram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bonitasoft.bpm.model.process.Pool;
+import org.bonitasoft.studio.common.editingdomain.BonitaEditingDomainRegistry;
+import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.diagram.custom.commands.NewDiagramCommandHandler;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramRepositoryStore;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class EvictedDiagramProcessesIT {
+
+    private static final String EVICTION_TRIGGER_ID = EvictedDiagramProcessesIT.class.getName() + ".trigger";
+
+    @Rule
+    public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
+
+    private final BonitaEditingDomainRegistry registry = BonitaEditingDomainRegistry.INSTANCE;
+    private DiagramRepositoryStore store;
+    private DiagramFileStore diagram;
+    private int maxRetainedDomains;
+    private long minIdleTime;
+
+    @Before
+    public void setUp() throws Exception {
+        maxRetainedDomains = registry.getMaxRetainedDomains();
+        minIdleTime = registry.getMinIdleTime();
+        store = RepositoryManager.getInstance().getRepositoryStore(DiagramRepositoryStore.class);
+        diagram = new NewDiagramCommandHandler().newDiagram();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        registry.setMaxRetainedDomains(maxRetainedDomains);
+        registry.setMinIdleTime(minIdleTime);
+        registry.remove(EVICTION_TRIGGER_ID);
+        store.resetComputedProcesses();
+        diagram.delete();
+    }
+
+    @Test
+    public void should_keep_the_computed_processes_valid_when_their_editing_domain_is_evicted() throws Exception {
+        var pool = diagram.getProcesses(true).get(0);
+        store.computeProcesses(new NullProgressMonitor());
+        var process = store.findProcess(pool.getName(), pool.getVersion());
+        assertThat(process).isNotNull();
+        var evictionCount = registry.getEvictionCount();
+
+        registry.setMinIdleTime(0);
+        registry.setMaxRetainedDomains(0);
+        registry.getEditingDomain(EVICTION_TRIGGER_ID);
+
+        assertThat(registry.getEvictionCount()).isGreaterThan(evictionCount);
+        assertThat(process.eIsProxy()).isFalse();
+        assertThat(process.eResource()).isNotNull();
+        assertThat(store.hasComputedProcesses()).isTrue();
+        Pool foundAgain = store.findProcess(pool.getName(), pool.getVersion());
+        assertThat(foundAgain).isSameAs(process);
+        assertThat(foundAgain.getElements()).isNotEmpty();
+    }
+
+}
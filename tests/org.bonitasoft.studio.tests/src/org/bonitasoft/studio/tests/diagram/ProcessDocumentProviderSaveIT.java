@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.tests.diagram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bonitasoft.bpm.model.process.MainProcess;
+import org.bonitasoft.bpm.model.process.ProcessPackage;
+import org.bonitasoft.studio.diagram.custom.commands.NewDiagramCommandHandler;
+import org.bonitasoft.studio.diagram.custom.repository.DiagramFileStore;
+import org.bonitasoft.studio.model.process.diagram.part.ProcessDocumentProvider;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.edit.command.SetCommand;
+import org.eclipse.gmf.runtime.diagram.ui.resources.editor.document.IDiagramDocument;
+import org.eclipse.ui.part.FileEditorInput;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ProcessDocumentProviderSaveIT {
+
+    @Rule
+    public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
+
+    private DiagramFileStore diagram;
+    private IFile file;
+    private FileEditorInput input;
+    private RecordingDocumentProvider documentProvider;
+
+    @Before
+    public void connectDocumentProvider() throws Exception {
+        diagram = new NewDiagramCommandHandler().newDiagram();
+        file = diagram.getResource();
+        input = new FileEditorInput(file);
+        documentProvider = new RecordingDocumentProvider();
+        documentProvider.connect(input);
+    }
+
+    @After
+    public void disconnectDocumentProvider() throws Exception {
+        documentProvider.disconnect(input);
+        diagram.delete();
+    }
+
+    @Test
+    public void should_not_serialize_any_resource_when_saving_an_unchanged_diagram() throws Exception {
+        var modificationStamp = file.getModificationStamp();
+
+        save(false);
+
+        assertThat(documentProvider.savedResources).isEmpty();
+        assertThat(file.getModificationStamp()).isEqualTo(modificationStamp);
+    }
+
+    @Test
+    public void should_only_save_the_modified_diagram_resource() throws Exception {
+        changeDocumentation("Saved documentation");
+        assertThat(documentProvider.canSaveDocument(input)).isTrue();
+
+        save(false);
+
+        assertThat(documentProvider.savedResources).containsExactly(diagramDocument().getDiagram().eResource());
+        assertThat(Files.readString(location(), StandardCharsets.UTF_8)).contains("Saved documentation");
+        assertThat(file.isSynchronized(IResource.DEPTH_ZERO)).isTrue();
+        assertThat(documentProvider.isSynchronized(input)).isTrue();
+        assertThat(documentProvider.canSaveDocument(input)).isFalse();
+        assertThat(parentFolderContent()).noneMatch(name -> name.endsWith(".tmp"));
+    }
+
+    @Test
+    public void should_save_through_the_workspace_with_local_history_and_resource_delta() throws Exception {
+        var historySize = file.getHistory(new NullProgressMonitor()).length;
+        var contentChanged = new AtomicBoolean();
+        IResourceChangeListener listener = event -> {
+            var delta = event.getDelta() != null ? event.getDelta().findMember(file.getFullPath()) : null;
+            if (delta != null && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+                contentChanged.set(true);
+            }
+        };
+        file.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+        try {
+            changeDocumentation("Saved documentation");
+
+            save(false);
+        } finally {
+            file.getWorkspace().removeResourceChangeListener(listener);
+        }
+
+        assertThat(file.getHistory(new NullProgressMonitor())).hasSize(historySize + 1);
+        assertThat(contentChanged).isTrue();
+    }
+
+    @Test
+    public void should_keep_the_file_permissions_when_saving() throws Exception {
+        assumeTrue(location().getFileSystem().supportedFileAttributeViews().contains("posix"));
+        var permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(location(), permissions);
+        changeDocumentation("Saved documentation");
+
+        save(false);
+
+        assertThat(Files.getPosixFilePermissions(location())).isEqualTo(permissions);
+    }
+
+    @Test
+    public void should_not_overwrite_a_diagram_changed_in_the_workspace() throws Exception {
+        changeDocumentation("Local documentation");
+        writeExternalChange();
+        file.refreshLocal(IResource.DEPTH_ZERO, new NullProgressMonitor());
+        await().until(() -> !documentProvider.isSynchronized(input));
+
+        assertThatThrownBy(() -> save(false)).isInstanceOf(CoreException.class);
+
+        assertThat(Files.readString(location(), StandardCharsets.UTF_8)).contains("External change");
+    }
+
+    @Test
+    public void should_not_overwrite_a_diagram_changed_on_disk_and_not_refreshed() throws Exception {
+        changeDocumentation("Local documentation");
+        writeExternalChange();
+
+        assertThatThrownBy(() -> save(false)).isInstanceOf(CoreException.class);
+
+        assertThat(Files.readString(location(), StandardCharsets.UTF_8)).contains("External change");
+    }
+
+    private void save(boolean overwrite) throws CoreException {
+        documentProvider.saveDocument(new NullProgressMonitor(), input, diagramDocument(), overwrite);
+    }
+
+    private void changeDocumentation(String documentation) {
+        var domain = diagramDocument().getEditingDomain();
+        var process = (MainProcess) diagramDocument().getDiagram().getElement();
+        domain.getCommandStack().execute(
+                SetCommand.create(domain, process, ProcessPackage.Literals.ELEMENT__DOCUMENTATION, documentation));
+    }
+
+    private void writeExternalChange() throws IOException {
+        var content = Files.readString(location(), StandardCharsets.UTF_8);
+        // keep the modification time distinct from the one known by the workspace
+        Files.writeString(location(), content + "<!-- External change -->", StandardCharsets.UTF_8);
+        location().toFile().setLastModified(System.currentTimeMillis() + 2000);
+    }
+
+    private IDiagramDocument diagramDocument() {
+        return documentProvider.getDiagramDocument(input);
+    }
+
+    private Path location() {
+        return file.getLocation().toFile().toPath();
+    }
+
+    private List<String> parentFolderContent() throws IOException {
+        try (var files = Files.list(location().getParent())) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+
+    private static class RecordingDocumentProvider extends ProcessDocumentProvider {
+
+        private final List<Resource> savedResources = new ArrayList<>();
+
+        @Override
+        protected void saveResource(Resource resource) throws IOException {
+            savedResources.add(resource);
+            super.saveResource(resource);
+        }
+    }
+
+}
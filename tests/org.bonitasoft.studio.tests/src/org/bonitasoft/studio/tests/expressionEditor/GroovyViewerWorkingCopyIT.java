@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2025 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.studio.tests.expressionEditor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bonitasoft.studio.common.repository.RepositoryManager;
+import org.bonitasoft.studio.common.repository.core.maven.model.AppProjectConfiguration;
+import org.bonitasoft.studio.groovy.ui.viewer.GroovyViewer;
+import org.bonitasoft.studio.groovy.ui.viewer.ScriptEditorInput;
+import org.bonitasoft.studio.groovy.ui.viewer.ScriptEditorInputPool;
+import org.bonitasoft.studio.tests.util.InitialProjectRule;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class GroovyViewerWorkingCopyIT {
+
+    private static final int NB_DIALOGS = 50;
+
+    @Rule
+    public InitialProjectRule projectRule = InitialProjectRule.INSTANCE;
+
+    private final AtomicInteger nbBuilds = new AtomicInteger();
+    private final List<String> changedPaths = new ArrayList<>();
+    private IProject appProject;
+
+    private final IResourceChangeListener buildListener = event -> {
+        if (event.getType() == IResourceChangeEvent.POST_BUILD) {
+            nbBuilds.incrementAndGet();
+        } else if (event.getDelta() != null) {
+            synchronized (changedPaths) {
+                var delta = event.getDelta().findMember(appProject.getFullPath()
+                        .append(AppProjectConfiguration.GENERATED_GROOVY_SOURCES_FODLER));
+                if (delta != null) {
+                    changedPaths.add(delta.getFullPath().toString());
+                }
+            }
+        }
+    };
+
+    @Before
+    public void listenToWorkspace() throws Exception {
+        appProject = RepositoryManager.getInstance().getCurrentProject().orElseThrow().getAppProject();
+        Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(buildListener,
+                IResourceChangeEvent.POST_CHANGE | IResourceChangeEvent.POST_BUILD);
+    }
+
+    @After
+    public void removeListener() throws Exception {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(buildListener);
+        Display.getDefault().syncExec(() -> ScriptEditorInputPool.getInstance().clear());
+    }
+
+    @Test
+    public void should_edit_scripts_in_memory() throws Exception {
+        Display.getDefault().syncExec(() -> {
+            var shell = new Shell(Display.getDefault());
+            try {
+                var viewer = new GroovyViewer(shell);
+                viewer.getDocument().set("return 40 + 2");
+
+                assertThat(viewer.getEditor().getEditorInput()).isInstanceOf(ScriptEditorInput.class);
+                assertThat(viewer.getGroovyCompilationUnit().isWorkingCopy()).isTrue();
+                assertThat(viewer.getGroovyCompilationUnit().getSource()).isEqualTo("return 40 + 2");
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            } finally {
+                shell.dispose();
+            }
+        });
+    }
+
+    @Test
+    public void should_reuse_the_working_copy_of_a_closed_script_editor() throws Exception {
+        var compilationUnits = new ArrayList<ICompilationUnit>();
+        var contents = new ArrayList<String>();
+        for (int i = 0; i < 2; i++) {
+            Display.getDefault().syncExec(() -> {
+                var shell = new Shell(Display.getDefault());
+                try {
+                    var viewer = new GroovyViewer(shell);
+                    contents.add(viewer.getDocument().get());
+                    compilationUnits.add(viewer.getGroovyCompilationUnit());
+                    viewer.getDocument().set("return 40 + 2");
+                } finally {
+                    shell.dispose();
+                }
+            });
+        }
+
+        assertThat(contents).containsOnly("");
+        assertThat(compilationUnits.get(1)).isSameAs(compilationUnits.get(0));
+        assertThat(compilationUnits.get(1).isWorkingCopy()).isTrue();
+    }
+
+    @Test
+    public void should_not_trigger_any_build_when_opening_and_closing_script_editors() throws Exception {
+        for (int i = 0; i < NB_DIALOGS; i++) {
+            final String script = "return " + i;
+            Display.getDefault().syncExec(() -> {
+                var shell = new Shell(Display.getDefault());
+                try {
+                    new GroovyViewer(shell).getDocument().set(script);
+                } finally {
+                    shell.dispose();
+                }
+            });
+        }
+        Job.getJobManager().join(ResourcesPlugin.FAMILY_AUTO_BUILD, null);
+
+        assertThat(nbBuilds.get()).isZero();
+        assertThat(changedPaths).isEmpty();
+    }
+
+}